@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the execution of inserts, updates and deletes through the
+ * {@link org.hibernate.engine.jdbc.batch.internal.BatchImpl}, for several
+ * JDBC batch sizes. A batch size of 1 disables batching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BatchExecutionBenchmark {
+
+	@Param({ "1", "20", "100" })
+	public int batchSize;
+
+	private static final int ENTITIES = 1000;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory(
+				Map.of( AvailableSettings.STATEMENT_BATCH_SIZE, batchSize )
+		);
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 1; i <= ENTITIES; i++ ) {
+				session.persist( new Author( -i, "Existing author " + i ) );
+			}
+		} );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@State(Scope.Thread)
+	public static class OpenTransaction {
+		Session session;
+		List<Author> newAuthors;
+
+		@Setup(Level.Invocation)
+		public void setUp(BatchExecutionBenchmark benchmark) {
+			newAuthors = new ArrayList<>( ENTITIES );
+			for ( int i = 1; i <= ENTITIES; i++ ) {
+				newAuthors.add( new Author( i, "Author " + i ) );
+			}
+			session = benchmark.sessionFactory.openSession();
+			session.getTransaction().begin();
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			session.getTransaction().rollback();
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public void insert(OpenTransaction state) {
+		for ( Author author : state.newAuthors ) {
+			state.session.persist( author );
+		}
+		state.session.flush();
+	}
+
+	@Benchmark
+	public void updateAndDelete(OpenTransaction state) {
+		final List<Author> authors =
+				state.session.createSelectionQuery( "from Author where id < 0", Author.class ).getResultList();
+		for ( int i = 0; i < authors.size(); i++ ) {
+			final Author author = authors.get( i );
+			if ( i % 2 == 0 ) {
+				author.setName( author.getName() + " (renamed)" );
+			}
+			else {
+				state.session.remove( author );
+			}
+		}
+		state.session.flush();
+	}
+}
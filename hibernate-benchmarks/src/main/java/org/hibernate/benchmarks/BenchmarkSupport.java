@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.TreeNode;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.tool.schema.Action;
+
+/**
+ * Builds the session factories used by the benchmarks, each with its
+ * own in-memory H2 database.
+ */
+public final class BenchmarkSupport {
+
+	private static final AtomicInteger DATABASE_COUNT = new AtomicInteger();
+
+	private BenchmarkSupport() {
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory() {
+		return buildSessionFactory( Map.of() );
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory(Map<String, Object> settings) {
+		final Map<String, Object> allSettings = new HashMap<>();
+		allSettings.put(
+				AvailableSettings.JAKARTA_JDBC_URL,
+				"jdbc:h2:mem:benchmark" + DATABASE_COUNT.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+		);
+		allSettings.put( AvailableSettings.JAKARTA_JDBC_USER, "sa" );
+		allSettings.put( AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, Action.CREATE_DROP );
+		allSettings.put( AvailableSettings.STATEMENT_BATCH_SIZE, 50 );
+		allSettings.putAll( settings );
+
+		final StandardServiceRegistry serviceRegistry =
+				new StandardServiceRegistryBuilder().applySettings( allSettings ).build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.addAnnotatedClass( TreeNode.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Persist the given number of books, written by one author for every
+	 * ten books, with identifiers starting from 1.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int books) {
+		sessionFactory.inTransaction( session -> {
+			Author author = null;
+			for ( int i = 1; i <= books; i++ ) {
+				if ( author == null || i % 10 == 1 ) {
+					author = new Author( i / 10 + 1, "Author " + i / 10 );
+					session.persist( author );
+				}
+				session.persist( new Book( i, "Title " + i, author ) );
+				if ( i % 1000 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+}
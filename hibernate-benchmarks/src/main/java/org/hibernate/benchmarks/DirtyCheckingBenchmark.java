@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the flush of a persistence context holding managed entities,
+ * some fraction of which have been modified. With no modified entities,
+ * this is the cost of dirty checking by the
+ * {@link org.hibernate.event.internal.DefaultFlushEntityEventListener}
+ * alone. Otherwise, it includes the execution of the updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirtyCheckingBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	public int entities;
+
+	@Param({ "0", "10", "100" })
+	public int dirtyPercentage;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.populate( sessionFactory, entities );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@State(Scope.Thread)
+	public static class ManagedBooks {
+		Session session;
+
+		@Setup(Level.Invocation)
+		public void setUp(DirtyCheckingBenchmark benchmark) {
+			session = benchmark.sessionFactory.openSession();
+			session.getTransaction().begin();
+			final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			final int dirty = books.size() * benchmark.dirtyPercentage / 100;
+			for ( int i = 0; i < dirty; i++ ) {
+				final Book book = books.get( i );
+				book.setTitle( book.getTitle() + " (revised)" );
+			}
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			session.getTransaction().rollback();
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public void flush(ManagedBooks state) {
+		state.session.flush();
+	}
+}
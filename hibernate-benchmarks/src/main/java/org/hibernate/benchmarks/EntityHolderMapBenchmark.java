@@ -0,0 +1,153 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.internal.EntityHolderMap;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.results.graph.entity.EntityInitializer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link EntityHolderMap} backing the entity index of the
+ * persistence context with the {@link HashMap} it replaced, filling it
+ * with, and looking up, the given number of entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EntityHolderMapBenchmark {
+
+	@Param({ "10000", "100000", "1000000" })
+	public int size;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Holder[] holders;
+	private EntityKey[] lookupKeys;
+	private EntityHolderMap<Holder> entityHolderMap;
+	private HashMap<EntityKey, Holder> hashMap;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		final EntityPersister persister =
+				sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		holders = new Holder[size];
+		lookupKeys = new EntityKey[size];
+		for ( int i = 0; i < size; i++ ) {
+			holders[i] = new Holder( new EntityKey( (long) i, persister ) );
+			// distinct but equal instances, as when an entity is looked up
+			lookupKeys[i] = new EntityKey( (long) i, persister );
+		}
+		entityHolderMap = fill( new EntityHolderMap<>() );
+		hashMap = fill( new HashMap<>() );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	private <M extends Map<EntityKey, Holder>> M fill(M map) {
+		for ( Holder holder : holders ) {
+			map.put( holder.getEntityKey(), holder );
+		}
+		return map;
+	}
+
+	private static void lookup(Map<EntityKey, Holder> map, EntityKey[] keys, Blackhole blackhole) {
+		for ( EntityKey key : keys ) {
+			blackhole.consume( map.get( key ) );
+		}
+	}
+
+	@Benchmark
+	public Map<EntityKey, Holder> fillEntityHolderMap() {
+		return fill( new EntityHolderMap<>() );
+	}
+
+	@Benchmark
+	public Map<EntityKey, Holder> fillHashMap() {
+		return fill( new HashMap<>() );
+	}
+
+	@Benchmark
+	public void lookupEntityHolderMap(Blackhole blackhole) {
+		lookup( entityHolderMap, lookupKeys, blackhole );
+	}
+
+	@Benchmark
+	public void lookupHashMap(Blackhole blackhole) {
+		lookup( hashMap, lookupKeys, blackhole );
+	}
+
+	private static final class Holder implements EntityHolder {
+		private final EntityKey entityKey;
+
+		private Holder(EntityKey entityKey) {
+			this.entityKey = entityKey;
+		}
+
+		@Override
+		public EntityKey getEntityKey() {
+			return entityKey;
+		}
+
+		@Override
+		public EntityPersister getDescriptor() {
+			return entityKey.getPersister();
+		}
+
+		@Override
+		public Object getEntity() {
+			return null;
+		}
+
+		@Override
+		public Object getProxy() {
+			return null;
+		}
+
+		@Override
+		public EntityInitializer getEntityInitializer() {
+			return null;
+		}
+
+		@Override
+		public void markAsReloaded(JdbcValuesSourceProcessingState processingState) {
+		}
+
+		@Override
+		public boolean isEventuallyInitialized() {
+			return false;
+		}
+	}
+}
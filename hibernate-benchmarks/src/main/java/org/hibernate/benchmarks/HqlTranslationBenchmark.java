@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of HQL to SQM by the
+ * {@link org.hibernate.query.hql.internal.StandardHqlTranslator}, and the
+ * translation of SQM to SQL by the
+ * {@link org.hibernate.query.sqm.sql.BaseSqmToSqlAstConverter} and the
+ * dialect's SQL AST translator, bypassing the query plan cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HqlTranslationBenchmark {
+
+	@Param({
+			"from Book where title = 'Title 1'",
+			"select b from Book b join fetch b.author a where a.name like 'Author%' order by b.published desc",
+			"select a.name, count(b), max(b.pages) from Author a left join a.books b group by a.name having count(b) > 1"
+	})
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private HqlTranslator hqlTranslator;
+	private SqmSelectStatement<?> sqm;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+		sqm = (SqmSelectStatement<?>) hqlTranslator.translate( hql, null );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqmStatement<?> parse() {
+		return hqlTranslator.translate( hql, null );
+	}
+
+	@Benchmark
+	public String translate() {
+		final SqmTranslation<SelectStatement> translation =
+				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
+						.createSelectTranslator(
+								sqm,
+								QueryOptions.NONE,
+								DomainParameterXref.empty(),
+								QueryParameterBindings.NO_PARAM_BINDINGS,
+								new LoadQueryInfluencers( sessionFactory ),
+								sessionFactory,
+								true
+						)
+						.translate();
+		return sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, translation.getSqlAst() )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE )
+				.getSqlString();
+	}
+}
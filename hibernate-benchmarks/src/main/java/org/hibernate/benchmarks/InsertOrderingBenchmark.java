@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.TreeNode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the persist and flush of graphs of new entities, with and
+ * without the sorting of insert actions by the
+ * {@link org.hibernate.engine.spi.ActionQueue}, for deep trees of
+ * parents and children, and for interleaved parents and children of
+ * different entity types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InsertOrderingBenchmark {
+
+	@Param({ "true", "false" })
+	public boolean orderInserts;
+
+	/**
+	 * The depth of each binary tree of {@link TreeNode}s.
+	 */
+	@Param({ "4", "8" })
+	public int depth;
+
+	private static final int TREES = 4;
+	private static final int AUTHORS = 100;
+	private static final int BOOKS_PER_AUTHOR = 5;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory(
+				Map.of( AvailableSettings.ORDER_INSERTS, orderInserts )
+		);
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@State(Scope.Thread)
+	public static class NewEntities {
+		Session session;
+		List<TreeNode> roots;
+		List<Object> authorsAndBooks;
+
+		@Setup(Level.Invocation)
+		public void setUp(InsertOrderingBenchmark benchmark) {
+			roots = new ArrayList<>( TREES );
+			long id = 1;
+			for ( int i = 0; i < TREES; i++ ) {
+				final TreeNode root = new TreeNode( id++, null );
+				id = grow( root, id, benchmark.depth );
+				roots.add( root );
+			}
+
+			authorsAndBooks = new ArrayList<>( AUTHORS * ( BOOKS_PER_AUTHOR + 1 ) );
+			for ( int i = 1; i <= AUTHORS; i++ ) {
+				final Author author = new Author( i, "Author " + i );
+				authorsAndBooks.add( author );
+				for ( int j = 1; j <= BOOKS_PER_AUTHOR; j++ ) {
+					final long bookId = (long) i * BOOKS_PER_AUTHOR + j;
+					authorsAndBooks.add( new Book( bookId, "Title " + bookId, author ) );
+				}
+			}
+
+			session = benchmark.sessionFactory.openSession();
+			session.getTransaction().begin();
+		}
+
+		private static long grow(TreeNode parent, long id, int depth) {
+			if ( depth > 0 ) {
+				for ( int i = 0; i < 2; i++ ) {
+					id = grow( new TreeNode( id, parent ), id + 1, depth - 1 );
+				}
+			}
+			return id;
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			session.getTransaction().rollback();
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public void deepTrees(NewEntities state) {
+		for ( TreeNode root : state.roots ) {
+			state.session.persist( root );
+		}
+		state.session.flush();
+	}
+
+	@Benchmark
+	public void interleavedParentsAndChildren(NewEntities state) {
+		for ( Object entity : state.authorsAndBooks ) {
+			state.session.persist( entity );
+		}
+		state.session.flush();
+	}
+}
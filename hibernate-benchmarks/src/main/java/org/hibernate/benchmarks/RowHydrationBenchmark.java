@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hydration of query results by the
+ * {@link org.hibernate.sql.results.internal.StandardRowReader}, for
+ * entities, entities with a fetched association, and scalar values.
+ * The query plans are cached, and so the difference from the time
+ * taken by the JDBC driver is mostly the time spent in hydration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RowHydrationBenchmark {
+
+	@Param({ "100", "1000" })
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.populate( sessionFactory, 1000 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book where id <= :rows", Book.class )
+					.setParameter( "rows", (long) rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entitiesWithFetch() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book b join fetch b.author where b.id <= :rows", Book.class )
+					.setParameter( "rows", (long) rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "select id, title, pages, published from Book where id <= :rows", Object[].class )
+					.setParameter( "rows", (long) rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> readOnlyEntities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book where id <= :rows", Book.class )
+					.setParameter( "rows", (long) rows )
+					.setReadOnly( true )
+					.getResultList();
+		}
+	}
+}
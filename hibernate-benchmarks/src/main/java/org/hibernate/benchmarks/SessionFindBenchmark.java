@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link org.hibernate.internal.SessionImpl#find}, both loading
+ * from the database in a new session, and resolving an entity already in
+ * the persistence context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SessionFindBenchmark {
+
+	private static final int BOOKS = 1000;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.populate( sessionFactory, BOOKS );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@State(Scope.Thread)
+	public static class OpenSession {
+		Session session;
+		long nextId;
+
+		@Setup
+		public void setUp(SessionFindBenchmark benchmark) {
+			session = benchmark.sessionFactory.openSession();
+			// fill the persistence context
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+
+		@TearDown
+		public void tearDown() {
+			session.close();
+		}
+
+		long nextId() {
+			nextId = nextId % BOOKS + 1;
+			return nextId;
+		}
+	}
+
+	@Benchmark
+	public Book findInNewSession(OpenSession state) {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Book.class, state.nextId() );
+		}
+	}
+
+	@Benchmark
+	public Book findInPersistenceContext(OpenSession state) {
+		return state.session.find( Book.class, state.nextId() );
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+@Entity
+public class Author {
+	@Id
+	private long id;
+	private String name;
+	private String email;
+
+	@OneToMany(mappedBy = "author")
+	private List<Book> books = new ArrayList<>();
+
+	protected Author() {
+	}
+
+	public Author(long id, String name) {
+		this.id = id;
+		this.name = name;
+		this.email = name.replace( ' ', '.' ) + "@example.org";
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public List<Book> getBooks() {
+		return books;
+	}
+}
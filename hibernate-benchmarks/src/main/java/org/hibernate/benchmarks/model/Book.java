@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class Book {
+	@Id
+	private long id;
+	private String title;
+	private String isbn;
+	private int pages;
+	private LocalDate published;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Author author;
+
+	protected Book() {
+	}
+
+	public Book(long id, String title, Author author) {
+		this.id = id;
+		this.title = title;
+		this.isbn = "978-" + id;
+		this.pages = 100 + (int) ( id % 400 );
+		this.published = LocalDate.of( 2000, 1, 1 ).plusDays( id );
+		this.author = author;
+		author.getBooks().add( this );
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public LocalDate getPublished() {
+		return published;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+/**
+ * A node of a tree, which, persisted by cascade from its root, produces
+ * a deep graph of dependent inserts.
+ */
+@Entity
+public class TreeNode {
+	@Id
+	private long id;
+	private String name;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private TreeNode parent;
+
+	@OneToMany(mappedBy = "parent", cascade = CascadeType.PERSIST)
+	private List<TreeNode> children = new ArrayList<>();
+
+	protected TreeNode() {
+	}
+
+	public TreeNode(long id, TreeNode parent) {
+		this.id = id;
+		this.name = "Node " + id;
+		this.parent = parent;
+		if ( parent != null ) {
+			parent.children.add( this );
+		}
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public TreeNode getParent() {
+		return parent;
+	}
+
+	public List<TreeNode> getChildren() {
+		return children;
+	}
+}
@@ -0,0 +1,16 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * JMH benchmarks of the hot paths of Hibernate ORM, run against an
+ * in-memory H2 database.
+ * <p>
+ * Every benchmark uses the same fork, warmup, and measurement settings,
+ * so that the results obtained for two versions of Hibernate may be
+ * compared. They are run by the {@code jmh} task of this module.
+ */
+package org.hibernate.benchmarks;
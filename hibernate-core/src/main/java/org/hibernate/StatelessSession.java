@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -71,6 +73,56 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows, using JDBC batching.
+	 * <p>
+	 * The given entities are inserted in the order of the list, and
+	 * all the statements have been executed when this method returns.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Insert multiple rows, using JDBC batching.
+	 * <p>
+	 * The given entities are inserted in the order of the list, and
+	 * all the statements have been executed when this method returns.
+	 *
+	 * @param entityName The entityName for the entities to be inserted
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void insertMultiple(String entityName, List<?> entities);
+
+	/**
+	 * Insert multiple rows, using the fastest bulk loading mechanism
+	 * offered by the database.
+	 * <p>
+	 * On PostgreSQL, each batch of inserts into a single table is
+	 * streamed using the binary {@code COPY} protocol, as long as
+	 * the types of the mapped columns are supported. Otherwise, and
+	 * on other databases, this is equivalent to
+	 * {@link #insertMultiple(List)}.
+	 * <p>
+	 * The given entities are inserted in the order of the list, and
+	 * all the rows have been written when this method returns.
+	 * Identifiers assigned by {@code identity} columns prevent the
+	 * rows from being written in bulk, whereas identifiers assigned
+	 * by sequences, including pooled sequences, do not.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void bulkInsert(List<?> entities);
+
 	/**
 	 * Update a row.
 	 *
@@ -86,6 +138,16 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Update multiple rows, using JDBC batching.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
 	/**
 	 * Delete a row.
 	 *
@@ -101,6 +163,16 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Delete multiple rows, using JDBC batching.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
 	/**
 	 * Use a SQL {@code merge into} statement to perform an upsert.
 	 *
@@ -166,6 +238,22 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
 
+	/**
+	 * Retrieve multiple rows, using a single query, or a small number
+	 * of queries, to read them.
+	 *
+	 * @param entityClass The class of the entities to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return a list of detached entity instances, in the same order as
+	 *         the given ids, with {@code null} elements for ids which
+	 *         have no matching row
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Retrieve a row, fetching associations specified by the
 	 * given {@link EntityGraph}.
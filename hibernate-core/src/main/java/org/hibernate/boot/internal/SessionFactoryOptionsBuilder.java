@@ -96,6 +96,8 @@ import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECKING_PARALLELISM;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
@@ -108,6 +110,7 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARTIAL_AUTO_FLUSH;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -116,8 +119,10 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -276,6 +281,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final int queryStatisticsMaxSize;
 
+	private final int parallelDirtyCheckingThreshold;
+	private final int parallelDirtyCheckingParallelism;
+	private final boolean partialAutoFlushEnabled;
+	private final int preparedStatementCacheSize;
+	private final boolean compactCacheEntriesEnabled;
 
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
 		this.serviceRegistry = serviceRegistry;
@@ -617,6 +627,19 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+
+		this.parallelDirtyCheckingThreshold = getInt( FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD, configurationSettings, 0 );
+		this.parallelDirtyCheckingParallelism = getInt(
+				FLUSH_PARALLEL_DIRTY_CHECKING_PARALLELISM,
+				configurationSettings,
+				Runtime.getRuntime().availableProcessors()
+		);
+
+		this.partialAutoFlushEnabled = getBoolean( PARTIAL_AUTO_FLUSH, configurationSettings );
+
+		this.preparedStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
+
+		this.compactCacheEntriesEnabled = configurationService.getSetting( USE_COMPACT_CACHE, BOOLEAN, false );
 	}
 
 	private boolean disallowBatchUpdates(Dialect dialect, ExtractedDatabaseMetaData meta) {
@@ -1243,6 +1266,31 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return parallelDirtyCheckingThreshold;
+	}
+
+	@Override
+	public int getParallelDirtyCheckingParallelism() {
+		return parallelDirtyCheckingParallelism;
+	}
+
+	@Override
+	public boolean isPartialAutoFlushEnabled() {
+		return partialAutoFlushEnabled;
+	}
+
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return preparedStatementCacheSize;
+	}
+
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
@@ -438,6 +438,31 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public int getParallelDirtyCheckingParallelism() {
+		return delegate.getParallelDirtyCheckingParallelism();
+	}
+
+	@Override
+	public boolean isPartialAutoFlushEnabled() {
+		return delegate.isPartialAutoFlushEnabled();
+	}
+
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return delegate.getPreparedStatementCacheSize();
+	}
+
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -291,6 +291,41 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_PARALLELISM
+	 */
+	default int getParallelDirtyCheckingParallelism() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARTIAL_AUTO_FLUSH
+	 */
+	default boolean isPartialAutoFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	default boolean areJPACallbacksEnabled() {
 		return true;
 	}
@@ -34,16 +34,22 @@ import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.support.SingleFlightLoads;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import static org.hibernate.cfg.CacheSettings.CACHE_SINGLE_FLIGHT_LOADS;
+import static org.hibernate.cfg.CacheSettings.CACHE_SINGLE_FLIGHT_TIMEOUT;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_MAX_RESULT_ROWS;
+
 /**
  * A {@link CacheImplementor} service used when the second-level cache is enabled.
  *
@@ -67,6 +73,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final Map<NavigableRole,NaturalIdDataAccess> naturalIdAccessMap = new ConcurrentHashMap<>();
 	private final Map<NavigableRole,CollectionDataAccess> collectionAccessMap = new ConcurrentHashMap<>();
 
+	private final Map<String,SingleFlightLoads> singleFlightLoadsByRegionName = new ConcurrentHashMap<>();
+
 	private final TimestampsCache timestampsCache;
 
 	private final QueryResultsCache defaultQueryResultsCache;
@@ -101,7 +109,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					getMaxResultRows( queryResultsRegion.getName() )
 			);
 		}
 		else {
@@ -129,6 +138,22 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 				);
 			}
 
+			final Map<String, Object> settings = getSessionFactory().getProperties();
+			final String regionName = regionConfig.getRegionName();
+			if ( ConfigurationHelper.getBoolean(
+					CACHE_SINGLE_FLIGHT_LOADS + '.' + regionName,
+					settings,
+					ConfigurationHelper.getBoolean( CACHE_SINGLE_FLIGHT_LOADS, settings, false )
+			) ) {
+				singleFlightLoadsByRegionName.put(
+						region.getName(),
+						new SingleFlightLoads(
+								region.getName(),
+								ConfigurationHelper.getInt( CACHE_SINGLE_FLIGHT_TIMEOUT, settings, 1000 )
+						)
+				);
+			}
+
 			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 			// Entity caching
 
@@ -210,6 +235,11 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	}
 
 
+	@Override
+	public SingleFlightLoads getSingleFlightLoads(String regionName) {
+		return singleFlightLoadsByRegionName.get( regionName );
+	}
+
 	@Override
 	public Region getRegion(String regionName) {
 		// The Region in regionsByName has precedence over the
@@ -550,13 +580,23 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				getMaxResultRows( regionName )
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
 		return regionAccess;
 	}
 
+	private int getMaxResultRows(String regionName) {
+		final Map<String, Object> settings = getSessionFactory().getProperties();
+		return ConfigurationHelper.getInt(
+				QUERY_CACHE_MAX_RESULT_ROWS + '.' + regionName,
+				settings,
+				ConfigurationHelper.getInt( QUERY_CACHE_MAX_RESULT_ROWS, settings, 0 )
+		);
+	}
+
 	protected QueryResultsRegion makeQueryResultsRegion(String regionName) {
 		return regionFactory.buildQueryResultsRegion( regionName, getSessionFactory() );
 	}
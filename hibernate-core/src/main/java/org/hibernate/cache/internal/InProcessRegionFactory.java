@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.WindowTinyLfuCache;
+import org.hibernate.internal.util.config.ConfigurationException;
+
+import static org.hibernate.cfg.CacheSettings.IN_PROCESS_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.IN_PROCESS_CACHE_TIME_TO_LIVE;
+import static org.hibernate.cfg.CacheSettings.IN_PROCESS_CACHE_WEIGHER;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} which keeps cached data in the heap
+ * of the current process, without any dependency on an external caching provider.
+ * <p>
+ * Each entity, collection, natural id, and query results region is a
+ * {@link WindowTinyLfuCache}, bounded by {@value org.hibernate.cfg.CacheSettings#IN_PROCESS_CACHE_MAX_ENTRIES}
+ * and with an optional {@value org.hibernate.cfg.CacheSettings#IN_PROCESS_CACHE_TIME_TO_LIVE}.
+ * When a {@value org.hibernate.cfg.CacheSettings#IN_PROCESS_CACHE_WEIGHER} is given,
+ * a region is bounded by the total weight of its entries instead of their number.
+ * Reads from a region never block. The timestamps region is never bounded, since the
+ * eviction of an update timestamp would allow stale query results to be returned.
+ * <p>
+ * This region factory is not clustered, and so it is only suitable for applications
+ * running a single instance, or for data which is never modified.
+ *
+ * @see org.hibernate.cfg.CacheSettings#IN_PROCESS_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.CacheSettings#IN_PROCESS_CACHE_TIME_TO_LIVE
+ * @see org.hibernate.cfg.CacheSettings#IN_PROCESS_CACHE_WEIGHER
+ */
+public class InProcessRegionFactory extends RegionFactoryTemplate {
+	public static final long DEFAULT_MAX_ENTRIES = 10_000;
+
+	private Map<String, Object> configValues;
+	private StrategySelector strategySelector;
+	private long defaultMaxEntries;
+	private long defaultTimeToLive;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+		this.strategySelector = settings.getServiceRegistry().requireService( StrategySelector.class );
+		this.defaultMaxEntries = getLong( IN_PROCESS_CACHE_MAX_ENTRIES, DEFAULT_MAX_ENTRIES );
+		this.defaultTimeToLive = getLong( IN_PROCESS_CACHE_TIME_TO_LIVE, 0L );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+		strategySelector = null;
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new InProcessStorageAccess(
+				regionName,
+				new WindowTinyLfuCache<>( 0, 0, TimeUnit.MILLISECONDS, null )
+		);
+	}
+
+	private InProcessStorageAccess createStorageAccess(String regionName) {
+		return new InProcessStorageAccess(
+				regionName,
+				new WindowTinyLfuCache<>(
+						getLong( IN_PROCESS_CACHE_MAX_ENTRIES + '.' + regionName, defaultMaxEntries ),
+						getLong( IN_PROCESS_CACHE_TIME_TO_LIVE + '.' + regionName, defaultTimeToLive ),
+						TimeUnit.MILLISECONDS,
+						getWeigher( regionName )
+				)
+		);
+	}
+
+	/**
+	 * The weigher used to compute the weight of an entry of the given region, in which
+	 * case the {@linkplain org.hibernate.cfg.CacheSettings#IN_PROCESS_CACHE_MAX_ENTRIES
+	 * maximum} limits the total weight of the entries instead of their number.
+	 *
+	 * @return the weigher, or {@code null} if every entry has a weight of one
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#IN_PROCESS_CACHE_WEIGHER
+	 */
+	@SuppressWarnings("unchecked")
+	protected ToIntFunction<Object> getWeigher(String regionName) {
+		Object weigher = configValues.get( IN_PROCESS_CACHE_WEIGHER + '.' + regionName );
+		if ( weigher == null ) {
+			weigher = configValues.get( IN_PROCESS_CACHE_WEIGHER );
+		}
+		return weigher == null ? null : strategySelector.resolveStrategy( ToIntFunction.class, weigher );
+	}
+
+	private long getLong(String name, long defaultValue) {
+		final Object value = configValues.get( name );
+		if ( value == null ) {
+			return defaultValue;
+		}
+		else if ( value instanceof Number ) {
+			return ( (Number) value ).longValue();
+		}
+		else if ( value instanceof String ) {
+			try {
+				return Long.parseLong( ( (String) value ).trim() );
+			}
+			catch (NumberFormatException e) {
+				throw new ConfigurationException( "Setting '" + name + "' must be a number: " + value, e );
+			}
+		}
+		else {
+			throw new ConfigurationException( "Setting '" + name + "' must be a number: " + value );
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.WindowTinyLfuCache;
+
+/**
+ * A {@link DomainDataStorageAccess} backed by a {@link WindowTinyLfuCache}.
+ *
+ * @see InProcessRegionFactory
+ */
+public class InProcessStorageAccess implements DomainDataStorageAccess {
+	private final String regionName;
+	private final WindowTinyLfuCache<Object, Object> cache;
+
+	public InProcessStorageAccess(String regionName, WindowTinyLfuCache<Object, Object> cache) {
+		this.regionName = regionName;
+		this.cache = cache;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return cache.containsKey( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return cache.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		cache.put( key, value );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData() {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void release() {
+		cache.clear();
+	}
+
+	/**
+	 * The number of entries currently held, for diagnostic purposes.
+	 */
+	public int size() {
+		return cache.size();
+	}
+}
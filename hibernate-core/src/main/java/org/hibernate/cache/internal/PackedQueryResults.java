@@ -0,0 +1,474 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * A compact, read-only representation of the query results kept in a
+ * {@linkplain QueryResultsCacheImpl query results cache} entry.
+ * <p>
+ * The JDBC values of the cached rows are held column by column. A column whose
+ * values are all of type {@code Integer}, {@code Long}, {@code Double}, or
+ * {@code Boolean} is held in an array of the corresponding primitive type, and a
+ * column in which most values are repeated is held as a dictionary of its distinct
+ * values, so that each row holds only the index of its value. The type of each
+ * column is recorded once, by the column, rather than by each of its values.
+ * <p>
+ * The expected types of the columns are given by a {@link Layout}, derived from the
+ * {@link JdbcMapping}s of the cached JDBC values. The layout is built once for each
+ * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping} and shared by every
+ * result cached with that mapping. A column containing a value of an unexpected
+ * class is packed as if there were no layout.
+ * <p>
+ * This is still a {@link List} of the cached rows, with the same elements as
+ * the list of results which was packed, but each element is built on demand.
+ * Single values may be read with {@link #getValue(int, int)}, without building
+ * the row.
+ */
+public final class PackedQueryResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final JdbcValuesMetadata metadata;
+	private final Layout layout;
+	private final int offset;
+	private final int rowCount;
+	private final boolean singleValueRows;
+	private final Column[] columns;
+
+	private PackedQueryResults(
+			JdbcValuesMetadata metadata,
+			Layout layout,
+			int rowCount,
+			boolean singleValueRows,
+			Column[] columns) {
+		this.metadata = metadata;
+		this.layout = layout;
+		this.offset = metadata == null ? 0 : 1;
+		this.rowCount = rowCount;
+		this.singleValueRows = singleValueRows;
+		this.columns = columns;
+	}
+
+	/**
+	 * Pack the given list of query results, as collected by a
+	 * {@link org.hibernate.sql.results.caching.QueryCachePutManager}.
+	 *
+	 * @return the packed results, or the given list if the rows do not all
+	 * have the same shape
+	 */
+	public static List<?> pack(List<?> results) {
+		return pack( results, null );
+	}
+
+	/**
+	 * Pack the given list of query results, as collected by a
+	 * {@link org.hibernate.sql.results.caching.QueryCachePutManager}, with the
+	 * expected column types given by the layout.
+	 *
+	 * @param layout the layout of the rows, or {@code null} if the types of the
+	 * columns are not known in advance
+	 *
+	 * @return the packed results, or the given list if the rows do not all
+	 * have the same shape
+	 */
+	public static List<?> pack(List<?> results, Layout layout) {
+		if ( results instanceof PackedQueryResults ) {
+			return results;
+		}
+		final int offset = !results.isEmpty() && results.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
+		final int rowCount = results.size() - offset;
+		if ( rowCount == 0 ) {
+			return results;
+		}
+
+		final Object firstRow = results.get( offset );
+		final boolean singleValueRows = firstRow == null || firstRow.getClass() != Object[].class;
+		final int width = singleValueRows ? 1 : ( (Object[]) firstRow ).length;
+		final Object[][] values = new Object[width][rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			final Object row = results.get( i + offset );
+			if ( singleValueRows ) {
+				if ( row != null && row.getClass() == Object[].class ) {
+					return results;
+				}
+				values[0][i] = row;
+			}
+			else {
+				if ( row == null || row.getClass() != Object[].class || ( (Object[]) row ).length != width ) {
+					return results;
+				}
+				final Object[] rowValues = (Object[]) row;
+				for ( int j = 0; j < width; j++ ) {
+					values[j][i] = rowValues[j];
+				}
+			}
+		}
+
+		final Layout rowLayout = layout != null && layout.columnTypes.length == width ? layout : null;
+		final Column[] columns = new Column[width];
+		for ( int j = 0; j < width; j++ ) {
+			columns[j] = rowLayout == null
+					? packColumn( values[j] )
+					: packColumn( values[j], rowLayout.columnTypes[j] );
+		}
+		return new PackedQueryResults(
+				offset == 0 ? null : (JdbcValuesMetadata) results.get( 0 ),
+				rowLayout,
+				rowCount,
+				singleValueRows,
+				columns
+		);
+	}
+
+	/**
+	 * The layout shared with the other results cached for the same mapping, or
+	 * {@code null} if the types of the columns were not known in advance.
+	 */
+	public Layout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * The number of rows.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The value of the given column of the given row, where the first row is
+	 * at position zero, not counting the {@link JdbcValuesMetadata}, if any.
+	 */
+	public Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	@Override
+	public Object get(int index) {
+		if ( index < offset ) {
+			if ( index < 0 ) {
+				throw new IndexOutOfBoundsException( "Index: " + index );
+			}
+			return metadata;
+		}
+		final int row = index - offset;
+		if ( row >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Index: " + index );
+		}
+		if ( singleValueRows ) {
+			return columns[0].get( row );
+		}
+		else {
+			final Object[] values = new Object[columns.length];
+			for ( int j = 0; j < columns.length; j++ ) {
+				values[j] = columns[j].get( row );
+			}
+			return values;
+		}
+	}
+
+	@Override
+	public int size() {
+		return rowCount + offset;
+	}
+
+	/**
+	 * Pack a column whose values are expected to be of the given type, checking the
+	 * class of each value instead of determining the type of the column.
+	 */
+	private static Column packColumn(Object[] values, ColumnType columnType) {
+		if ( columnType.javaType == null ) {
+			// values of different classes must not share a dictionary entry
+			return packColumn( values );
+		}
+		boolean hasNulls = false;
+		for ( Object value : values ) {
+			if ( value == null ) {
+				hasNulls = true;
+			}
+			else if ( value.getClass() != columnType.javaType ) {
+				return packColumn( values );
+			}
+		}
+		return packColumn( values, columnType.javaType, hasNulls );
+	}
+
+	private static Column packColumn(Object[] values) {
+		Class<?> javaType = null;
+		boolean hasNulls = false;
+		for ( Object value : values ) {
+			if ( value == null ) {
+				hasNulls = true;
+			}
+			else if ( javaType == null ) {
+				javaType = value.getClass();
+			}
+			else if ( javaType != value.getClass() ) {
+				javaType = Object.class;
+			}
+		}
+		return packColumn( values, javaType, hasNulls );
+	}
+
+	private static Column packColumn(Object[] values, Class<?> javaType, boolean hasNulls) {
+		final BitSet nulls = hasNulls ? nulls( values ) : null;
+		if ( javaType == Integer.class ) {
+			final int[] ints = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					ints[i] = (Integer) values[i];
+				}
+			}
+			return new IntColumn( ints, nulls );
+		}
+		else if ( javaType == Long.class ) {
+			final long[] longs = new long[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					longs[i] = (Long) values[i];
+				}
+			}
+			return new LongColumn( longs, nulls );
+		}
+		else if ( javaType == Double.class ) {
+			final double[] doubles = new double[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					doubles[i] = (Double) values[i];
+				}
+			}
+			return new DoubleColumn( doubles, nulls );
+		}
+		else if ( javaType == Boolean.class ) {
+			final BitSet booleans = new BitSet( values.length );
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] == Boolean.TRUE ) {
+					booleans.set( i );
+				}
+			}
+			return new BooleanColumn( booleans, nulls );
+		}
+		else if ( javaType == null ) {
+			return new NullColumn();
+		}
+		else if ( javaType == Object.class ) {
+			// never substitute a value for an equal value of a different class
+			return new ObjectColumn( values );
+		}
+		else {
+			return packObjectColumn( values );
+		}
+	}
+
+	private static Column packObjectColumn(Object[] values) {
+		// only worth it if at least half the values are repeated
+		final int maxDistinct = values.length / 2;
+		final Map<Object, Integer> codes = new HashMap<>();
+		final int[] indexes = new int[values.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null ) {
+				indexes[i] = -1;
+				continue;
+			}
+			else if ( value.getClass().isArray() ) {
+				// arrays have identity equality
+				return new ObjectColumn( values );
+			}
+			Integer code = codes.get( value );
+			if ( code == null ) {
+				if ( codes.size() == maxDistinct ) {
+					return new ObjectColumn( values );
+				}
+				code = codes.size();
+				codes.put( value, code );
+			}
+			indexes[i] = code;
+		}
+		final Object[] dictionary = new Object[codes.size()];
+		for ( Map.Entry<Object, Integer> entry : codes.entrySet() ) {
+			dictionary[entry.getValue()] = entry.getKey();
+		}
+		return new DictionaryColumn( dictionary, indexes );
+	}
+
+	private static BitSet nulls(Object[] values) {
+		final BitSet nulls = new BitSet( values.length );
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] == null ) {
+				nulls.set( i );
+			}
+		}
+		return nulls;
+	}
+
+	/**
+	 * The expected types of the columns of cached rows.
+	 */
+	public static final class Layout implements Serializable {
+		private final ColumnType[] columnTypes;
+
+		private Layout(ColumnType[] columnTypes) {
+			this.columnTypes = columnTypes;
+		}
+
+		/**
+		 * The layout of rows of values of the given JDBC mappings, where a {@code null}
+		 * mapping stands for a value of unknown type.
+		 */
+		public static Layout forJdbcMappings(JdbcMapping[] jdbcMappings) {
+			final ColumnType[] columnTypes = new ColumnType[jdbcMappings.length];
+			for ( int j = 0; j < jdbcMappings.length; j++ ) {
+				columnTypes[j] = jdbcMappings[j] == null
+						? ColumnType.OBJECT
+						// the cached values are the values read from JDBC, before conversion
+						: ColumnType.forJavaType( jdbcMappings[j].getJdbcJavaType().getJavaTypeClass() );
+			}
+			return new Layout( columnTypes );
+		}
+	}
+
+	private enum ColumnType {
+		INTEGER( Integer.class ),
+		LONG( Long.class ),
+		DOUBLE( Double.class ),
+		BOOLEAN( Boolean.class ),
+		OBJECT( null );
+
+		private final Class<?> javaType;
+
+		ColumnType(Class<?> javaType) {
+			this.javaType = javaType;
+		}
+
+		static ColumnType forJavaType(Class<?> javaType) {
+			if ( javaType == Integer.class || javaType == int.class ) {
+				return INTEGER;
+			}
+			else if ( javaType == Long.class || javaType == long.class ) {
+				return LONG;
+			}
+			else if ( javaType == Double.class || javaType == double.class ) {
+				return DOUBLE;
+			}
+			else if ( javaType == Boolean.class || javaType == boolean.class ) {
+				return BOOLEAN;
+			}
+			else {
+				return OBJECT;
+			}
+		}
+	}
+
+	private interface Column extends Serializable {
+		Object get(int row);
+	}
+
+	private static final class NullColumn implements Column {
+		@Override
+		public Object get(int row) {
+			return null;
+		}
+	}
+
+	private static final class IntColumn implements Column {
+		private final int[] values;
+		private final BitSet nulls;
+
+		private IntColumn(int[] values, BitSet nulls) {
+			this.values = values;
+			this.nulls = nulls;
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class LongColumn implements Column {
+		private final long[] values;
+		private final BitSet nulls;
+
+		private LongColumn(long[] values, BitSet nulls) {
+			this.values = values;
+			this.nulls = nulls;
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class DoubleColumn implements Column {
+		private final double[] values;
+		private final BitSet nulls;
+
+		private DoubleColumn(double[] values, BitSet nulls) {
+			this.values = values;
+			this.nulls = nulls;
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class BooleanColumn implements Column {
+		private final BitSet values;
+		private final BitSet nulls;
+
+		private BooleanColumn(BitSet values, BitSet nulls) {
+			this.values = values;
+			this.nulls = nulls;
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values.get( row );
+		}
+	}
+
+	private static final class DictionaryColumn implements Column {
+		private final Object[] dictionary;
+		private final int[] indexes;
+
+		private DictionaryColumn(Object[] dictionary, int[] indexes) {
+			this.dictionary = dictionary;
+			this.indexes = indexes;
+		}
+
+		@Override
+		public Object get(int row) {
+			final int index = indexes[row];
+			return index < 0 ? null : dictionary[index];
+		}
+	}
+
+	private static final class ObjectColumn implements Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			this.values = values;
+		}
+
+		@Override
+		public Object get(int row) {
+			return values[row];
+		}
+	}
+}
@@ -19,6 +19,7 @@ import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -34,12 +35,15 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final int maxResultRows;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			int maxResultRows) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.maxResultRows = maxResultRows;
 	}
 
 	@Override
@@ -52,15 +56,39 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			final QueryKey key,
 			final List<?> results,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, results, null, session );
+	}
+
+	/**
+	 * Store a result list of a query, packed with the given layout of its rows.
+	 *
+	 * @param layout the layout shared by the results with the same
+	 * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping}, or {@code null}
+	 *
+	 * @see #put(QueryKey, List, SharedSessionContractImplementor)
+	 */
+	public boolean put(
+			final QueryKey key,
+			final List<?> results,
+			final PackedQueryResults.Layout layout,
+			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( L2CACHE_LOGGER.isDebugEnabled() ) {
 			L2CACHE_LOGGER.debugf( "Caching query results in region: %s; timestamp=%s",
 					cacheRegion.getName(),
 					session.getCacheTransactionSynchronization().getCachingTimestamp() );
 		}
 
+		if ( maxResultRows > 0 && rowCount( results ) > maxResultRows ) {
+			if ( L2CACHE_LOGGER.isDebugEnabled() ) {
+				L2CACHE_LOGGER.debugf( "Not caching query results with more than %s rows", maxResultRows );
+			}
+			return false;
+		}
+
+		final List<?> packedResults = PackedQueryResults.pack( results, layout );
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				packedResults == results ? deepCopy( results ) : packedResults
 		);
 
 		final EventManager eventManager = session.getEventManager();
@@ -84,7 +112,14 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
+		// packed results are read-only
+		return results instanceof PackedQueryResults ? results : new ArrayList<>( results );
+	}
+
+	private static int rowCount(List<?> results) {
+		return !results.isEmpty() && results.get( 0 ) instanceof JdbcValuesMetadata
+				? results.size() - 1
+				: results.size();
 	}
 
 	@Override
@@ -105,7 +140,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !timestampsCache.isUpToDate( spaces, key.getPartitionKey(), cacheItem.timestamp, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -137,7 +172,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !timestampsCache.isUpToDate( spaces, key.getPartitionKey(), cacheItem.timestamp, session ) ) {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
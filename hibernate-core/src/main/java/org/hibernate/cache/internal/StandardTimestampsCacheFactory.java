@@ -10,6 +10,9 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_TENANT_PARTITIONING;
 
 /**
  * Standard Hibernate implementation of the QueryCacheFactory interface.  Returns instances of
@@ -25,6 +28,13 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			CacheImplementor cacheManager,
 			TimestampsRegion timestampsRegion) {
-		return new TimestampsCacheEnabledImpl( timestampsRegion );
+		return new TimestampsCacheEnabledImpl(
+				timestampsRegion,
+				ConfigurationHelper.getBoolean(
+						QUERY_CACHE_TENANT_PARTITIONING,
+						cacheManager.getSessionFactory().getProperties(),
+						false
+				)
+		);
 	}
 }
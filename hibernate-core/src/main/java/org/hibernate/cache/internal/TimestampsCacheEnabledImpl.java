@@ -6,22 +6,42 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.generator.Generator;
+import org.hibernate.generator.internal.TenantIdGeneration;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
 /**
  * Standard implementation of TimestampsCache
+ * <p>
+ * When {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_TENANT_PARTITIONING
+ * partitioned by tenant}, a write records, in addition to the timestamp of each
+ * query space, the timestamp of the query space within the tenant of the session,
+ * or, for a session without a tenant or of the root tenant, the timestamp of the
+ * query space within every tenant. Only query spaces which hold the rows of a
+ * single tenant are partitioned: every table when each tenant has its own schema
+ * or database, and otherwise only the tables mapped by entities with a
+ * {@linkplain org.hibernate.annotations.TenantId tenant id}. A write to any
+ * other table invalidates the query results cached for every tenant.
  *
  * @author Steve Ebersole
  */
@@ -30,10 +50,20 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
+	private static final char PARTITION_SEPARATOR = '@';
+	private static final char ALL_PARTITIONS_SUFFIX = '#';
+
 	private final TimestampsRegion timestampsRegion;
+	private final boolean partitionedByTenant;
+	private volatile Set<String> partitionedSpaces;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, false );
+	}
+
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, boolean partitionedByTenant) {
 		this.timestampsRegion = timestampsRegion;
+		this.partitionedByTenant = partitionedByTenant;
 	}
 
 	@Override
@@ -56,7 +86,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( String space : spaces ) {
+		for ( String space : spacesToInvalidate( spaces, session ) ) {
 			if ( debugEnabled ) {
 				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
 			}
@@ -96,7 +126,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( String space : spaces ) {
+		for ( String space : spacesToInvalidate( spaces, session ) ) {
 			if ( debugEnabled ) {
 				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
 			}
@@ -125,6 +155,153 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		}
 	}
 
+	/**
+	 * The keys of the timestamps to be written to the region for a write to the
+	 * given query spaces.
+	 */
+	private String[] spacesToInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+		if ( !partitionedByTenant ) {
+			return spaces;
+		}
+		else {
+			final Object partitionKey = getPartitionKey( session );
+			final Set<String> partitionedSpaces = getPartitionedSpaces( session.getFactory() );
+			final List<String> spacesToInvalidate = new ArrayList<>( spaces.length * 2 );
+			for ( String space : spaces ) {
+				spacesToInvalidate.add( space );
+				if ( partitionedSpaces == null || partitionedSpaces.contains( space ) ) {
+					spacesToInvalidate.add( partitionKey == null
+							? allPartitionsSpace( space )
+							: partitionSpace( space, partitionKey ) );
+				}
+			}
+			return spacesToInvalidate.toArray( String[]::new );
+		}
+	}
+
+	/**
+	 * The query spaces which hold the rows of a single tenant, or {@code null}
+	 * if every query space does.
+	 */
+	private Set<String> getPartitionedSpaces(SessionFactoryImplementor factory) {
+		Set<String> spaces = partitionedSpaces;
+		if ( spaces == null && !factory.getSessionFactoryOptions().isMultiTenancyEnabled() ) {
+			spaces = resolvePartitionedSpaces( factory );
+			partitionedSpaces = spaces;
+		}
+		return spaces;
+	}
+
+	private static Set<String> resolvePartitionedSpaces(SessionFactoryImplementor factory) {
+		// a table is partitioned only if every entity mapped to it has a tenant id,
+		// and if it isn't also the join table of a collection
+		final Set<String> partitioned = new HashSet<>();
+		final Set<String> shared = new HashSet<>();
+		final MappingMetamodelImplementor metamodel = factory.getMappingMetamodel();
+		metamodel.forEachEntityDescriptor( persister -> Collections.addAll(
+				hasTenantId( persister ) ? partitioned : shared,
+				persister.getPropertySpaces()
+		) );
+		metamodel.forEachCollectionDescriptor( persister -> {
+			if ( !persister.isOneToMany() ) {
+				Collections.addAll( shared, persister.getCollectionSpaces() );
+			}
+		} );
+		partitioned.removeAll( shared );
+		return partitioned;
+	}
+
+	private static boolean hasTenantId(EntityPersister persister) {
+		for ( Generator generator : persister.getEntityMetamodel().getGenerators() ) {
+			if ( generator instanceof TenantIdGeneration ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String partitionSpace(String space, Object partitionKey) {
+		return space + PARTITION_SEPARATOR + partitionKey;
+	}
+
+	private static String allPartitionsSpace(String space) {
+		return space + ALL_PARTITIONS_SUFFIX;
+	}
+
+	@Override
+	public Object getPartitionKey(SharedSessionContractImplementor session) {
+		if ( partitionedByTenant ) {
+			final Object tenantIdentifier = session.getTenantIdentifierValue();
+			final CurrentTenantIdentifierResolver<Object> resolver =
+					session.getFactory().getCurrentTenantIdentifierResolver();
+			// the root tenant has access to all partitions
+			return tenantIdentifier == null || resolver != null && resolver.isRoot( tenantIdentifier )
+					? null
+					: tenantIdentifier;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Object partitionKey,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		if ( !partitionedByTenant || partitionKey == null ) {
+			return isUpToDate( spaces, timestamp, session );
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Set<String> partitionedSpaces = getPartitionedSpaces( session.getFactory() );
+
+		for ( String space : spaces ) {
+			if ( partitionedSpaces == null || partitionedSpaces.contains( space )
+					? isPartitionOutOfDate( space, partitionKey, timestamp, session, statistics )
+					: isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean isUpToDate(
+			String[] spaces,
+			Object partitionKey,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		if ( !partitionedByTenant || partitionKey == null ) {
+			return isUpToDate( spaces, timestamp, session );
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Set<String> partitionedSpaces = getPartitionedSpaces( session.getFactory() );
+
+		for ( String space : spaces ) {
+			if ( partitionedSpaces == null || partitionedSpaces.contains( space )
+					? isPartitionOutOfDate( space, partitionKey, timestamp, session, statistics )
+					: isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isPartitionOutOfDate(
+			String space,
+			Object partitionKey,
+			Long timestamp,
+			SharedSessionContractImplementor session,
+			StatisticsImplementor statistics) {
+		return isSpaceOutOfDate( partitionSpace( space, partitionKey ), timestamp, session, statistics )
+			|| isSpaceOutOfDate( allPartitionsSpace( space ), timestamp, session, statistics );
+	}
+
 	@Override
 	public boolean isUpToDate(
 			String[] spaces,
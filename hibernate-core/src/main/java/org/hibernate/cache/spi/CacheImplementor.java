@@ -17,6 +17,7 @@ import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.support.SingleFlightLoads;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
@@ -107,6 +108,20 @@ public interface CacheImplementor extends Service, Cache, Serializable {
 	 */
 	QueryResultsCache getQueryResultsCacheStrictly(String regionName);
 
+	/**
+	 * The coordinator of concurrent loads of the data cached in the named
+	 * domain data region.
+	 *
+	 * @return the coordinator, or {@code null} if
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT_LOADS
+	 * single-flight loading} is not enabled for the region
+	 *
+	 * @since 6.5
+	 */
+	default SingleFlightLoads getSingleFlightLoads(String regionName) {
+		return null;
+	}
+
 	/**
 	 * Clean up the default query cache
 	 *
@@ -25,6 +25,8 @@ import org.hibernate.query.spi.QueryParameterBindings;
  * implicit setting and parameter argument that affects the result list
  * of the query, including things like the {@link #maxRows limit} and
  * {@link #firstRow offset} and {@link #enabledFilterNames enabled filters}.
+ * It also records the {@linkplain TimestampsCache#getPartitionKey partition}
+ * against which the cached results are checked for staleness.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -54,7 +56,8 @@ public class QueryKey implements Serializable {
 				parameterBindings.generateQueryKeyMemento( session ),
 				limitToUse.getFirstRow(),
 				limitToUse.getMaxRows(),
-				session.getLoadQueryInfluencers().getEnabledFilterNames()
+				session.getLoadQueryInfluencers().getEnabledFilterNames(),
+				session.getFactory().getCache().getTimestampsCache().getPartitionKey( session )
 		);
 	}
 
@@ -64,6 +67,7 @@ public class QueryKey implements Serializable {
 	private final Integer firstRow;
 	private final Integer maxRows;
 	private final String[] enabledFilterNames;
+	private final Object partitionKey;
 
 	/**
 	 * For performance reasons, the hashCode is cached; however, it is marked transient so that it can be
@@ -77,14 +81,34 @@ public class QueryKey implements Serializable {
 			Integer firstRow,
 			Integer maxRows,
 			Set<String> enabledFilterNames) {
+		this( sql, parameterBindingsMemento, firstRow, maxRows, enabledFilterNames, null );
+	}
+
+	public QueryKey(
+			String sql,
+			ParameterBindingsMemento parameterBindingsMemento,
+			Integer firstRow,
+			Integer maxRows,
+			Set<String> enabledFilterNames,
+			Object partitionKey) {
 		this.sqlQueryString = sql;
 		this.parameterBindingsMemento = parameterBindingsMemento;
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
 		this.enabledFilterNames = enabledFilterNames.toArray( String[]::new );
+		this.partitionKey = partitionKey;
 		this.hashCode = generateHashCode();
 	}
 
+	/**
+	 * The {@linkplain TimestampsCache#getPartitionKey partition} of the data
+	 * read by the query, or {@code null} if the query results are invalidated
+	 * by writes to any partition.
+	 */
+	public Object getPartitionKey() {
+		return partitionKey;
+	}
+
 	/**
 	 * Deserialization hook used to re-init the cached hashcode which is needed for proper clustering support.
 	 *
@@ -106,6 +130,7 @@ public class QueryKey implements Serializable {
 //		result = 37 * result + ( maxRows==null ? 0 : maxRows );
 		result = 37 * result + parameterBindingsMemento.hashCode();
 		result = 37 * result + Arrays.hashCode( enabledFilterNames );
+		result = 37 * result + Objects.hashCode( partitionKey );
 		return result;
 	}
 
@@ -141,6 +166,10 @@ public class QueryKey implements Serializable {
 			return false;
 		}
 
+		if ( ! Objects.equals( partitionKey, that.partitionKey ) ) {
+			return false;
+		}
+
 		return true;
 	}
 
@@ -8,6 +8,7 @@ package org.hibernate.cache.spi;
 
 import java.util.Collection;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -67,6 +68,62 @@ public interface TimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * The partition of the data written, or read, by the given session, if
+	 * invalidation is tracked per partition, or {@code null} otherwise.
+	 * <p>
+	 * A write by a session with a partition invalidates the query spaces
+	 * of that partition, and the query spaces of no partition, but not the
+	 * query spaces of other partitions. A write by a session without a
+	 * partition invalidates the query spaces of every partition.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_TENANT_PARTITIONING
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default Object getPartitionKey(SharedSessionContractImplementor session) {
+		return null;
+	}
+
+	/**
+	 * Perform an up-to-date check for the given set of query spaces, within
+	 * the given partition, as part of verifying the validity of cached query
+	 * results.
+	 *
+	 * @param partitionKey The {@linkplain #getPartitionKey partition}, or
+	 * {@code null} if the query spaces should be checked for writes to any
+	 * partition
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isUpToDate(
+			Collection<String> spaces,
+			Object partitionKey,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return isUpToDate( spaces, timestamp, session );
+	}
+
+	/**
+	 * Perform an up-to-date check for the given set of query spaces, within
+	 * the given partition, as part of verifying the validity of cached query
+	 * results.
+	 *
+	 * @see #isUpToDate(Collection, Object, Long, SharedSessionContractImplementor)
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isUpToDate(
+			String[] spaces,
+			Object partitionKey,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return isUpToDate( spaces, timestamp, session );
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
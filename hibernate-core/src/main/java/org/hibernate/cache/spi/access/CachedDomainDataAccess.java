@@ -57,6 +57,31 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve multiple objects from the cache, in a single call to
+	 * the caching provider, if possible. Mainly used when resolving the targets
+	 * of a multi-load, or a batch fetch, from the second level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, in the order of the given keys, with {@code null}
+	 * for each key which is not cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 *
+	 * @since 6.5
+	 */
+	default Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = get( session, keys[i] );
+		}
+		return values;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
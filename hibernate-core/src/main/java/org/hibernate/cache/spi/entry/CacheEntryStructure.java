@@ -29,7 +29,7 @@ public interface CacheEntryStructure {
 	 * @param structured The structured form.
 	 * @param factory The session factory.
 	 *
-	 * @return The item
+	 * @return The item, or {@code null} if the structured form could not be read
 	 */
 	Object destructure(Object structured, SessionFactoryImplementor factory);
 }
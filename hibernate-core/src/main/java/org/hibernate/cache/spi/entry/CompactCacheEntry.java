@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.entry.CompactEncoding.Input;
+import org.hibernate.cache.spi.entry.CompactEncoding.Output;
+import org.hibernate.cache.spi.entry.CompactEncoding.Slot;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import static org.hibernate.cache.spi.entry.CompactEncoding.FORMAT_VERSION;
+import static org.hibernate.cache.spi.entry.CompactEncoding.readValue;
+import static org.hibernate.cache.spi.entry.CompactEncoding.readValues;
+import static org.hibernate.cache.spi.entry.CompactEncoding.schemaHash;
+import static org.hibernate.cache.spi.entry.CompactEncoding.writeValue;
+import static org.hibernate.cache.spi.entry.CompactEncoding.writeValues;
+
+/**
+ * Compact binary CacheEntry format for entities, in which the disassembled state of
+ * an entity is written to a {@code byte[]}. Attribute values of primitive, string,
+ * numeric, temporal, UUID and enum types are written in binary form, in a layout
+ * derived from the JDBC mappings of the attributes, and are read back directly into
+ * the disassembled state.
+ * <p>
+ * An entry written by a different version of the mapping, or of the format, is
+ * never misread, but treated as missing from the cache.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE
+ *
+ * @since 6.5
+ */
+@Incubating
+public class CompactCacheEntry implements CacheEntryStructure {
+	private final EntityPersister persister;
+	private volatile Layout layout;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Layout layout = getLayout();
+		final Output output = new Output( 64 );
+		output.writeByte( FORMAT_VERSION );
+		output.writeInt( layout.schemaHash );
+		output.writeString( entry.getSubclass() );
+		writeValue( output, entry.getVersion(), layout.versionSlot );
+		writeValues( output, entry.getDisassembledState(), layout.slots );
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			// an entry written before compact entries were enabled
+			return structured;
+		}
+		final Input input = new Input( (byte[]) structured );
+		if ( input.readByte() != FORMAT_VERSION ) {
+			return null;
+		}
+		final int schemaHash = input.readInt();
+		final String subclass = input.readString();
+		final EntityPersister subclassPersister = factory
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.findEntityDescriptor( subclass );
+		if ( subclassPersister == null
+				|| !( subclassPersister.getCacheEntryStructure() instanceof CompactCacheEntry ) ) {
+			return null;
+		}
+		final Layout layout = ( (CompactCacheEntry) subclassPersister.getCacheEntryStructure() ).getLayout();
+		if ( schemaHash != layout.schemaHash ) {
+			return null;
+		}
+		final Object version = readValue( input, layout.versionSlot );
+		final Serializable[] disassembledState = readValues( input, layout.slots );
+		return new StandardCacheEntryImpl( disassembledState, subclass, version );
+	}
+
+	private Layout getLayout() {
+		Layout layout = this.layout;
+		if ( layout == null ) {
+			// the layout depends on the identifier types of associated entities,
+			// so it may only be computed once the metamodel is complete
+			layout = new Layout( persister );
+			this.layout = layout;
+		}
+		return layout;
+	}
+
+	private static class Layout {
+		private final Slot[] slots;
+		private final Slot versionSlot;
+		private final int schemaHash;
+
+		private Layout(EntityPersister persister) {
+			final Type[] types = persister.getPropertyTypes();
+			slots = new Slot[types.length];
+			for ( int i = 0; i < types.length; i++ ) {
+				slots[i] = Slot.forType( types[i], persister.getFactory() );
+			}
+			// a timestamp version is written like any other temporal value
+			versionSlot = persister.isVersioned()
+					? Slot.forType( persister.getVersionType(), persister.getFactory() )
+					: Slot.any();
+			schemaHash = 31 * schemaHash( persister.getEntityName(), persister.getPropertyNames(), slots )
+					+ versionSlot.hash();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.entry.CompactEncoding.Input;
+import org.hibernate.cache.spi.entry.CompactEncoding.Output;
+import org.hibernate.cache.spi.entry.CompactEncoding.Slot;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.persister.collection.CollectionPersister;
+
+import jakarta.persistence.metamodel.PluralAttribute;
+
+import static org.hibernate.cache.spi.entry.CompactEncoding.FORMAT_VERSION;
+import static org.hibernate.cache.spi.entry.CompactEncoding.readValues;
+import static org.hibernate.cache.spi.entry.CompactEncoding.schemaHash;
+import static org.hibernate.cache.spi.entry.CompactEncoding.writeValues;
+
+/**
+ * Compact binary CacheEntry format for persistent collections, in which the
+ * disassembled elements of the collection, and its keys or identifiers, if any,
+ * are written to a {@code byte[]}.
+ *
+ * @see CompactCacheEntry
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE
+ *
+ * @since 6.5
+ */
+@Incubating
+public class CompactCollectionCacheEntry implements CacheEntryStructure {
+	private final CollectionPersister persister;
+	private volatile Layout layout;
+
+	/**
+	 * Constructs a CompactCollectionCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCollectionCacheEntry(CollectionPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CollectionCacheEntry entry = (CollectionCacheEntry) item;
+		final Layout layout = getLayout();
+		final Output output = new Output( 64 );
+		output.writeByte( FORMAT_VERSION );
+		output.writeInt( layout.schemaHash );
+		writeValues( output, entry.getState(), layout.slots );
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			// an entry written before compact entries were enabled
+			return structured;
+		}
+		final Input input = new Input( (byte[]) structured );
+		final Layout layout = getLayout();
+		if ( input.readByte() != FORMAT_VERSION || input.readInt() != layout.schemaHash ) {
+			return null;
+		}
+		return new CollectionCacheEntry( readValues( input, layout.slots ) );
+	}
+
+	private Layout getLayout() {
+		Layout layout = this.layout;
+		if ( layout == null ) {
+			layout = new Layout( persister );
+			this.layout = layout;
+		}
+		return layout;
+	}
+
+	private static class Layout {
+		private final Slot[] slots;
+		private final int schemaHash;
+
+		private Layout(CollectionPersister persister) {
+			final SessionFactoryImplementor factory = persister.getFactory();
+			final Slot elementSlot = Slot.forType( persister.getElementType(), factory );
+			final CollectionClassification classification =
+					persister.getCollectionSemantics().getCollectionClassification();
+			// see the implementations of PersistentCollection.disassemble()
+			if ( classification.toJpaClassification() == PluralAttribute.CollectionType.MAP ) {
+				slots = new Slot[] { Slot.forType( persister.getIndexType(), factory ), elementSlot };
+			}
+			else if ( classification == CollectionClassification.ID_BAG ) {
+				slots = new Slot[] { Slot.forType( persister.getIdentifierType(), factory ), elementSlot };
+			}
+			else {
+				slots = new Slot[] { elementSlot };
+			}
+			schemaHash = schemaHash( persister.getRole(), null, slots );
+		}
+	}
+}
@@ -0,0 +1,906 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+/**
+ * The binary encoding of disassembled state used by {@link CompactCacheEntry} and
+ * {@link CompactCollectionCacheEntry}.
+ * <p>
+ * A sequence of disassembled values is written as a header of two bits per value,
+ * followed by the non-null values. Each value is written according to its
+ * {@linkplain Slot slot}, determined ahead of time from the {@link JdbcMapping}
+ * of the attribute, with no type tag. Besides primitive and string values, slots
+ * hold numeric, temporal, UUID and enum values in binary form, for example a
+ * {@link LocalDate} as its epoch day, or an enum as its ordinal or name depending
+ * on how it is mapped to the column. A value whose class does not match the slot,
+ * for example the disassembled state of an embeddable, is instead written with a
+ * one-byte tag, falling back to Java serialization only for values of types which
+ * have no tag. Arrays are written with their component type, and read back as
+ * arrays of the same class.
+ */
+final class CompactEncoding {
+	/**
+	 * The version of the binary format, written as the first byte of every entry,
+	 * and incremented whenever the layout changes incompatibly.
+	 */
+	static final byte FORMAT_VERSION = 3;
+
+	private static final int MODE_NULL = 0;
+	private static final int MODE_SLOT = 1;
+	private static final int MODE_TAGGED = 2;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_UNFETCHED = 1;
+	private static final byte TAG_UNKNOWN = 2;
+	private static final byte TAG_INTEGER = 3;
+	private static final byte TAG_LONG = 4;
+	private static final byte TAG_SHORT = 5;
+	private static final byte TAG_BYTE = 6;
+	private static final byte TAG_TRUE = 7;
+	private static final byte TAG_FALSE = 8;
+	private static final byte TAG_CHARACTER = 9;
+	private static final byte TAG_FLOAT = 10;
+	private static final byte TAG_DOUBLE = 11;
+	private static final byte TAG_STRING = 12;
+	private static final byte TAG_BYTES = 13;
+	// a Serializable[]
+	private static final byte TAG_ARRAY = 14;
+	private static final byte TAG_SERIALIZED = 15;
+	// an Object[], the disassembled state of an embeddable
+	private static final byte TAG_STATE = 16;
+	// an array whose component type has a slot kind, such as String[] or Character[]
+	private static final byte TAG_TYPED_ARRAY = 17;
+	private static final byte TAG_BIG_DECIMAL = 18;
+	private static final byte TAG_BIG_INTEGER = 19;
+	private static final byte TAG_UUID = 20;
+	private static final byte TAG_LOCAL_DATE = 21;
+	private static final byte TAG_LOCAL_TIME = 22;
+	private static final byte TAG_LOCAL_DATE_TIME = 23;
+	private static final byte TAG_INSTANT = 24;
+	private static final byte TAG_OFFSET_DATE_TIME = 25;
+	private static final byte TAG_DURATION = 26;
+	private static final byte TAG_DATE = 27;
+	private static final byte TAG_SQL_DATE = 28;
+	private static final byte TAG_SQL_TIME = 29;
+	private static final byte TAG_TIMESTAMP = 30;
+
+	private CompactEncoding() {
+	}
+
+	/**
+	 * How a non-null value of an attribute is written when it has the expected class.
+	 */
+	enum SlotKind {
+		INTEGER( Integer.class ),
+		LONG( Long.class ),
+		SHORT( Short.class ),
+		BYTE( Byte.class ),
+		BOOLEAN( Boolean.class ),
+		CHARACTER( Character.class ),
+		FLOAT( Float.class ),
+		DOUBLE( Double.class ),
+		STRING( String.class ),
+		BYTES( byte[].class ),
+		// the scale, followed by the bytes of the unscaled value
+		BIG_DECIMAL( BigDecimal.class ),
+		BIG_INTEGER( BigInteger.class ),
+		// the most and least significant bits
+		UUID( java.util.UUID.class ),
+		// the epoch day
+		LOCAL_DATE( LocalDate.class ),
+		// the nano of day
+		LOCAL_TIME( LocalTime.class ),
+		LOCAL_DATE_TIME( LocalDateTime.class ),
+		// the epoch second, followed by the nano of second
+		INSTANT( Instant.class ),
+		// the local date-time, followed by the offset in seconds
+		OFFSET_DATE_TIME( OffsetDateTime.class ),
+		DURATION( Duration.class ),
+		// the epoch millisecond
+		DATE( Date.class ),
+		SQL_DATE( java.sql.Date.class ),
+		SQL_TIME( Time.class ),
+		// the epoch millisecond, followed by the nano of second
+		TIMESTAMP( Timestamp.class ),
+		// the ordinal, or the name, of a constant of the enum class of the slot
+		ENUM_ORDINAL( null ),
+		ENUM_NAME( null ),
+		ANY( null );
+
+		private final Class<?> javaType;
+		private final Slot slot;
+		private final Slot[] single;
+
+		SlotKind(Class<?> javaType) {
+			this.javaType = javaType;
+			this.slot = new Slot( this, null );
+			this.single = new Slot[] { slot };
+		}
+
+		static SlotKind forJavaType(Class<?> javaType) {
+			if ( javaType == Integer.class || javaType == int.class ) {
+				return INTEGER;
+			}
+			else if ( javaType == Long.class || javaType == long.class ) {
+				return LONG;
+			}
+			else if ( javaType == Short.class || javaType == short.class ) {
+				return SHORT;
+			}
+			else if ( javaType == Byte.class || javaType == byte.class ) {
+				return BYTE;
+			}
+			else if ( javaType == Boolean.class || javaType == boolean.class ) {
+				return BOOLEAN;
+			}
+			else if ( javaType == Character.class || javaType == char.class ) {
+				return CHARACTER;
+			}
+			else if ( javaType == Float.class || javaType == float.class ) {
+				return FLOAT;
+			}
+			else if ( javaType == Double.class || javaType == double.class ) {
+				return DOUBLE;
+			}
+			else if ( javaType == String.class ) {
+				return STRING;
+			}
+			else if ( javaType == byte[].class ) {
+				return BYTES;
+			}
+			else {
+				for ( SlotKind slotKind : TEMPORAL_AND_NUMERIC ) {
+					if ( slotKind.javaType == javaType ) {
+						return slotKind;
+					}
+				}
+				return ANY;
+			}
+		}
+
+		private static final SlotKind[] TEMPORAL_AND_NUMERIC = {
+				BIG_DECIMAL, BIG_INTEGER, UUID,
+				LOCAL_DATE, LOCAL_TIME, LOCAL_DATE_TIME, INSTANT, OFFSET_DATE_TIME, DURATION,
+				DATE, SQL_DATE, SQL_TIME, TIMESTAMP
+		};
+	}
+
+	/**
+	 * The slot of an attribute: its {@linkplain SlotKind kind}, and the class of its
+	 * values for a slot holding enum constants.
+	 */
+	static final class Slot {
+		private final SlotKind kind;
+		private final Class<?> enumClass;
+		private final Object[] enumConstants;
+
+		private Slot(SlotKind kind, Class<?> enumClass) {
+			this.kind = kind;
+			this.enumClass = enumClass;
+			this.enumConstants = enumClass == null ? null : enumClass.getEnumConstants();
+		}
+
+		boolean accepts(Object value) {
+			if ( enumClass != null ) {
+				return value instanceof Enum && ( (Enum<?>) value ).getDeclaringClass() == enumClass;
+			}
+			else {
+				return kind.javaType != null && value.getClass() == kind.javaType;
+			}
+		}
+
+		/**
+		 * A hash of the kind, and for an enum slot of the class and its constants,
+		 * which changes whenever a value would be read back differently.
+		 */
+		int hash() {
+			int hash = kind.ordinal();
+			if ( enumClass != null ) {
+				hash = 31 * hash + enumClass.getName().hashCode();
+				if ( kind == SlotKind.ENUM_ORDINAL ) {
+					for ( Object constant : enumConstants ) {
+						hash = 31 * hash + ( (Enum<?>) constant ).name().hashCode();
+					}
+				}
+			}
+			return hash;
+		}
+
+		/**
+		 * The slot for values of any class, which are always written with a tag.
+		 */
+		static Slot any() {
+			return SlotKind.ANY.slot;
+		}
+
+		/**
+		 * The slot for the disassembled values of the given type.
+		 */
+		static Slot forType(Type type, SessionFactoryImplementor factory) {
+			if ( type instanceof EntityType ) {
+				// an association is disassembled to the identifier (or unique key) of the target
+				return forType( ( (EntityType) type ).getIdentifierOrUniqueKeyType( factory ), factory );
+			}
+			else if ( type instanceof BasicType<?> ) {
+				return forJdbcMapping( ( (BasicType<?>) type ).getJdbcMapping() );
+			}
+			else {
+				return any();
+			}
+		}
+
+		private static Slot forJdbcMapping(JdbcMapping jdbcMapping) {
+			// a converted value is disassembled to its relational form
+			final Class<?> javaType = jdbcMapping.getValueConverter() == null
+					? jdbcMapping.getJavaTypeDescriptor().getJavaTypeClass()
+					: jdbcMapping.getJdbcJavaType().getJavaTypeClass();
+			final JdbcType jdbcType = jdbcMapping.getJdbcType();
+			if ( javaType.isEnum() ) {
+				// an enum mapped to a character column is kept by name, as in the database
+				return new Slot( jdbcType.isStringLike() ? SlotKind.ENUM_NAME : SlotKind.ENUM_ORDINAL, javaType );
+			}
+			else if ( javaType == Date.class ) {
+				// the values read from JDBC are of the subclass for the column type
+				switch ( jdbcType.getDefaultSqlTypeCode() ) {
+					case Types.TIMESTAMP:
+					case Types.TIMESTAMP_WITH_TIMEZONE:
+						return SlotKind.TIMESTAMP.slot;
+					case Types.DATE:
+						return SlotKind.SQL_DATE.slot;
+					case Types.TIME:
+					case Types.TIME_WITH_TIMEZONE:
+						return SlotKind.SQL_TIME.slot;
+					default:
+						return SlotKind.DATE.slot;
+				}
+			}
+			else {
+				return SlotKind.forJavaType( javaType ).slot;
+			}
+		}
+	}
+
+	/**
+	 * A hash of the names and slot kinds of a layout, written to every entry, so that
+	 * an entry written for a different version of the mapping is never misread.
+	 */
+	static int schemaHash(String name, String[] attributeNames, Slot[] slots) {
+		int hash = name.hashCode();
+		if ( attributeNames != null ) {
+			for ( String attributeName : attributeNames ) {
+				hash = 31 * hash + attributeName.hashCode();
+			}
+		}
+		for ( Slot slot : slots ) {
+			hash = 31 * hash + slot.hash();
+		}
+		return hash;
+	}
+
+	/**
+	 * Write the given values, cycling through the given slots.
+	 */
+	static void writeValues(Output output, Serializable[] values, Slot[] slots) {
+		final int count = values.length;
+		output.writeVarInt( count );
+		final byte[] modes = new byte[( count + 3 ) >>> 2];
+		for ( int i = 0; i < count; i++ ) {
+			final Object value = values[i];
+			final int mode;
+			if ( value == null ) {
+				mode = MODE_NULL;
+			}
+			else if ( slots[i % slots.length].accepts( value ) ) {
+				mode = MODE_SLOT;
+			}
+			else {
+				mode = MODE_TAGGED;
+			}
+			modes[i >>> 2] |= (byte) ( mode << ( ( i & 3 ) << 1 ) );
+		}
+		output.writeBytes( modes );
+		for ( int i = 0; i < count; i++ ) {
+			final Serializable value = values[i];
+			switch ( mode( modes, 0, i ) ) {
+				case MODE_SLOT:
+					writeSlot( output, value, slots[i % slots.length] );
+					break;
+				case MODE_TAGGED:
+					writeTagged( output, value );
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Read values written by {@link #writeValues}, with the same slots.
+	 */
+	static Serializable[] readValues(Input input, Slot[] slots) {
+		final int count = input.readVarInt();
+		final int modesOffset = input.skip( ( count + 3 ) >>> 2 );
+		final Serializable[] values = new Serializable[count];
+		for ( int i = 0; i < count; i++ ) {
+			switch ( mode( input.buffer, modesOffset, i ) ) {
+				case MODE_SLOT:
+					values[i] = readSlot( input, slots[i % slots.length] );
+					break;
+				case MODE_TAGGED:
+					values[i] = readTagged( input );
+					break;
+			}
+		}
+		return values;
+	}
+
+	private static int mode(byte[] modes, int offset, int i) {
+		return ( modes[offset + ( i >>> 2 )] >>> ( ( i & 3 ) << 1 ) ) & 3;
+	}
+
+	/**
+	 * Write a single value, such as the version of an entity, in the given slot.
+	 */
+	static void writeValue(Output output, Object value, Slot slot) {
+		if ( value != null && slot.accepts( value ) ) {
+			output.writeByte( MODE_SLOT );
+			writeSlot( output, value, slot );
+		}
+		else {
+			output.writeByte( MODE_TAGGED );
+			writeTagged( output, value );
+		}
+	}
+
+	/**
+	 * Read a value written by {@link #writeValue}, with the same slot.
+	 */
+	static Serializable readValue(Input input, Slot slot) {
+		return input.readByte() == MODE_SLOT ? readSlot( input, slot ) : readTagged( input );
+	}
+
+	private static void writeSlot(Output output, Object value, Slot slot) {
+		switch ( slot.kind ) {
+			case INTEGER:
+				output.writeVarLong( zigzag( (Integer) value ) );
+				break;
+			case LONG:
+				output.writeVarLong( zigzag( (Long) value ) );
+				break;
+			case SHORT:
+				output.writeVarLong( zigzag( (Short) value ) );
+				break;
+			case BYTE:
+				output.writeByte( (Byte) value );
+				break;
+			case BOOLEAN:
+				output.writeByte( (Boolean) value ? 1 : 0 );
+				break;
+			case CHARACTER:
+				output.writeVarInt( (Character) value );
+				break;
+			case FLOAT:
+				output.writeInt( Float.floatToRawIntBits( (Float) value ) );
+				break;
+			case DOUBLE:
+				output.writeLong( Double.doubleToRawLongBits( (Double) value ) );
+				break;
+			case STRING:
+				output.writeString( (String) value );
+				break;
+			case BYTES:
+				final byte[] bytes = (byte[]) value;
+				output.writeVarInt( bytes.length );
+				output.writeBytes( bytes );
+				break;
+			case BIG_DECIMAL:
+				final BigDecimal decimal = (BigDecimal) value;
+				output.writeVarLong( zigzag( decimal.scale() ) );
+				output.writeBigInteger( decimal.unscaledValue() );
+				break;
+			case BIG_INTEGER:
+				output.writeBigInteger( (BigInteger) value );
+				break;
+			case UUID:
+				final UUID uuid = (UUID) value;
+				output.writeLong( uuid.getMostSignificantBits() );
+				output.writeLong( uuid.getLeastSignificantBits() );
+				break;
+			case LOCAL_DATE:
+				output.writeVarLong( zigzag( ( (LocalDate) value ).toEpochDay() ) );
+				break;
+			case LOCAL_TIME:
+				output.writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+				break;
+			case LOCAL_DATE_TIME:
+				output.writeLocalDateTime( (LocalDateTime) value );
+				break;
+			case INSTANT:
+				final Instant instant = (Instant) value;
+				output.writeVarLong( zigzag( instant.getEpochSecond() ) );
+				output.writeVarInt( instant.getNano() );
+				break;
+			case OFFSET_DATE_TIME:
+				final OffsetDateTime offsetDateTime = (OffsetDateTime) value;
+				output.writeLocalDateTime( offsetDateTime.toLocalDateTime() );
+				output.writeVarLong( zigzag( offsetDateTime.getOffset().getTotalSeconds() ) );
+				break;
+			case DURATION:
+				final Duration duration = (Duration) value;
+				output.writeVarLong( zigzag( duration.getSeconds() ) );
+				output.writeVarInt( duration.getNano() );
+				break;
+			case DATE:
+			case SQL_DATE:
+			case SQL_TIME:
+				output.writeVarLong( zigzag( ( (Date) value ).getTime() ) );
+				break;
+			case TIMESTAMP:
+				final Timestamp timestamp = (Timestamp) value;
+				output.writeVarLong( zigzag( timestamp.getTime() ) );
+				output.writeVarInt( timestamp.getNanos() );
+				break;
+			case ENUM_ORDINAL:
+				output.writeVarInt( ( (Enum<?>) value ).ordinal() );
+				break;
+			case ENUM_NAME:
+				output.writeString( ( (Enum<?>) value ).name() );
+				break;
+			default:
+				throw new IllegalArgumentException( "Unexpected slot kind: " + slot.kind );
+		}
+	}
+
+	private static Serializable readSlot(Input input, Slot slot) {
+		switch ( slot.kind ) {
+			case INTEGER:
+				return (int) unzigzag( input.readVarLong() );
+			case LONG:
+				return unzigzag( input.readVarLong() );
+			case SHORT:
+				return (short) unzigzag( input.readVarLong() );
+			case BYTE:
+				return input.readByte();
+			case BOOLEAN:
+				return input.readByte() != 0;
+			case CHARACTER:
+				return (char) input.readVarInt();
+			case FLOAT:
+				return Float.intBitsToFloat( input.readInt() );
+			case DOUBLE:
+				return Double.longBitsToDouble( input.readLong() );
+			case STRING:
+				return input.readString();
+			case BYTES:
+				return input.readBytes( input.readVarInt() );
+			case BIG_DECIMAL:
+				final int scale = (int) unzigzag( input.readVarLong() );
+				return new BigDecimal( input.readBigInteger(), scale );
+			case BIG_INTEGER:
+				return input.readBigInteger();
+			case UUID:
+				return new UUID( input.readLong(), input.readLong() );
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( unzigzag( input.readVarLong() ) );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( input.readVarLong() );
+			case LOCAL_DATE_TIME:
+				return input.readLocalDateTime();
+			case INSTANT:
+				final long epochSecond = unzigzag( input.readVarLong() );
+				return Instant.ofEpochSecond( epochSecond, input.readVarInt() );
+			case OFFSET_DATE_TIME:
+				final LocalDateTime localDateTime = input.readLocalDateTime();
+				final int offsetSeconds = (int) unzigzag( input.readVarLong() );
+				return OffsetDateTime.of( localDateTime, ZoneOffset.ofTotalSeconds( offsetSeconds ) );
+			case DURATION:
+				final long seconds = unzigzag( input.readVarLong() );
+				return Duration.ofSeconds( seconds, input.readVarInt() );
+			case DATE:
+				return new Date( unzigzag( input.readVarLong() ) );
+			case SQL_DATE:
+				return new java.sql.Date( unzigzag( input.readVarLong() ) );
+			case SQL_TIME:
+				return new Time( unzigzag( input.readVarLong() ) );
+			case TIMESTAMP:
+				final Timestamp timestamp = new Timestamp( unzigzag( input.readVarLong() ) );
+				timestamp.setNanos( input.readVarInt() );
+				return timestamp;
+			case ENUM_ORDINAL:
+				return (Serializable) slot.enumConstants[input.readVarInt()];
+			case ENUM_NAME:
+				final String name = input.readString();
+				for ( Object constant : slot.enumConstants ) {
+					if ( ( (Enum<?>) constant ).name().equals( name ) ) {
+						return (Serializable) constant;
+					}
+				}
+				throw new IllegalArgumentException( "Unknown constant of " + slot.enumClass.getName() + ": " + name );
+			default:
+				throw new IllegalArgumentException( "Unexpected slot kind: " + slot.kind );
+		}
+	}
+
+	static void writeTagged(Output output, Object value) {
+		if ( value == null ) {
+			output.writeByte( TAG_NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( TAG_UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( TAG_UNKNOWN );
+		}
+		else if ( value instanceof Boolean ) {
+			output.writeByte( (Boolean) value ? TAG_TRUE : TAG_FALSE );
+		}
+		else if ( value.getClass() == Object[].class ) {
+			// the disassembled state of an embeddable
+			writeArray( output, TAG_STATE, (Object[]) value );
+		}
+		else if ( value.getClass() == Serializable[].class ) {
+			writeArray( output, TAG_ARRAY, (Object[]) value );
+		}
+		else if ( value.getClass().isArray()
+				&& !value.getClass().getComponentType().isPrimitive()
+				&& SlotKind.forJavaType( value.getClass().getComponentType() ) != SlotKind.ANY ) {
+			// the array must be read back with the same component type
+			final SlotKind componentKind = SlotKind.forJavaType( value.getClass().getComponentType() );
+			output.writeByte( TAG_TYPED_ARRAY );
+			output.writeByte( componentKind.ordinal() );
+			writeValues( output, (Serializable[]) value, componentKind.single );
+		}
+		else {
+			final SlotKind slotKind = SlotKind.forJavaType( value.getClass() );
+			if ( slotKind == SlotKind.ANY ) {
+				final byte[] bytes = SerializationHelper.serialize( (Serializable) value );
+				output.writeByte( TAG_SERIALIZED );
+				output.writeVarInt( bytes.length );
+				output.writeBytes( bytes );
+			}
+			else {
+				output.writeByte( tag( slotKind ) );
+				writeSlot( output, value, slotKind.slot );
+			}
+		}
+	}
+
+	static Serializable readTagged(Input input) {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case TAG_NULL:
+				return null;
+			case TAG_UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case TAG_UNKNOWN:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TAG_TRUE:
+				return Boolean.TRUE;
+			case TAG_FALSE:
+				return Boolean.FALSE;
+			case TAG_STATE:
+				return readArray( input, new Object[input.readVarInt()] );
+			case TAG_ARRAY:
+				return readArray( input, new Serializable[input.readVarInt()] );
+			case TAG_TYPED_ARRAY:
+				final SlotKind componentKind = SlotKind.values()[input.readByte()];
+				final Serializable[] values = readValues( input, componentKind.single );
+				final Object[] array = (Object[]) Array.newInstance( componentKind.javaType, values.length );
+				System.arraycopy( values, 0, array, 0, values.length );
+				return array;
+			case TAG_SERIALIZED:
+				return (Serializable) SerializationHelper.deserialize( input.readBytes( input.readVarInt() ) );
+			default:
+				return readSlot( input, slotKind( tag ).slot );
+		}
+	}
+
+	private static void writeArray(Output output, byte tag, Object[] array) {
+		output.writeByte( tag );
+		output.writeVarInt( array.length );
+		for ( Object element : array ) {
+			writeTagged( output, element );
+		}
+	}
+
+	private static Serializable readArray(Input input, Object[] array) {
+		for ( int i = 0; i < array.length; i++ ) {
+			array[i] = readTagged( input );
+		}
+		return array;
+	}
+
+	private static byte tag(SlotKind slotKind) {
+		switch ( slotKind ) {
+			case INTEGER:
+				return TAG_INTEGER;
+			case LONG:
+				return TAG_LONG;
+			case SHORT:
+				return TAG_SHORT;
+			case BYTE:
+				return TAG_BYTE;
+			case CHARACTER:
+				return TAG_CHARACTER;
+			case FLOAT:
+				return TAG_FLOAT;
+			case DOUBLE:
+				return TAG_DOUBLE;
+			case STRING:
+				return TAG_STRING;
+			case BYTES:
+				return TAG_BYTES;
+			case BIG_DECIMAL:
+				return TAG_BIG_DECIMAL;
+			case BIG_INTEGER:
+				return TAG_BIG_INTEGER;
+			case UUID:
+				return TAG_UUID;
+			case LOCAL_DATE:
+				return TAG_LOCAL_DATE;
+			case LOCAL_TIME:
+				return TAG_LOCAL_TIME;
+			case LOCAL_DATE_TIME:
+				return TAG_LOCAL_DATE_TIME;
+			case INSTANT:
+				return TAG_INSTANT;
+			case OFFSET_DATE_TIME:
+				return TAG_OFFSET_DATE_TIME;
+			case DURATION:
+				return TAG_DURATION;
+			case DATE:
+				return TAG_DATE;
+			case SQL_DATE:
+				return TAG_SQL_DATE;
+			case SQL_TIME:
+				return TAG_SQL_TIME;
+			case TIMESTAMP:
+				return TAG_TIMESTAMP;
+			default:
+				throw new IllegalArgumentException( "Unexpected slot kind: " + slotKind );
+		}
+	}
+
+	private static SlotKind slotKind(byte tag) {
+		switch ( tag ) {
+			case TAG_INTEGER:
+				return SlotKind.INTEGER;
+			case TAG_LONG:
+				return SlotKind.LONG;
+			case TAG_SHORT:
+				return SlotKind.SHORT;
+			case TAG_BYTE:
+				return SlotKind.BYTE;
+			case TAG_CHARACTER:
+				return SlotKind.CHARACTER;
+			case TAG_FLOAT:
+				return SlotKind.FLOAT;
+			case TAG_DOUBLE:
+				return SlotKind.DOUBLE;
+			case TAG_STRING:
+				return SlotKind.STRING;
+			case TAG_BYTES:
+				return SlotKind.BYTES;
+			case TAG_BIG_DECIMAL:
+				return SlotKind.BIG_DECIMAL;
+			case TAG_BIG_INTEGER:
+				return SlotKind.BIG_INTEGER;
+			case TAG_UUID:
+				return SlotKind.UUID;
+			case TAG_LOCAL_DATE:
+				return SlotKind.LOCAL_DATE;
+			case TAG_LOCAL_TIME:
+				return SlotKind.LOCAL_TIME;
+			case TAG_LOCAL_DATE_TIME:
+				return SlotKind.LOCAL_DATE_TIME;
+			case TAG_INSTANT:
+				return SlotKind.INSTANT;
+			case TAG_OFFSET_DATE_TIME:
+				return SlotKind.OFFSET_DATE_TIME;
+			case TAG_DURATION:
+				return SlotKind.DURATION;
+			case TAG_DATE:
+				return SlotKind.DATE;
+			case TAG_SQL_DATE:
+				return SlotKind.SQL_DATE;
+			case TAG_SQL_TIME:
+				return SlotKind.SQL_TIME;
+			case TAG_TIMESTAMP:
+				return SlotKind.TIMESTAMP;
+			default:
+				throw new IllegalArgumentException( "Unexpected tag: " + tag );
+		}
+	}
+
+	private static long zigzag(long value) {
+		return ( value << 1 ) ^ ( value >> 63 );
+	}
+
+	private static long unzigzag(long value) {
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+
+	/**
+	 * A growable buffer to which an entry is written.
+	 */
+	static final class Output {
+		private byte[] buffer;
+		private int position;
+
+		Output(int initialCapacity) {
+			buffer = new byte[initialCapacity];
+		}
+
+		private void ensureCapacity(int extra) {
+			if ( position + extra > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length << 1, position + extra ) );
+			}
+		}
+
+		void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[position++] = (byte) value;
+		}
+
+		void writeBytes(byte[] bytes) {
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		void writeInt(int value) {
+			ensureCapacity( 4 );
+			buffer[position++] = (byte) ( value >>> 24 );
+			buffer[position++] = (byte) ( value >>> 16 );
+			buffer[position++] = (byte) ( value >>> 8 );
+			buffer[position++] = (byte) value;
+		}
+
+		void writeLong(long value) {
+			writeInt( (int) ( value >>> 32 ) );
+			writeInt( (int) value );
+		}
+
+		void writeVarInt(int value) {
+			writeVarLong( value & 0xFFFFFFFFL );
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		void writeString(String value) {
+			final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+			writeVarInt( bytes.length );
+			writeBytes( bytes );
+		}
+
+		void writeBigInteger(BigInteger value) {
+			final byte[] bytes = value.toByteArray();
+			writeVarInt( bytes.length );
+			writeBytes( bytes );
+		}
+
+		void writeLocalDateTime(LocalDateTime value) {
+			writeVarLong( zigzag( value.toLocalDate().toEpochDay() ) );
+			writeVarLong( value.toLocalTime().toNanoOfDay() );
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	/**
+	 * A cursor over an entry, reading values directly from the cached {@code byte[]}.
+	 */
+	static final class Input {
+		private final byte[] buffer;
+		private int position;
+
+		Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		/**
+		 * Skip the given number of bytes.
+		 *
+		 * @return the position of the first skipped byte
+		 */
+		int skip(int length) {
+			final int offset = position;
+			position += length;
+			return offset;
+		}
+
+		byte readByte() {
+			return buffer[position++];
+		}
+
+		byte[] readBytes(int length) {
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		int readInt() {
+			return ( buffer[position++] & 0xFF ) << 24
+					| ( buffer[position++] & 0xFF ) << 16
+					| ( buffer[position++] & 0xFF ) << 8
+					| buffer[position++] & 0xFF;
+		}
+
+		long readLong() {
+			return ( (long) readInt() << 32 ) | ( readInt() & 0xFFFFFFFFL );
+		}
+
+		int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			}
+			while ( ( b & 0x80 ) != 0 );
+			return value;
+		}
+
+		String readString() {
+			final int length = readVarInt();
+			final String value = new String( buffer, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			return value;
+		}
+
+		BigInteger readBigInteger() {
+			return new BigInteger( readBytes( readVarInt() ) );
+		}
+
+		LocalDateTime readLocalDateTime() {
+			final LocalDate date = LocalDate.ofEpochDay( unzigzag( readVarLong() ) );
+			return LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong() ) );
+		}
+	}
+}
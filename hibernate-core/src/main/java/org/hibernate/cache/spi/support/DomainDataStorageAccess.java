@@ -24,4 +24,23 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items with the given keys from the cache, in a single call to the
+	 * caching provider, if possible.
+	 *
+	 * @return the cached items, in the order of the given keys, with {@code null}
+	 * for each key which is not cached
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @since 6.5
+	 */
+	default Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = getFromCache( keys[i], session );
+		}
+		return values;
+	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Incubating;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Coordinates concurrent loads, from the database, of data which missed in a
+ * particular {@linkplain org.hibernate.cache.spi.DomainDataRegion region} of the
+ * second-level cache, so that only the first session to miss a given key actually
+ * loads it. Other sessions of the same node which miss the same key meanwhile wait,
+ * for at most a configured timeout, for that load to complete, and then look in
+ * the cache again.
+ * <p>
+ * A waiting session which still misses the key, for example because the cache
+ * concurrency strategy does not allow it to read data put by a more recent
+ * transaction, loads the data itself.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT_LOADS
+ * @see org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT_TIMEOUT
+ *
+ * @since 6.5
+ */
+@Incubating
+public class SingleFlightLoads {
+	private static final Logger log = Logger.getLogger( SingleFlightLoads.class );
+
+	private final String regionName;
+	private final long timeoutMillis;
+	private final ConcurrentMap<Object, Flight> flights = new ConcurrentHashMap<>();
+
+	public SingleFlightLoads(String regionName, long timeoutMillis) {
+		this.regionName = regionName;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public long getTimeoutMillis() {
+		return timeoutMillis;
+	}
+
+	/**
+	 * Register the current thread as loading the data with the given cache key,
+	 * unless another thread is already loading it, in which case wait, for at most
+	 * the timeout, for that load to complete.
+	 *
+	 * @return {@code true} if the current thread must now load the data, and then
+	 * call {@link #endLoad}, or {@code false} if the current thread waited for a load
+	 * by another thread, and should look in the cache again
+	 */
+	public boolean beginLoad(Object cacheKey) {
+		final Thread currentThread = Thread.currentThread();
+		final Flight flight = new Flight( currentThread );
+		final Flight inFlight = flights.putIfAbsent( cacheKey, flight );
+		if ( inFlight == null ) {
+			return true;
+		}
+		else if ( inFlight.loader == currentThread ) {
+			// a reentrant load of the same key must not wait for itself
+			return false;
+		}
+		else {
+			if ( log.isTraceEnabled() ) {
+				log.tracef( "Waiting for concurrent load [region=`%s`] : %s", regionName, cacheKey );
+			}
+			try {
+				if ( !inFlight.completion.await( timeoutMillis, TimeUnit.MILLISECONDS ) ) {
+					log.debugf( "Timed out waiting for concurrent load [region=`%s`] : %s", regionName, cacheKey );
+				}
+			}
+			catch (InterruptedException e) {
+				currentThread.interrupt();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Signal the end of a load by the current thread, successful or not, of the
+	 * data with the given cache key, releasing any thread waiting for it.
+	 */
+	public void endLoad(Object cacheKey) {
+		final Flight flight = flights.get( cacheKey );
+		if ( flight != null && flight.loader == Thread.currentThread() ) {
+			flights.remove( cacheKey, flight );
+			flight.completion.countDown();
+		}
+	}
+
+	/**
+	 * The number of keys currently being loaded.
+	 */
+	public int getLoadsInFlightCount() {
+		return flights.size();
+	}
+
+	private static final class Flight {
+		private final Thread loader;
+		private final CountDownLatch completion = new CountDownLatch( 1 );
+
+		private Flight(Thread loader) {
+			this.loader = loader;
+		}
+	}
+}
@@ -195,6 +195,62 @@ public interface AvailableSettings
 	 */
 	String CUSTOM_ENTITY_DIRTINESS_STRATEGY = "hibernate.entity_dirtiness_strategy";
 
+	/**
+	 * Specifies the minimum number of managed entities a session must hold before
+	 * the dirty check of the entities is performed in parallel at flush time, using
+	 * a pool of threads dedicated to the {@code SessionFactory}.
+	 * <p>
+	 * Only the extraction of the current state of entities with simple basic or
+	 * embedded attributes, and its comparison with the loaded state, happens in
+	 * parallel. The {@link org.hibernate.event.spi.FlushEntityEventListener}s are
+	 * still called sequentially, and the resulting actions are scheduled in the
+	 * same order as usual. Since an {@link org.hibernate.Interceptor}, a
+	 * {@link jakarta.persistence.PreUpdate} callback, or a custom flush entity
+	 * listener might modify the state of <em>other</em> entities during the flush,
+	 * the dirty check is never performed in parallel when the session has any of
+	 * them.
+	 * <p>
+	 * A value of {@code 0} disables parallel dirty checking.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see #FLUSH_PARALLEL_DIRTY_CHECKING_PARALLELISM
+	 *
+	 * @since 6.5
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * Specifies the number of threads of the pool used for parallel dirty checking.
+	 *
+	 * @settingDefault the number of available processors
+	 *
+	 * @see #FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 *
+	 * @since 6.5
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECKING_PARALLELISM = "hibernate.flush.parallel_dirty_checking_parallelism";
+
+	/**
+	 * When enabled, an automatic flush before the execution of a query only dirty
+	 * checks the entities and collections mapped to, or associated with, the tables
+	 * the query reads from, instead of every entity in the persistence context.
+	 * <p>
+	 * If a change affecting the query is detected, the session is flushed as usual.
+	 * Otherwise, the flush is skipped, and changes to unrelated tables are deferred
+	 * to the next flush.
+	 * <p>
+	 * This has no effect when the {@linkplain org.hibernate.FlushMode flush mode}
+	 * is {@link org.hibernate.FlushMode#ALWAYS ALWAYS}, or when the session has a
+	 * custom {@link org.hibernate.Interceptor} or
+	 * {@link org.hibernate.CustomEntityDirtinessStrategy}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String PARTIAL_AUTO_FLUSH = "hibernate.flush.partial_auto_flush";
+
 	/**
 	 * Event listener configuration properties follow the pattern
 	 * {@code hibernate.event.listener.eventType packageName.ClassName1, packageName.ClassName2}
@@ -65,6 +65,24 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, a batch of inserts into the same table is executed as a single
+	 * multi-row {@code insert ... values (...),(...)} statement, instead of using
+	 * {@link PreparedStatement#addBatch}. This saves round trips with drivers which
+	 * do not rewrite JDBC batches themselves.
+	 * <p/>
+	 * Only applies when the {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert
+	 * dialect supports values lists in inserts}, and never to inserts which are not
+	 * batched in the first place, for example, those retrieving generated values.
+	 *
+	 * @see #STATEMENT_BATCH_SIZE
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
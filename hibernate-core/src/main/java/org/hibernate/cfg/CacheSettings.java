@@ -90,6 +90,48 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, cached query results are invalidated per
+	 * {@linkplain org.hibernate.annotations.TenantId tenant}. The
+	 * {@linkplain org.hibernate.cache.spi.QueryKey key} of cached query results
+	 * records the tenant of the session which executed the query, and a write to
+	 * a table by a session with a tenant invalidates only the query results
+	 * cached for that tenant.
+	 * <p>
+	 * A write by a session without a tenant, or of the
+	 * {@linkplain org.hibernate.context.spi.CurrentTenantIdentifierResolver#isRoot
+	 * root tenant}, still invalidates the query results cached for every tenant.
+	 * So does a write to a table shared by all tenants, that is, unless each tenant
+	 * has its own schema or database, a table which is not mapped by an entity
+	 * with a {@linkplain org.hibernate.annotations.TenantId tenant id}. Native
+	 * mutation queries executed by a session with a tenant must not affect rows
+	 * belonging to other tenants.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.TimestampsCache#getPartitionKey
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String QUERY_CACHE_TENANT_PARTITIONING = "hibernate.cache.query_cache_tenant_partitioning";
+
+	/**
+	 * The maximum number of rows of a query result which may be put in the query
+	 * cache, so that a single huge result cannot evict every other entry of its
+	 * region. A larger result is simply not cached. A value of zero means no limit.
+	 * <p>
+	 * The limit may be overridden for a particular query cache region by appending
+	 * the region name to the name of this setting, for example,
+	 * {@code hibernate.cache.query_cache_max_result_rows.reports}.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String QUERY_CACHE_MAX_RESULT_ROWS = "hibernate.cache.query_cache_max_result_rows";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -118,6 +160,92 @@ public interface CacheSettings {
 	 */
 	String CACHE_REGION_PREFIX = "hibernate.cache.region_prefix";
 
+	/**
+	 * When the {@linkplain #CACHE_REGION_FACTORY region factory} is
+	 * {@link org.hibernate.cache.internal.InProcessRegionFactory}, the maximum number of
+	 * entries held by each entity, collection, natural id, or query results region. The
+	 * limit for a particular region may be specified by appending {@code .} and the name
+	 * of the region to the name of this setting.
+	 * <p>
+	 * A value of zero or less means that the regions are unbounded.
+	 *
+	 * @settingDefault {@code 10000}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String IN_PROCESS_CACHE_MAX_ENTRIES = "hibernate.cache.in_process.max_entries";
+
+	/**
+	 * When the {@linkplain #CACHE_REGION_FACTORY region factory} is
+	 * {@link org.hibernate.cache.internal.InProcessRegionFactory}, the number of
+	 * milliseconds after which an entry of an entity, collection, natural id, or query
+	 * results region expires. The time to live of a particular region may be specified
+	 * by appending {@code .} and the name of the region to the name of this setting.
+	 * <p>
+	 * A value of zero or less means that entries never expire.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String IN_PROCESS_CACHE_TIME_TO_LIVE = "hibernate.cache.in_process.time_to_live";
+
+	/**
+	 * When the {@linkplain #CACHE_REGION_FACTORY region factory} is
+	 * {@link org.hibernate.cache.internal.InProcessRegionFactory}, a
+	 * {@link java.util.function.ToIntFunction} which computes the weight of a value held
+	 * by an entity, collection, natural id, or query results region, in which case the
+	 * {@linkplain #IN_PROCESS_CACHE_MAX_ENTRIES maximum} limits the total weight of the
+	 * entries of the region instead of their number. The weigher of a particular region
+	 * may be specified by appending {@code .} and the name of the region to the name of
+	 * this setting.
+	 * <p>
+	 * The weigher receives the values as they are held by the region, which, for a
+	 * {@linkplain org.hibernate.cache.spi.access.AccessType#READ_WRITE read-write}
+	 * region, wrap the cache entries.
+	 * <p>
+	 * Accepts an instance, a {@link Class}, or the name of a class.
+	 *
+	 * @settingDefault every entry has a weight of one
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String IN_PROCESS_CACHE_WEIGHER = "hibernate.cache.in_process.weigher";
+
+	/**
+	 * When enabled, concurrent sessions which miss the same key of an entity or
+	 * collection cache region do not all load it from the database. Instead, the
+	 * first session loads it, while the others wait for that load to complete,
+	 * for at most {@value #CACHE_SINGLE_FLIGHT_TIMEOUT}, before looking in the
+	 * cache again. This may be enabled for a particular region by appending
+	 * {@code .} and the name of the region to the name of this setting.
+	 * <p>
+	 * Only sessions of the same process are coordinated.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.support.SingleFlightLoads
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String CACHE_SINGLE_FLIGHT_LOADS = "hibernate.cache.single_flight_loads";
+
+	/**
+	 * The maximum number of milliseconds a session waits for a concurrent load
+	 * of the same data when {@linkplain #CACHE_SINGLE_FLIGHT_LOADS single-flight
+	 * loading} is enabled, before loading the data itself.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String CACHE_SINGLE_FLIGHT_TIMEOUT = "hibernate.cache.single_flight_timeout";
+
 	/**
 	 * Specifies the {@link org.hibernate.annotations.CacheConcurrencyStrategy} to use by
 	 * default when an entity is marked {@link jakarta.persistence.Cacheable @Cacheable},
@@ -161,6 +289,25 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of compact binary second-level cache entries for entities and
+	 * collections. Each entry is written to a {@code byte[]}, using a layout derived
+	 * from the {@linkplain org.hibernate.metamodel.mapping.JdbcMapping JDBC mappings} of the
+	 * cached attributes, in which values of primitive and string types are written
+	 * without boxing or Java serialization. Such entries take much less space in the
+	 * heap, and are much cheaper to serialize for a distributed or off-heap cache.
+	 * <p>
+	 * Ignored when {@value #USE_STRUCTURED_CACHE} is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String USE_COMPACT_CACHE = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
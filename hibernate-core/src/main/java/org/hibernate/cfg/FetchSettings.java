@@ -33,6 +33,26 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Specifies the maximum size of an <em>adaptive</em> batch fetch. When set to a value
+	 * greater than {@code 1}, the number of keys fetched in a batch adapts to the number
+	 * of keys which were actually pending in the {@link org.hibernate.engine.spi.BatchFetchQueue}
+	 * at previous fetches, starting from the {@linkplain BatchSize#size() configured batch size},
+	 * and never exceeding this maximum.
+	 * <p/>
+	 * Adaptive sizing only applies to entities and collections which are already batch
+	 * fetched, and only when the batch of keys is passed to the database as a single
+	 * {@linkplain org.hibernate.type.SqlTypes#ARRAY array} parameter, since the SQL is then
+	 * independent of the size of the batch.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @see #DEFAULT_BATCH_FETCH_SIZE
+	 *
+	 * @since 6.5
+	 */
+	String MAX_ADAPTIVE_BATCH_FETCH_SIZE = "hibernate.max_adaptive_batch_fetch_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
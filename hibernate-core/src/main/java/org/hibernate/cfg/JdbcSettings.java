@@ -362,6 +362,23 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of idle {@linkplain java.sql.PreparedStatement prepared statements}
+	 * retained by each session, so that they may be reused when the same SQL is executed
+	 * again, instead of being prepared again. The cached statements are closed when the
+	 * session releases its JDBC connection. If {@code 0}, statements are not cached.
+	 * <p>
+	 * This is useful with JDBC drivers and connection pools which do not cache prepared
+	 * statements themselves.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 6.5
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
@@ -12,6 +12,7 @@ import java.lang.reflect.InvocationTargetException;
 import org.hibernate.HibernateError;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 
@@ -54,6 +55,25 @@ public final class PgJdbcHelper {
 		return createJdbcType( serviceRegistry, "org.hibernate.dialect.PostgreSQLJsonPGObjectJsonbType" );
 	}
 
+	/**
+	 * Create a {@link BatchBuilder} which writes batches of inserts using {@code COPY},
+	 * and builds any other batch using the given delegate.
+	 */
+	public static BatchBuilder getCopyBatchBuilder(ServiceRegistry serviceRegistry, BatchBuilder delegate) {
+		final ClassLoaderService classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
+		try {
+			final Class<?> clazz = classLoaderService.classForName( "org.hibernate.dialect.PostgreSQLCopyBatchBuilder" );
+			final Constructor<?> constructor = clazz.getConstructor( BatchBuilder.class );
+			return (BatchBuilder) constructor.newInstance( delegate );
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateError( "Class does not have a constructor accepting a BatchBuilder", e );
+		}
+		catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+			throw new HibernateError( "Could not construct BatchBuilder", e );
+		}
+	}
+
 	public static JdbcType createJdbcType(ServiceRegistry serviceRegistry, String className) {
 		final ClassLoaderService classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
 		try {
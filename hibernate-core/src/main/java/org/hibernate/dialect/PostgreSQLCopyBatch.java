@@ -0,0 +1,637 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+
+import org.hibernate.engine.jdbc.batch.internal.AbstractRowBufferingBatch;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertSql;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.util.PGobject;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} of inserts into a single
+ * table which is written using {@code copy ... from stdin (format binary)}.
+ * <p>
+ * The values of each row are obtained by binding the row, using the usual
+ * {@link org.hibernate.type.descriptor.ValueBinder}s, to a statement which
+ * just records the bound values. The recorded values are then encoded in the
+ * binary format of the type of the target column. If a recorded value can't
+ * be encoded, because the value was bound using an unsupported setter, or is
+ * of an unsupported type, the rows are instead written using the usual JDBC
+ * batch of the insert statement, and {@code COPY} is no longer used for that
+ * statement.
+ *
+ * @see PostgreSQLCopyBatchBuilder
+ */
+public class PostgreSQLCopyBatch extends AbstractRowBufferingBatch {
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+	private static final long POSTGRES_EPOCH_SECONDS = 946_684_800L;
+	private static final long POSTGRES_EPOCH_DAY = 10_957L;
+
+	private final PostgreSQLCopyBatchBuilder batchBuilder;
+	private final String copySql;
+	private final FieldType[] fieldTypes;
+	private final SqlStatementLogger sqlStatementLogger;
+
+	private final Object[] rowValues;
+	private final Calendar[] rowCalendars;
+	private final PreparedStatement recorder;
+
+	private final CopyBuffer buffer = new CopyBuffer();
+	private final DataOutputStream output = new DataOutputStream( buffer );
+
+	PostgreSQLCopyBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			MultiRowInsertSql insertSql,
+			FieldType[] fieldTypes,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			PostgreSQLCopyBatchBuilder batchBuilder) {
+		super( key, statementGroup, insertSql.getParametersPerRow(), batchSizeToUse, jdbcCoordinator );
+		this.batchBuilder = batchBuilder;
+		this.copySql = "copy " + insertSql.getTargetFragment() + " from stdin (format binary)";
+		this.fieldTypes = fieldTypes;
+		this.sqlStatementLogger = getSession().getJdbcServices().getSqlStatementLogger();
+
+		this.rowValues = new Object[fieldTypes.length];
+		this.rowCalendars = new Calendar[fieldTypes.length];
+		this.recorder = (PreparedStatement) Proxy.newProxyInstance(
+				PreparedStatement.class.getClassLoader(),
+				new Class<?>[] { PreparedStatement.class },
+				(proxy, method, args) -> record( method, args )
+		);
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created COPY Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	protected void performExecution(int rowCount) throws SQLException {
+		try {
+			encodeRows( rowCount );
+		}
+		catch (SQLFeatureNotSupportedException e) {
+			// a value can't be written by COPY, so write these rows, and any
+			// later batch of the same statement, with regular batched inserts
+			BATCH_LOGGER.debugf( e, "Falling back to batched inserts: %s", copySql );
+			buffer.reset();
+			batchBuilder.disableCopy( getStatementDetails().getSqlString() );
+			performBatchedInserts( rowCount );
+			return;
+		}
+		catch (IOException e) {
+			buffer.reset();
+			throw new SQLException( "Could not encode rows for COPY", e );
+		}
+
+		sqlStatementLogger.logStatement( copySql );
+		final CopyIn copyIn = getJdbcCoordinator().getLogicalConnection().getPhysicalConnection()
+				.unwrap( PGConnection.class )
+				.getCopyAPI()
+				.copyIn( copySql );
+		try {
+			copyIn.writeToCopy( buffer.getBuffer(), 0, buffer.size() );
+			checkRowCount( copyIn.endCopy(), rowCount, copySql );
+		}
+		finally {
+			buffer.reset();
+			if ( copyIn.isActive() ) {
+				try {
+					copyIn.cancelCopy();
+				}
+				catch (SQLException e) {
+					BATCH_LOGGER.debugf( e, "Unable to cancel COPY: %s", copySql );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Encode the buffered rows in the binary {@code COPY} format, before
+	 * anything is sent to the database.
+	 */
+	private void encodeRows(int rowCount) throws IOException, SQLException {
+		buffer.reset();
+		output.write( SIGNATURE );
+		// flags, and length of the header extension area
+		output.writeInt( 0 );
+		output.writeInt( 0 );
+		for ( int row = 0; row < rowCount; row++ ) {
+			Arrays.fill( rowValues, null );
+			Arrays.fill( rowCalendars, null );
+			bindRow( recorder, row, 1 );
+			output.writeShort( fieldTypes.length );
+			for ( int i = 0; i < fieldTypes.length; i++ ) {
+				if ( rowValues[i] == null ) {
+					output.writeInt( -1 );
+				}
+				else {
+					fieldTypes[i].write( output, rowValues[i], rowCalendars[i] );
+				}
+			}
+		}
+		output.writeShort( -1 );
+		output.flush();
+	}
+
+	private void performBatchedInserts(int rowCount) throws SQLException {
+		final JdbcCoordinator jdbcCoordinator = getJdbcCoordinator();
+		final String sql = getStatementDetails().getSqlString();
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			sqlStatementLogger.logStatement( sql );
+			for ( int row = 0; row < rowCount; row++ ) {
+				bindRow( statement, row, 1 );
+				statement.addBatch();
+			}
+			long result = 0;
+			for ( int count : statement.executeBatch() ) {
+				if ( count == Statement.SUCCESS_NO_INFO ) {
+					result = Statement.SUCCESS_NO_INFO;
+					break;
+				}
+				result += count;
+			}
+			checkRowCount( result, rowCount, sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private Object record(Method method, Object[] args) throws SQLException {
+		final String name = method.getName();
+		if ( name.startsWith( "set" ) && args != null && args.length >= 2 && args[0] instanceof Integer ) {
+			final int index = (Integer) args[0] - 1;
+			switch ( name ) {
+				case "setNull":
+					rowValues[index] = null;
+					return null;
+				case "setBoolean":
+				case "setByte":
+				case "setShort":
+				case "setInt":
+				case "setLong":
+				case "setFloat":
+				case "setDouble":
+				case "setBigDecimal":
+				case "setString":
+				case "setNString":
+				case "setBytes":
+				case "setDate":
+				case "setTime":
+				case "setTimestamp":
+				case "setObject":
+					final Object value = args[1];
+					rowValues[index] = value instanceof PGobject ? ( (PGobject) value ).getValue() : value;
+					if ( args.length == 3 && args[2] instanceof Calendar ) {
+						rowCalendars[index] = (Calendar) args[2];
+					}
+					return null;
+			}
+		}
+		switch ( name ) {
+			case "toString":
+				return "PostgreSQLCopyBatch(" + copySql + ")";
+			case "hashCode":
+				return System.identityHashCode( recorder );
+			case "equals":
+				return recorder == args[0];
+		}
+		throw new SQLFeatureNotSupportedException( "Method '" + name + "' is not supported by COPY" );
+	}
+
+	/**
+	 * The supported types of the target columns, along with their encoding in
+	 * the binary {@code COPY} format.
+	 */
+	enum FieldType {
+		BOOL {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final boolean bool;
+				if ( value instanceof Boolean ) {
+					bool = (Boolean) value;
+				}
+				else if ( value instanceof Number ) {
+					bool = ( (Number) value ).intValue() != 0;
+				}
+				else {
+					throw unsupported( value, this );
+				}
+				output.writeInt( 1 );
+				output.writeBoolean( bool );
+			}
+		},
+		INT2 {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				output.writeInt( 2 );
+				output.writeShort( toNumber( value, this ).shortValue() );
+			}
+		},
+		INT4 {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				output.writeInt( 4 );
+				output.writeInt( toNumber( value, this ).intValue() );
+			}
+		},
+		INT8 {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				output.writeInt( 8 );
+				output.writeLong( toNumber( value, this ).longValue() );
+			}
+		},
+		FLOAT4 {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				output.writeInt( 4 );
+				output.writeFloat( toNumber( value, this ).floatValue() );
+			}
+		},
+		FLOAT8 {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				output.writeInt( 8 );
+				output.writeDouble( toNumber( value, this ).doubleValue() );
+			}
+		},
+		NUMERIC {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final BigDecimal decimal;
+				if ( value instanceof BigDecimal ) {
+					decimal = (BigDecimal) value;
+				}
+				else if ( value instanceof BigInteger ) {
+					decimal = new BigDecimal( (BigInteger) value );
+				}
+				else {
+					try {
+						decimal = new BigDecimal( toNumber( value, this ).toString() );
+					}
+					catch (NumberFormatException e) {
+						// infinite or NaN floating point values
+						throw unsupported( value, this );
+					}
+				}
+				writeNumeric( output, decimal );
+			}
+		},
+		TEXT {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final byte[] bytes = value.toString().getBytes( StandardCharsets.UTF_8 );
+				output.writeInt( bytes.length );
+				output.write( bytes );
+			}
+		},
+		JSONB {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final byte[] bytes = value.toString().getBytes( StandardCharsets.UTF_8 );
+				output.writeInt( bytes.length + 1 );
+				// the version of the jsonb binary format
+				output.writeByte( 1 );
+				output.write( bytes );
+			}
+		},
+		BYTEA {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				if ( !( value instanceof byte[] ) ) {
+					throw unsupported( value, this );
+				}
+				final byte[] bytes = (byte[]) value;
+				output.writeInt( bytes.length );
+				output.write( bytes );
+			}
+		},
+		UUID {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final java.util.UUID uuid;
+				if ( value instanceof java.util.UUID ) {
+					uuid = (java.util.UUID) value;
+				}
+				else if ( value instanceof String ) {
+					try {
+						uuid = java.util.UUID.fromString( (String) value );
+					}
+					catch (IllegalArgumentException e) {
+						throw unsupported( value, this );
+					}
+				}
+				else {
+					throw unsupported( value, this );
+				}
+				output.writeInt( 16 );
+				output.writeLong( uuid.getMostSignificantBits() );
+				output.writeLong( uuid.getLeastSignificantBits() );
+			}
+		},
+		DATE {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final LocalDate date;
+				if ( value instanceof LocalDate ) {
+					date = (LocalDate) value;
+				}
+				else if ( value instanceof LocalDateTime ) {
+					date = ( (LocalDateTime) value ).toLocalDate();
+				}
+				else if ( value instanceof Date ) {
+					date = Instant.ofEpochMilli( ( (Date) value ).getTime() ).atZone( zone( calendar ) ).toLocalDate();
+				}
+				else {
+					throw unsupported( value, this );
+				}
+				output.writeInt( 4 );
+				output.writeInt( (int) ( date.toEpochDay() - POSTGRES_EPOCH_DAY ) );
+			}
+		},
+		TIME {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final LocalTime time;
+				if ( value instanceof LocalTime ) {
+					time = (LocalTime) value;
+				}
+				else if ( value instanceof OffsetTime ) {
+					time = ( (OffsetTime) value ).toLocalTime();
+				}
+				else if ( value instanceof Date ) {
+					time = Instant.ofEpochMilli( ( (Date) value ).getTime() ).atZone( zone( calendar ) ).toLocalTime();
+				}
+				else {
+					throw unsupported( value, this );
+				}
+				output.writeInt( 8 );
+				output.writeLong( time.toNanoOfDay() / 1_000L );
+			}
+		},
+		TIMESTAMP {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final LocalDateTime dateTime;
+				if ( value instanceof LocalDateTime ) {
+					dateTime = (LocalDateTime) value;
+				}
+				else if ( value instanceof OffsetDateTime ) {
+					dateTime = ( (OffsetDateTime) value ).toLocalDateTime();
+				}
+				else if ( value instanceof ZonedDateTime ) {
+					dateTime = ( (ZonedDateTime) value ).toLocalDateTime();
+				}
+				else if ( value instanceof Instant ) {
+					dateTime = LocalDateTime.ofInstant( (Instant) value, zone( calendar ) );
+				}
+				else if ( value instanceof Timestamp && calendar == null ) {
+					dateTime = ( (Timestamp) value ).toLocalDateTime();
+				}
+				else if ( value instanceof Date ) {
+					dateTime = LocalDateTime.ofInstant( toInstant( (Date) value ), zone( calendar ) );
+				}
+				else {
+					throw unsupported( value, this );
+				}
+				output.writeInt( 8 );
+				output.writeLong( toPostgresMicros( dateTime.toInstant( ZoneOffset.UTC ) ) );
+			}
+		},
+		TIMESTAMPTZ {
+			@Override
+			void write(DataOutputStream output, Object value, Calendar calendar)
+					throws IOException, SQLFeatureNotSupportedException {
+				final Instant instant;
+				if ( value instanceof Instant ) {
+					instant = (Instant) value;
+				}
+				else if ( value instanceof OffsetDateTime ) {
+					instant = ( (OffsetDateTime) value ).toInstant();
+				}
+				else if ( value instanceof ZonedDateTime ) {
+					instant = ( (ZonedDateTime) value ).toInstant();
+				}
+				else if ( value instanceof LocalDateTime ) {
+					instant = ( (LocalDateTime) value ).atZone( zone( calendar ) ).toInstant();
+				}
+				else if ( value instanceof Date ) {
+					instant = toInstant( (Date) value );
+				}
+				else {
+					throw unsupported( value, this );
+				}
+				output.writeInt( 8 );
+				output.writeLong( toPostgresMicros( instant ) );
+			}
+		};
+
+		abstract void write(DataOutputStream output, Object value, Calendar calendar)
+				throws IOException, SQLFeatureNotSupportedException;
+
+		/**
+		 * The field type for the given name of a column type, as reported by
+		 * {@link java.sql.ResultSetMetaData#getColumnTypeName}, or {@code null}
+		 * if columns of that type are not supported.
+		 */
+		static FieldType fromTypeName(String typeName) {
+			if ( typeName == null ) {
+				return null;
+			}
+			switch ( typeName.toLowerCase( Locale.ROOT ) ) {
+				case "bool":
+					return BOOL;
+				case "int2":
+				case "smallserial":
+					return INT2;
+				case "int4":
+				case "serial":
+					return INT4;
+				case "int8":
+				case "bigserial":
+					return INT8;
+				case "float4":
+					return FLOAT4;
+				case "float8":
+					return FLOAT8;
+				case "numeric":
+					return NUMERIC;
+				case "text":
+				case "varchar":
+				case "bpchar":
+				case "name":
+				case "json":
+					return TEXT;
+				case "jsonb":
+					return JSONB;
+				case "bytea":
+					return BYTEA;
+				case "uuid":
+					return UUID;
+				case "date":
+					return DATE;
+				case "time":
+					return TIME;
+				case "timestamp":
+					return TIMESTAMP;
+				case "timestamptz":
+					return TIMESTAMPTZ;
+				default:
+					return null;
+			}
+		}
+	}
+
+	private static void writeNumeric(DataOutputStream output, BigDecimal value) throws IOException {
+		final BigDecimal absolute = value.abs();
+		final BigDecimal normalized = absolute.scale() < 0 ? absolute.setScale( 0 ) : absolute;
+		final String plain = normalized.toPlainString();
+		final int point = plain.indexOf( '.' );
+		String integerPart = point < 0 ? plain : plain.substring( 0, point );
+		final String fractionPart = point < 0 ? "" : plain.substring( point + 1 );
+		int leadingZeros = 0;
+		while ( leadingZeros < integerPart.length() && integerPart.charAt( leadingZeros ) == '0' ) {
+			leadingZeros++;
+		}
+		integerPart = integerPart.substring( leadingZeros );
+
+		// the digits are written in groups of 4 decimal digits, aligned on the decimal point
+		final int integerGroups = ( integerPart.length() + 3 ) / 4;
+		final int fractionGroups = ( fractionPart.length() + 3 ) / 4;
+		final StringBuilder digits = new StringBuilder( ( integerGroups + fractionGroups ) * 4 );
+		for ( int i = integerPart.length(); i < integerGroups * 4; i++ ) {
+			digits.append( '0' );
+		}
+		digits.append( integerPart ).append( fractionPart );
+		while ( digits.length() < ( integerGroups + fractionGroups ) * 4 ) {
+			digits.append( '0' );
+		}
+		final short[] groups = new short[integerGroups + fractionGroups];
+		for ( int i = 0; i < groups.length; i++ ) {
+			groups[i] = Short.parseShort( digits.substring( i * 4, i * 4 + 4 ) );
+		}
+		int first = 0;
+		while ( first < groups.length && groups[first] == 0 ) {
+			first++;
+		}
+		int last = groups.length;
+		while ( last > first && groups[last - 1] == 0 ) {
+			last--;
+		}
+
+		final int digitCount = last - first;
+		output.writeInt( 8 + digitCount * 2 );
+		output.writeShort( digitCount );
+		output.writeShort( digitCount == 0 ? 0 : integerGroups - 1 - first );
+		output.writeShort( value.signum() < 0 ? 0x4000 : 0 );
+		output.writeShort( normalized.scale() );
+		for ( int i = first; i < last; i++ ) {
+			output.writeShort( groups[i] );
+		}
+	}
+
+	private static long toPostgresMicros(Instant instant) {
+		return ( instant.getEpochSecond() - POSTGRES_EPOCH_SECONDS ) * 1_000_000L + instant.getNano() / 1_000L;
+	}
+
+	private static Instant toInstant(Date date) {
+		return date instanceof Timestamp ? ( (Timestamp) date ).toInstant() : Instant.ofEpochMilli( date.getTime() );
+	}
+
+	private static ZoneId zone(Calendar calendar) {
+		return calendar == null ? ZoneId.systemDefault() : calendar.getTimeZone().toZoneId();
+	}
+
+	private static Number toNumber(Object value, FieldType fieldType) throws SQLFeatureNotSupportedException {
+		if ( value instanceof Number ) {
+			return (Number) value;
+		}
+		else if ( value instanceof Boolean ) {
+			return (Boolean) value ? 1 : 0;
+		}
+		else if ( value instanceof Character ) {
+			return (int) (Character) value;
+		}
+		throw unsupported( value, fieldType );
+	}
+
+	private static SQLFeatureNotSupportedException unsupported(Object value, FieldType fieldType) {
+		return new SQLFeatureNotSupportedException(
+				"Value of type '" + value.getClass().getName()
+						+ "' can not be written to a column of type '" + fieldType + "' by COPY"
+		);
+	}
+
+	private static final class CopyBuffer extends ByteArrayOutputStream {
+		private CopyBuffer() {
+			super( 8192 );
+		}
+
+		byte[] getBuffer() {
+			return buf;
+		}
+	}
+}
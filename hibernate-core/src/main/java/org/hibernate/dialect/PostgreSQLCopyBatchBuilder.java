@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.hibernate.dialect.PostgreSQLCopyBatch.FieldType;
+import org.hibernate.engine.jdbc.batch.internal.AbstractRowBufferingBatch;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertSql;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A {@link BatchBuilder} which writes batches of inserts into a single table
+ * using the PostgreSQL {@code COPY} protocol, when the statement is a plain
+ * insert of JDBC parameters into columns of {@linkplain FieldType supported}
+ * types. Any other batch is built by the given delegate.
+ * <p>
+ * The types of the target columns are determined by querying the table once
+ * for each insert statement. A single instance is shared by all the sessions
+ * of a {@code SessionFactory}, so that the query is not repeated in every
+ * session.
+ *
+ * @see PostgreSQLCopyBatch
+ * @see PgJdbcHelper#getCopyBatchBuilder
+ * @see org.hibernate.internal.FastSessionServices#getBulkInsertBatchBuilder
+ */
+public class PostgreSQLCopyBatchBuilder implements BatchBuilder {
+	private static final FieldType[] NOT_APPLICABLE = new FieldType[0];
+
+	private final BatchBuilder delegate;
+	private final ConcurrentMap<String, MultiRowInsertSql> insertSqlCache = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, FieldType[]> fieldTypesCache = new ConcurrentHashMap<>();
+
+	public PostgreSQLCopyBatchBuilder(BatchBuilder delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Batch buildBatch(
+			BatchKey key,
+			Integer batchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( statementGroup instanceof PreparedStatementGroupSingleTable
+				&& AbstractRowBufferingBatch.isBufferable( statementGroup, jdbcCoordinator ) ) {
+			final String sql = statementGroup.getSingleStatementDetails().getSqlString();
+			final MultiRowInsertSql insertSql = insertSqlCache.computeIfAbsent( sql, MultiRowInsertSql::from );
+			if ( insertSql != MultiRowInsertSql.NOT_APPLICABLE && insertSql.hasOnlyParameters() ) {
+				FieldType[] fieldTypes = fieldTypesCache.get( sql );
+				if ( fieldTypes == null ) {
+					fieldTypes = determineFieldTypes( insertSql, jdbcCoordinator );
+					fieldTypesCache.put( sql, fieldTypes );
+				}
+				if ( fieldTypes != NOT_APPLICABLE ) {
+					return new PostgreSQLCopyBatch(
+							key,
+							statementGroup,
+							insertSql,
+							fieldTypes,
+							batchSize,
+							jdbcCoordinator,
+							this
+					);
+				}
+			}
+		}
+		return delegate.buildBatch( key, batchSize, () -> statementGroup, jdbcCoordinator );
+	}
+
+	/**
+	 * Build any later batch of the given insert statement using the delegate,
+	 * since one of its values could not be written by {@code COPY}.
+	 */
+	void disableCopy(String sql) {
+		fieldTypesCache.put( sql, NOT_APPLICABLE );
+	}
+
+	private static FieldType[] determineFieldTypes(MultiRowInsertSql insertSql, JdbcCoordinator jdbcCoordinator) {
+		final String target = insertSql.getTargetFragment();
+		final int columnsStart = target.indexOf( '(' );
+		if ( columnsStart < 0 || !target.endsWith( ")" ) ) {
+			return NOT_APPLICABLE;
+		}
+		final String sql = "select " + target.substring( columnsStart + 1, target.length() - 1 )
+				+ " from " + target.substring( 0, columnsStart ).trim()
+				+ " where 1=0";
+
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			final ResultSet resultSet = jdbcCoordinator.getResultSetReturn().extract( statement, sql );
+			final ResultSetMetaData metaData = resultSet.getMetaData();
+			if ( metaData.getColumnCount() != insertSql.getParametersPerRow() ) {
+				return NOT_APPLICABLE;
+			}
+			final FieldType[] fieldTypes = new FieldType[metaData.getColumnCount()];
+			for ( int i = 0; i < fieldTypes.length; i++ ) {
+				final String typeName = metaData.getColumnTypeName( i + 1 );
+				fieldTypes[i] = FieldType.fromTypeName( typeName );
+				if ( fieldTypes[i] == null ) {
+					BATCH_LOGGER.debugf( "Column type '%s' is not supported by COPY: %s", typeName, target );
+					return NOT_APPLICABLE;
+				}
+			}
+			return fieldTypes;
+		}
+		catch (SQLException e) {
+			throw jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices()
+					.getSqlExceptionHelper()
+					.convert( e, "could not determine the column types of the COPY target", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+}
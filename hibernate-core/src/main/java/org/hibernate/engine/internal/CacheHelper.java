@@ -88,6 +88,124 @@ public final class CacheHelper {
 		}
 		return cachedValue;
 	}
+
+	/**
+	 * Get the cached entries of the entities with the given cache keys, in a single
+	 * call to the second-level cache.
+	 *
+	 * @return the cached entries, in the order of the given keys, with {@code null}
+	 * for each entity which is not cached
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		return fromSharedCache(
+				session,
+				cacheKeys,
+				cacheAccess,
+				(cacheGetEvent, hit) -> session.getEventManager().completeCacheGetEvent(
+						cacheGetEvent,
+						session,
+						cacheAccess.getRegion(),
+						persister,
+						false,
+						hit
+				)
+		);
+	}
+
+	/**
+	 * Record a get of an entity from the second-level cache which was already
+	 * performed as part of a call to {@link CachedDomainDataAccess#getAll}.
+	 */
+	public static void recordSharedCacheGet(
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess,
+			boolean hit) {
+		recordSharedCacheGet(
+				session,
+				hit,
+				(cacheGetEvent, isHit) -> session.getEventManager().completeCacheGetEvent(
+						cacheGetEvent,
+						session,
+						cacheAccess.getRegion(),
+						persister,
+						false,
+						isHit
+				)
+		);
+	}
+
+	/**
+	 * Record a get of a collection from the second-level cache which was already
+	 * performed as part of a call to {@link CachedDomainDataAccess#getAll}.
+	 */
+	public static void recordSharedCacheGet(
+			SharedSessionContractImplementor session,
+			CollectionPersister persister,
+			CachedDomainDataAccess cacheAccess,
+			boolean hit) {
+		recordSharedCacheGet(
+				session,
+				hit,
+				(cacheGetEvent, isHit) -> session.getEventManager().completeCacheGetEvent(
+						cacheGetEvent,
+						session,
+						cacheAccess.getRegion(),
+						persister,
+						isHit
+				)
+		);
+	}
+
+	private static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			CachedDomainDataAccess cacheAccess,
+			CacheGetCompletion completion) {
+		if ( cacheKeys.length == 0 ) {
+			return cacheKeys;
+		}
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final HibernateMonitoringEvent cacheGetEvent = session.getEventManager().beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			// the time spent in the single call is recorded against the first key
+			final boolean hit = cachedValues != null && cachedValues[0] != null;
+			completion.complete( cacheGetEvent, hit );
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		for ( int i = 1; i < cachedValues.length; i++ ) {
+			recordSharedCacheGet( session, cachedValues[i] != null, completion );
+		}
+		return cachedValues;
+	}
+
+	private static void recordSharedCacheGet(
+			SharedSessionContractImplementor session,
+			boolean hit,
+			CacheGetCompletion completion) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		eventListenerManager.cacheGetStart();
+		completion.complete( session.getEventManager().beginCacheGetEvent(), hit );
+		eventListenerManager.cacheGetEnd( hit );
+	}
+
+	/**
+	 * Completes the monitoring event of a get from the second-level cache.
+	 */
+	@FunctionalInterface
+	private interface CacheGetCompletion {
+		void complete(HibernateMonitoringEvent cacheGetEvent, boolean hit);
+	}
+
 	public static void addBasicValueToCacheKey(
 			MutableCacheKeyBuilder cacheKey,
 			Object value,
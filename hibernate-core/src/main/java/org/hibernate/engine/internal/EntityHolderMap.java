@@ -0,0 +1,342 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A specialized map from {@link EntityKey} to {@link EntityHolder}, used by
+ * {@link StatefulPersistenceContext} to track the managed entity instances.
+ * <p>
+ * Since every holder already knows its own key, only the holders are stored:
+ * the map is an open-addressing table with linear probing made of two parallel
+ * arrays, the cached key hashes and the holders. Compared to a {@link java.util.HashMap}
+ * this avoids allocating a node per entry, and allows lookups by
+ * {@linkplain #get(Object, EntityPersister) identifier and persister} which
+ * don't need to instantiate an {@code EntityKey}.
+ * <p>
+ * Removal uses backward-shift deletion, so that no tombstones are ever left
+ * in the table. The {@linkplain #entrySet() views} support removal, including
+ * through their iterators, but not addition.
+ *
+ * @implNote Not thread-safe, just like the persistence context itself.
+ *
+ * @param <H> the concrete type of {@link EntityHolder}
+ */
+public final class EntityHolderMap<H extends EntityHolder> extends AbstractMap<EntityKey, H> {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private int[] hashes;
+	private EntityHolder[] holders;
+	private int size;
+	private int resizeThreshold;
+	private int modCount;
+
+	public EntityHolderMap() {
+		this( MIN_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize the number of entries the map should be able to hold without resizing
+	 */
+	public EntityHolderMap(int expectedSize) {
+		allocate( tableSizeFor( expectedSize ) );
+	}
+
+	private static int tableSizeFor(int expectedSize) {
+		// keep the load factor at or below 3/4
+		final int minimum = Math.max( MIN_CAPACITY, expectedSize + ( expectedSize / 3 ) + 1 );
+		return minimum > ( 1 << 30 ) ? 1 << 30 : Integer.highestOneBit( minimum - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		hashes = new int[capacity];
+		holders = new EntityHolder[capacity];
+		resizeThreshold = ( capacity >> 1 ) + ( capacity >> 2 );
+	}
+
+	private static int spread(int hash) {
+		return hash ^ ( hash >>> 16 );
+	}
+
+	private int indexOf(int hash, Object key) {
+		final int mask = holders.length - 1;
+		int index = hash & mask;
+		EntityHolder holder;
+		while ( ( holder = holders[index] ) != null ) {
+			if ( hashes[index] == hash ) {
+				final EntityKey holderKey = holder.getEntityKey();
+				if ( holderKey == key || holderKey.equals( key ) ) {
+					return index;
+				}
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	private int indexOf(int hash, Object id, EntityPersister persister) {
+		final int mask = holders.length - 1;
+		int index = hash & mask;
+		EntityHolder holder;
+		while ( ( holder = holders[index] ) != null ) {
+			if ( hashes[index] == hash && holder.getEntityKey().matches( id, persister ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private H holderAt(int index) {
+		return index < 0 ? null : (H) holders[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof EntityKey && indexOf( spread( key.hashCode() ), key ) >= 0;
+	}
+
+	@Override
+	public H get(Object key) {
+		return key instanceof EntityKey ? holderAt( indexOf( spread( key.hashCode() ), key ) ) : null;
+	}
+
+	/**
+	 * Find the holder for the entity with the given identifier and persister,
+	 * without instantiating an {@link EntityKey}.
+	 */
+	public H get(Object id, EntityPersister persister) {
+		return holderAt( indexOf( spread( EntityKey.generateHashCode( id, persister ) ), id, persister ) );
+	}
+
+	/**
+	 * Associate the given holder with the given key. The key is expected to be
+	 * equal to the {@linkplain EntityHolder#getEntityKey() key of the holder},
+	 * since that is what is actually kept by this map.
+	 */
+	@Override
+	public H put(EntityKey key, H holder) {
+		assert holder != null && key.equals( holder.getEntityKey() );
+		final int hash = spread( key.hashCode() );
+		final int index = indexOf( hash, key );
+		if ( index >= 0 ) {
+			final H previous = holderAt( index );
+			holders[index] = holder;
+			return previous;
+		}
+		insert( hash, holder );
+		return null;
+	}
+
+	@Override
+	public H putIfAbsent(EntityKey key, H holder) {
+		assert holder != null && key.equals( holder.getEntityKey() );
+		final int hash = spread( key.hashCode() );
+		final int index = indexOf( hash, key );
+		if ( index >= 0 ) {
+			return holderAt( index );
+		}
+		insert( hash, holder );
+		return null;
+	}
+
+	private void insert(int hash, EntityHolder holder) {
+		if ( size >= resizeThreshold ) {
+			resize( holders.length << 1 );
+		}
+		final int mask = holders.length - 1;
+		int index = hash & mask;
+		while ( holders[index] != null ) {
+			index = ( index + 1 ) & mask;
+		}
+		hashes[index] = hash;
+		holders[index] = holder;
+		size++;
+		modCount++;
+	}
+
+	private void resize(int capacity) {
+		final int[] oldHashes = hashes;
+		final EntityHolder[] oldHolders = holders;
+		allocate( capacity );
+		final int mask = capacity - 1;
+		for ( int i = 0; i < oldHolders.length; i++ ) {
+			final EntityHolder holder = oldHolders[i];
+			if ( holder != null ) {
+				final int hash = oldHashes[i];
+				int index = hash & mask;
+				while ( holders[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				hashes[index] = hash;
+				holders[index] = holder;
+			}
+		}
+	}
+
+	@Override
+	public H remove(Object key) {
+		if ( key instanceof EntityKey ) {
+			final int index = indexOf( spread( key.hashCode() ), key );
+			if ( index >= 0 ) {
+				final H removed = holderAt( index );
+				removeAt( index );
+				return removed;
+			}
+		}
+		return null;
+	}
+
+	private void removeAt(int index) {
+		final int mask = holders.length - 1;
+		// shift back any entry of the same probe sequence, so that lookups never hit a hole
+		int hole = index;
+		int next = ( hole + 1 ) & mask;
+		EntityHolder holder;
+		while ( ( holder = holders[next] ) != null ) {
+			final int ideal = hashes[next] & mask;
+			if ( ( ( next - ideal ) & mask ) >= ( ( next - hole ) & mask ) ) {
+				hashes[hole] = hashes[next];
+				holders[hole] = holder;
+				hole = next;
+			}
+			next = ( next + 1 ) & mask;
+		}
+		holders[hole] = null;
+		hashes[hole] = 0;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			allocate( MIN_CAPACITY );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public Collection<H> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<H> iterator() {
+				return new HolderIterator<>() {
+					@Override
+					H toElement(H holder) {
+						return holder;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<EntityKey, H>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<EntityKey, H>> iterator() {
+				return new HolderIterator<>() {
+					@Override
+					Entry<EntityKey, H> toElement(H holder) {
+						return new SimpleImmutableEntry<>( holder.getEntityKey(), holder );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private abstract class HolderIterator<E> implements Iterator<E> {
+		private int expectedModCount = modCount;
+		private EntityHolder[] table = holders;
+		private int index = advance( 0 );
+		private H lastReturned;
+
+		private int advance(int from) {
+			int i = from;
+			while ( i < table.length && table[i] == null ) {
+				i++;
+			}
+			return i;
+		}
+
+		abstract E toElement(H holder);
+
+		@Override
+		public boolean hasNext() {
+			return index < table.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( index >= table.length ) {
+				throw new NoSuchElementException();
+			}
+			final H holder = (H) table[index];
+			index = advance( index + 1 );
+			lastReturned = holder;
+			return toElement( holder );
+		}
+
+		@Override
+		public void remove() {
+			if ( lastReturned == null ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( table == holders ) {
+				// the backward shift could move an entry the iterator has not
+				// reached yet behind its cursor, so keep iterating over a copy
+				table = table.clone();
+			}
+			EntityHolderMap.this.remove( lastReturned.getEntityKey() );
+			expectedModCount = modCount;
+			lastReturned = null;
+		}
+	}
+}
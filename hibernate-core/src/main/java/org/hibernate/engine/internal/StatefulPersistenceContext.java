@@ -112,7 +112,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private EntityHolderMap<EntityHolderImpl> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -173,9 +173,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.entityEntryContext = new EntityEntryContext( this );
 	}
 
-	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
+	private EntityHolderMap<EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new EntityHolderMap<>( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
@@ -416,6 +416,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public EntityHolderImpl getEntityHolder(Object id, EntityPersister persister) {
+		return entitiesByKey == null ? null : entitiesByKey.get( id, persister );
+	}
+
 	@Override
 	public boolean containsEntityHolder(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.get( key ) != null;
@@ -503,6 +508,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
 	}
 
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		if ( id == null ) {
+			// the same check an EntityKey would perform
+			throw new AssertionFailure( "null identifier (" + persister.getEntityName() + ")" );
+		}
+		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( id, persister );
+		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
@@ -931,7 +946,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( key, ownerPersister );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -942,7 +957,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( ownerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -978,11 +993,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			//			in place of natural id snapshots.  BUt really its better to just do it the right way ^^ if we start
 			// 			going that route
 			final Object ownerId = ownerPersister.getIdByUniqueKey( key, collectionType.getLHSPropertyName(), session );
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		// as a last resort this is what the old code did...
-		return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+		return getEntity( key, ownerPersister );
 	}
 
 	@Override
@@ -1908,7 +1923,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = new EntityHolderMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
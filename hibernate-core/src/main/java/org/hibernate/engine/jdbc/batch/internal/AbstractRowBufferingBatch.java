@@ -0,0 +1,307 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.type.descriptor.ValueBinder;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * Base support for a {@link Batch} of inserts into a single table which does
+ * not rely on {@link PreparedStatement#addBatch()}, but instead buffers the
+ * values bound for each row, and writes all the rows at once when the batch
+ * is executed.
+ */
+public abstract class AbstractRowBufferingBatch implements Batch {
+	private final BatchKey key;
+	private final PreparedStatementGroup statementGroup;
+	private final PreparedStatementDetails statementDetails;
+	private final int parametersPerRow;
+	private final int batchSizeToUse;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SharedSessionContractImplementor session;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private final Object[] values;
+	private final ValueBinder<?>[] valueBinders;
+	private int rowCount;
+
+	protected AbstractRowBufferingBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int parametersPerRow,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.statementDetails = statementGroup.getSingleStatementDetails();
+		this.parametersPerRow = parametersPerRow;
+		this.batchSizeToUse = batchSizeToUse;
+
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		this.sqlExceptionHelper = session.getJdbcServices().getSqlExceptionHelper();
+
+		final int parameterCount = batchSizeToUse * parametersPerRow;
+		this.values = new Object[parameterCount];
+		this.valueBinders = new ValueBinder<?>[parameterCount];
+	}
+
+	/**
+	 * Can the rows of the given single-table group be buffered? That is, is
+	 * the outcome of the statement verified by one of the standard expectations,
+	 * for which the total row count can be checked?
+	 */
+	public static boolean isBufferable(PreparedStatementGroup statementGroup, JdbcCoordinator jdbcCoordinator) {
+		if ( !( jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor ) ) {
+			return false;
+		}
+		final PreparedStatementDetails statementDetails = statementGroup.getSingleStatementDetails();
+		if ( statementDetails == null ) {
+			return false;
+		}
+		final Class<? extends Expectation> expectationClass = statementDetails.getExpectation().getClass();
+		return expectationClass == Expectation.RowCount.class
+			|| expectationClass == Expectation.None.class;
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	protected PreparedStatementDetails getStatementDetails() {
+		return statementDetails;
+	}
+
+	protected JdbcCoordinator getJdbcCoordinator() {
+		return jdbcCoordinator;
+	}
+
+	protected SharedSessionContractImplementor getSession() {
+		return session;
+	}
+
+	protected int getParametersPerRow() {
+		return parametersPerRow;
+	}
+
+	protected int getBatchSizeToUse() {
+		return batchSizeToUse;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+		if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+			return;
+		}
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding to buffered batch (%s) - `%s`",
+					rowCount + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		final int offset = rowCount * parametersPerRow - 1;
+		try {
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+			if ( bindingGroup != null ) {
+				for ( Binding binding : bindingGroup.getBindings() ) {
+					assert binding.getPosition() <= parametersPerRow;
+					values[offset + binding.getPosition()] = binding.getValue();
+					valueBinders[offset + binding.getPosition()] = binding.getValueBinder();
+				}
+			}
+		}
+		finally {
+			jdbcValueBindings.afterStatement( tableDetails );
+		}
+
+		rowCount++;
+		if ( rowCount == batchSizeToUse ) {
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			executeRows();
+		}
+	}
+
+	/**
+	 * Bind the buffered values of the given row to the given statement,
+	 * starting at the given JDBC parameter position.
+	 */
+	protected void bindRow(PreparedStatement statement, int row, int firstPosition) throws SQLException {
+		final int offset = row * parametersPerRow;
+		for ( int i = 0; i < parametersPerRow; i++ ) {
+			//noinspection unchecked
+			final ValueBinder<Object> valueBinder = (ValueBinder<Object>) valueBinders[offset + i];
+			if ( valueBinder != null ) {
+				valueBinder.bind( statement, values[offset + i], firstPosition + i, session );
+			}
+		}
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+
+		try {
+			if ( rowCount == 0 ) {
+				if ( BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				executeRows();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	private void executeRows() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing buffered batch (%s / %s) - `%s`",
+					rowCount,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final String sql = statementDetails.getSqlString();
+		try {
+			performExecution( rowCount );
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw e;
+		}
+		finally {
+			clearRows();
+		}
+	}
+
+	/**
+	 * Write the given number of buffered rows to the database.
+	 *
+	 * @see #bindRow
+	 * @see #checkRowCount
+	 */
+	protected abstract void performExecution(int rowCount) throws SQLException;
+
+	/**
+	 * Verify the total number of rows written, when required by the expectation.
+	 */
+	protected void checkRowCount(long result, int expected, String sql) {
+		if ( !( statementDetails.getExpectation() instanceof Expectation.RowCount ) ) {
+			return;
+		}
+		if ( result == Statement.SUCCESS_NO_INFO ) {
+			BATCH_LOGGER.debugf( "Success of buffered batch unknown: %s", sql );
+		}
+		else if ( result < expected ) {
+			throw new StaleStateException(
+					"Unexpected row count: " + result + "; expected: " + expected
+							+ "; statement executed: " + sql
+			);
+		}
+		else if ( result > expected ) {
+			throw new TooManyRowsAffectedException(
+					"Unexpected row count: " + result + "; expected: " + expected,
+					expected,
+					(int) result
+			);
+		}
+	}
+
+	private void clearRows() {
+		Arrays.fill( values, 0, rowCount * parametersPerRow, null );
+		Arrays.fill( valueBinders, 0, rowCount * parametersPerRow, null );
+		rowCount = 0;
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	protected void releaseStatements() {
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	@Override
+	public void release() {
+		if ( rowCount > 0 ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+			clearRows();
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + getKey().toLoggableString() + ")";
+	}
+}
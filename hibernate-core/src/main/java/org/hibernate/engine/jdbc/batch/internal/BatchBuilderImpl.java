@@ -7,6 +7,8 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -30,6 +32,9 @@ import static org.hibernate.jdbc.Expectations.NONE;
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
+
+	private final ConcurrentMap<String, MultiRowInsertSql> multiRowInsertSqlCache;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,6 +43,18 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether to execute batches of inserts as
+	 * multi-row inserts, when the dialect supports it
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Using standard BatchBuilder (%s)",
@@ -46,6 +63,8 @@ public class BatchBuilderImpl implements BatchBuilder {
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
+		this.multiRowInsertSqlCache = multiRowInserts ? new ConcurrentHashMap<>() : null;
 	}
 
 	public int getJdbcBatchSize() {
@@ -63,7 +82,41 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInserts ) {
+			final Batch multiRowInsertBatch = buildMultiRowInsertBatch( key, statementGroup, batchSize, jdbcCoordinator );
+			if ( multiRowInsertBatch != null ) {
+				return multiRowInsertBatch;
+			}
+		}
+
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
+	}
+
+	private Batch buildMultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( !( statementGroup instanceof PreparedStatementGroupSingleTable )
+				|| !jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices()
+						.getDialect().supportsValuesListForInsert() ) {
+			return null;
+		}
+
+		final MultiRowInsertSql insertSql = multiRowInsertSqlCache.computeIfAbsent(
+				statementGroup.getSingleStatementDetails().getSqlString(),
+				MultiRowInsertSql::from
+		);
+		final int batchSizeToUse = MultiRowInsertBatch.determineBatchSize(
+				statementGroup,
+				insertSql,
+				batchSize,
+				jdbcCoordinator
+		);
+		return batchSizeToUse > 1
+				? new MultiRowInsertBatch( key, statementGroup, insertSql, batchSizeToUse, jdbcCoordinator )
+				: null;
 	}
 
 
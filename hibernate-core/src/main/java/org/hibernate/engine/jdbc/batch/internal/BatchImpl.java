@@ -279,7 +279,7 @@ public class BatchImpl implements Batch {
 							rowCounts = statement.executeBatch();
 						}
 						finally {
-							eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
+							eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql, batchPosition );
 							observer.jdbcExecuteBatchEnd();
 						}
 						checkRowCounts( rowCounts, statementDetails );
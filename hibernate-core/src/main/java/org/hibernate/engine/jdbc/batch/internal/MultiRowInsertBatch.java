@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A {@link Batch} of inserts into a single table which is executed as one
+ * multi-row {@code insert ... values (...),(...)} statement, rather than via
+ * {@link PreparedStatement#addBatch()}.
+ * <p>
+ * The values bound for each row are buffered until the batch is executed,
+ * and then bound to the statement inserting exactly that number of rows.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatch extends AbstractRowBufferingBatch {
+	private final MultiRowInsertSql insertSql;
+	private final SqlStatementLogger sqlStatementLogger;
+
+	MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			MultiRowInsertSql insertSql,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, insertSql.getParametersPerRow(), batchSizeToUse, jdbcCoordinator );
+		this.insertSql = insertSql;
+		this.sqlStatementLogger = getSession().getJdbcServices().getSqlStatementLogger();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Determine the largest number of rows which may be inserted by a single
+	 * statement for the given single-table group, or {@code 0} if the group is
+	 * not a simple insert.
+	 */
+	static int determineBatchSize(
+			PreparedStatementGroup statementGroup,
+			MultiRowInsertSql insertSql,
+			int batchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		// the row count of a multi-row insert is the total for all rows,
+		// which we only know how to verify for the standard expectations
+		if ( insertSql == MultiRowInsertSql.NOT_APPLICABLE || !isBufferable( statementGroup, jdbcCoordinator ) ) {
+			return 0;
+		}
+		final SharedSessionContractImplementor session =
+				(SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		final int parameterCountLimit = session.getJdbcServices().getDialect().getParameterCountLimit();
+		final int batchSizeToUse = parameterCountLimit > 0
+				? Math.min( batchSize, parameterCountLimit / insertSql.getParametersPerRow() )
+				: batchSize;
+		return batchSizeToUse > 1 ? batchSizeToUse : 0;
+	}
+
+	@Override
+	protected void performExecution(int rowCount) throws SQLException {
+		final JdbcCoordinator jdbcCoordinator = getJdbcCoordinator();
+		final String sql = insertSql.getSql( rowCount );
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			sqlStatementLogger.logStatement( sql );
+			final int parametersPerRow = getParametersPerRow();
+			for ( int row = 0; row < rowCount; row++ ) {
+				bindRow( statement, row, row * parametersPerRow + 1 );
+			}
+			final int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			checkRowCount( result, rowCount, sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The decomposition of a single-row {@code insert ... values (...)} statement,
+ * used to render the equivalent multi-row statements. The rendered SQL is
+ * cached for each number of rows.
+ */
+public final class MultiRowInsertSql {
+	private static final String INSERT_INTO = "insert into ";
+	private static final String VALUES = " values ";
+
+	/**
+	 * Marks SQL which cannot be rendered as a multi-row insert
+	 */
+	public static final MultiRowInsertSql NOT_APPLICABLE = new MultiRowInsertSql( null, null, null, null, 0 );
+
+	private final String sql;
+	private final String prefix;
+	private final String target;
+	private final String tuple;
+	private final int parametersPerRow;
+
+	private final ConcurrentMap<Integer, String> sqlByRowCount = new ConcurrentHashMap<>();
+
+	private MultiRowInsertSql(String sql, String prefix, String target, String tuple, int parametersPerRow) {
+		this.sql = sql;
+		this.prefix = prefix;
+		this.target = target;
+		this.tuple = tuple;
+		this.parametersPerRow = parametersPerRow;
+	}
+
+	/**
+	 * Decompose the given SQL, or return {@link #NOT_APPLICABLE} if it is not of
+	 * form {@code insert into <table> (<columns>) values (<tuple>)} with all JDBC
+	 * parameters in the tuple.
+	 */
+	public static MultiRowInsertSql from(String sql) {
+		final String lower = sql.toLowerCase( Locale.ROOT );
+		final int insertIndex = skipComment( lower );
+		if ( !lower.startsWith( INSERT_INTO, insertIndex ) ) {
+			return NOT_APPLICABLE;
+		}
+		final int valuesIndex = lower.lastIndexOf( VALUES + "(" );
+		if ( valuesIndex < 0 ) {
+			return NOT_APPLICABLE;
+		}
+		final int tupleStart = valuesIndex + VALUES.length();
+		if ( countParameters( sql, 0, tupleStart ) != 0 ) {
+			return NOT_APPLICABLE;
+		}
+		if ( tupleEnd( sql, tupleStart ) != sql.length() ) {
+			// something follows the tuple, for example a returning clause
+			return NOT_APPLICABLE;
+		}
+		final int parametersPerRow = countParameters( sql, tupleStart, sql.length() );
+		if ( parametersPerRow <= 0 ) {
+			return NOT_APPLICABLE;
+		}
+		return new MultiRowInsertSql(
+				sql,
+				sql.substring( 0, tupleStart ),
+				sql.substring( insertIndex + INSERT_INTO.length(), valuesIndex ),
+				sql.substring( tupleStart ),
+				parametersPerRow
+		);
+	}
+
+	/**
+	 * The number of JDBC parameters of a single row
+	 */
+	public int getParametersPerRow() {
+		return parametersPerRow;
+	}
+
+	/**
+	 * The target of the insert, that is, the table name followed by the column list
+	 */
+	public String getTargetFragment() {
+		return target;
+	}
+
+	/**
+	 * Is the tuple of values a plain list of JDBC parameters, {@code (?,?,...)},
+	 * without any literals, casts or other expressions?
+	 */
+	public boolean hasOnlyParameters() {
+		boolean expectParameter = true;
+		for ( int i = 1; i < tuple.length() - 1; i++ ) {
+			final char c = tuple.charAt( i );
+			if ( Character.isWhitespace( c ) ) {
+				continue;
+			}
+			if ( c != ( expectParameter ? '?' : ',' ) ) {
+				return false;
+			}
+			expectParameter = !expectParameter;
+		}
+		return !expectParameter;
+	}
+
+	/**
+	 * The SQL inserting the given number of rows
+	 */
+	public String getSql(int rowCount) {
+		if ( rowCount == 1 ) {
+			return sql;
+		}
+		return sqlByRowCount.computeIfAbsent( rowCount, this::render );
+	}
+
+	private String render(int rowCount) {
+		final StringBuilder buffer = new StringBuilder( prefix.length() + rowCount * ( tuple.length() + 1 ) );
+		buffer.append( prefix ).append( tuple );
+		for ( int i = 1; i < rowCount; i++ ) {
+			buffer.append( ',' ).append( tuple );
+		}
+		return buffer.toString();
+	}
+
+	private static int skipComment(String sql) {
+		if ( sql.startsWith( "/*" ) ) {
+			final int end = sql.indexOf( "*/" );
+			if ( end > 0 ) {
+				int position = end + 2;
+				while ( position < sql.length() && Character.isWhitespace( sql.charAt( position ) ) ) {
+					position++;
+				}
+				return position;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * The position just after the parenthesis closing the tuple starting at the given position,
+	 * or {@code -1} if there is none
+	 */
+	private static int tupleEnd(String sql, int start) {
+		int depth = 0;
+		boolean quoted = false;
+		for ( int i = start; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' && --depth == 0 ) {
+					return i + 1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static int countParameters(String sql, int start, int end) {
+		int count = 0;
+		boolean quoted = false;
+		for ( int i = start; i < end; i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( c == '?' && !quoted ) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -30,6 +30,7 @@ import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.WorkExecutor;
@@ -37,6 +38,7 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -58,6 +60,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient final JdbcSessionOwner owner;
 
 	private transient final JdbcServices jdbcServices;
+	private transient final PreparedStatementCache statementCache;
 
 	private transient Batch currentBatch;
 
@@ -82,17 +85,24 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
-		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
-		);
 		if ( isUserSuppliedConnection ) {
+			this.statementCache = null;
+			final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
+					owner.getJdbcSessionContext().getObserver()
+			);
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
 		}
 		else {
+			this.statementCache = createStatementCache( owner );
+			final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
+					owner.getJdbcSessionContext().getObserver(),
+					statementCache
+			);
 			this.logicalConnection = new LogicalConnectionManagedImpl(
 					owner.getJdbcConnectionAccess(),
 					owner.getJdbcSessionContext(),
 					resourceRegistry,
+					statementCache,
 					jdbcServices
 			);
 		}
@@ -108,6 +118,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
+		this.statementCache = null;
+	}
+
+	private static PreparedStatementCache createStatementCache(JdbcSessionOwner owner) {
+		final SessionFactoryImplementor factory = owner.getJdbcSessionContext().getSessionFactory();
+		final int cacheSize = factory.getSessionFactoryOptions().getPreparedStatementCacheSize();
+		return cacheSize > 0 ? new PreparedStatementCache( cacheSize, factory.getStatistics() ) : null;
 	}
 
 	@Override
@@ -115,6 +132,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return logicalConnection;
 	}
 
+	/**
+	 * The cache of prepared statements, or {@code null} if statements are not cached
+	 */
+	PreparedStatementCache getPreparedStatementCache() {
+		return statementCache;
+	}
+
 	/**
 	 * Access to the {@link SqlExceptionHelper}
 	 *
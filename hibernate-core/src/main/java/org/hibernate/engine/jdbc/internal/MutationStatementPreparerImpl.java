@@ -8,7 +8,9 @@ package org.hibernate.engine.jdbc.internal;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -16,6 +18,7 @@ import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -39,7 +42,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, !isCallable, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
@@ -55,7 +58,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		if ( autoGeneratedKeys == PreparedStatement.RETURN_GENERATED_KEYS ) {
 			checkAutoGeneratedKeysSupportEnabled();
 		}
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, true, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return connection().prepareStatement( sql, autoGeneratedKeys );
@@ -82,33 +85,65 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final boolean cacheable;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, false, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS );
+		}
+
+		/**
+		 * @param cacheable whether the statement may be obtained from, and returned to,
+		 * the {@linkplain PreparedStatementCache statement cache}
+		 */
+		protected StatementPreparationTemplate(
+				String incomingSql,
+				boolean cacheable,
+				int resultSetType,
+				int autoGeneratedKeys) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.cacheable = cacheable;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
 				final PreparedStatement preparedStatement;
-				//noinspection deprecation
-				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-				final JdbcObserver observer = jdbcSessionOwner
-						.getJdbcSessionContext()
-						.getObserver();
-				final EventManager eventManager = jdbcSessionOwner.getEventManager();
-				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				final PreparedStatementCache statementCache =
+						cacheable ? jdbcCoordinator.getPreparedStatementCache() : null;
+				final PreparedStatement cachedStatement = statementCache == null
+						? null
+						: statementCache.checkOut( sql, resultSetType, autoGeneratedKeys );
+				if ( cachedStatement != null ) {
+					preparedStatement = cachedStatement;
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					observer.jdbcPrepareStatementEnd();
+				else {
+					//noinspection deprecation
+					final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+					final JdbcObserver observer = jdbcSessionOwner
+							.getJdbcSessionContext()
+							.getObserver();
+					final EventManager eventManager = jdbcSessionOwner.getEventManager();
+					final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+						observer.jdbcPrepareStatementEnd();
+					}
+					if ( statementCache != null ) {
+						statementCache.track( preparedStatement, sql, resultSetType, autoGeneratedKeys );
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -19,6 +19,7 @@ import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -86,7 +87,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, !isCallable, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -108,7 +109,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			checkAutoGeneratedKeysSupportEnabled();
 		}
 		jdbcCoordinator.executeBatch();
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, true, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
@@ -135,7 +136,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, !isCallable, scrollMode.toResultSetType() ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -146,7 +147,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, !isCallable, ResultSet.TYPE_FORWARD_ONLY ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -160,13 +161,31 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final boolean cacheable;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, false, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS );
+		}
+
+		/**
+		 * @param cacheable whether the statement may be obtained from, and returned to,
+		 * the {@linkplain PreparedStatementCache statement cache}
+		 */
+		protected StatementPreparationTemplate(
+				String incomingSql,
+				boolean cacheable,
+				int resultSetType,
+				int autoGeneratedKeys) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.cacheable = cacheable;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
 		}
 
 		public PreparedStatement prepareStatement() {
@@ -174,18 +193,32 @@ class StatementPreparerImpl implements StatementPreparer {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
 				final PreparedStatement preparedStatement;
-				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-				final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
-				final EventManager eventManager = jdbcSessionOwner.getEventManager();
-				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				final PreparedStatementCache statementCache =
+						cacheable ? jdbcCoordinator.getPreparedStatementCache() : null;
+				final PreparedStatement cachedStatement = statementCache == null
+						? null
+						: statementCache.checkOut( sql, resultSetType, autoGeneratedKeys );
+				if ( cachedStatement != null ) {
+					preparedStatement = cachedStatement;
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+					final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
+					final EventManager eventManager = jdbcSessionOwner.getEventManager();
+					final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+						observer.jdbcPrepareStatementEnd();
+					}
+					if ( statementCache != null ) {
+						statementCache.track( preparedStatement, sql, resultSetType, autoGeneratedKeys );
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -211,8 +244,8 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
-			super( sql );
+		protected QueryStatementPreparationTemplate(String sql, boolean cacheable, int resultSetType) {
+			super( sql, cacheable, resultSetType, Statement.NO_GENERATED_KEYS );
 		}
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
@@ -11,6 +11,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -1083,9 +1084,10 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
+	 * The algorithm first discovers the direct incoming dependencies for every insert action, and groups all
+	 * inserts by the entity name. The names of the entities each insert transitively depends on are then computed
+	 * in a single pass over the strongly connected components of the dependency graph, in linear time.
+	 * Finally, it schedules the groups one by one, as long as all the dependencies of the groups are fulfilled.
 	 * </p>
 	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
 	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
@@ -1099,13 +1101,15 @@ public class ActionQueue {
 
 		private static class InsertInfo {
 			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
+			// The position of the insert in the original order
+			private final int index;
+			// The group of inserts against the same entity
+			private EntityInsertGroup group;
+			// Inserts in this list must be executed before this insert
+			private List<InsertInfo> incomingDependencies;
 			// Child dependencies of i.e. one-to-many or inverse one-to-one
 			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
+			private List<InsertInfo> outgoingDependencies;
 
 			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
 				this.insertAction = insertAction;
@@ -1123,33 +1127,27 @@ public class ActionQueue {
 			public void propagateChildDependencies() {
 				if ( outgoingDependencies != null ) {
 					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
-						}
-						childDependency.transitiveIncomingDependencies.add( this );
+						childDependency.addIncomingDependency( this );
 					}
 				}
 			}
 
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
-					}
-					visited.clear();
+			private void addIncomingDependency(InsertInfo insertInfo) {
+				if ( incomingDependencies == null ) {
+					incomingDependencies = new ArrayList<>();
 				}
+				incomingDependencies.add( insertInfo );
 			}
 
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
-					}
+			private void addOutgoingDependency(InsertInfo insertInfo) {
+				if ( outgoingDependencies == null ) {
+					outgoingDependencies = new ArrayList<>();
 				}
+				outgoingDependencies.add( insertInfo );
+			}
+
+			private int incomingDependencyCount() {
+				return incomingDependencies == null ? 0 : incomingDependencies.size();
 			}
 
 			private void addDirectDependency(Type type, @Nullable Object value, IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
@@ -1160,17 +1158,11 @@ public class ActionQueue {
 						if ( entityType.isOneToOne()
 								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
+								addOutgoingDependency( insertInfo );
 							}
 						}
 						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
+							addIncomingDependency( insertInfo );
 						}
 					}
 				}
@@ -1190,10 +1182,7 @@ public class ActionQueue {
 							final Object element = elementsIterator.next();
 							final InsertInfo insertInfo = insertInfosByEntity.get( element );
 							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
+								addOutgoingDependency( insertInfo );
 							}
 						}
 					}
@@ -1211,24 +1200,6 @@ public class ActionQueue {
 				}
 			}
 
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
-				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
-			}
-
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
-			}
-
 			@Override
 			public String toString() {
 				return "InsertInfo{" +
@@ -1250,12 +1221,23 @@ public class ActionQueue {
 			// A map of all insert infos keyed by the entity instance
 			// This is needed to discover insert infos for direct dependencies
 			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
-			// Construct insert infos and build a map for that, keyed by entity instance
+			// Construct insert infos and build a map for that, keyed by entity instance,
+			// and group insert infos into EntityInsertGroup keyed by entity name
+			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
 			for (int i = 0; i < insertInfoCount; i++) {
 				final AbstractEntityInsertAction insertAction = insertions.get(i);
 				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
 				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
 				insertInfos[i] = insertInfo;
+
+				final String entityName = insertAction.getPersister().getEntityName();
+				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
+				if (entityInsertGroup == null) {
+					entityInsertGroup = new EntityInsertGroup( entityName, insertInfosByEntityName.size() );
+					insertInfosByEntityName.put( entityName, entityInsertGroup );
+				}
+				entityInsertGroup.insertInfos.add( insertInfo );
+				insertInfo.group = entityInsertGroup;
 			}
 			// First we must discover the direct dependencies
 			for (int i = 0; i < insertInfoCount; i++) {
@@ -1265,115 +1247,185 @@ public class ActionQueue {
 			for (int i = 0; i < insertInfoCount; i++) {
 				insertInfos[i].propagateChildDependencies();
 			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
-			for (int i = 0; i < insertInfoCount; i++) {
-				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
+			// Finally, we collect the names of all the entities each group transitively depends on
+			collectDependentEntityNames( insertInfos );
 
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
-				}
-				entityInsertGroup.add(insertInfo);
-			}
 			// Now we can go through the EntityInsertGroups and schedule all the ones
 			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
+			final List<EntityInsertGroup> unscheduledGroups = new ArrayList<>( insertInfosByEntityName.values() );
+			final BitSet scheduledEntityNames = new BitSet( unscheduledGroups.size() );
+			insertions.clear();
+			int lastUnscheduledCount;
 			do {
-				lastScheduleSize = scheduledEntityNames.size();
-				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
+				lastUnscheduledCount = unscheduledGroups.size();
+				final Iterator<EntityInsertGroup> iterator = unscheduledGroups.iterator();
 				while (iterator.hasNext()) {
 					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
+					if ( insertGroup.canBeScheduledAfter( scheduledEntityNames ) ) {
+						for ( InsertInfo insertInfo : insertGroup.insertInfos ) {
+							insertions.add( insertInfo.insertAction );
+						}
+						insertGroup.scheduled = true;
+						scheduledEntityNames.set( insertGroup.nameIndex );
 						iterator.remove();
 					}
 				}
 				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
-				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
+			} while (lastUnscheduledCount != unscheduledGroups.size());
+			if ( !unscheduledGroups.isEmpty() ) {
+				LOG.warn("The batch containing " + insertInfoCount + " statements could not be sorted. " +
 					"This might indicate a circular entity relationship.");
+				// the inserts which could not be scheduled keep their original relative order
+				for ( InsertInfo insertInfo : insertInfos ) {
+					if ( !insertInfo.group.scheduled ) {
+						insertions.add( insertInfo.insertAction );
+					}
+				}
 			}
-			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
-		}
-
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
+		}
+
+		/**
+		 * Compute, for each group, the names of the entities with an insert on which
+		 * some insert of the group depends, directly or transitively. This is done by
+		 * visiting the strongly connected components of the graph of the incoming
+		 * dependencies using Tarjan's algorithm, which completes every component after
+		 * all the components it depends on. An insert which is part of a dependency
+		 * cycle depends on all the inserts of its component, including itself.
+		 * <p>
+		 * The traversal is iterative, to avoid overflowing the stack for deep graphs.
+		 */
+		private static void collectDependentEntityNames(InsertInfo[] insertInfos) {
+			final int count = insertInfos.length;
+			// the visit order of each insert, starting from 1, or 0 if not visited yet
+			final int[] visitOrder = new int[count];
+			final int[] lowLink = new int[count];
+			// the component of each insert, once it is complete, or -1
+			final int[] componentOf = new int[count];
+			Arrays.fill( componentOf, -1 );
+			// the names of the entities each component depends on, null when there are none
+			final List<BitSet> componentDependencies = new ArrayList<>();
+			final int[] componentStack = new int[count];
+			int componentStackSize = 0;
+			final int[] callStack = new int[count];
+			final int[] nextDependency = new int[count];
+			int visitCount = 0;
+
+			for ( int root = 0; root < count; root++ ) {
+				if ( visitOrder[root] != 0 ) {
+					continue;
+				}
+				int callStackSize = 0;
+				callStack[callStackSize++] = root;
+				visitOrder[root] = lowLink[root] = ++visitCount;
+				componentStack[componentStackSize++] = root;
+				while ( callStackSize > 0 ) {
+					final int current = callStack[callStackSize - 1];
+					final InsertInfo insertInfo = insertInfos[current];
+					if ( nextDependency[current] < insertInfo.incomingDependencyCount() ) {
+						final int dependency = insertInfo.incomingDependencies.get( nextDependency[current]++ ).index;
+						if ( visitOrder[dependency] == 0 ) {
+							visitOrder[dependency] = lowLink[dependency] = ++visitCount;
+							componentStack[componentStackSize++] = dependency;
+							callStack[callStackSize++] = dependency;
+						}
+						else if ( componentOf[dependency] == -1 ) {
+							// still on the component stack
+							lowLink[current] = Math.min( lowLink[current], visitOrder[dependency] );
+						}
+					}
+					else {
+						callStackSize--;
+						if ( lowLink[current] == visitOrder[current] ) {
+							// current is the root of a component: pop it
+							final int component = componentDependencies.size();
+							int start = componentStackSize;
+							do {
+								componentOf[componentStack[--start]] = component;
+							} while ( componentStack[start] != current );
+							componentDependencies.add(
+									componentDependencies( insertInfos, componentStack, start, componentStackSize,
+											componentOf, componentDependencies )
+							);
+							componentStackSize = start;
+						}
+						if ( callStackSize > 0 ) {
+							final int caller = callStack[callStackSize - 1];
+							lowLink[caller] = Math.min( lowLink[caller], lowLink[current] );
+						}
+					}
 				}
 			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
+
+			for ( InsertInfo insertInfo : insertInfos ) {
+				final BitSet dependencies = componentDependencies.get( componentOf[insertInfo.index] );
+				if ( dependencies != null ) {
+					insertInfo.group.dependentEntityNames.or( dependencies );
 				}
 			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
+		}
+
+		private static @Nullable BitSet componentDependencies(
+				InsertInfo[] insertInfos,
+				int[] componentStack,
+				int start,
+				int end,
+				int[] componentOf,
+				List<BitSet> componentDependencies) {
+			final int component = componentOf[componentStack[start]];
+			boolean cyclic = end - start > 1;
+			BitSet dependencies = null;
+			for ( int i = start; i < end; i++ ) {
+				final InsertInfo member = insertInfos[componentStack[i]];
+				if ( member.incomingDependencies != null ) {
+					for ( InsertInfo dependency : member.incomingDependencies ) {
+						final int dependencyComponent = componentOf[dependency.index];
+						if ( dependencyComponent == component ) {
+							cyclic = true;
+						}
+						else {
+							if ( dependencies == null ) {
+								dependencies = new BitSet();
+							}
+							dependencies.set( dependency.group.nameIndex );
+							final BitSet transitive = componentDependencies.get( dependencyComponent );
+							if ( transitive != null ) {
+								dependencies.or( transitive );
+							}
+						}
+					}
+				}
+			}
+			if ( cyclic ) {
+				if ( dependencies == null ) {
+					dependencies = new BitSet();
+				}
+				for ( int i = start; i < end; i++ ) {
+					dependencies.set( insertInfos[componentStack[i]].group.nameIndex );
+				}
+			}
+			return dependencies;
 		}
 
 		public static class EntityInsertGroup {
 			private final String entityName;
+			// The position of this group in the order in which entity names were first encountered
+			private final int nameIndex;
 			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
+			private final BitSet dependentEntityNames = new BitSet();
+			private boolean scheduled;
 
-			public EntityInsertGroup(String entityName) {
+			public EntityInsertGroup(String entityName, int nameIndex) {
 				this.entityName = entityName;
+				this.nameIndex = nameIndex;
 			}
 
-			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
+			private boolean canBeScheduledAfter(BitSet scheduledEntityNames) {
+				for ( int i = dependentEntityNames.nextSetBit( 0 ); i >= 0; i = dependentEntityNames.nextSetBit( i + 1 ) ) {
+					if ( !scheduledEntityNames.get( i ) ) {
+						return false;
 					}
 				}
+				return true;
 			}
 
 			@Override
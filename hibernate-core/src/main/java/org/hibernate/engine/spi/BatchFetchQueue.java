@@ -6,10 +6,14 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -190,6 +194,17 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+	/**
+	 * The number of keys of the given entity type currently waiting to be batch fetched.
+	 */
+	public int getBatchLoadableEntityKeyCount(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		return set == null ? 0 : set.size();
+	}
+
 	/**
 	 * A "collector" form of {@link #getBatchLoadableEntityIds}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -214,12 +229,16 @@ public class BatchFetchQueue {
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final SecondLevelCacheLookahead<EntityKey> cacheLookahead =
+				entityCacheLookahead( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
 		boolean checkForEnd = false;
+		int queuePosition = 0;
 
 		for ( EntityKey key : set ) {
+			final int position = queuePosition++;
 			if ( checkForEnd && batchPosition == end ) {
 				// the first id found after the given id
 				return;
@@ -229,7 +248,7 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( cacheLookahead == null || !cacheLookahead.isCached( position ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -272,7 +291,11 @@ public class BatchFetchQueue {
 		final LinkedHashSet<EntityKey> set =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final SecondLevelCacheLookahead<EntityKey> cacheLookahead =
+					entityCacheLookahead( set, entityDescriptor.getEntityPersister(), maxBatchSize );
+			int queuePosition = 0;
 			for ( EntityKey key : set ) {
+				final int position = queuePosition++;
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
 					return ids;
@@ -283,7 +306,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( cacheLookahead == null || !cacheLookahead.isCached( position ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -301,19 +324,37 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * @return a lookahead over the given queued keys, or {@code null} if the
+	 * second-level cache may not be read
+	 */
+	private @Nullable SecondLevelCacheLookahead<EntityKey> entityCacheLookahead(
+			LinkedHashSet<EntityKey> entityKeys,
+			EntityPersister persister,
+			int batchSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new SecondLevelCacheLookahead<>(
+					entityKeys.iterator(),
+					EntityKey::getIdentifier,
+					ids -> {
+						final Object[] cacheKeys = new Object[ids.length];
+						for ( int i = 0; i < ids.length; i++ ) {
+							cacheKeys[i] = cache.generateCacheKey(
+									ids[i],
+									persister,
+									session.getFactory(),
+									session.getTenantIdentifier()
+							);
+						}
+						return cache.getAll( session, cacheKeys );
+					},
+					hit -> CacheHelper.recordSharedCacheGet( session, persister, cache, hit ),
+					batchSize
 			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
 		}
-		return false;
+		return null;
 	}
 
 
@@ -359,6 +400,18 @@ public class BatchFetchQueue {
 	}
 
 
+	/**
+	 * The number of collections of the given role currently waiting to be batch fetched.
+	 */
+	public int getBatchLoadableCollectionCount(PluralAttributeMapping pluralAttributeMapping) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+				batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+		return map == null ? 0 : map.size();
+	}
+
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -382,11 +435,16 @@ public class BatchFetchQueue {
 			return;
 		}
 
+		final SecondLevelCacheLookahead<Entry<CollectionEntry, PersistentCollection<?>>> cacheLookahead =
+				collectionCacheLookahead( map, pluralAttributeMapping.getCollectionDescriptor(), batchSize );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
+		int queuePosition = 0;
 
 		for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
+			final int position = queuePosition++;
 			final CollectionEntry ce = me.getKey();
 			final Object loadedKey = ce.getLoadedKey();
 			final PersistentCollection<?> collection = me.getValue();
@@ -425,7 +483,7 @@ public class BatchFetchQueue {
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( cacheLookahead == null || !cacheLookahead.isCached( position ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
@@ -469,7 +527,11 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final SecondLevelCacheLookahead<Entry<CollectionEntry, PersistentCollection<?>>> cacheLookahead =
+					collectionCacheLookahead( map, collectionPersister, batchSize );
+			int queuePosition = 0;
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
+				final int position = queuePosition++;
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
 				final PersistentCollection<?> collection = me.getValue();
@@ -503,7 +565,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( cacheLookahead == null || !cacheLookahead.isCached( position ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
@@ -519,19 +581,114 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	/**
+	 * @return a lookahead over the given queued collections, or {@code null} if the
+	 * second-level cache may not be read
+	 */
+	private @Nullable SecondLevelCacheLookahead<Entry<CollectionEntry, PersistentCollection<?>>> collectionCacheLookahead(
+			LinkedHashMap<CollectionEntry, PersistentCollection<?>> collections,
+			CollectionPersister persister,
+			int batchSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new SecondLevelCacheLookahead<>(
+					collections.entrySet().iterator(),
+					// the queue entries which are skipped are not looked up
+					entry -> entry.getValue().wasInitialized() ? null : entry.getKey().getLoadedKey(),
+					collectionKeys -> {
+						final Object[] cacheKeys = new Object[collectionKeys.length];
+						for ( int i = 0; i < collectionKeys.length; i++ ) {
+							cacheKeys[i] = cache.generateCacheKey(
+									collectionKeys[i],
+									persister,
+									session.getFactory(),
+									session.getTenantIdentifier()
+							);
+						}
+						return cache.getAll( session, cacheKeys );
+					},
+					hit -> CacheHelper.recordSharedCacheGet( session, persister, cache, hit ),
+					batchSize
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
 		}
-		return false;
+		return null;
+	}
+
+	/**
+	 * Determines which of the queued entities or collections are held in the
+	 * second-level cache, looking up the keys of a whole batch of queue entries
+	 * in a single call to the cache, ahead of the entry being examined. The get
+	 * from the cache is only recorded for the entries which are examined.
+	 *
+	 * @param <T> the type of the queue entries
+	 */
+	private static final class SecondLevelCacheLookahead<T> {
+		private final Iterator<T> queue;
+		private final Function<T, @Nullable Object> keyExtractor;
+		private final Function<Object[], Object[]> cacheLookup;
+		private final Consumer<Boolean> cacheGetRecorder;
+		private final int chunkSize;
+
+		// whether each of the queue entries from the offset onwards is cached,
+		// or null for the entries which were not looked up
+		private Boolean[] cached = new Boolean[0];
+		private int offset;
+
+		private SecondLevelCacheLookahead(
+				Iterator<T> queue,
+				Function<T, @Nullable Object> keyExtractor,
+				Function<Object[], Object[]> cacheLookup,
+				Consumer<Boolean> cacheGetRecorder,
+				int chunkSize) {
+			this.queue = queue;
+			this.keyExtractor = keyExtractor;
+			this.cacheLookup = cacheLookup;
+			this.cacheGetRecorder = cacheGetRecorder;
+			this.chunkSize = Math.max( chunkSize, 1 );
+		}
+
+		/**
+		 * Is the queue entry at the given position cached?
+		 */
+		boolean isCached(int position) {
+			while ( position >= offset + cached.length ) {
+				if ( !queue.hasNext() ) {
+					return false;
+				}
+				offset += cached.length;
+				cached = lookupNextChunk();
+			}
+			final Boolean hit = cached[position - offset];
+			if ( hit == null ) {
+				return false;
+			}
+			cacheGetRecorder.accept( hit );
+			return hit;
+		}
+
+		private Boolean[] lookupNextChunk() {
+			final Object[] keys = new Object[chunkSize];
+			final int[] keyPositions = new int[chunkSize];
+			int size = 0;
+			int keyCount = 0;
+			while ( size < chunkSize && queue.hasNext() ) {
+				final Object key = keyExtractor.apply( queue.next() );
+				if ( key != null ) {
+					keys[keyCount] = key;
+					keyPositions[keyCount++] = size;
+				}
+				size++;
+			}
+			final Boolean[] chunk = new Boolean[size];
+			if ( keyCount > 0 ) {
+				final Object[] entries = cacheLookup.apply( Arrays.copyOf( keys, keyCount ) );
+				for ( int i = 0; i < keyCount; i++ ) {
+					chunk[keyPositions[i]] = entries[i] != null;
+				}
+			}
+			return chunk;
+		}
 	}
 
 	public SharedSessionContractImplementor getSession() {
@@ -52,14 +52,20 @@ public final class EntityKey implements Serializable {
 			throw new AssertionFailure( "null identifier (" + persister.getEntityName() + ")" );
 		}
 		this.identifier = id;
-		this.hashCode = generateHashCode();
+		this.hashCode = generateHashCode( id, persister );
 	}
 
-	private int generateHashCode() {
+	/**
+	 * Compute the hash code that an {@code EntityKey} for the given identifier
+	 * and persister would have, without instantiating the key.
+	 *
+	 * @see #matches(Object, EntityPersister)
+	 */
+	public static int generateHashCode(Object id, EntityPersister persister) {
 		int result = 17;
 		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
-		result = 37 * result + persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
+		result = 37 * result + persister.getIdentifierType().getHashCode( id, persister.getFactory() );
 		return result;
 	}
 
@@ -98,6 +104,19 @@ public final class EntityKey implements Serializable {
 
 	}
 
+	/**
+	 * Would an {@code EntityKey} for the given identifier and persister be
+	 * {@linkplain #equals equal} to this key?
+	 *
+	 * @see #generateHashCode(Object, EntityPersister)
+	 */
+	public boolean matches(Object id, EntityPersister persister) {
+		return ( this.persister == persister
+					|| this.persister.getRootEntityName().equals( persister.getRootEntityName() ) )
+				&& ( this.identifier == id
+					|| this.persister.getIdentifierType().isEqual( id, this.identifier, this.persister.getFactory() ) );
+	}
+
 	private boolean sameIdentifier(final EntityKey otherKey) {
 		return this.identifier == otherKey.identifier ||
 			persister.getIdentifierType().isEqual( otherKey.identifier, this.identifier, persister.getFactory() );
@@ -173,6 +173,22 @@ public interface PersistenceContext {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier and persister, without
+	 * the need to instantiate an {@link EntityKey}.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The entity persister
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @see #getEntity(EntityKey)
+	 */
+	@Incubating
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -523,6 +539,17 @@ public interface PersistenceContext {
 
 	EntityHolder getEntityHolder(EntityKey key);
 
+	/**
+	 * Get the {@link EntityHolder} for the given identifier and persister,
+	 * without the need to instantiate an {@link EntityKey}.
+	 *
+	 * @see #getEntityHolder(EntityKey)
+	 */
+	@Incubating
+	default EntityHolder getEntityHolder(Object id, EntityPersister persister) {
+		return getEntityHolder( getSession().generateEntityKey( id, persister ) );
+	}
+
 	boolean containsEntityHolder(EntityKey key);
 
 	EntityHolder removeEntityHolder(EntityKey key);
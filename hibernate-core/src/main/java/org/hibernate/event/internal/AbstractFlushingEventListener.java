@@ -209,12 +209,24 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// the CPU-bound part of the dirty check may be done up front, in parallel,
+		// but the listeners are always called sequentially, in the usual order
+		final int parallelThreshold = source.getFactory().getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		final ParallelDirtyChecking parallelDirtyChecking = parallelThreshold > 0 && count >= parallelThreshold
+				? ParallelDirtyChecking.perform(
+						entityEntries,
+						source,
+						source.getFactory().getFastSessionServices().getParallelDirtyCheckingPool()
+				)
+				: null;
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
@@ -222,6 +234,14 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
+				if ( parallelDirtyChecking != null && parallelDirtyChecking.getValues( i ) != null
+						// the status might have changed since the dirty check was done
+						&& status == Status.MANAGED ) {
+					entityEvent.setPrecomputedDirtyCheck(
+							parallelDirtyChecking.getValues( i ),
+							parallelDirtyChecking.getDirtyProperties( i )
+					);
+				}
 
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 				entityEvent.setAllowedToReuse( true );
@@ -0,0 +1,468 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Collection;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * An {@link EventManager} which dispatches every event to several
+ * other event managers, for example, when both JFR and Micrometer
+ * monitoring are available.
+ * <p>
+ * Each event begun by this event manager holds the events begun
+ * by each of the others.
+ */
+public final class CompositeEventManager implements EventManager {
+	private final EventManager[] eventManagers;
+
+	public CompositeEventManager(Collection<EventManager> eventManagers) {
+		this.eventManagers = eventManagers.toArray( new EventManager[0] );
+	}
+
+	private static final class CompositeEvent implements HibernateMonitoringEvent {
+		private final HibernateMonitoringEvent[] events;
+
+		private CompositeEvent(HibernateMonitoringEvent[] events) {
+			this.events = events;
+		}
+	}
+
+	private interface EventBeginner {
+		HibernateMonitoringEvent begin(EventManager eventManager);
+	}
+
+	private interface EventCompleter {
+		void complete(EventManager eventManager, HibernateMonitoringEvent event);
+	}
+
+	private HibernateMonitoringEvent begin(EventBeginner beginner) {
+		HibernateMonitoringEvent[] events = null;
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			final HibernateMonitoringEvent event = beginner.begin( eventManagers[i] );
+			if ( event != null ) {
+				if ( events == null ) {
+					events = new HibernateMonitoringEvent[eventManagers.length];
+				}
+				events[i] = event;
+			}
+		}
+		return events == null ? null : new CompositeEvent( events );
+	}
+
+	private void complete(HibernateMonitoringEvent event, EventCompleter completer) {
+		final HibernateMonitoringEvent[] events = event == null ? null : ( (CompositeEvent) event ).events;
+		for ( int i = 0; i < eventManagers.length; i++ ) {
+			completer.complete( eventManagers[i], events == null ? null : events[i] );
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		return begin( EventManager::beginSessionOpenEvent );
+	}
+
+	@Override
+	public void completeSessionOpenEvent(
+			HibernateMonitoringEvent sessionOpenEvent,
+			SharedSessionContractImplementor session) {
+		complete( sessionOpenEvent, (manager, event) -> manager.completeSessionOpenEvent( event, session ) );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		return begin( EventManager::beginSessionClosedEvent );
+	}
+
+	@Override
+	public void completeSessionClosedEvent(
+			HibernateMonitoringEvent sessionClosedEvent,
+			SharedSessionContractImplementor session) {
+		complete( sessionClosedEvent, (manager, event) -> manager.completeSessionClosedEvent( event, session ) );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionAcquisitionEvent() {
+		return begin( EventManager::beginJdbcConnectionAcquisitionEvent );
+	}
+
+	@Override
+	public void completeJdbcConnectionAcquisitionEvent(
+			HibernateMonitoringEvent jdbcConnectionAcquisitionEvent,
+			SharedSessionContractImplementor session,
+			Object tenantId) {
+		complete(
+				jdbcConnectionAcquisitionEvent,
+				(manager, event) -> manager.completeJdbcConnectionAcquisitionEvent( event, session, tenantId )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionReleaseEvent() {
+		return begin( EventManager::beginJdbcConnectionReleaseEvent );
+	}
+
+	@Override
+	public void completeJdbcConnectionReleaseEvent(
+			HibernateMonitoringEvent jdbcConnectionReleaseEvent,
+			SharedSessionContractImplementor session,
+			Object tenantId) {
+		complete(
+				jdbcConnectionReleaseEvent,
+				(manager, event) -> manager.completeJdbcConnectionReleaseEvent( event, session, tenantId )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent() {
+		return begin( EventManager::beginJdbcPreparedStatementCreationEvent );
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementCreation,
+			String preparedStatementSql) {
+		complete(
+				jdbcPreparedStatementCreation,
+				(manager, event) -> manager.completeJdbcPreparedStatementCreationEvent( event, preparedStatementSql )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementExecutionEvent() {
+		return begin( EventManager::beginJdbcPreparedStatementExecutionEvent );
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementExecutionEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent,
+			String preparedStatementSql) {
+		complete(
+				jdbcPreparedStatementExecutionEvent,
+				(manager, event) -> manager.completeJdbcPreparedStatementExecutionEvent( event, preparedStatementSql )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		return begin( EventManager::beginJdbcBatchExecutionEvent );
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			String statementSql) {
+		complete(
+				jdbcBatchExecutionEvent,
+				(manager, event) -> manager.completeJdbcBatchExecutionEvent( event, statementSql )
+		);
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			int batchSize) {
+		complete(
+				jdbcBatchExecutionEvent,
+				(manager, event) -> manager.completeJdbcBatchExecutionEvent( event, statementSql, batchSize )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		return begin( EventManager::beginCachePutEvent );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		complete(
+				cachePutEvent,
+				(manager, event) -> manager.completeCachePutEvent(
+						event,
+						session,
+						region,
+						cacheContentChanged,
+						description
+				)
+		);
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		complete(
+				cachePutEvent,
+				(manager, event) -> manager.completeCachePutEvent(
+						event,
+						session,
+						cachedDomainDataAccess,
+						persister,
+						cacheContentChanged,
+						description
+				)
+		);
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			boolean isNatualId,
+			CacheActionDescription description) {
+		complete(
+				cachePutEvent,
+				(manager, event) -> manager.completeCachePutEvent(
+						event,
+						session,
+						cachedDomainDataAccess,
+						persister,
+						cacheContentChanged,
+						isNatualId,
+						description
+				)
+		);
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			CollectionPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		complete(
+				cachePutEvent,
+				(manager, event) -> manager.completeCachePutEvent(
+						event,
+						session,
+						cachedDomainDataAccess,
+						persister,
+						cacheContentChanged,
+						description
+				)
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		return begin( EventManager::beginCacheGetEvent );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+		complete( cacheGetEvent, (manager, event) -> manager.completeCacheGetEvent( event, session, region, hit ) );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			EntityPersister persister,
+			boolean isNaturalKey,
+			boolean hit) {
+		complete(
+				cacheGetEvent,
+				(manager, event) -> manager.completeCacheGetEvent( event, session, region, persister, isNaturalKey, hit )
+		);
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			CollectionPersister persister,
+			boolean hit) {
+		complete(
+				cacheGetEvent,
+				(manager, event) -> manager.completeCacheGetEvent( event, session, region, persister, hit )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		return begin( EventManager::beginFlushEvent );
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event) {
+		complete( flushEvent, (manager, monitoringEvent) -> manager.completeFlushEvent( monitoringEvent, event ) );
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event, boolean autoFlush) {
+		complete(
+				flushEvent,
+				(manager, monitoringEvent) -> manager.completeFlushEvent( monitoringEvent, event, autoFlush )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginPartialFlushEvent() {
+		return begin( EventManager::beginPartialFlushEvent );
+	}
+
+	@Override
+	public void completePartialFlushEvent(HibernateMonitoringEvent flushEvent, AutoFlushEvent event) {
+		complete( flushEvent, (manager, monitoringEvent) -> manager.completePartialFlushEvent( monitoringEvent, event ) );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginDirtyCalculationEvent() {
+		return begin( EventManager::beginDirtyCalculationEvent );
+	}
+
+	@Override
+	public void completeDirtyCalculationEvent(
+			HibernateMonitoringEvent dirtyCalculationEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			EntityEntry entry,
+			int[] dirtyProperties) {
+		complete(
+				dirtyCalculationEvent,
+				(manager, event) -> manager.completeDirtyCalculationEvent(
+						event,
+						session,
+						persister,
+						entry,
+						dirtyProperties
+				)
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginRowHydrationEvent() {
+		return begin( EventManager::beginRowHydrationEvent );
+	}
+
+	@Override
+	public void completeRowHydrationEvent(
+			HibernateMonitoringEvent rowHydrationEvent,
+			SharedSessionContractImplementor session,
+			String query,
+			int rowCount) {
+		complete(
+				rowHydrationEvent,
+				(manager, event) -> manager.completeRowHydrationEvent( event, session, query, rowCount )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginHqlParseEvent() {
+		return begin( EventManager::beginHqlParseEvent );
+	}
+
+	@Override
+	public void completeHqlParseEvent(HibernateMonitoringEvent hqlParseEvent, String hql) {
+		complete( hqlParseEvent, (manager, event) -> manager.completeHqlParseEvent( event, hql ) );
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSqmTranslationEvent() {
+		return begin( EventManager::beginSqmTranslationEvent );
+	}
+
+	@Override
+	public void completeSqmTranslationEvent(
+			HibernateMonitoringEvent sqmTranslationEvent,
+			SharedSessionContractImplementor session,
+			String hql,
+			String sql) {
+		complete(
+				sqmTranslationEvent,
+				(manager, event) -> manager.completeSqmTranslationEvent( event, session, hql, sql )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginQueryPlanCacheGetEvent() {
+		return begin( EventManager::beginQueryPlanCacheGetEvent );
+	}
+
+	@Override
+	public void completeQueryPlanCacheGetEvent(
+			HibernateMonitoringEvent queryPlanCacheGetEvent,
+			String query,
+			boolean hit) {
+		complete(
+				queryPlanCacheGetEvent,
+				(manager, event) -> manager.completeQueryPlanCacheGetEvent( event, query, hit )
+		);
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginLazyInitializationEvent() {
+		return begin( EventManager::beginLazyInitializationEvent );
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister) {
+		complete(
+				lazyInitializationEvent,
+				(manager, event) -> manager.completeLazyInitializationEvent( event, session, persister )
+		);
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister) {
+		complete(
+				lazyInitializationEvent,
+				(manager, event) -> manager.completeLazyInitializationEvent( event, session, persister )
+		);
+	}
+
+	@Override
+	public <T extends EventManager> T unwrap(Class<T> type) {
+		if ( type.isInstance( this ) ) {
+			return type.cast( this );
+		}
+		for ( EventManager eventManager : eventManagers ) {
+			final T unwrapped = eventManager.unwrap( type );
+			if ( unwrapped != null ) {
+				return unwrapped;
+			}
+		}
+		return null;
+	}
+}
@@ -44,11 +44,19 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 		try {
 			eventListenerManager.partialFlushStart();
 
-			if ( flushMightBeNeeded( source ) ) {
+			final boolean flushMightBeNeeded = flushMightBeNeeded( source );
+			if ( flushMightBeNeeded && flushIsAvoidable( event, source ) ) {
+				LOG.trace( "No need to flush, no pending change affects the query spaces" );
+				event.setFlushRequired( false );
+			}
+			else if ( flushMightBeNeeded ) {
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
 				final int oldSize = actionQueue.numberOfCollectionRemovals();
+				// like a regular flush, the time of an auto flush includes dirty checking
+				final StatisticsImplementor statistics = source.getFactory().getStatistics();
+				final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0L;
 				flushEverythingToExecutions( event );
 				if ( flushIsReallyNeeded( event, source ) ) {
 					LOG.trace( "Need to execute flush" );
@@ -66,9 +74,11 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 					finally {
 						eventManager.completeFlushEvent( flushEvent, event, true );
 					}
-					final StatisticsImplementor statistics = source.getFactory().getStatistics();
 					if ( statistics.isStatisticsEnabled() ) {
 						statistics.flush();
+						if ( startTime != 0L ) {
+							statistics.flushTime( System.nanoTime() - startTime );
+						}
 					}
 				}
 				else {
@@ -92,6 +102,15 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * When partial auto flush is enabled, check only the entities and collections
+	 * related to the query spaces, instead of flushing everything to executions.
+	 */
+	private boolean flushIsAvoidable(AutoFlushEvent event, final EventSource source) {
+		return QuerySpaceDirtyChecking.isApplicable( source, event.getQuerySpaces() )
+			&& !QuerySpaceDirtyChecking.isFlushNeeded( source, event.getQuerySpaces() );
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
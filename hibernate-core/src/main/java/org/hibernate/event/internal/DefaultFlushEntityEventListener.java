@@ -135,7 +135,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( entity, entry, mightBeDirty, event.getPrecomputedPropertyValues(), session );
 
 		event.setPropertyValues( values );
 
@@ -164,7 +164,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(
+			Object entity,
+			EntityEntry entry,
+			boolean mightBeDirty,
+			Object[] precomputedValues,
+			SessionImplementor session) {
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -177,8 +182,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already extracted ahead of time
+			final Object[] values = precomputedValues == null ? persister.getValues( entity ) : precomputedValues;
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -496,7 +501,15 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				if ( values != null && values == event.getPrecomputedPropertyValues() ) {
+					// the comparison was already done ahead of time, but it's only
+					// good once: an interceptor might still modify the values
+					dirtyProperties = event.getPrecomputedDirtyProperties();
+					event.setPrecomputedDirtyCheck( null, null );
+				}
+				else {
+					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				}
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
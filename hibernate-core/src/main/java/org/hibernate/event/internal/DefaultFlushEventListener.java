@@ -33,6 +33,8 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		final EventManager eventManager = source.getEventManager();
 		if ( persistenceContext.getNumberOfManagedEntities() > 0
 				|| persistenceContext.getCollectionEntriesSize() > 0 ) {
+			final StatisticsImplementor statistics = source.getFactory().getStatistics();
+			final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0L;
 			final HibernateMonitoringEvent flushEvent = eventManager.beginFlushEvent();
 			try {
 				source.getEventListenerManager().flushStart();
@@ -51,9 +53,11 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 
 			postPostFlush( source );
 
-			final StatisticsImplementor statistics = source.getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.flush();
+				if ( startTime != 0L ) {
+					statistics.flushTime( System.nanoTime() - startTime );
+				}
 			}
 		}
 		else if ( source.getActionQueue().hasAnyQueuedActions() ) {
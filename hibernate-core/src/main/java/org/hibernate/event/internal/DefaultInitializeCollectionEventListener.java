@@ -9,12 +9,15 @@ package org.hibernate.event.internal;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.SingleFlightLoads;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.InitializeCollectionEvent;
 import org.hibernate.event.spi.InitializeCollectionEventListener;
 import org.hibernate.internal.CoreLogging;
@@ -54,30 +57,101 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				LOG.trace( "Checking second-level cache" );
 			}
 
-			final boolean foundInCache = initializeCollectionFromCache( loadedKey, loadedPersister, collection, source );
-			if ( foundInCache ) {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized from cache" );
-				}
+			final EventManager eventManager = source.getEventManager();
+			final HibernateMonitoringEvent lazyInitializationEvent = eventManager.beginLazyInitializationEvent();
+			try {
+				initializeCollection( collection, source, loadedPersister, loadedKey, ce );
+			}
+			finally {
+				eventManager.completeLazyInitializationEvent( lazyInitializationEvent, source, loadedPersister );
+			}
+		}
+	}
+
+	private void initializeCollection(
+			PersistentCollection<?> collection,
+			SessionImplementor source,
+			CollectionPersister loadedPersister,
+			Object loadedKey,
+			CollectionEntry ce) {
+		final boolean foundInCache = initializeCollectionFromCache( loadedKey, loadedPersister, collection, source );
+		if ( foundInCache ) {
+			if ( LOG.isTraceEnabled() ) {
+				LOG.trace( "Collection initialized from cache" );
+			}
+		}
+		else {
+			if ( LOG.isTraceEnabled() ) {
+				LOG.trace( "Collection not cached" );
+			}
+			final SingleFlightLoads singleFlightLoads = getSingleFlightLoads( loadedPersister, source );
+			if ( singleFlightLoads == null ) {
+				initializeCollectionFromDatasource( loadedKey, loadedPersister, collection, ce, source );
 			}
 			else {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection not cached" );
+				final Object cacheKey = loadedPersister.getCacheAccessStrategy().generateCacheKey(
+						loadedKey,
+						loadedPersister,
+						source.getFactory(),
+						source.getTenantIdentifier()
+				);
+				if ( singleFlightLoads.beginLoad( cacheKey ) ) {
+					try {
+						initializeCollectionFromDatasource( loadedKey, loadedPersister, collection, ce, source );
+					}
+					finally {
+						singleFlightLoads.endLoad( cacheKey );
+					}
 				}
-				loadedPersister.initialize( loadedKey, source );
-				handlePotentiallyEmptyCollection( collection, source, ce, loadedPersister );
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized" );
+				else if ( initializeCollectionFromCache( loadedKey, loadedPersister, collection, source ) ) {
+					if ( LOG.isTraceEnabled() ) {
+						LOG.trace( "Collection initialized from cache after concurrent load" );
+					}
 				}
-
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+				else {
+					initializeCollectionFromDatasource( loadedKey, loadedPersister, collection, ce, source );
 				}
 			}
 		}
 	}
 
+	private void initializeCollectionFromDatasource(
+			Object loadedKey,
+			CollectionPersister loadedPersister,
+			PersistentCollection<?> collection,
+			CollectionEntry ce,
+			SessionImplementor source) {
+		final StatisticsImplementor statistics = source.getFactory().getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0L;
+
+		loadedPersister.initialize( loadedKey, source );
+		handlePotentiallyEmptyCollection( collection, source, ce, loadedPersister );
+		if ( LOG.isTraceEnabled() ) {
+			LOG.trace( "Collection initialized" );
+		}
+
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.fetchCollection( loadedPersister.getRole() );
+			if ( startTime != 0L ) {
+				statistics.collectionFetchTime( loadedPersister.getRole(), System.nanoTime() - startTime );
+			}
+		}
+	}
+
+	private static SingleFlightLoads getSingleFlightLoads(CollectionPersister persister, SessionImplementor source) {
+		if ( persister.hasCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& source.getCacheMode().isPutEnabled()
+				&& !( source.getLoadQueryInfluencers().hasEnabledFilters()
+						&& persister.isAffectedByEnabledFilters( source ) ) ) {
+			return source.getFactory().getCache()
+					.getSingleFlightLoads( persister.getCacheAccessStrategy().getRegion().getName() );
+		}
+		else {
+			return null;
+		}
+	}
+
 	private void handlePotentiallyEmptyCollection(
 			PersistentCollection<?> collection,
 			SessionImplementor source,
@@ -145,6 +219,10 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 
 		final CollectionCacheEntry cacheEntry = (CollectionCacheEntry)
 				persister.getCacheEntryStructure().destructure( ce, factory );
+		if ( cacheEntry == null ) {
+			// the cached entry was written for an incompatible mapping
+			return false;
+		}
 
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
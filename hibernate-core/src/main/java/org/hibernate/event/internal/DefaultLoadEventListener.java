@@ -15,6 +15,7 @@ import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.SingleFlightLoads;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -587,7 +588,68 @@ public class DefaultLoadEventListener implements LoadEventListener {
 						infoString( persister, event.getEntityId(), event.getSession().getFactory() )
 				);
 			}
-			return loadFromDatasource( event, persister );
+			final SingleFlightLoads singleFlightLoads = getSingleFlightLoads( event, persister );
+			return singleFlightLoads == null
+					? loadFromDatasource( event, persister )
+					: loadFromDatasource( event, persister, keyToLoad, singleFlightLoads );
+		}
+	}
+
+	/**
+	 * Load the entity from the datasource, unless another session is concurrently
+	 * loading it, in which case wait for that load, and then look in the second-level
+	 * cache again.
+	 */
+	private Object loadFromDatasource(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad,
+			SingleFlightLoads singleFlightLoads) {
+		final EventSource session = event.getSession();
+		final Object cacheKey = persister.getCacheAccessStrategy().generateCacheKey(
+				event.getEntityId(),
+				persister,
+				session.getFactory(),
+				session.getTenantIdentifier()
+		);
+		if ( singleFlightLoads.beginLoad( cacheKey ) ) {
+			try {
+				return loadFromDatasource( event, persister );
+			}
+			finally {
+				singleFlightLoads.endLoad( cacheKey );
+			}
+		}
+		else {
+			final Object entity =
+					CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
+			if ( entity != null ) {
+				if ( LOG.isTraceEnabled() ) {
+					LOG.tracev(
+							"Resolved object in second-level cache after concurrent load: {0}",
+							infoString( persister, event.getEntityId(), session.getFactory() )
+					);
+				}
+				return entity;
+			}
+			else {
+				return loadFromDatasource( event, persister );
+			}
+		}
+	}
+
+	private static SingleFlightLoads getSingleFlightLoads(LoadEvent event, EntityPersister persister) {
+		final EventSource session = event.getSession();
+		if ( persister.canReadFromCache()
+				&& persister.canWriteToCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& session.getCacheMode().isPutEnabled()
+				&& event.getLockMode().lessThan( LockMode.READ ) ) {
+			return session.getFactory().getCache()
+					.getSingleFlightLoads( persister.getCacheAccessStrategy().getRegion().getName() );
+		}
+		else {
+			return null;
 		}
 	}
 
@@ -601,6 +663,9 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 * @return The object loaded from the datasource, or null if not found.
 	 */
 	protected Object loadFromDatasource(final LoadEvent event, final EntityPersister persister) {
+		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0L;
+
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -620,9 +685,13 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			entity = lazyInitializer.getImplementation();
 		}
 
-		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( event.isAssociationFetch() ) {
+				statistics.fetchEntity( event.getEntityClassName() );
+			}
+			if ( startTime != 0L ) {
+				statistics.entityFetchTime( persister.getEntityName(), System.nanoTime() - startTime );
+			}
 		}
 
 		return entity;
@@ -19,6 +19,8 @@ import org.hibernate.persister.entity.EntityPersister;
 
 public final class EmptyEventManager implements EventManager {
 
+	public static final EmptyEventManager INSTANCE = new EmptyEventManager();
+
 	@Override
 	public HibernateMonitoringEvent beginSessionOpenEvent() {
 		return null;
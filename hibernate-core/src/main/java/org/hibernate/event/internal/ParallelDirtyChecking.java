@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Extracts the current property values of the managed entities, and compares
+ * them against their loaded state, across the threads of the dedicated
+ * {@link ForkJoinPool} of the session factory at the start of the flush.
+ * <p>
+ * Only the CPU-bound part of the dirty check is done here: the results are
+ * handed to the {@link org.hibernate.event.spi.FlushEntityEventListener}s via
+ * {@link org.hibernate.event.spi.FlushEntityEvent#setPrecomputedDirtyCheck},
+ * which are still fired one entity after the other on the calling thread, so
+ * that actions get scheduled in a deterministic order.
+ * <p>
+ * An entity is considered only when its dirty check cannot touch the session,
+ * that is, when it is neither enhanced nor a collection owner, and all its
+ * attributes are basic values, or embeddables of basic values. Nothing is
+ * precomputed when anything called back during the flush might modify another
+ * entity.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyChecking {
+
+	/**
+	 * The number of entities below which a task is not split any further
+	 */
+	private static final int SEQUENTIAL_THRESHOLD = 256;
+
+	private final Object[][] values;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyChecking(int count) {
+		values = new Object[count][];
+		dirtyProperties = new int[count][];
+	}
+
+	/**
+	 * The property values of the entity at the given position, or {@code null}
+	 * if it was not eligible for parallel dirty checking.
+	 */
+	Object[] getValues(int position) {
+		return values[position];
+	}
+
+	int[] getDirtyProperties(int position) {
+		return dirtyProperties[position];
+	}
+
+	/**
+	 * Perform the dirty check of the eligible entities using the given pool, or
+	 * return {@code null} if the session has an interceptor, entity callbacks, or
+	 * flush entity listeners which might modify the state of an entity while the
+	 * flush of another entity is processed, since the precomputed result would
+	 * then be stale.
+	 */
+	static ParallelDirtyChecking perform(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			EventSource session,
+			ForkJoinPool pool) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE
+				|| hasCustomListeners( factory.getFastSessionServices().eventListenerGroup_FLUSH_ENTITY ) ) {
+			return null;
+		}
+		final CallbackRegistry callbackRegistry = factory.getEventEngine().getCallbackRegistry();
+		final int count = entityEntries.length;
+		// determine the eligible entries on the calling thread
+		final int[] eligible = new int[count];
+		int eligibleCount = 0;
+		final Map<EntityPersister, Boolean> eligiblePersisters = new IdentityHashMap<>();
+		for ( int i = 0; i < count; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			if ( entry.getStatus() == Status.MANAGED ) {
+				final EntityPersister persister = entry.getPersister();
+				Boolean eligiblePersister = eligiblePersisters.get( persister );
+				if ( eligiblePersister == null ) {
+					if ( callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE ) ) {
+						return null;
+					}
+					eligiblePersister = isEligible( persister );
+					eligiblePersisters.put( persister, eligiblePersister );
+				}
+				if ( eligiblePersister
+						&& entry.getLoadedState() != null
+						&& !isPersistentAttributeInterceptable( entity )
+						&& !isSelfDirtinessTracker( entity )
+						&& entry.requiresDirtyCheck( entity ) ) {
+					eligible[eligibleCount++] = i;
+				}
+			}
+		}
+		final ParallelDirtyChecking result = new ParallelDirtyChecking( count );
+		if ( eligibleCount > 0 ) {
+			pool.invoke( new DirtyCheckTask( result, entityEntries, eligible, 0, eligibleCount, session ) );
+		}
+		return result;
+	}
+
+	private static boolean hasCustomListeners(EventListenerGroup<FlushEntityEventListener> listeners) {
+		for ( FlushEntityEventListener listener : listeners.listeners() ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isEligible(EntityPersister persister) {
+		if ( persister.hasCollections() ) {
+			return false;
+		}
+		for ( Type type : persister.getPropertyTypes() ) {
+			if ( !isEligible( type ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isEligible(Type type) {
+		if ( type instanceof BasicType ) {
+			return true;
+		}
+		else if ( type instanceof ComponentType ) {
+			for ( Type subtype : ( (ComponentType) type ).getSubtypes() ) {
+				if ( !isEligible( subtype ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static class DirtyCheckTask extends RecursiveAction {
+		private final ParallelDirtyChecking result;
+		private final Map.Entry<Object, EntityEntry>[] entityEntries;
+		private final int[] positions;
+		private final int from;
+		private final int to;
+		private final SharedSessionContractImplementor session;
+
+		private DirtyCheckTask(
+				ParallelDirtyChecking result,
+				Map.Entry<Object, EntityEntry>[] entityEntries,
+				int[] positions,
+				int from,
+				int to,
+				SharedSessionContractImplementor session) {
+			this.result = result;
+			this.entityEntries = entityEntries;
+			this.positions = positions;
+			this.from = from;
+			this.to = to;
+			this.session = session;
+		}
+
+		@Override
+		protected void compute() {
+			if ( to - from <= SEQUENTIAL_THRESHOLD ) {
+				for ( int i = from; i < to; i++ ) {
+					final int position = positions[i];
+					final Object entity = entityEntries[position].getKey();
+					final EntityEntry entry = entityEntries[position].getValue();
+					final EntityPersister persister = entry.getPersister();
+					final Object[] values = persister.getValues( entity );
+					result.dirtyProperties[position] =
+							persister.findDirty( values, entry.getLoadedState(), entity, session );
+					result.values[position] = values;
+				}
+			}
+			else {
+				final int middle = ( from + to ) >>> 1;
+				invokeAll(
+						new DirtyCheckTask( result, entityEntries, positions, from, middle, session ),
+						new DirtyCheckTask( result, entityEntries, positions, middle, to, session )
+				);
+			}
+		}
+	}
+}
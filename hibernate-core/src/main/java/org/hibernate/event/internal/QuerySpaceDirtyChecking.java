@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.FlushMode;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Determines whether the pending changes of a session might affect the
+ * result of a query, by dirty checking only the entities and collections
+ * which are mapped to, or associated with, the tables the query reads from.
+ * <p>
+ * This is much cheaper than a full flush to the action queue when the query
+ * reads tables unrelated to the entities modified in the session. Since a
+ * flush cascades from the modified entities, a change to an entity with
+ * cascades, or to a collection it owns, is always considered relevant. When
+ * this check detects a relevant change, the usual full flush is performed, so that
+ * the statements are still executed in an order respecting foreign keys.
+ * Otherwise, nothing is flushed, and the changes to other tables are deferred
+ * to the next flush.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARTIAL_AUTO_FLUSH
+ */
+final class QuerySpaceDirtyChecking {
+
+	private final EventSource session;
+	private final Set<String> querySpaces;
+	private final MappingMetamodelImplementor mappingMetamodel;
+	private final Map<EntityPersister, Boolean> relevantEntities = new IdentityHashMap<>();
+	private final Map<String, Boolean> relevantCollections = new HashMap<>();
+
+	private QuerySpaceDirtyChecking(EventSource session, Set<String> querySpaces) {
+		this.session = session;
+		this.querySpaces = querySpaces;
+		this.mappingMetamodel = session.getFactory().getMappingMetamodel();
+	}
+
+	/**
+	 * Can the decision to flush be made by looking at the given query spaces only?
+	 */
+	static boolean isApplicable(EventSource session, Set<String> querySpaces) {
+		return session.getFactory().getSessionFactoryOptions().isPartialAutoFlushEnabled()
+				&& session.getHibernateFlushMode() != FlushMode.ALWAYS
+				&& querySpaces != null && !querySpaces.isEmpty()
+				// interceptors and custom dirtiness strategies might see changes the persister would not
+				&& session.getInterceptor() == EmptyInterceptor.INSTANCE
+				&& session.getFactory().getCustomEntityDirtinessStrategy() == DefaultCustomEntityDirtinessStrategy.INSTANCE;
+	}
+
+	/**
+	 * Is there any pending change, either already queued or to be found by
+	 * dirty checking, which affects the given query spaces?
+	 */
+	static boolean isFlushNeeded(EventSource session, Set<String> querySpaces) {
+		return session.getActionQueue().areTablesToBeUpdated( querySpaces )
+			|| new QuerySpaceDirtyChecking( session, querySpaces ).hasRelevantChanges();
+	}
+
+	private boolean hasRelevantChanges() {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( Map.Entry<Object, EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+			final EntityEntry entry = me.getValue();
+			if ( entry.getStatus() == Status.MANAGED ) {
+				final EntityPersister persister = entry.getPersister();
+				// a change to an entity with cascades might make the flush reach
+				// new entities mapped to any table, through the cascades
+				if ( ( isRelevant( persister ) || persister.hasCascades() )
+						&& isDirty( me.getKey(), entry ) ) {
+					return true;
+				}
+			}
+		}
+		for ( Map.Entry<PersistentCollection<?>, CollectionEntry> me :
+				persistenceContext.getCollectionEntries().entrySet() ) {
+			final CollectionEntry entry = me.getValue();
+			final CollectionPersister persister = entry.getLoadedPersister();
+			if ( persister == null ) {
+				// a new collection, or one that was dereferenced: we can't tell
+				return true;
+			}
+			else if ( ( isRelevant( persister ) || persister.getOwnerEntityPersister().hasCascades() )
+					&& me.getKey().isDirty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isDirty(Object entity, EntityEntry entry) {
+		if ( !entry.requiresDirtyCheck( entity ) ) {
+			return false;
+		}
+		final Object[] loadedState = entry.getLoadedState();
+		if ( loadedState == null ) {
+			return true;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final Object[] values = persister.getValues( entity );
+		if ( persister.findDirty( values, loadedState, entity, session ) != null ) {
+			return true;
+		}
+		if ( persister.hasCollections() ) {
+			// a collection reference replaced by a new collection
+			final Type[] types = persister.getPropertyTypes();
+			for ( int i = 0; i < types.length; i++ ) {
+				if ( types[i].isCollectionType() && values[i] != loadedState[i] ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean isRelevant(EntityPersister persister) {
+		Boolean relevant = relevantEntities.get( persister );
+		if ( relevant == null ) {
+			relevant = intersects( persister.getPropertySpaces() ) || hasRelevantAttribute( persister );
+			relevantEntities.put( persister, relevant );
+		}
+		return relevant;
+	}
+
+	private boolean hasRelevantAttribute(EntityPersister persister) {
+		for ( Type type : persister.getPropertyTypes() ) {
+			if ( isRelevant( type ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isRelevant(CollectionPersister persister) {
+		final String role = persister.getRole();
+		Boolean relevant = relevantCollections.get( role );
+		if ( relevant == null ) {
+			relevant = intersects( persister.getCollectionSpaces() )
+					|| isRelevantAssociation( persister.getElementType() );
+			relevantCollections.put( role, relevant );
+		}
+		return relevant;
+	}
+
+	private boolean isRelevant(Type type) {
+		if ( type.isCollectionType() ) {
+			return isRelevant( mappingMetamodel.getCollectionDescriptor( ( (CollectionType) type ).getRole() ) );
+		}
+		else if ( type.isEntityType() ) {
+			return isRelevantAssociation( type );
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( isRelevant( subtype ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+		else {
+			// any other association might refer to anything
+			return type.isAssociationType();
+		}
+	}
+
+	private boolean isRelevantAssociation(Type type) {
+		if ( type.isEntityType() ) {
+			final String associatedEntityName = ( (EntityType) type ).getAssociatedEntityName();
+			return intersects( mappingMetamodel.getEntityDescriptor( associatedEntityName ).getQuerySpaces() );
+		}
+		else {
+			return type.isComponentType() && isRelevant( type );
+		}
+	}
+
+	private boolean intersects(Serializable[] spaces) {
+		for ( Serializable space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -72,6 +72,19 @@ public interface EventManager {
 			HibernateMonitoringEvent jdbcBatchExecutionEvent,
 			String statementSql);
 
+	/**
+	 * Complete a JDBC batch execution event, reporting the number of
+	 * statements in the batch.
+	 *
+	 * @since 6.5
+	 */
+	default void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			int batchSize) {
+		completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, statementSql );
+	}
+
 	HibernateMonitoringEvent beginCachePutEvent();
 
 	void completeCachePutEvent(
@@ -155,6 +168,147 @@ public interface EventManager {
 			EntityEntry entry,
 			int[] dirtyProperties);
 
+	/**
+	 * Begin an event covering the hydration of the rows of the results
+	 * of a query, from a JDBC {@code ResultSet} or the query cache.
+	 *
+	 * @since 6.5
+	 */
+	default HibernateMonitoringEvent beginRowHydrationEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete a row hydration event.
+	 *
+	 * @param query the query string, or the SQL, identifying the query
+	 * @param rowCount the number of rows returned, or {@code -1} if the
+	 *                 results are not all read at once, for example, when
+	 *                 they are {@linkplain org.hibernate.query.Query#scroll
+	 *                 scrolled}
+	 *
+	 * @since 6.5
+	 */
+	default void completeRowHydrationEvent(
+			HibernateMonitoringEvent rowHydrationEvent,
+			SharedSessionContractImplementor session,
+			String query,
+			int rowCount) {
+	}
+
+	/**
+	 * Begin an event covering the parsing of an HQL query string and
+	 * its interpretation as an SQM tree.
+	 *
+	 * @since 6.5
+	 */
+	default HibernateMonitoringEvent beginHqlParseEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete an HQL parse event.
+	 *
+	 * @param hql the HQL query string
+	 *
+	 * @since 6.5
+	 */
+	default void completeHqlParseEvent(HibernateMonitoringEvent hqlParseEvent, String hql) {
+	}
+
+	/**
+	 * Begin an event covering the translation of an SQM tree to SQL.
+	 *
+	 * @since 6.5
+	 */
+	default HibernateMonitoringEvent beginSqmTranslationEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete an SQM translation event.
+	 *
+	 * @param hql the HQL query string
+	 * @param sql the resulting SQL
+	 *
+	 * @since 6.5
+	 */
+	default void completeSqmTranslationEvent(
+			HibernateMonitoringEvent sqmTranslationEvent,
+			SharedSessionContractImplementor session,
+			String hql,
+			String sql) {
+	}
+
+	/**
+	 * Begin an event covering a lookup in the query plan cache.
+	 *
+	 * @since 6.5
+	 */
+	default HibernateMonitoringEvent beginQueryPlanCacheGetEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete a query plan cache lookup event.
+	 *
+	 * @param query the query string
+	 * @param hit whether a cached plan or interpretation was found
+	 *
+	 * @since 6.5
+	 */
+	default void completeQueryPlanCacheGetEvent(
+			HibernateMonitoringEvent queryPlanCacheGetEvent,
+			String query,
+			boolean hit) {
+	}
+
+	/**
+	 * Begin an event covering the initialization of a lazy entity proxy
+	 * or of a lazy collection.
+	 *
+	 * @since 6.5
+	 */
+	default HibernateMonitoringEvent beginLazyInitializationEvent() {
+		return null;
+	}
+
+	/**
+	 * Complete the initialization event of an entity proxy.
+	 *
+	 * @since 6.5
+	 */
+	default void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister) {
+	}
+
+	/**
+	 * Complete the initialization event of a collection.
+	 *
+	 * @since 6.5
+	 */
+	default void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister) {
+	}
+
+	/**
+	 * This event manager, if it is an instance of the given type, or, if this
+	 * event manager dispatches events to several others, the first of them of
+	 * the given type.
+	 *
+	 * @return the event manager of the given type, or {@code null} if there
+	 *         is none
+	 *
+	 * @since 6.5
+	 */
+	default <T extends EventManager> T unwrap(Class<T> type) {
+		return type.isInstance( this ) ? type.cast( this ) : null;
+	}
+
 
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
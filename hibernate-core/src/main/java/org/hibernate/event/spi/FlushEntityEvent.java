@@ -21,6 +21,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
 
@@ -79,6 +81,34 @@ public class FlushEntityEvent extends AbstractEvent {
 		return entity;
 	}
 
+	/**
+	 * The current property values of the entity, if they were already extracted
+	 * ahead of the processing of this event, or {@code null}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * The result of comparing the {@linkplain #getPrecomputedPropertyValues() precomputed
+	 * property values} against the loaded state of the entity.
+	 */
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
+	/**
+	 * Supply the current property values of the entity, along with the result of
+	 * comparing them against its loaded state, when the dirty check was performed
+	 * ahead of the processing of this event.
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -102,6 +132,8 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
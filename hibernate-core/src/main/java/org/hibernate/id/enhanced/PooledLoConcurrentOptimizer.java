@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} for many concurrent inserting threads.
+ * <p>
+ * Values are handed out of the current pool by an atomic increment, without any lock,
+ * and a lock is only acquired to switch to the next pool. The thread obtaining the value
+ * at 80% of the current pool fetches the next pool ahead of time, so that the switch
+ * rarely has to wait for the database. Unlike {@link PooledLoThreadLocalOptimizer}, pools
+ * are shared by all threads, and so are not wasted when there are many short-lived
+ * threads, such as virtual threads.
+ * <p>
+ * The next pool is fetched by a thread generating a value, through its own
+ * {@link AccessCallback}, since the callback is bound to the session of that thread.
+ * At most one pool beyond the current one is fetched.
+ *
+ * @see PooledLoOptimizer
+ *
+ * @since 6.5
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private final long prefetchIndex;
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledLoConcurrentOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		// a pool of a single value is never fetched ahead of time
+		this.prefetchIndex = incrementSize > 1 ? incrementSize * 4L / 5 : -1;
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		return locateGenerationState( callback.getTenantIdentifier() ).generate( callback );
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * A pool of values, handed out from its lo value.
+	 */
+	private static class Pool {
+		// value read from db source
+		private final IntegralDataTypeHolder sourceValue;
+		// index of the next value to hand out
+		private final AtomicLong nextIndex;
+
+		private Pool(IntegralDataTypeHolder sourceValue) {
+			this.sourceValue = sourceValue;
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			final IntegralDataTypeHolder value = sourceValue.copy();
+			long firstIndex = 0;
+			while ( value.lt( 1 ) ) {
+				value.increment();
+				firstIndex++;
+			}
+			this.nextIndex = new AtomicLong( firstIndex );
+		}
+
+		private Serializable valueAt(long index) {
+			return sourceValue.copy().add( index ).makeValue();
+		}
+	}
+
+	private class GenerationState {
+		private final Lock lock = new ReentrantLock();
+		private volatile Pool currentPool;
+		// guarded by lock
+		private Pool nextPool;
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private Serializable generate(AccessCallback callback) {
+			while ( true ) {
+				final Pool pool = currentPool;
+				if ( pool != null ) {
+					final long index = pool.nextIndex.getAndIncrement();
+					if ( index < incrementSize ) {
+						if ( index == prefetchIndex ) {
+							fetchNextPool( callback );
+						}
+						return pool.valueAt( index );
+					}
+				}
+				switchPool( pool, callback );
+			}
+		}
+
+		private void switchPool(Pool exhaustedPool, AccessCallback callback) {
+			lock.lock();
+			try {
+				// another thread may already have switched to the next pool
+				if ( currentPool == exhaustedPool ) {
+					if ( nextPool == null ) {
+						currentPool = fetchPool( callback );
+					}
+					else {
+						currentPool = nextPool;
+						nextPool = null;
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void fetchNextPool(AccessCallback callback) {
+			// if another thread is switching pools, the next pool is fetched when the current one is exhausted
+			if ( lock.tryLock() ) {
+				try {
+					if ( nextPool == null ) {
+						nextPool = fetchPool( callback );
+					}
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+
+		private Pool fetchPool(AccessCallback callback) {
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			lastSourceValue = sourceValue;
+			return new Pool( sourceValue.copy() );
+		}
+	}
+}
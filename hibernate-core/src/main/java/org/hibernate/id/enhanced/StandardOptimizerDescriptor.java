@@ -44,7 +44,15 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the lo value is stored in the database, and values are handed out
+	 * without locking, for many concurrent threads.
+	 *
+	 * @since 6.5
+	 */
+	POOLED_LO_CONCURRENT;
 
 	@Override
 	public String getExternalName() {
@@ -61,6 +69,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_LO_CONCURRENT:
+				return "pooled-lo-concurrent";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -80,6 +90,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_LO_CONCURRENT:
+				return PooledLoConcurrentOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -94,6 +106,7 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_LO_CONCURRENT:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
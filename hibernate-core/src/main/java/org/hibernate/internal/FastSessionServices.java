@@ -10,6 +10,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -19,12 +21,15 @@ import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PgJdbcHelper;
+import org.hibernate.dialect.PostgreSQLDialect;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.internal.CompositeEventManager;
 import org.hibernate.event.internal.EmptyEventManager;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -188,6 +193,8 @@ public final class FastSessionServices {
 	private final MutationExecutorService mutationExecutorService;
 	private final JdbcValuesMappingProducerProvider jdbcValuesMappingProducerProvider;
 	private final EventManager eventManager;
+	private final ForkJoinPool parallelDirtyCheckingPool;
+	private final BatchBuilder bulkInsertBatchBuilder;
 
 	FastSessionServices(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
@@ -273,10 +280,33 @@ public final class FastSessionServices {
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = serviceRegistry.getService( BatchBuilder.class );
+		this.bulkInsertBatchBuilder = dialect instanceof PostgreSQLDialect && PgJdbcHelper.isUsable( serviceRegistry )
+				? PgJdbcHelper.getCopyBatchBuilder( serviceRegistry, batchBuilder )
+				: null;
 		final Collection<EventManager> eventManagers = classLoaderService.loadJavaServices( EventManager.class );
-		this.eventManager = eventManagers.isEmpty()
-				? new EmptyEventManager()
-				: eventManagers.iterator().next();
+		if ( eventManagers.isEmpty() ) {
+			this.eventManager = new EmptyEventManager();
+		}
+		else if ( eventManagers.size() == 1 ) {
+			this.eventManager = eventManagers.iterator().next();
+		}
+		else {
+			this.eventManager = new CompositeEventManager( eventManagers );
+		}
+		this.parallelDirtyCheckingPool = sessionFactoryOptions.getParallelDirtyCheckingThreshold() > 0
+				? new ForkJoinPool(
+						sessionFactoryOptions.getParallelDirtyCheckingParallelism(),
+						FastSessionServices::newDirtyCheckingThread,
+						null,
+						false
+				)
+				: null;
+	}
+
+	private static ForkJoinWorkerThread newDirtyCheckingThread(ForkJoinPool pool) {
+		final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+		thread.setName( "hibernate-dirty-check-" + thread.getPoolIndex() );
+		return thread;
 	}
 
 	private static FlushMode initializeDefaultFlushMode(Map<String, Object> defaultSessionProperties) {
@@ -389,6 +419,24 @@ public final class FastSessionServices {
 		return eventManager;
 	}
 
+	/**
+	 * The pool of threads used for parallel dirty checking at flush time, or
+	 * {@code null} if it is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	public ForkJoinPool getParallelDirtyCheckingPool() {
+		return parallelDirtyCheckingPool;
+	}
+
+	/**
+	 * The {@link BatchBuilder} used by {@link org.hibernate.StatelessSession#bulkInsert},
+	 * or {@code null} if the database offers nothing better than batching.
+	 */
+	public BatchBuilder getBulkInsertBatchBuilder() {
+		return bulkInsertBatchBuilder;
+	}
+
 	public boolean useStreamForLobBinding() {
 		return useStreamForLobBinding;
 	}
@@ -428,4 +476,10 @@ public final class FastSessionServices {
 		return mutationExecutorService;
 	}
 
+	void close() {
+		if ( parallelDirtyCheckingPool != null ) {
+			parallelDirtyCheckingPool.shutdown();
+		}
+	}
+
 }
@@ -949,6 +949,9 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			if ( eventEngine != null ) {
 				eventEngine.stop();
 			}
+			if ( fastSessionServices != null ) {
+				fastSessionServices.close();
+			}
 		}
 		finally {
 			status = Status.CLOSED;
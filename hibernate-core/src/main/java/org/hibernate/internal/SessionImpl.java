@@ -222,6 +222,8 @@ public class SessionImpl
 
 	private transient TransactionObserver transactionObserver;
 
+	private transient long transactionStartTime;
+
 	// TODO: this is unused and can be removed
 	private transient boolean isEnforcingFetchGraph;
 
@@ -1038,12 +1040,26 @@ public class SessionImpl
 					.getEntityDescriptor( entityName );
 			log.debugf( "Initializing proxy: %s", MessageHelper.infoString( persister, id, getFactory() ) );
 		}
-		LoadEvent event = loadEvent;
-		loadEvent = null;
-		event = recycleEventInstance( event, id, entityName );
-		fireLoadNoChecks( event, IMMEDIATE_LOAD );
-		final Object result = event.getResult();
-		finishWithEventInstance( event );
+		final EventManager eventManager = getEventManager();
+		final HibernateMonitoringEvent lazyInitializationEvent = eventManager.beginLazyInitializationEvent();
+		final Object result;
+		try {
+			LoadEvent event = loadEvent;
+			loadEvent = null;
+			event = recycleEventInstance( event, id, entityName );
+			fireLoadNoChecks( event, IMMEDIATE_LOAD );
+			result = event.getResult();
+			finishWithEventInstance( event );
+		}
+		finally {
+			if ( lazyInitializationEvent != null ) {
+				eventManager.completeLazyInitializationEvent(
+						lazyInitializationEvent,
+						this,
+						getFactory().getMappingMetamodel().getEntityDescriptor( entityName )
+				);
+			}
+		}
 		final LazyInitializer lazyInitializer = extractLazyInitializer( result );
 		return lazyInitializer != null ? lazyInitializer.getImplementation() : result;
 	}
@@ -1990,7 +2006,11 @@ public class SessionImpl
 		final StatisticsImplementor statistics = getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.endTransaction( successful );
+			if ( transactionStartTime != 0L ) {
+				statistics.transactionTime( System.nanoTime() - transactionStartTime );
+			}
 		}
+		transactionStartTime = 0L;
 
 		try {
 			getInterceptor().afterTransactionCompletion( getTransactionIfAccessible() );
@@ -2295,6 +2315,7 @@ public class SessionImpl
 	@Override
 	public void afterTransactionBegin() {
 		checkOpenOrWaitingForAutoClose();
+		transactionStartTime = getFactory().getStatistics().isStatisticsEnabled() ? System.nanoTime() : 0L;
 		getInterceptor().afterTransactionBegin( getTransactionIfAccessible() );
 	}
 
@@ -6,12 +6,15 @@
  */
 package org.hibernate.internal;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.TransientObjectException;
@@ -21,6 +24,7 @@ import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
@@ -36,9 +40,11 @@ import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import jakarta.persistence.EntityGraph;
@@ -71,10 +77,18 @@ import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The JDBC batch size used by the {@code xxxMultiple()} operations when
+	 * batching is not otherwise enabled
+	 */
+	private static final int DEFAULT_MULTIPLE_BATCH_SIZE = 100;
+
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
 	private final boolean connectionProvided;
 
+	private transient JdbcSessionContext bulkInsertJdbcSessionContext;
+
 	public StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
 		connectionProvided = options.getConnection() != null;
@@ -120,6 +134,53 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		performMultiple( entities, entity -> insert( null, entity ) );
+	}
+
+	@Override
+	public void insertMultiple(String entityName, List<?> entities) {
+		checkOpen();
+		performMultiple( entities, entity -> insert( entityName, entity ) );
+	}
+
+	@Override
+	public void bulkInsert(List<?> entities) {
+		checkOpen();
+		final BatchBuilder batchBuilder = fastSessionServices.getBulkInsertBatchBuilder();
+		if ( batchBuilder == null ) {
+			performMultiple( entities, entity -> insert( null, entity ) );
+		}
+		else {
+			// flush anything batched so far, before switching the BatchBuilder
+			getJdbcCoordinator().executeBatch();
+			final JdbcSessionContext jdbcSessionContext = super.getJdbcSessionContext();
+			bulkInsertJdbcSessionContext = new JdbcSessionContextImpl(
+					getFactory(),
+					jdbcSessionContext.getStatementInspector(),
+					jdbcSessionContext.getPhysicalConnectionHandlingMode(),
+					jdbcSessionContext.getJdbcServices(),
+					batchBuilder,
+					jdbcSessionContext.getObserver()
+			);
+			try {
+				performMultiple( entities, entity -> insert( null, entity ) );
+			}
+			finally {
+				bulkInsertJdbcSessionContext = null;
+			}
+		}
+	}
+
+	@Override
+	public JdbcSessionContext getJdbcSessionContext() {
+		return bulkInsertJdbcSessionContext == null
+				? super.getJdbcSessionContext()
+				: bulkInsertJdbcSessionContext;
+	}
+
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -138,6 +199,12 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		persister.getDeleteCoordinator().delete( entity, id, version, this );
 	}
 
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		performMultiple( entities, entity -> delete( null, entity ) );
+	}
+
 
 	// updates ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -172,6 +239,38 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		persister.getUpdateCoordinator().update( entity, id, null, state, oldVersion, null, null, false, this );
 	}
 
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		performMultiple( entities, entity -> update( null, entity ) );
+	}
+
+	/**
+	 * Perform the given operation for each entity with JDBC batching enabled,
+	 * and then execute the last, partial, batch, so that every statement has
+	 * been executed on return.
+	 */
+	private void performMultiple(List<?> entities, Consumer<Object> operation) {
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final int configuredBatchSize = jdbcBatchSize == null
+				? getFactory().getSessionFactoryOptions().getJdbcBatchSize()
+				: jdbcBatchSize;
+		setJdbcBatchSize( configuredBatchSize > 1 ? configuredBatchSize : DEFAULT_MULTIPLE_BATCH_SIZE );
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
 	@Override
 	public void upsert(String entityName, Object entity) {
 		checkOpen();
@@ -239,6 +338,62 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return result;
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+		for ( Object id : ids ) {
+			if ( id == null ) {
+				throw new IllegalArgumentException( "Null id" );
+			}
+		}
+
+		final List<?> result = getEntityPersister( entityClass.getName() )
+				.multiLoad( ids.toArray(), this, MultipleLoadOptions.INSTANCE );
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return (List<T>) result;
+	}
+
+	/**
+	 * Options for {@link #getMultiple}: there is no first-level cache to
+	 * check, and a stateless session does not interact with the second-level
+	 * cache.
+	 */
+	private static class MultipleLoadOptions implements MultiIdLoadOptions {
+		private static final MultipleLoadOptions INSTANCE = new MultipleLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LockOptions.NONE;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	@Override
 	public <T> T get(EntityGraph<T> graph, GraphSemantic graphSemantic, Object id) {
 		return get( graph, graphSemantic, id, LockMode.NONE );
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+/**
+ * A count-min sketch of 4-bit counters estimating how often each key was accessed
+ * recently, as described in "TinyLFU: A Highly Efficient Cache Admission Policy".
+ * <p>
+ * Once the number of recorded accesses reaches ten times the maximum size of the
+ * cache, every counter is halved, so that the estimates favor recent accesses.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+
+	// each long holds sixteen 4-bit counters
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	FrequencySketch(long maximumSize) {
+		final int capacity = (int) Math.min( Math.max( maximumSize, 16 ), 1 << 24 );
+		this.table = new long[ Integer.highestOneBit( capacity - 1 ) << 1 ];
+		this.tableMask = table.length - 1;
+		this.sampleSize = 10 * capacity;
+	}
+
+	/**
+	 * The estimated number of recent accesses to the given key, at most 15.
+	 */
+	int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < SEEDS.length; i++ ) {
+			final int slot = slot( hash, i );
+			final int count = (int) ( ( table[slot >>> 4] >>> ( ( slot & 15 ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access to the given key.
+	 */
+	void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		boolean added = false;
+		for ( int i = 0; i < SEEDS.length; i++ ) {
+			final int slot = slot( hash, i );
+			final int index = slot >>> 4;
+			final int offset = ( slot & 15 ) << 2;
+			if ( ( ( table[index] >>> offset ) & 0xfL ) != 0xfL ) {
+				table[index] += 1L << offset;
+				added = true;
+			}
+		}
+		if ( added && ++size == sampleSize ) {
+			reset();
+		}
+	}
+
+	private void reset() {
+		for ( int i = 0; i < table.length; i++ ) {
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size >>>= 1;
+	}
+
+	/**
+	 * The position of the counter of the given depth for the given hash, as the index
+	 * of the long in the table shifted left by four, plus the index of the counter.
+	 */
+	private int slot(int hash, int depth) {
+		long h = ( hash + SEEDS[depth] ) * SEEDS[depth];
+		h += h >>> 32;
+		return (int) h & ( ( tableMask << 4 ) | 15 );
+	}
+
+	private static int spread(int hash) {
+		hash = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+		hash = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+		return ( hash >>> 16 ) ^ hash;
+	}
+}
@@ -0,0 +1,459 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * A concurrent cache bounded by a maximum total weight, with an optional time to live,
+ * implementing the W-TinyLFU eviction policy.
+ * <p>
+ * New entries are admitted to a small LRU "window", and entries evicted from the window
+ * compete for a place in the main segmented LRU with its least-recently-used "probation"
+ * entry. The entry accessed less often according to a {@link FrequencySketch} is evicted.
+ * This protects the cache against scans, while still admitting recently popular entries.
+ * <p>
+ * Reads never block: the entries live in a {@link ConcurrentHashMap}, and each read is
+ * recorded in a lossy ring buffer which is drained into the eviction policy by whichever
+ * thread next acquires the policy lock without contention. Writes acquire the lock.
+ * <p>
+ * A cache with a maximum weight of zero or less is unbounded, and maintains no policy.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ *
+ * @see BoundedConcurrentHashMap
+ */
+public final class WindowTinyLfuCache<K, V> {
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+
+	private final ConcurrentHashMap<Object, Node<V>> data = new ConcurrentHashMap<>();
+
+	private final long maximumWeight;
+	private final long expireAfterWriteNanos;
+	private final ToIntFunction<? super V> weigher;
+
+	// policy state, guarded by the lock
+	private final ReentrantLock lock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrder<V> window = new AccessOrder<>();
+	private final AccessOrder<V> probation = new AccessOrder<>();
+	private final AccessOrder<V> protectedSegment = new AccessOrder<>();
+	private final long maximumWindowWeight;
+	private final long maximumProtectedWeight;
+	private long windowWeight;
+	private long mainWeight;
+	private long protectedWeight;
+
+	private final AtomicReferenceArray<Node<V>> readBuffer;
+	// incremented without synchronization, since losing a read is harmless
+	private int readCounter;
+
+	/**
+	 * @param maximumWeight the maximum total weight of the entries, or zero for an
+	 * unbounded cache
+	 * @param timeToLive how long an entry remains valid after it was written, or zero
+	 * if entries never expire
+	 * @param timeUnit the unit of the time to live
+	 * @param weigher computes the weight of a value, or {@code null} if every entry
+	 * has a weight of one
+	 */
+	public WindowTinyLfuCache(
+			long maximumWeight,
+			long timeToLive,
+			TimeUnit timeUnit,
+			ToIntFunction<? super V> weigher) {
+		this.maximumWeight = Math.max( maximumWeight, 0 );
+		this.expireAfterWriteNanos = timeToLive > 0 ? timeUnit.toNanos( timeToLive ) : 0;
+		this.weigher = weigher;
+		if ( isBounded() ) {
+			this.sketch = new FrequencySketch( this.maximumWeight );
+			this.maximumWindowWeight = Math.max( 1, this.maximumWeight / 100 );
+			this.maximumProtectedWeight = ( this.maximumWeight - maximumWindowWeight ) * 4 / 5;
+			this.readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+		}
+		else {
+			this.sketch = null;
+			this.maximumWindowWeight = 0;
+			this.maximumProtectedWeight = 0;
+			this.readBuffer = null;
+		}
+	}
+
+	public WindowTinyLfuCache(long maximumSize) {
+		this( maximumSize, 0, TimeUnit.MILLISECONDS, null );
+	}
+
+	private boolean isBounded() {
+		return maximumWeight > 0;
+	}
+
+	/**
+	 * The value associated with the given key, or {@code null} if there is no value,
+	 * or if the value has expired.
+	 */
+	public V get(Object key) {
+		final Node<V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		if ( isExpired( node ) ) {
+			if ( data.remove( key, node ) ) {
+				afterRemoval( node );
+			}
+			return null;
+		}
+		if ( isBounded() ) {
+			afterRead( node );
+		}
+		return node.value;
+	}
+
+	public boolean containsKey(Object key) {
+		final Node<V> node = data.get( key );
+		return node != null && !isExpired( node );
+	}
+
+	/**
+	 * Associate the given value with the given key, replacing any previous value.
+	 */
+	public void put(K key, V value) {
+		final int weight = weigher == null ? 1 : Math.max( 0, weigher.applyAsInt( value ) );
+		final Node<V> node = new Node<>( key, value, weight, expireAfterWriteNanos > 0 ? System.nanoTime() : 0L );
+		final Node<V> previous = data.put( key, node );
+		if ( previous != null ) {
+			afterRemoval( previous );
+		}
+		if ( isBounded() ) {
+			afterWrite( node );
+		}
+	}
+
+	/**
+	 * Associate the given value with the given key, unless a value which has not
+	 * expired is already associated with the key.
+	 *
+	 * @return {@code true} if the value was associated with the key
+	 */
+	public boolean putIfAbsent(K key, V value) {
+		final Node<V> existing = data.get( key );
+		if ( existing != null && !isExpired( existing ) ) {
+			return false;
+		}
+		put( key, value );
+		return true;
+	}
+
+	public void remove(Object key) {
+		final Node<V> node = data.remove( key );
+		if ( node != null ) {
+			afterRemoval( node );
+		}
+	}
+
+	public void clear() {
+		lock.lock();
+		try {
+			for ( Node<V> node : data.values() ) {
+				node.alive = false;
+			}
+			data.clear();
+			if ( isBounded() ) {
+				for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+					readBuffer.set( i, null );
+				}
+				window.clear();
+				probation.clear();
+				protectedSegment.clear();
+				windowWeight = 0;
+				mainWeight = 0;
+				protectedWeight = 0;
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The number of entries, including entries which have expired but not yet been removed.
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	private boolean isExpired(Node<V> node) {
+		return expireAfterWriteNanos > 0 && System.nanoTime() - node.writeTime >= expireAfterWriteNanos;
+	}
+
+	// policy maintenance ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private void afterRead(Node<V> node) {
+		// lossy: a read overwritten before it was drained is simply not recorded
+		final int index = readCounter++ & READ_BUFFER_MASK;
+		readBuffer.lazySet( index, node );
+		if ( ( index == READ_BUFFER_MASK ) && lock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<V> node) {
+		lock.lock();
+		try {
+			drainReadBuffer();
+			if ( node.alive ) {
+				sketch.increment( node.key );
+				node.queue = WINDOW;
+				window.addLast( node );
+				windowWeight += node.weight;
+				evict();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void afterRemoval(Node<V> node) {
+		node.alive = false;
+		if ( isBounded() ) {
+			lock.lock();
+			try {
+				unlink( node );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void drainReadBuffer() {
+		for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+			final Node<V> node = readBuffer.getAndSet( i, null );
+			if ( node != null && node.alive && node.isLinked() ) {
+				onAccess( node );
+			}
+		}
+	}
+
+	private void onAccess(Node<V> node) {
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToLast( node );
+				break;
+			case PROBATION:
+				// promote to the protected segment, demoting its eldest entries if it is full
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSegment.addLast( node );
+				protectedWeight += node.weight;
+				while ( protectedWeight > maximumProtectedWeight ) {
+					final Node<V> demoted = protectedSegment.removeFirst();
+					if ( demoted == null ) {
+						break;
+					}
+					protectedWeight -= demoted.weight;
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				protectedSegment.moveToLast( node );
+				break;
+		}
+	}
+
+	private void unlink(Node<V> node) {
+		if ( !node.isLinked() ) {
+			return;
+		}
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				windowWeight -= node.weight;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				mainWeight -= node.weight;
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				mainWeight -= node.weight;
+				protectedWeight -= node.weight;
+				break;
+		}
+	}
+
+	private void evict() {
+		// entries leaving the window become candidates for the probation segment
+		Node<V> firstCandidate = null;
+		while ( windowWeight > maximumWindowWeight ) {
+			final Node<V> candidate = window.removeFirst();
+			if ( candidate == null ) {
+				break;
+			}
+			windowWeight -= candidate.weight;
+			candidate.queue = PROBATION;
+			probation.addLast( candidate );
+			mainWeight += candidate.weight;
+			if ( firstCandidate == null ) {
+				firstCandidate = candidate;
+			}
+		}
+
+		// then the main segments shrink by evicting either a candidate or a victim
+		Node<V> candidate = firstCandidate;
+		while ( windowWeight + mainWeight > maximumWeight ) {
+			Node<V> victim = probation.first();
+			if ( victim == null ) {
+				victim = protectedSegment.first();
+			}
+			if ( victim == null ) {
+				victim = window.first();
+			}
+			if ( victim == null ) {
+				break;
+			}
+			if ( candidate != null && ( !candidate.isLinked() || candidate.queue != PROBATION ) ) {
+				candidate = null;
+			}
+			if ( candidate == null || candidate == victim ) {
+				if ( candidate != null ) {
+					candidate = candidate.next;
+				}
+				evictEntry( victim );
+			}
+			else if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				evictEntry( victim );
+			}
+			else {
+				final Node<V> next = candidate.next;
+				evictEntry( candidate );
+				candidate = next;
+			}
+		}
+	}
+
+	private void evictEntry(Node<V> node) {
+		unlink( node );
+		node.alive = false;
+		data.remove( node.key, node );
+	}
+
+	private static final class Node<V> {
+		private final Object key;
+		private final V value;
+		private final int weight;
+		private final long writeTime;
+
+		// guarded by the lock, except for alive, which is also set on removal
+		private volatile boolean alive = true;
+		private byte queue;
+		private Node<V> prev;
+		private Node<V> next;
+		private boolean linked;
+
+		private Node(Object key, V value, int weight, long writeTime) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+			this.writeTime = writeTime;
+		}
+
+		private boolean isLinked() {
+			return linked;
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes, from least- to most-recently used.
+	 */
+	private static final class AccessOrder<V> {
+		private Node<V> head;
+		private Node<V> tail;
+
+		Node<V> first() {
+			return head;
+		}
+
+		void addLast(Node<V> node) {
+			node.linked = true;
+			node.prev = tail;
+			node.next = null;
+			if ( tail == null ) {
+				head = node;
+			}
+			else {
+				tail.next = node;
+			}
+			tail = node;
+		}
+
+		Node<V> removeFirst() {
+			final Node<V> first = head;
+			if ( first != null ) {
+				remove( first );
+			}
+			return first;
+		}
+
+		void remove(Node<V> node) {
+			final Node<V> prev = node.prev;
+			final Node<V> next = node.next;
+			if ( prev == null ) {
+				head = next;
+			}
+			else {
+				prev.next = next;
+			}
+			if ( next == null ) {
+				tail = prev;
+			}
+			else {
+				next.prev = prev;
+			}
+			node.prev = null;
+			node.next = null;
+			node.linked = false;
+		}
+
+		void moveToLast(Node<V> node) {
+			if ( node != tail ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void clear() {
+			Node<V> node = head;
+			while ( node != null ) {
+				final Node<V> next = node.next;
+				node.prev = null;
+				node.next = null;
+				node.linked = false;
+				node = next;
+			}
+			head = null;
+			tail = null;
+		}
+	}
+}
@@ -85,7 +85,7 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 					getLoadable().getNavigableRole().getFullPath(), key );
 		}
 
-		final Object[] keys = resolveKeysToInitialize( key, session );
+		final Object[] keys = resolveKeysToInitialize( key, resolveBatchSize( session ), session );
 
 		if ( hasSingleId( keys ) ) {
 			return singleKeyLoader.load( key, session );
@@ -128,8 +128,17 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 
 	}
 
-	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+	/**
+	 * The number of keys to fetch in the next batch, which is the
+	 * {@linkplain #getDomainBatchSize() domain batch size} unless
+	 * the batch size is adaptive. Must be called only once per load,
+	 * since each call is recorded by the adaptive batch size.
+	 */
+	int resolveBatchSize(SharedSessionContractImplementor session) {
+		return getDomainBatchSize();
+	}
+
+	Object[] resolveKeysToInitialize(Object keyBeingLoaded, int length, SharedSessionContractImplementor session) {
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
 				length
@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+/**
+ * Determines the size of the next batch fetch from an exponentially weighted
+ * moving average of the number of keys which were pending in the
+ * {@link org.hibernate.engine.spi.BatchFetchQueue} at previous fetches.
+ * <p>
+ * The average starts out at the configured batch size, and the size returned
+ * is never greater than the configured maximum. Concurrent updates from
+ * different sessions may occasionally be lost, which is harmless here.
+ *
+ * @see org.hibernate.cfg.FetchSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE
+ */
+public class AdaptiveBatchSize {
+	// the average is kept as a fixed point number, with 8 fractional bits
+	private static final int SCALE_SHIFT = 8;
+	private static final int SCALE = 1 << SCALE_SHIFT;
+	// the weight of a new observation is 1/8
+	private static final int ALPHA_SHIFT = 3;
+
+	private final int maxBatchSize;
+	private volatile long scaledAverage;
+
+	public AdaptiveBatchSize(int initialBatchSize, int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+		this.scaledAverage = (long) Math.min( initialBatchSize, maxBatchSize ) << SCALE_SHIFT;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Record the number of keys currently pending, and determine the size of
+	 * the batch to fetch.
+	 *
+	 * @param pendingKeyCount the number of keys waiting in the batch fetch queue
+	 */
+	public int nextBatchSize(int pendingKeyCount) {
+		final long observed = (long) Math.min( Math.max( pendingKeyCount, 1 ), maxBatchSize ) << SCALE_SHIFT;
+		final long average = scaledAverage;
+		final long updated = average + ( ( observed - average ) >> ALPHA_SHIFT );
+		scaledAverage = updated;
+		final int size = (int) ( ( updated + SCALE - 1 ) >> SCALE_SHIFT );
+		return Math.max( 1, Math.min( size, maxBatchSize ) );
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveBatchSize(" + ( (double) scaledAverage / SCALE ) + " up to " + maxBatchSize + ")";
+	}
+}
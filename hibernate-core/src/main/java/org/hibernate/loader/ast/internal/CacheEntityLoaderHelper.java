@@ -6,6 +6,8 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -33,6 +35,8 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -260,6 +264,100 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Attempts to load the entities with the given keys from the second-level cache,
+	 * fetching all their cache entries in a single call to the cache.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The entities from the second-level cache, in the order of the given
+	 * keys, with {@code null} for each entity which was not found, or {@code null}
+	 * if the second-level cache may not be used.
+	 */
+	public Object[] loadFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final EntityKey[] entityKeys) {
+
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache ) {
+			// we can't use cache here
+			return null;
+		}
+
+		final Object[] entries = getFromSharedCache( entityKeys, persister, source );
+		final Object[] entities = new Object[entityKeys.length];
+		// the same id may be requested more than once
+		final Map<EntityKey, Object> entitiesByKey = CollectionHelper.mapOfSize( entityKeys.length );
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			final Object ce = entries[i];
+			if ( ce != null ) {
+				final EntityKey entityKey = entityKeys[i];
+				final Object duplicate = entitiesByKey.get( entityKey );
+				if ( duplicate != null ) {
+					// the same id was requested twice
+					entities[i] = duplicate;
+				}
+				else {
+					final Object entity = processCachedEntry( null, persister, ce, source, entityKey );
+					if ( entity != null ) {
+						//PostLoad is needed for EJB3
+						final PostLoadEvent postLoadEvent = new PostLoadEvent( source )
+								.setEntity( entity )
+								.setId( entityKey.getIdentifier() )
+								.setPersister( persister );
+						source.getSessionFactory()
+								.getFastSessionServices()
+								.firePostLoadEvent( postLoadEvent );
+						entitiesByKey.put( entityKey, entity );
+					}
+					entities[i] = entity;
+				}
+			}
+		}
+		return entities;
+	}
+
+	private Object[] getFromSharedCache(
+			final EntityKey[] entityKeys,
+			final EntityPersister persister,
+			SessionImplementor source) {
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[entityKeys.length];
+		for ( int i = 0; i < entityKeys.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey(
+					entityKeys[i].getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+		}
+
+		final Object[] entries = CacheHelper.fromSharedCache( source, cacheKeys, persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final NavigableRole rootEntityRole = StatsHelper.INSTANCE.getRootEntityRole( persister );
+			final String regionName = cache.getRegion().getName();
+			for ( Object ce : entries ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+				else {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+			}
+		}
+		return entries;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -300,7 +398,11 @@ public class CacheEntityLoaderHelper {
 			final EntityKey entityKey) {
 
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// the cached entry was written for an incompatible mapping
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException(
 						"Attempt to load entity from cache using provided object instance, but cache " +
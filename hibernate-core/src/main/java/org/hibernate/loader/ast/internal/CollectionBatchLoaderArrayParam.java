@@ -55,13 +55,28 @@ public class CollectionBatchLoaderArrayParam
 	private final JdbcParameter jdbcParameter;
 	private final SelectStatement sqlSelect;
 	private final JdbcOperationQuerySelect jdbcSelectOperation;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	public CollectionBatchLoaderArrayParam(
 			int domainBatchSize,
 			LoadQueryInfluencers loadQueryInfluencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
+		this( domainBatchSize, null, loadQueryInfluencers, attributeMapping, sessionFactory );
+	}
+
+	/**
+	 * @param adaptiveBatchSize determines the size of each batch, or {@code null}
+	 * if every batch has the {@code domainBatchSize}
+	 */
+	public CollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			LoadQueryInfluencers loadQueryInfluencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
 		super( domainBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -107,12 +122,26 @@ public class CollectionBatchLoaderArrayParam
 				.buildSelectTranslator( getSessionFactory(), sqlSelect )
 				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
 	}
+
+	@Override
+	int resolveBatchSize(SharedSessionContractImplementor session) {
+		if ( adaptiveBatchSize == null ) {
+			return getDomainBatchSize();
+		}
+		else {
+			return adaptiveBatchSize.nextBatchSize(
+					session.getPersistenceContextInternal().getBatchFetchQueue()
+							.getBatchLoadableCollectionCount( getLoadable() )
+			);
+		}
+	}
+
 	@Override
 	public PersistentCollection<?> load(Object keyBeingLoaded, SharedSessionContractImplementor session) {
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
 		if ( keyDescriptor.isEmbedded() ) {
 			assert keyDescriptor.getJdbcTypeCount() == 1;
-			return loadEmbeddable( keyBeingLoaded, session, keyDescriptor );
+			return loadEmbeddable( keyBeingLoaded, resolveBatchSize( session ), session, keyDescriptor );
 		}
 		else {
 			return super.load( keyBeingLoaded, session );
@@ -122,6 +151,7 @@ public class CollectionBatchLoaderArrayParam
 
 	private PersistentCollection<?> loadEmbeddable(
 			Object keyBeingLoaded,
+			int length,
 			SharedSessionContractImplementor session,
 			ForeignKeyDescriptor keyDescriptor) {
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
@@ -131,7 +161,6 @@ public class CollectionBatchLoaderArrayParam
 			);
 		}
 
-		final int length = getDomainBatchSize();
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				jdbcParameter.getExpressionType()
 						.getSingleJdbcMapping()
@@ -221,11 +250,10 @@ public class CollectionBatchLoaderArrayParam
 	}
 
 	@Override
-	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
+	Object[] resolveKeysToInitialize(Object keyBeingLoaded, int length, SharedSessionContractImplementor session) {
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
 		if( keyDescriptor.isEmbedded()){
 			assert keyDescriptor.getJdbcTypeCount() == 1;
-			final int length = getDomainBatchSize();
 			final Object[] keysToInitialize = (Object[]) Array.newInstance( keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(), length );
 			session.getPersistenceContextInternal().getBatchFetchQueue()
 					.collectBatchLoadableCollectionKeys(
@@ -241,6 +269,6 @@ public class CollectionBatchLoaderArrayParam
 			// now trim down the array to the number of keys we found
 			return trimIdBatch( length, keysToInitialize );
 		}
-		return super.resolveKeysToInitialize( keyBeingLoaded, session );
+		return super.resolveKeysToInitialize( keyBeingLoaded, length, session );
 	}
 }
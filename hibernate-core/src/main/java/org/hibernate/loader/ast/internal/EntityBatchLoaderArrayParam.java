@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Locale;
 
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -41,6 +42,7 @@ public class EntityBatchLoaderArrayParam<T>
 		extends AbstractEntityBatchLoader<T>
 		implements SqlArrayMultiKeyLoader {
 	private final int domainBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	private final BasicEntityIdentifierMapping identifierMapping;
 	private final JdbcMapping arrayJdbcMapping;
@@ -64,8 +66,24 @@ public class EntityBatchLoaderArrayParam<T>
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			SessionFactoryImplementor sessionFactory) {
+		this( domainBatchSize, null, entityDescriptor, sessionFactory );
+	}
+
+	/**
+	 * Instantiates the loader
+	 *
+	 * @param domainBatchSize The number of domain model parts (up to)
+	 * @param adaptiveBatchSize Determines the size of each batch, or {@code null}
+	 * if every batch has the {@code domainBatchSize}
+	 */
+	public EntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			EntityMappingType entityDescriptor,
+			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -110,15 +128,18 @@ public class EntityBatchLoaderArrayParam<T>
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
-		session.getPersistenceContextInternal().getBatchFetchQueue()
-				.collectBatchLoadableEntityIds(
-						domainBatchSize,
-						(index, value) -> idsToLoad[index] = value,
-						pkValue,
-						getLoadable()
-				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int batchSize = adaptiveBatchSize == null
+				? domainBatchSize
+				: adaptiveBatchSize.nextBatchSize( batchFetchQueue.getBatchLoadableEntityKeyCount( getLoadable() ) );
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
+		batchFetchQueue.collectBatchLoadableEntityIds(
+				batchSize,
+				(index, value) -> idsToLoad[index] = value,
+				pkValue,
+				getLoadable()
+		);
+		return trimIdBatch( batchSize, idsToLoad );
 	}
 
 	@Override
@@ -167,7 +188,7 @@ public class EntityBatchLoaderArrayParam<T>
 				Locale.ROOT,
 				"EntityBatchLoaderArrayParam(%s [%s])",
 				getLoadable().getEntityName(),
-				domainBatchSize
+				adaptiveBatchSize == null ? domainBatchSize : adaptiveBatchSize
 		);
 	}
 }
@@ -18,8 +18,8 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
-import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -70,7 +70,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	}
 
 	@Override
-	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performOrderedMultiLoad - %s",
@@ -86,6 +86,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
+		List<Integer> idsToLoadFromCacheResultIndexes = null;
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -98,42 +99,29 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 
 			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
 
-			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			if ( loadOptions.isSessionCheckingEnabled() ) {
 				LoadEvent loadEvent = new LoadEvent(
 						id,
 						getLoadable().getJavaType().getJavaTypeClass().getName(),
 						lockOptions,
-						session,
+						session.asEventSource(),
 						LoaderHelper.getReadOnlyFromLoadQueryInfluencers(session)
 				);
 
-				Object managedEntity = null;
-
-				if ( loadOptions.isSessionCheckingEnabled() ) {
-					// look for it in the Session first
-					final PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.loadFromSessionCacheStatic(
-							loadEvent,
-							entityKey,
-							LoadEventListener.GET
-					);
-					managedEntity = persistenceContextEntry.getEntity();
-
-					if ( managedEntity != null
-							&& !loadOptions.isReturnOfDeletedEntitiesEnabled()
-							&& !persistenceContextEntry.isManaged() ) {
-						// put a null in the result
-						result.add( i, null );
-						continue;
-					}
-				}
+				// look for it in the Session first
+				final PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.loadFromSessionCacheStatic(
+						loadEvent,
+						entityKey,
+						LoadEventListener.GET
+				);
+				final Object managedEntity = persistenceContextEntry.getEntity();
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							getLoadable().getEntityPersister(),
-							entityKey
-					);
+				if ( managedEntity != null
+						&& !loadOptions.isReturnOfDeletedEntitiesEnabled()
+						&& !persistenceContextEntry.isManaged() ) {
+					// put a null in the result
+					result.add( i, null );
+					continue;
 				}
 
 				if ( managedEntity != null ) {
@@ -142,18 +130,55 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				}
 			}
 
+			// hold its place in the result with the EntityKey, we'll come back to it later
+			result.add( i, entityKey );
+
+			if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				// look for it in the SessionFactory, along with all the other ids
+				if ( idsToLoadFromCacheResultIndexes == null ) {
+					idsToLoadFromCacheResultIndexes = new ArrayList<>();
+				}
+				idsToLoadFromCacheResultIndexes.add( i );
+				continue;
+			}
+
 			// if we did not hit any of the continues above, then we need to batch
 			// load the entity state.
 			if ( idsToLoadFromDatabase == null ) {
 				idsToLoadFromDatabase = new ArrayList<>();
 				idsToLoadFromDatabaseResultIndexes = new ArrayList<>();
 			}
-			// hold its place in the result with the EntityKey, we'll come back to it later
-			result.add( i, entityKey );
 			idsToLoadFromDatabase.add( id );
 			idsToLoadFromDatabaseResultIndexes.add( i );
 		}
 
+		if ( idsToLoadFromCacheResultIndexes != null ) {
+			final EntityKey[] entityKeys = new EntityKey[idsToLoadFromCacheResultIndexes.size()];
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				entityKeys[i] = (EntityKey) result.get( idsToLoadFromCacheResultIndexes.get( i ) );
+			}
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					session.asEventSource(),
+					lockOptions.getLockMode(),
+					getLoadable().getEntityPersister(),
+					entityKeys
+			);
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				final Integer resultIndex = idsToLoadFromCacheResultIndexes.get( i );
+				if ( cachedEntities != null && cachedEntities[i] != null ) {
+					result.set( resultIndex, cachedEntities[i] );
+				}
+				else {
+					if ( idsToLoadFromDatabase == null ) {
+						idsToLoadFromDatabase = new ArrayList<>();
+						idsToLoadFromDatabaseResultIndexes = new ArrayList<>();
+					}
+					idsToLoadFromDatabase.add( entityKeys[i].getIdentifier() );
+					idsToLoadFromDatabaseResultIndexes.add( resultIndex );
+				}
+			}
+		}
+
 		if ( idsToLoadFromDatabase == null ) {
 			// all the given ids were already associated with the Session
 			//noinspection unchecked
@@ -226,7 +251,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	protected <K> List<E> performUnorderedMultiLoad(
 			K[] ids,
 			MultiIdLoadOptions loadOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performUnorderedMultiLoad - %s",
@@ -305,7 +330,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			ResolutionConsumer<R> resolutionConsumer,
 			@NonNull MultiIdLoadOptions loadOptions,
 			@NonNull LockOptions lockOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( !loadOptions.isSessionCheckingEnabled()
 				&& !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// we'll load all of them from the database
@@ -316,6 +341,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
+		List<EntityKey> entityKeysToLoadFromCache = null;
+		List<Integer> positionsToLoadFromCache = null;
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -332,7 +359,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					id,
 					getLoadable().getJavaType().getJavaTypeClass().getName(),
 					lockOptions,
-					session,
+					session.asEventSource(),
 					LoaderHelper.getReadOnlyFromLoadQueryInfluencers( session )
 			);
 
@@ -356,20 +383,21 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				}
 			}
 
-			if ( resolvedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-						loadEvent,
-						getLoadable().getEntityPersister(),
-						entityKey
-				);
-			}
-
 			if ( resolvedEntity != null ) {
 				foundAnyResolvedEntities = true;
 
 				//noinspection unchecked
 				resolutionConsumer.consume( i, entityKey, (R) resolvedEntity);
 			}
+			else if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				// look for it in the SessionFactory, along with all the other ids
+				if ( entityKeysToLoadFromCache == null ) {
+					entityKeysToLoadFromCache = new ArrayList<>();
+					positionsToLoadFromCache = new ArrayList<>();
+				}
+				entityKeysToLoadFromCache.add( entityKey );
+				positionsToLoadFromCache.add( i );
+			}
 			else {
 				if ( nonResolvedIds == null ) {
 					nonResolvedIds = new ArrayList<>();
@@ -379,6 +407,31 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			}
 		}
 
+		if ( entityKeysToLoadFromCache != null ) {
+			final EntityKey[] entityKeys = entityKeysToLoadFromCache.toArray( new EntityKey[0] );
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					session.asEventSource(),
+					lockOptions.getLockMode(),
+					getLoadable().getEntityPersister(),
+					entityKeys
+			);
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				if ( cachedEntities != null && cachedEntities[i] != null ) {
+					foundAnyResolvedEntities = true;
+
+					//noinspection unchecked
+					resolutionConsumer.consume( positionsToLoadFromCache.get( i ), entityKeys[i], (R) cachedEntities[i] );
+				}
+				else {
+					if ( nonResolvedIds == null ) {
+						nonResolvedIds = new ArrayList<>();
+					}
+					//noinspection unchecked
+					nonResolvedIds.add( (K) entityKeys[i].getIdentifier() );
+				}
+			}
+		}
+
 		if ( foundAnyResolvedEntities ) {
 			if ( isEmpty( nonResolvedIds ) ) {
 				// all the given ids were already associated with the Session
@@ -19,6 +19,8 @@ import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
 
+import static org.hibernate.cfg.FetchSettings.MAX_ADAPTIVE_BATCH_FETCH_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -27,8 +29,11 @@ import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlAr
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	private final int maxAdaptiveBatchSize;
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		maxAdaptiveBatchSize = getInt( MAX_ADAPTIVE_BATCH_FETCH_SIZE, configurationValues, 0 );
 	}
 
 	@Override
@@ -42,7 +47,12 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
 				&& identifierType instanceof BasicType ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, factory );
+			return new EntityBatchLoaderArrayParam<>(
+					domainBatchSize,
+					adaptiveBatchSize( domainBatchSize ),
+					entityDescriptor,
+					factory
+			);
 		}
 		else {
 			return new EntityBatchLoaderInPredicate<>( domainBatchSize, entityDescriptor, factory );
@@ -58,10 +68,23 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+			return new CollectionBatchLoaderArrayParam(
+					domainBatchSize,
+					adaptiveBatchSize( domainBatchSize ),
+					influencers,
+					attributeMapping,
+					factory
+			);
 		}
 		else {
 			return new CollectionBatchLoaderInPredicate( domainBatchSize, influencers, attributeMapping, factory );
 		}
 	}
+
+	private AdaptiveBatchSize adaptiveBatchSize(int domainBatchSize) {
+		// there is nothing to adapt when the static size is already the maximum
+		return maxAdaptiveBatchSize > 1 && domainBatchSize < maxAdaptiveBatchSize
+				? new AdaptiveBatchSize( domainBatchSize, maxAdaptiveBatchSize )
+				: null;
+	}
 }
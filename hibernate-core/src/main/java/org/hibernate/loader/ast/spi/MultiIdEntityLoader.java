@@ -8,6 +8,8 @@ package org.hibernate.loader.ast.spi;
 
 import java.util.List;
 
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -18,4 +20,17 @@ public interface MultiIdEntityLoader<T> extends EntityMultiLoader<T> {
 	 * Load multiple entities by id.  The exact result depends on the passed options.
 	 */
 	<K> List<T> load(K[] ids, MultiIdLoadOptions options, EventSource session);
+
+	/**
+	 * Load multiple entities by id from a session which is not necessarily an
+	 * {@link EventSource}, for example, a {@link org.hibernate.StatelessSession}.
+	 * In that case, checking the session or second-level cache must not be
+	 * requested by the given {@link MultiIdLoadOptions}.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default <K> List<T> load(K[] ids, MultiIdLoadOptions options, SharedSessionContractImplementor session) {
+		return load( ids, options, session.asEventSource() );
+	}
 }
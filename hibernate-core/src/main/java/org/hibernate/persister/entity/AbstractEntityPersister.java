@@ -64,6 +64,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -1225,9 +1226,15 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			if ( options.isStructuredCacheEntriesEnabled() ) {
+				return new StructuredCacheEntryHelper( this, new StructuredCacheEntry( this ) );
+			}
+			else if ( options.isCompactCacheEntriesEnabled() ) {
+				return new StructuredCacheEntryHelper( this, new CompactCacheEntry( this ) );
+			}
+			else {
+				return new StandardCacheEntryHelper( this );
+			}
 		}
 	}
 
@@ -1581,7 +1588,9 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, this, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+				final Object initializedValue = cacheEntry == null
+						? LazyPropertyInitializer.UNFETCHED_PROPERTY
+						: initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
 					// interceptor.attributeInitialized(fieldName);
@@ -3843,6 +3852,11 @@ public abstract class AbstractEntityPersister
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
+	@Override
+	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		return multiIdLoader.load( ids, loadOptions, session );
+	}
+
 	@Override
 	public void registerAffectingFetchProfile(String fetchProfileName) {
 		if ( affectingFetchProfileNames == null ) {
@@ -4171,8 +4185,7 @@ public abstract class AbstractEntityPersister
 							&& !persistenceContext.getLoadContexts().isLoadingFinished() ) {
 						// check if we're currently loading this entity instance, the version
 						// will be null but the entity cannot be considered transient
-						final EntityHolder holder = persistenceContext
-								.getEntityHolder( new EntityKey( id, this ) );
+						final EntityHolder holder = persistenceContext.getEntityHolder( id, this );
 						if ( holder != null && holder.isEventuallyInitialized() && holder.getEntity() == entity ) {
 							return false;
 						}
@@ -4967,11 +4980,11 @@ public abstract class AbstractEntityPersister
 
 	private static class StructuredCacheEntryHelper implements CacheEntryHelper {
 		private final EntityPersister persister;
-		private final StructuredCacheEntry structure;
+		private final CacheEntryStructure structure;
 
-		private StructuredCacheEntryHelper(EntityPersister persister) {
+		private StructuredCacheEntryHelper(EntityPersister persister, CacheEntryStructure structure) {
 			this.persister = persister;
-			this.structure = new StructuredCacheEntry( persister );
+			this.structure = structure;
 		}
 
 		@Override
@@ -610,6 +610,25 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 	 */
 	List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions);
 
+	/**
+	 * Performs a load of multiple entities (of this type) by identifier simultaneously,
+	 * from a session which is not necessarily an {@link EventSource}, for example,
+	 * a {@link org.hibernate.StatelessSession}. In that case, checking the session or
+	 * second-level cache must not be requested by the given {@link MultiIdLoadOptions}.
+	 *
+	 * @param ids The identifiers to load
+	 * @param session The originating Session
+	 * @param loadOptions The options for loading
+	 *
+	 * @return The loaded, matching entities
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		return multiLoad( ids, session.asEventSource(), loadOptions );
+	}
+
 	@Override
 	default Object loadByUniqueKey(String propertyName, Object uniqueKey, SharedSessionContractImplementor session) {
 		throw new UnsupportedOperationException(
@@ -15,7 +15,10 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.FastSessionServices;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
@@ -64,7 +67,11 @@ public class QueryEngineImpl implements QueryEngine {
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( sessionFactory, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository( sessionFactory ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				buildInterpretationCache(
+						sessionFactory::getStatistics,
+						() -> getEventManager( sessionFactory ),
+						sessionFactory.getProperties()
+				),
 				sessionFactory.getServiceRegistry().getService(NativeQueryInterpreter.class)
 		);
 	}
@@ -182,8 +189,15 @@ public class QueryEngineImpl implements QueryEngine {
 		return contributors;
 	}
 
+	private static EventManager getEventManager(SessionFactoryImplementor sessionFactory) {
+		final FastSessionServices fastSessionServices = sessionFactory.getFastSessionServices();
+		// queries may be interpreted before the session services are initialized
+		return fastSessionServices == null ? EmptyEventManager.INSTANCE : fastSessionServices.getEventManager();
+	}
+
 	private static QueryInterpretationCache buildInterpretationCache(
 			Supplier<StatisticsImplementor> statisticsSupplier,
+			Supplier<EventManager> eventManagerSupplier,
 			Map<String, Object> properties) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
@@ -202,11 +216,11 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier, eventManagerSupplier );
 		}
 		else {
 			// disabled
-			return new QueryInterpretationCacheDisabledImpl( statisticsSupplier );
+			return new QueryInterpretationCacheDisabledImpl( statisticsSupplier, eventManagerSupplier );
 		}
 	}
 
@@ -10,6 +10,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
@@ -27,9 +30,17 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 public class QueryInterpretationCacheDisabledImpl implements QueryInterpretationCache {
 
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
+	private final Supplier<EventManager> eventManagerSupplier;
 
 	public QueryInterpretationCacheDisabledImpl(Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( statisticsSupplier, () -> EmptyEventManager.INSTANCE );
+	}
+
+	public QueryInterpretationCacheDisabledImpl(
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			Supplier<EventManager> eventManagerSupplier) {
 		this.statisticsSupplier = statisticsSupplier;
+		this.eventManagerSupplier = eventManagerSupplier;
 	}
 
 	@Override
@@ -48,6 +59,9 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
 		}
+		final EventManager eventManager = eventManagerSupplier.get();
+		final HibernateMonitoringEvent queryPlanCacheGetEvent = eventManager.beginQueryPlanCacheGetEvent();
+		eventManager.completeQueryPlanCacheGetEvent( queryPlanCacheGetEvent, key.getQueryString(), false );
 		return creator.get();
 	}
 
@@ -67,7 +81,10 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 		final boolean stats = statistics.isStatisticsEnabled();
 		final long startTime = stats ? System.nanoTime() : 0L;
 
+		final EventManager eventManager = eventManagerSupplier.get();
+		final HibernateMonitoringEvent hqlParseEvent = eventManager.beginHqlParseEvent();
 		final SqmStatement<R> sqmStatement = translator.translate( queryString, expectedResultType );
+		eventManager.completeHqlParseEvent( hqlParseEvent, queryString );
 
 		final DomainParameterXref domainParameterXref;
 		final ParameterMetadataImplementor parameterMetadata;
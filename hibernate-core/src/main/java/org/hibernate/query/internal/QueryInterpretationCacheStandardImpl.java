@@ -10,6 +10,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
@@ -43,14 +46,23 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
 	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
+	private final Supplier<EventManager> eventManagerSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( maxQueryPlanCount, statisticsSupplier, () -> EmptyEventManager.INSTANCE );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			Supplier<EventManager> eventManagerSupplier) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
 		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.statisticsSupplier = statisticsSupplier;
+		this.eventManagerSupplier = eventManagerSupplier;
 	}
 
 	@Override
@@ -70,9 +82,12 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		log.tracef( "QueryPlan#getSelectQueryPlan(%s)", key );
 		final StatisticsImplementor statistics = statisticsSupplier.get();
 		final boolean stats = statistics.isStatisticsEnabled();
+		final EventManager eventManager = eventManagerSupplier.get();
+		final HibernateMonitoringEvent queryPlanCacheGetEvent = eventManager.beginQueryPlanCacheGetEvent();
 
 		@SuppressWarnings("unchecked")
 		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) queryPlanCache.get( key );
+		eventManager.completeQueryPlanCacheGetEvent( queryPlanCacheGetEvent, key.getQueryString(), cached != null );
 		if ( cached != null ) {
 			if ( stats ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
@@ -106,6 +121,8 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			HqlTranslator translator) {
 		log.tracef( "QueryPlan#resolveHqlInterpretation( `%s` )", queryString );
 		final StatisticsImplementor statistics = statisticsSupplier.get();
+		final EventManager eventManager = eventManagerSupplier.get();
+		final HibernateMonitoringEvent queryPlanCacheGetEvent = eventManager.beginQueryPlanCacheGetEvent();
 
 		final Object cacheKey = expectedResultType != null
 				? new HqlInterpretationCacheKey( queryString, expectedResultType )
@@ -113,6 +130,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 
 		final HqlInterpretation<?> existing = hqlInterpretationCache.get( cacheKey );
 		if ( existing != null ) {
+			eventManager.completeQueryPlanCacheGetEvent( queryPlanCacheGetEvent, queryString, true );
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
 			}
@@ -121,15 +139,17 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		else if ( expectedResultType != null ) {
 			final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.get( queryString );
 			if ( existingQueryOnly != null ) {
+				eventManager.completeQueryPlanCacheGetEvent( queryPlanCacheGetEvent, queryString, true );
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
 				}
 				return (HqlInterpretation<R>) existingQueryOnly;
 			}
 		}
+		eventManager.completeQueryPlanCacheGetEvent( queryPlanCacheGetEvent, queryString, false );
 
 		final HqlInterpretation<R> hqlInterpretation =
-				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
+				createHqlInterpretation( queryString, expectedResultType, translator, statistics, eventManager );
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
 		return hqlInterpretation;
 	}
@@ -138,11 +158,14 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			String queryString,
 			Class<R> expectedResultType,
 			HqlTranslator translator,
-			StatisticsImplementor statistics) {
+			StatisticsImplementor statistics,
+			EventManager eventManager) {
 		final boolean stats = statistics.isStatisticsEnabled();
 		final long startTime = stats ? System.nanoTime() : 0L;
 
+		final HibernateMonitoringEvent hqlParseEvent = eventManager.beginHqlParseEvent();
 		final SqmStatement<R> sqmStatement = translator.translate( queryString, expectedResultType );
+		eventManager.completeHqlParseEvent( hqlParseEvent, queryString );
 		final ParameterMetadataImplementor parameterMetadata;
 		final DomainParameterXref domainParameterXref;
 
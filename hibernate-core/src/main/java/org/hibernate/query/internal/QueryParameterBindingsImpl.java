@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.hibernate.Incubating;
 import org.hibernate.QueryParameterException;
@@ -172,13 +173,23 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 
 	@Override
 	public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+		return generateQueryKeyMemento( session, parameterMetadata::visitParameters );
+	}
+
+	/**
+	 * Generate the memento for the query cache key, adding the values of
+	 * the parameters in the order they are visited by the given visitor.
+	 */
+	public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(
+			SharedSessionContractImplementor session,
+			Consumer<Consumer<QueryParameterImplementor<?>>> parameterVisitor) {
 		final MutableCacheKeyImpl mutableCacheKey = new MutableCacheKeyImpl( parameterBindingMap.size() );
 		final JavaType<Object> tenantIdentifierJavaType = session.getFactory().getTenantIdentifierJavaType();
 		final Object tenantId = session.getTenantIdentifierValue();
 		mutableCacheKey.addValue( tenantIdentifierJavaType.getMutabilityPlan().disassemble( tenantId, session ) );
 		mutableCacheKey.addHashCode( tenantId == null ? 0 : tenantIdentifierJavaType.extractHashCode( tenantId ) );
 		// We know that parameters are consumed in processing order, this ensures consistency of generated cache keys
-		parameterMetadata.visitParameters( queryParameter -> {
+		parameterVisitor.accept( queryParameter -> {
 			final QueryParameterBinding<?> binding = parameterBindingMap.get( queryParameter );
 			assert binding != null : "Found unbound query parameter while generating cache key";
 
@@ -18,6 +18,8 @@ import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
@@ -68,6 +70,7 @@ import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToRe
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
@@ -84,6 +87,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
@@ -324,6 +328,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
 							sqm,
+							hql,
 							domainParameterXref,
 							executionContext
 					);
@@ -342,6 +347,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 						localCopy = buildCacheableSqmInterpretation(
 								sqm,
+								hql,
 								domainParameterXref,
 								executionContext
 						);
@@ -363,6 +369,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
+						hql,
 						domainParameterXref,
 						executionContext
 				);
@@ -400,10 +407,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
+			String hql,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent sqmTranslationEvent = eventManager.beginSqmTranslationEvent();
 
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
@@ -442,9 +452,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				session
 		);
 
+		final JdbcOperationQuerySelect jdbcSelect =
+				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		eventManager.completeSqmTranslationEvent( sqmTranslationEvent, session, hql, jdbcSelect.getSqlString() );
+
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
-				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				jdbcSelect,
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
@@ -614,10 +614,13 @@ public class QuerySqmImpl<R>
 	}
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
+		final SqmInterpretationsKey cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return cacheKey.resolveSelectQueryPlan(
+					getSession().getFactory().getQueryEngine().getInterpretationCache(),
+					getParameterMetadata(),
+					this::buildSelectQueryPlan
+			);
 		}
 		else {
 			return buildSelectQueryPlan();
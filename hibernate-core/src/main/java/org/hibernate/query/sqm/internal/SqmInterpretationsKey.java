@@ -16,8 +16,10 @@ import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
 import static java.lang.Boolean.TRUE;
@@ -42,9 +44,18 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
 		if ( isCacheable ( keySource ) ) {
-			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
-					? keySource.getSqmStatement()
-					: keySource.getQueryString();
+			final Object query;
+			if ( CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+				// criteria queries are keyed by their structure, so that
+				// queries which differ only in parameter values share a plan
+				query = SqmStructuralKey.from( keySource.getSqmStatement() );
+				if ( query == null ) {
+					return null;
+				}
+			}
+			else {
+				query = keySource.getQueryString();
+			}
 			return new SqmInterpretationsKey(
 					query,
 					query.hashCode(),
@@ -82,9 +93,6 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		// for now at least, skip caching Criteria-based plans
-		// - especially wrt parameters atm; this works with HQL because the
-		// parameters are part of the query string; with Criteria, they're not.
 		return keySource.isQueryPlanCacheable()
 				// At the moment we cannot cache query plan if there is filter enabled.
 			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
@@ -132,6 +140,30 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		this.enabledFetchProfiles = enabledFetchProfiles;
 	}
 
+	/**
+	 * Resolve the select plan for this key from the given cache. A plan
+	 * for a criteria query might have been built by another query with
+	 * the same {@linkplain SqmStructuralKey structure}, in which case it
+	 * is bound to the parameters of the query with this key.
+	 *
+	 * @param parameterMetadata the parameters of the query with this key
+	 */
+	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
+			QueryInterpretationCache cache,
+			ParameterMetadataImplementor parameterMetadata,
+			Supplier<SelectQueryPlan<R>> creator) {
+		if ( query instanceof SqmStructuralKey ) {
+			final SqmStructuralKey structuralKey = (SqmStructuralKey) query;
+			return structuralKey.bind( cache.resolveSelectQueryPlan(
+					this,
+					() -> structuralKey.share( creator.get(), parameterMetadata )
+			) );
+		}
+		else {
+			return cache.resolveSelectQueryPlan( this, creator );
+		}
+	}
+
 	@Override
 	public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
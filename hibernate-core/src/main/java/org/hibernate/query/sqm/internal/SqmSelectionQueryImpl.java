@@ -375,10 +375,13 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
+		final SqmInterpretationsKey cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSessionFactory().getQueryEngine().getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return cacheKey.resolveSelectQueryPlan(
+					getSessionFactory().getQueryEngine().getInterpretationCache(),
+					getParameterMetadata(),
+					this::buildSelectQueryPlan
+			);
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -0,0 +1,317 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+
+/**
+ * The structure of a criteria query, that is, its tree of nodes with generated aliases
+ * replaced by the position of the from element they belong to, and criteria parameters
+ * identified by position and type, but never by value. Two criteria queries with equal
+ * structure may share a {@linkplain SelectQueryPlan query plan}, which is then executed
+ * with the parameter bindings of each query {@linkplain #bind mapped} onto the
+ * parameters of the query which built the plan.
+ *
+ * @see SqmStructuralKeyBuilder
+ * @see SqmInterpretationsKey
+ */
+public final class SqmStructuralKey {
+	private final List<Object> structure;
+	private final int hashCode;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	SqmStructuralKey(List<Object> structure, List<JpaCriteriaParameter<?>> parameters) {
+		this.structure = structure;
+		this.hashCode = structure.hashCode();
+		this.parameters = parameters;
+	}
+
+	/**
+	 * The structure of the given statement, which is determined only once
+	 * for each criteria query.
+	 *
+	 * @return the structure, or {@code null} if the statement has no structural key
+	 *
+	 * @see SqmSelectStatement#getStructuralKey()
+	 */
+	public static SqmStructuralKey from(SqmStatement<?> statement) {
+		return statement instanceof SqmSelectStatement<?>
+				? ( (SqmSelectStatement<?>) statement ).getStructuralKey()
+				: null;
+	}
+
+	/**
+	 * Determine the structure of the given statement.
+	 *
+	 * @return the structure, or {@code null} if the statement contains nodes
+	 * which are not supported by {@link SqmStructuralKeyBuilder}
+	 */
+	public static SqmStructuralKey build(SqmSelectStatement<?> statement) {
+		return SqmStructuralKeyBuilder.build( statement );
+	}
+
+	/**
+	 * Wrap a plan built for a query with this structure, so that it may be
+	 * {@linkplain #bind bound} to other queries with the same structure.
+	 *
+	 * @param parameterMetadata the parameters of the query which built the plan
+	 */
+	public <R> SelectQueryPlan<R> share(SelectQueryPlan<R> plan, ParameterMetadataImplementor parameterMetadata) {
+		final List<QueryParameterImplementor<?>> parameterOrder = new ArrayList<>( parameters.size() );
+		parameterMetadata.visitParameters( parameterOrder::add );
+		return new SharedSelectQueryPlan<>( plan, parameters, parameterOrder );
+	}
+
+	/**
+	 * Bind a (possibly shared) plan to the query with this structure.
+	 */
+	public <R> SelectQueryPlan<R> bind(SelectQueryPlan<R> plan) {
+		if ( plan instanceof SharedSelectQueryPlan ) {
+			final SharedSelectQueryPlan<R> sharedPlan = (SharedSelectQueryPlan<R>) plan;
+			if ( sharedPlan.parameters == parameters ) {
+				return sharedPlan.delegate;
+			}
+			final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping =
+					new IdentityHashMap<>( parameters.size() );
+			for ( int i = 0; i < parameters.size(); i++ ) {
+				parameterMapping.put( sharedPlan.parameters.get( i ), parameters.get( i ) );
+			}
+			return new ParameterMappingSelectQueryPlan<>(
+					sharedPlan.delegate,
+					parameterMapping,
+					sharedPlan.parameterOrder
+			);
+		}
+		return plan;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if ( this == object ) {
+			return true;
+		}
+		if ( !( object instanceof SqmStructuralKey ) ) {
+			return false;
+		}
+		final SqmStructuralKey that = (SqmStructuralKey) object;
+		return hashCode == that.hashCode
+			&& structure.equals( that.structure );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "SqmStructuralKey(" + structure + ")";
+	}
+
+	private static final class SharedSelectQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		// the parameters in structural order
+		private final List<JpaCriteriaParameter<?>> parameters;
+		// the parameters in the order they are added to query cache keys
+		private final List<QueryParameterImplementor<?>> parameterOrder;
+
+		private SharedSelectQueryPlan(
+				SelectQueryPlan<R> delegate,
+				List<JpaCriteriaParameter<?>> parameters,
+				List<QueryParameterImplementor<?>> parameterOrder) {
+			this.delegate = delegate;
+			this.parameters = parameters;
+			this.parameterOrder = parameterOrder;
+		}
+
+		@Override
+		public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+			return delegate.executeQuery( executionContext, resultsConsumer );
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( executionContext );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, executionContext );
+		}
+	}
+
+	/**
+	 * Executes a plan built by another query with the same structure, looking up the
+	 * bindings of the parameters of that other query in the bindings of this query.
+	 */
+	private static final class ParameterMappingSelectQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> inverseParameterMapping;
+		private final List<QueryParameterImplementor<?>> parameterOrder;
+
+		private ParameterMappingSelectQueryPlan(
+				SelectQueryPlan<R> delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping,
+				List<QueryParameterImplementor<?>> parameterOrder) {
+			this.delegate = delegate;
+			this.parameterMapping = parameterMapping;
+			this.inverseParameterMapping = new IdentityHashMap<>( parameterMapping.size() );
+			parameterMapping.forEach( (building, executing) -> inverseParameterMapping.put( executing, building ) );
+			this.parameterOrder = parameterOrder;
+		}
+
+		@Override
+		public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+			return delegate.executeQuery( map( executionContext ), resultsConsumer );
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( map( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, map( executionContext ) );
+		}
+
+		private DomainQueryExecutionContext map(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings bindings = new ParameterMappingQueryParameterBindings(
+					executionContext.getQueryParameterBindings(),
+					parameterMapping,
+					inverseParameterMapping,
+					parameterOrder
+			);
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return bindings;
+				}
+			};
+		}
+	}
+
+	/**
+	 * The bindings of the executing query, as seen by a plan built by another query: every
+	 * parameter of the building query is mapped to the parameter of the executing query at
+	 * the same structural position, and every parameter of the executing query is reported
+	 * as the parameter of the building query.
+	 */
+	private static final class ParameterMappingQueryParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> inverseParameterMapping;
+		private final List<QueryParameterImplementor<?>> parameterOrder;
+
+		private ParameterMappingQueryParameterBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> inverseParameterMapping,
+				List<QueryParameterImplementor<?>> parameterOrder) {
+			this.delegate = delegate;
+			this.parameterMapping = parameterMapping;
+			this.inverseParameterMapping = inverseParameterMapping;
+			this.parameterOrder = parameterOrder;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> mapped = parameterMapping.get( parameter );
+			return mapped == null ? parameter : (QueryParameterImplementor<P>) mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( map( parameter ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			for ( QueryParameterImplementor<?> parameter : parameterOrder ) {
+				if ( name.equals( parameter.getName() ) ) {
+					return (QueryParameterBinding<P>) delegate.getBinding( map( parameter ) );
+				}
+			}
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			for ( QueryParameterImplementor<?> parameter : parameterOrder ) {
+				final Integer parameterPosition = parameter.getPosition();
+				if ( parameterPosition != null && parameterPosition == position ) {
+					return (QueryParameterBinding<P>) delegate.getBinding( map( parameter ) );
+				}
+			}
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			if ( delegate instanceof QueryParameterBindingsImpl ) {
+				// the values must be added in the order of the parameters of the building query,
+				// which is the order used when the building query itself is executed
+				return ( (QueryParameterBindingsImpl) delegate ).generateQueryKeyMemento(
+						session,
+						consumer -> {
+							for ( QueryParameterImplementor<?> parameter : parameterOrder ) {
+								consumer.accept( map( parameter ) );
+							}
+						}
+				);
+			}
+			return delegate.generateQueryKeyMemento( session );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings( (parameter, binding) -> {
+				final QueryParameterImplementor<?> building = inverseParameterMapping.get( parameter );
+				action.accept( building == null ? parameter : building, binding );
+			} );
+		}
+	}
+}
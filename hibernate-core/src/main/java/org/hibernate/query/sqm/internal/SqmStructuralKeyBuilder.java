@@ -0,0 +1,1064 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.metamodel.model.domain.internal.AnyDiscriminatorSqmPath;
+import org.hibernate.metamodel.model.domain.internal.EntityDiscriminatorSqmPath;
+import org.hibernate.query.sqm.SemanticQueryWalker;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteContainer;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.NonAggregatedCompositeSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmAnyValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmCteRoot;
+import org.hibernate.query.sqm.tree.domain.SqmDerivedRoot;
+import org.hibernate.query.sqm.tree.domain.SqmElementAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmFkExpression;
+import org.hibernate.query.sqm.tree.domain.SqmIndexAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralPartJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmAny;
+import org.hibernate.query.sqm.tree.expression.SqmAnyDiscriminatorValue;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmByUnit;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCastTarget;
+import org.hibernate.query.sqm.tree.expression.SqmCoalesce;
+import org.hibernate.query.sqm.tree.expression.SqmCollation;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmDurationUnit;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmEvery;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmExtractUnit;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmFormat;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmHqlNumericLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmModifiedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmOrderedSetAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmOver;
+import org.hibernate.query.sqm.tree.expression.SqmOverflow;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmSummarization;
+import org.hibernate.query.sqm.tree.expression.SqmToDuration;
+import org.hibernate.query.sqm.tree.expression.SqmTrimSpecification;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.expression.SqmWindow;
+import org.hibernate.query.sqm.tree.expression.SqmWindowFunction;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmCteJoin;
+import org.hibernate.query.sqm.tree.from.SqmDerivedJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmQualifiedJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmConflictClause;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.insert.SqmInsertValuesStatement;
+import org.hibernate.query.sqm.tree.insert.SqmValues;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmExistsPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmTruthnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+
+/**
+ * Walks a criteria {@link SqmSelectStatement} to build its {@link SqmStructuralKey}.
+ * <p>
+ * Each node contributes its type, the state which affects its translation, such as
+ * operators, attribute names and literal values, and its child nodes enclosed in
+ * {@link Marker#OPEN} and {@link Marker#CLOSE}, so that the key reflects the shape of
+ * the tree, and not only the sequence of its nodes. From elements are numbered in the
+ * order they are declared and referenced by number, and criteria parameters are
+ * numbered by their first occurrence and never contribute their value.
+ * <p>
+ * Only nodes which may occur in criteria queries, and whose state is fully known, are
+ * supported. Any other node makes the statement unsupported, and it gets no key.
+ */
+final class SqmStructuralKeyBuilder implements SemanticQueryWalker<Object> {
+
+	/**
+	 * Structural tokens, which can't be equal to any state of a node.
+	 */
+	private enum Marker {
+		OPEN,
+		CLOSE,
+		NULL,
+		FROM,
+		CORRELATES
+	}
+
+	private final List<Object> structure = new ArrayList<>();
+	private final Map<SqmFrom<?, ?>, Integer> fromIndexes = new IdentityHashMap<>();
+	private final Map<JpaCriteriaParameter<?>, Integer> parameterPositions = new IdentityHashMap<>();
+	private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+	private boolean unsupported;
+
+	private SqmStructuralKeyBuilder() {
+	}
+
+	/**
+	 * Build the key of the given statement.
+	 *
+	 * @return the key, or {@code null} if the statement contains nodes which are not supported
+	 */
+	static SqmStructuralKey build(SqmSelectStatement<?> statement) {
+		final SqmStructuralKeyBuilder builder = new SqmStructuralKeyBuilder();
+		statement.accept( builder );
+		if ( builder.unsupported ) {
+			return null;
+		}
+		for ( SqmParameter<?> sqmParameter : statement.getSqmParameters() ) {
+			// every parameter must be a criteria parameter which occurs in the tree,
+			// since it could not be mapped to the parameters of another query otherwise
+			if ( !( sqmParameter instanceof SqmJpaCriteriaParameterWrapper<?> )
+					|| !builder.parameterPositions.containsKey(
+							( (SqmJpaCriteriaParameterWrapper<?>) sqmParameter ).getJpaCriteriaParameter() ) ) {
+				return null;
+			}
+		}
+		return new SqmStructuralKey( builder.structure, builder.parameters );
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Encoding
+
+	private void open(Object node) {
+		structure.add( Marker.OPEN );
+		structure.add( node.getClass() );
+	}
+
+	private Object close() {
+		structure.add( Marker.CLOSE );
+		return null;
+	}
+
+	private void add(Object state) {
+		structure.add( state );
+	}
+
+	private void addType(SqmExpressible<?> type) {
+		structure.add( type == null || type.getExpressibleJavaType() == null
+				? null
+				: type.getExpressibleJavaType().getJavaTypeClass() );
+	}
+
+	private void node(SqmVisitableNode node) {
+		if ( node == null ) {
+			structure.add( Marker.NULL );
+		}
+		else {
+			node.accept( this );
+		}
+	}
+
+	private void nodes(List<? extends SqmVisitableNode> nodes) {
+		if ( nodes == null ) {
+			structure.add( Marker.NULL );
+		}
+		else {
+			structure.add( nodes.size() );
+			for ( SqmVisitableNode node : nodes ) {
+				node( node );
+			}
+		}
+	}
+
+	private Object unsupported() {
+		unsupported = true;
+		return null;
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Statements
+
+	@Override
+	public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+		if ( !statement.getCteStatements().isEmpty() ) {
+			return unsupported();
+		}
+		open( statement );
+		node( statement.getQueryPart() );
+		return close();
+	}
+
+	@Override
+	public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitSetClause(SqmSetClause setClause) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitAssignment(SqmAssignment<?> assignment) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitInsertValuesStatement(SqmInsertValuesStatement<?> statement) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitConflictClause(SqmConflictClause<?> sqmConflictClause) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitCteStatement(SqmCteStatement<?> sqmCteStatement) {
+		// CTEs may have generated names, which differ between otherwise equal queries
+		return unsupported();
+	}
+
+	@Override
+	public Object visitCteContainer(SqmCteContainer consumer) {
+		return unsupported();
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Query parts
+
+	@Override
+	public Object visitQueryGroup(SqmQueryGroup<?> queryGroup) {
+		open( queryGroup );
+		add( queryGroup.getSetOperator() );
+		nodes( queryGroup.getQueryParts() );
+		addFetchClauses( queryGroup );
+		return close();
+	}
+
+	@Override
+	public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+		open( querySpec );
+		visitFromClause( querySpec.getFromClause() );
+		visitSelectClause( querySpec.getSelectClause() );
+		visitWhereClause( querySpec.getWhereClause() );
+		visitGroupByClause( querySpec.getGroupByClauseExpressions() );
+		visitHavingClause( querySpec.getHavingClausePredicate() );
+		addFetchClauses( querySpec );
+		return close();
+	}
+
+	private void addFetchClauses(SqmQueryPart<?> queryPart) {
+		visitOrderByClause( queryPart.getOrderByClause() );
+		visitOffsetExpression( queryPart.getOffsetExpression() );
+		visitFetchExpression( queryPart.getFetchExpression() );
+		add( queryPart.getFetchClauseType() );
+	}
+
+	@Override
+	public Object visitFromClause(SqmFromClause fromClause) {
+		if ( fromClause == null ) {
+			add( Marker.NULL );
+			return null;
+		}
+		open( fromClause );
+		final List<SqmRoot<?>> roots = fromClause.getRoots();
+		add( roots.size() );
+		for ( SqmRoot<?> root : roots ) {
+			declareFrom( root, root.getOrderedJoins() == null );
+			if ( root.getOrderedJoins() != null ) {
+				add( root.getOrderedJoins().size() );
+				for ( SqmJoin<?, ?> join : root.getOrderedJoins() ) {
+					declareFrom( join, false );
+				}
+			}
+		}
+		return close();
+	}
+
+	private void declareFrom(SqmFrom<?, ?> from, boolean transitive) {
+		open( from );
+		if ( from instanceof SqmRoot<?> ) {
+			if ( from instanceof SqmDerivedRoot<?> || from instanceof SqmCteRoot<?> ) {
+				unsupported();
+				return;
+			}
+			add( ( (SqmRoot<?>) from ).getEntityName() );
+		}
+		else if ( from instanceof SqmAttributeJoin<?, ?> ) {
+			final SqmAttributeJoin<?, ?> join = (SqmAttributeJoin<?, ?>) from;
+			reference( join.getLhs() );
+			add( join.getReferencedPathSource().getPathName() );
+			add( join.getSqmJoinType() );
+			add( join.isFetched() );
+		}
+		else if ( from instanceof SqmEntityJoin<?> ) {
+			final SqmEntityJoin<?> join = (SqmEntityJoin<?>) from;
+			add( join.getEntityName() );
+			add( join.getSqmJoinType() );
+		}
+		else if ( from instanceof SqmCrossJoin<?> ) {
+			add( ( (SqmCrossJoin<?>) from ).getEntityName() );
+		}
+		else {
+			// derived, CTE and plural part joins
+			unsupported();
+			return;
+		}
+		add( from.getExplicitAlias() );
+		if ( from.isCorrelated() ) {
+			add( Marker.CORRELATES );
+			reference( from.getCorrelationParent() );
+		}
+		fromIndexes.put( from, fromIndexes.size() );
+		if ( !from.getSqmTreats().isEmpty() ) {
+			unsupported();
+		}
+		if ( from instanceof SqmQualifiedJoin<?, ?> ) {
+			node( ( (SqmQualifiedJoin<?, ?>) from ).getJoinPredicate() );
+		}
+		if ( transitive ) {
+			final List<? extends SqmJoin<?, ?>> joins = from.getSqmJoins();
+			add( joins.size() );
+			for ( SqmJoin<?, ?> join : joins ) {
+				declareFrom( join, true );
+			}
+		}
+		close();
+	}
+
+	private Object reference(SqmPath<?> path) {
+		final Integer index = fromIndexes.get( path );
+		if ( index == null ) {
+			// a from element which is not declared (yet)
+			return unsupported();
+		}
+		add( Marker.FROM );
+		add( index );
+		return null;
+	}
+
+	@Override
+	public Object visitSelectClause(SqmSelectClause selectClause) {
+		if ( selectClause == null ) {
+			add( Marker.NULL );
+			return null;
+		}
+		open( selectClause );
+		add( selectClause.isDistinct() );
+		add( selectClause.getSelections().size() );
+		for ( SqmSelection<?> selection : selectClause.getSelections() ) {
+			visitSelection( selection );
+		}
+		return close();
+	}
+
+	@Override
+	public Object visitSelection(SqmSelection<?> selection) {
+		open( selection );
+		add( selection.getAlias() );
+		node( selection.getSelectableNode() );
+		return close();
+	}
+
+	@Override
+	public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+		open( sqmDynamicInstantiation );
+		add( sqmDynamicInstantiation.getInstantiationTarget().getNature() );
+		add( sqmDynamicInstantiation.getInstantiationTarget().getTargetTypeDescriptor().getJavaTypeClass() );
+		add( sqmDynamicInstantiation.getArguments().size() );
+		for ( SqmDynamicInstantiationArgument<?> argument : sqmDynamicInstantiation.getArguments() ) {
+			add( argument.getAlias() );
+			node( argument.getSelectableNode() );
+		}
+		return close();
+	}
+
+	@Override
+	public Object visitJpaCompoundSelection(SqmJpaCompoundSelection<?> selection) {
+		open( selection );
+		add( selection.getJavaType() );
+		nodes( selection.getSelectionItems() );
+		return close();
+	}
+
+	@Override
+	public Object visitValues(SqmValues values) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitWhereClause(SqmWhereClause whereClause) {
+		node( whereClause == null ? null : whereClause.getPredicate() );
+		return null;
+	}
+
+	@Override
+	public Object visitGroupByClause(List<SqmExpression<?>> groupByClauseExpressions) {
+		nodes( groupByClauseExpressions );
+		return null;
+	}
+
+	@Override
+	public Object visitHavingClause(SqmPredicate clause) {
+		node( clause );
+		return null;
+	}
+
+	@Override
+	public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+		if ( orderByClause == null || orderByClause.getSortSpecifications() == null ) {
+			add( Marker.NULL );
+			return null;
+		}
+		open( orderByClause );
+		add( orderByClause.getSortSpecifications().size() );
+		for ( SqmSortSpecification sortSpecification : orderByClause.getSortSpecifications() ) {
+			visitSortSpecification( sortSpecification );
+		}
+		return close();
+	}
+
+	@Override
+	public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+		open( sortSpecification );
+		add( sortSpecification.getSortDirection() );
+		add( sortSpecification.getNullPrecedence() );
+		add( sortSpecification.isIgnoreCase() );
+		node( sortSpecification.getSortExpression() );
+		return close();
+	}
+
+	@Override
+	public Object visitOffsetExpression(SqmExpression<?> expression) {
+		node( expression );
+		return null;
+	}
+
+	@Override
+	public Object visitFetchExpression(SqmExpression<?> expression) {
+		node( expression );
+		return null;
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// From elements, as expressions
+
+	@Override
+	public Object visitRootPath(SqmRoot<?> sqmRoot) {
+		return reference( sqmRoot );
+	}
+
+	@Override
+	public Object visitRootDerived(SqmDerivedRoot<?> sqmRoot) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitRootCte(SqmCteRoot<?> sqmRoot) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+		return reference( joinedFromElement );
+	}
+
+	@Override
+	public Object visitPluralPartJoin(SqmPluralPartJoin<?, ?> joinedFromElement) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+		return reference( joinedFromElement );
+	}
+
+	@Override
+	public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+		return reference( joinedFromElement );
+	}
+
+	@Override
+	public Object visitQualifiedDerivedJoin(SqmDerivedJoin<?> joinedFromElement) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitQualifiedCteJoin(SqmCteJoin<?> joinedFromElement) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitCorrelation(SqmCorrelation<?, ?> correlation) {
+		return reference( correlation );
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Paths
+
+	private Object path(SqmPath<?> path) {
+		open( path );
+		add( path.getReferencedPathSource().getPathName() );
+		add( path.getExplicitAlias() );
+		final SqmPath<?> lhs = path.getLhs();
+		if ( lhs == null ) {
+			add( Marker.NULL );
+		}
+		else if ( lhs instanceof SqmFrom<?, ?> ) {
+			reference( lhs );
+		}
+		else {
+			lhs.accept( this );
+		}
+		return close();
+	}
+
+	@Override
+	public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+		return path( path );
+	}
+
+	@Override
+	public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+		return path( path );
+	}
+
+	@Override
+	public Object visitAnyValuedValuedPath(SqmAnyValuedSimplePath<?> path) {
+		return path( path );
+	}
+
+	@Override
+	public Object visitNonAggregatedCompositeValuedPath(NonAggregatedCompositeSimplePath<?> path) {
+		return path( path );
+	}
+
+	@Override
+	public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+		return path( path );
+	}
+
+	@Override
+	public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+		return path( path );
+	}
+
+	@Override
+	public Object visitFkExpression(SqmFkExpression<?> fkExpression) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitDiscriminatorPath(EntityDiscriminatorSqmPath sqmPath) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath<?> path) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitElementAggregateFunction(SqmElementAggregateFunction<?> path) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitIndexAggregateFunction(SqmIndexAggregateFunction<?> path) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitMapEntryFunction(SqmMapEntryReference<?, ?> function) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+		open( function );
+		node( function.getPluralPath() );
+		return close();
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Literals and parameters
+
+	private Object literal(SqmLiteral<?> literal, Object value) {
+		if ( value != null && value.getClass().isArray() ) {
+			// arrays have no value based equality
+			return unsupported();
+		}
+		open( literal );
+		addType( literal.getNodeType() );
+		add( value );
+		return close();
+	}
+
+	@Override
+	public Object visitLiteral(SqmLiteral<?> literal) {
+		return literal( literal, literal.getLiteralValue() );
+	}
+
+	@Override
+	public Object visitEnumLiteral(SqmEnumLiteral<?> sqmEnumLiteral) {
+		return literal( sqmEnumLiteral, sqmEnumLiteral.getEnumValue() );
+	}
+
+	@Override
+	public Object visitFieldLiteral(SqmFieldLiteral<?> sqmFieldLiteral) {
+		open( sqmFieldLiteral );
+		add( sqmFieldLiteral.getBindableJavaType() );
+		add( sqmFieldLiteral.getValue() );
+		return close();
+	}
+
+	@Override
+	public <N extends Number> Object visitHqlNumericLiteral(SqmHqlNumericLiteral<N> numericLiteral) {
+		open( numericLiteral );
+		add( numericLiteral.getTypeCategory() );
+		add( numericLiteral.getUnparsedLiteralValue() );
+		return close();
+	}
+
+	@Override
+	public Object visitCollation(SqmCollation sqmCollate) {
+		return literal( sqmCollate, sqmCollate.getLiteralValue() );
+	}
+
+	@Override
+	public Object visitFormat(SqmFormat sqmFormat) {
+		return literal( sqmFormat, sqmFormat.getLiteralValue() );
+	}
+
+	@Override
+	public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+		open( expression );
+		add( expression.getNodeType().getHibernateEntityName() );
+		return close();
+	}
+
+	@Override
+	public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+		Integer position = parameterPositions.get( expression );
+		if ( position == null ) {
+			position = parameters.size();
+			parameterPositions.put( expression, position );
+			parameters.add( expression );
+		}
+		open( expression );
+		add( position );
+		addType( expression.getNodeType() );
+		add( expression.allowsMultiValuedBinding() );
+		return close();
+	}
+
+	@Override
+	public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitAnyDiscriminatorTypeExpression(AnyDiscriminatorSqmPath<?> expression) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitAnyDiscriminatorTypeValueExpression(SqmAnyDiscriminatorValue<?> expression) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitFullyQualifiedClass(Class<?> namedClass) {
+		return unsupported();
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Expressions
+
+	@Override
+	public Object visitTuple(SqmTuple<?> sqmTuple) {
+		open( sqmTuple );
+		nodes( sqmTuple.getGroupedExpressions() );
+		return close();
+	}
+
+	@Override
+	public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+		open( expression );
+		add( expression.getOperator() );
+		addType( expression.getNodeType() );
+		node( expression.getLeftHandOperand() );
+		node( expression.getRightHandOperand() );
+		return close();
+	}
+
+	@Override
+	public Object visitUnaryOperationExpression(SqmUnaryOperation<?> expression) {
+		open( expression );
+		add( expression.getOperation() );
+		node( expression.getOperand() );
+		return close();
+	}
+
+	@Override
+	public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+		if ( !expression.getCteStatements().isEmpty() ) {
+			return unsupported();
+		}
+		open( expression );
+		addType( expression.getNodeType() );
+		node( expression.getQueryPart() );
+		return close();
+	}
+
+	@Override
+	public Object visitModifiedSubQueryExpression(SqmModifiedSubQueryExpression<?> expression) {
+		open( expression );
+		add( expression.getModifier() );
+		node( expression.getSubQuery() );
+		return close();
+	}
+
+	@Override
+	public Object visitAny(SqmAny<?> sqmAny) {
+		open( sqmAny );
+		node( sqmAny.getSubquery() );
+		return close();
+	}
+
+	@Override
+	public Object visitEvery(SqmEvery<?> sqmEvery) {
+		open( sqmEvery );
+		node( sqmEvery.getSubquery() );
+		return close();
+	}
+
+	@Override
+	public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+		open( expression );
+		addType( expression.getNodeType() );
+		node( expression.getFixture() );
+		add( expression.getWhenFragments().size() );
+		for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : expression.getWhenFragments() ) {
+			node( whenFragment.getCheckValue() );
+			node( whenFragment.getResult() );
+		}
+		node( expression.getOtherwise() );
+		return close();
+	}
+
+	@Override
+	public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+		open( expression );
+		addType( expression.getNodeType() );
+		add( expression.getWhenFragments().size() );
+		for ( SqmCaseSearched.WhenFragment<?> whenFragment : expression.getWhenFragments() ) {
+			node( whenFragment.getPredicate() );
+			node( whenFragment.getResult() );
+		}
+		node( expression.getOtherwise() );
+		return close();
+	}
+
+	@Override
+	public Object visitCoalesce(SqmCoalesce<?> sqmCoalesce) {
+		open( sqmCoalesce );
+		addType( sqmCoalesce.getNodeType() );
+		nodes( sqmCoalesce.getArguments() );
+		return close();
+	}
+
+	@Override
+	public Object visitFunction(SqmFunction<?> tSqmFunction) {
+		open( tSqmFunction );
+		add( tSqmFunction.getFunctionName() );
+		addType( tSqmFunction.getNodeType() );
+		nodes( tSqmFunction.getArguments() );
+		if ( tSqmFunction instanceof SqmAggregateFunction<?> ) {
+			node( ( (SqmAggregateFunction<?>) tSqmFunction ).getFilter() );
+			if ( tSqmFunction instanceof SqmOrderedSetAggregateFunction<?> ) {
+				visitOrderByClause( ( (SqmOrderedSetAggregateFunction<?>) tSqmFunction ).getWithinGroup() );
+			}
+		}
+		if ( tSqmFunction instanceof SqmWindowFunction<?> ) {
+			final SqmWindowFunction<?> windowFunction = (SqmWindowFunction<?>) tSqmFunction;
+			node( windowFunction.getFilter() );
+			add( windowFunction.getRespectNulls() );
+			add( windowFunction.getFromFirst() );
+		}
+		return close();
+	}
+
+	@Override
+	public Object visitExtractUnit(SqmExtractUnit<?> extractUnit) {
+		open( extractUnit );
+		add( extractUnit.getUnit() );
+		return close();
+	}
+
+	@Override
+	public Object visitCastTarget(SqmCastTarget<?> sqmCastTarget) {
+		open( sqmCastTarget );
+		addType( sqmCastTarget.getType() );
+		add( sqmCastTarget.getLength() );
+		add( sqmCastTarget.getPrecision() );
+		add( sqmCastTarget.getScale() );
+		return close();
+	}
+
+	@Override
+	public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+		open( trimSpecification );
+		add( trimSpecification.getSpecification() );
+		return close();
+	}
+
+	@Override
+	public Object visitDurationUnit(SqmDurationUnit<?> durationUnit) {
+		open( durationUnit );
+		add( durationUnit.getUnit() );
+		return close();
+	}
+
+	@Override
+	public Object visitDistinct(SqmDistinct<?> distinct) {
+		open( distinct );
+		node( distinct.getExpression() );
+		return close();
+	}
+
+	@Override
+	public Object visitStar(SqmStar sqmStar) {
+		open( sqmStar );
+		return close();
+	}
+
+	@Override
+	public Object visitSummarization(SqmSummarization<?> sqmSummarization) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitOver(SqmOver<?> over) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitWindow(SqmWindow widow) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitOverflow(SqmOverflow<?> sqmOverflow) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitToDuration(SqmToDuration<?> toDuration) {
+		return unsupported();
+	}
+
+	@Override
+	public Object visitByUnit(SqmByUnit sqmByUnit) {
+		return unsupported();
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Predicates
+
+	private void openPredicate(SqmPredicate predicate) {
+		open( predicate );
+		add( predicate.isNegated() );
+	}
+
+	@Override
+	public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+		openPredicate( predicate );
+		node( predicate.getSubPredicate() );
+		return close();
+	}
+
+	@Override
+	public Object visitJunctionPredicate(SqmJunctionPredicate predicate) {
+		openPredicate( predicate );
+		add( predicate.getOperator() );
+		nodes( predicate.getPredicates() );
+		return close();
+	}
+
+	@Override
+	public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+		openPredicate( predicate );
+		add( predicate.getSqmOperator() );
+		node( predicate.getLeftHandExpression() );
+		node( predicate.getRightHandExpression() );
+		return close();
+	}
+
+	@Override
+	public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+		openPredicate( predicate );
+		node( predicate.getPluralPath() );
+		return close();
+	}
+
+	@Override
+	public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+		openPredicate( predicate );
+		node( predicate.getExpression() );
+		return close();
+	}
+
+	@Override
+	public Object visitIsTruePredicate(SqmTruthnessPredicate predicate) {
+		openPredicate( predicate );
+		add( predicate.getBooleanValue() );
+		node( predicate.getExpression() );
+		return close();
+	}
+
+	@Override
+	public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+		openPredicate( predicate );
+		node( predicate.getExpression() );
+		node( predicate.getLowerBound() );
+		node( predicate.getUpperBound() );
+		return close();
+	}
+
+	@Override
+	public Object visitLikePredicate(SqmLikePredicate predicate) {
+		openPredicate( predicate );
+		add( predicate.isCaseSensitive() );
+		node( predicate.getMatchExpression() );
+		node( predicate.getPattern() );
+		node( predicate.getEscapeCharacter() );
+		return close();
+	}
+
+	@Override
+	public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+		openPredicate( predicate );
+		node( predicate.getLeftHandExpression() );
+		node( predicate.getPluralPath() );
+		return close();
+	}
+
+	@Override
+	public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+		openPredicate( predicate );
+		node( predicate.getWrappedPredicate() );
+		return close();
+	}
+
+	@Override
+	public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+		openPredicate( predicate );
+		node( predicate.getTestExpression() );
+		nodes( predicate.getListExpressions() );
+		return close();
+	}
+
+	@Override
+	public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+		openPredicate( predicate );
+		node( predicate.getTestExpression() );
+		node( predicate.getSubQueryExpression() );
+		return close();
+	}
+
+	@Override
+	public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+		openPredicate( predicate );
+		node( predicate.getBooleanExpression() );
+		return close();
+	}
+
+	@Override
+	public Object visitExistsPredicate(SqmExistsPredicate sqmExistsPredicate) {
+		openPredicate( sqmExistsPredicate );
+		node( sqmExistsPredicate.getExpression() );
+		return close();
+	}
+}
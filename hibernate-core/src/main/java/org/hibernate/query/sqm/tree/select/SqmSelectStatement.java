@@ -27,6 +27,7 @@ import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.SemanticQueryWalker;
 import org.hibernate.query.sqm.SqmQuerySource;
+import org.hibernate.query.sqm.internal.SqmStructuralKey;
 import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
 import org.hibernate.query.sqm.tree.SqmStatement;
@@ -49,6 +50,9 @@ public class SqmSelectStatement<T> extends AbstractSqmSelectQuery<T> implements
 
 	private Set<SqmParameter<?>> parameters;
 
+	private SqmStructuralKey structuralKey;
+	private boolean structuralKeyResolved;
+
 	public SqmSelectStatement(NodeBuilder nodeBuilder) {
 		this( SqmQuerySource.HQL, nodeBuilder );
 	}
@@ -229,6 +233,23 @@ public class SqmSelectStatement<T> extends AbstractSqmSelectQuery<T> implements
 		return SqmUtil.resolveParameters( this );
 	}
 
+	/**
+	 * The structure of this criteria query, which is determined when the query
+	 * is first executed. As with the query plan, which is cached for this query,
+	 * the query must not be modified after that.
+	 *
+	 * @return the structure, or {@code null} if this query has no structural key
+	 *
+	 * @see SqmStructuralKey
+	 */
+	public SqmStructuralKey getStructuralKey() {
+		if ( !structuralKeyResolved ) {
+			structuralKey = SqmStructuralKey.build( this );
+			structuralKeyResolved = true;
+		}
+		return structuralKey;
+	}
+
 	@Override
 	public <X> X accept(SemanticQueryWalker<X> walker) {
 		return walker.visitSelectStatement( this );
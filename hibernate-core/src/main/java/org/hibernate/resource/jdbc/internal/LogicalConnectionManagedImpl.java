@@ -45,6 +45,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private final transient SqlExceptionHelper sqlExceptionHelper;
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
+	private final transient PreparedStatementCache statementCache;
 
 	private transient Connection physicalConnection;
 	private boolean closed;
@@ -56,9 +57,23 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			JdbcSessionContext jdbcSessionContext,
 			ResourceRegistry resourceRegistry,
 			JdbcServices jdbcServices) {
+		this( jdbcConnectionAccess, jdbcSessionContext, resourceRegistry, null, jdbcServices );
+	}
+
+	/**
+	 * @param statementCache the cache of statements used by the given {@link ResourceRegistry},
+	 * which is cleared whenever the physical connection is released, or {@code null}
+	 */
+	public LogicalConnectionManagedImpl(
+			JdbcConnectionAccess jdbcConnectionAccess,
+			JdbcSessionContext jdbcSessionContext,
+			ResourceRegistry resourceRegistry,
+			PreparedStatementCache statementCache,
+			JdbcServices jdbcServices) {
 		this.jdbcConnectionAccess = jdbcConnectionAccess;
 		this.observer = jdbcSessionContext.getObserver();
 		this.resourceRegistry = resourceRegistry;
+		this.statementCache = statementCache;
 
 		this.connectionHandlingMode = determineConnectionHandlingMode(
 				jdbcSessionContext.getPhysicalConnectionHandlingMode(),
@@ -216,6 +231,9 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		try {
 			try {
 				getResourceRegistry().releaseResources();
+				if ( statementCache != null ) {
+					statementCache.clear();
+				}
 				if ( !localVariableConnection.isClosed() ) {
 					sqlExceptionHelper.logAndClearWarnings( localVariableConnection );
 				}
@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * A bounded, least-recently-used cache of idle {@link PreparedStatement}s belonging
+ * to a single logical connection.
+ * <p>
+ * A statement obtained from the cache is "checked out" until it is
+ * {@linkplain ResourceRegistryStandardImpl#release(Statement) released}, at which
+ * point it is cleaned, and returned to the cache instead of being closed. Since
+ * a statement belongs to a physical connection, the cache must be
+ * {@linkplain #clear() cleared} before the physical connection is released.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ */
+public final class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final StatisticsImplementor statistics;
+
+	private final LinkedHashMap<Key, PreparedStatement> idleStatements;
+	private final IdentityHashMap<Statement, Key> checkedOutStatements = new IdentityHashMap<>();
+
+	/**
+	 * @param maxSize the maximum number of idle statements
+	 * @param statistics the statistics to report hits and misses to, or {@code null}
+	 */
+	public PreparedStatementCache(int maxSize, StatisticsImplementor statistics) {
+		this.maxSize = maxSize;
+		this.statistics = statistics;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	/**
+	 * Check out the idle statement for the given SQL and result set options, if any.
+	 *
+	 * @return the statement, or {@code null} if there is no idle statement
+	 */
+	public PreparedStatement checkOut(String sql, int resultSetType, int autoGeneratedKeys) {
+		final Key key = new Key( sql, resultSetType, autoGeneratedKeys );
+		final PreparedStatement statement = idleStatements.remove( key );
+		if ( statement != null && isOpen( statement ) ) {
+			if ( statistics != null && statistics.isStatisticsEnabled() ) {
+				statistics.preparedStatementCacheHit();
+			}
+			checkedOutStatements.put( statement, key );
+			return statement;
+		}
+		else {
+			if ( statistics != null && statistics.isStatisticsEnabled() ) {
+				statistics.preparedStatementCacheMiss();
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Track a newly prepared statement, so that it is returned to the cache,
+	 * rather than closed, when released.
+	 */
+	public void track(PreparedStatement statement, String sql, int resultSetType, int autoGeneratedKeys) {
+		checkedOutStatements.put( statement, new Key( sql, resultSetType, autoGeneratedKeys ) );
+	}
+
+	/**
+	 * Return the given released statement to the cache, if it was checked
+	 * out from, or tracked by, this cache, and it can be cleaned.
+	 *
+	 * @return {@code true} if the statement was retained by the cache, and
+	 * so must not be closed
+	 */
+	public boolean checkIn(Statement statement) {
+		final Key key = checkedOutStatements.remove( statement );
+		if ( key == null || !clean( statement ) ) {
+			return false;
+		}
+		final PreparedStatement previous = idleStatements.put( key, (PreparedStatement) statement );
+		if ( previous != null ) {
+			// the same SQL was executed by two statements at once
+			ResourceRegistryStandardImpl.close( previous );
+		}
+		if ( idleStatements.size() > maxSize ) {
+			final Iterator<PreparedStatement> eldest = idleStatements.values().iterator();
+			ResourceRegistryStandardImpl.close( eldest.next() );
+			eldest.remove();
+		}
+		return true;
+	}
+
+	/**
+	 * Close every idle statement, and forget about the checked out statements.
+	 */
+	public void clear() {
+		if ( !idleStatements.isEmpty() ) {
+			log.tracef( "Closing %s cached statements", idleStatements.size() );
+			idleStatements.forEach( (key, statement) -> ResourceRegistryStandardImpl.close( statement ) );
+			idleStatements.clear();
+		}
+		checkedOutStatements.clear();
+	}
+
+	public int getIdleStatementCount() {
+		return idleStatements.size();
+	}
+
+	private static boolean isOpen(Statement statement) {
+		try {
+			return !statement.isClosed();
+		}
+		catch (SQLException e) {
+			return false;
+		}
+	}
+
+	private static boolean clean(Statement statement) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			final PreparedStatement preparedStatement = (PreparedStatement) statement;
+			preparedStatement.clearParameters();
+			try {
+				preparedStatement.clearBatch();
+			}
+			catch (SQLFeatureNotSupportedException e) {
+				// batching is not supported, and so there is nothing to clear
+			}
+			preparedStatement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != 0 ) {
+				statement.setFetchSize( 0 );
+			}
+			if ( statement.getFetchDirection() != ResultSet.FETCH_FORWARD ) {
+				statement.setFetchDirection( ResultSet.FETCH_FORWARD );
+			}
+			return true;
+		}
+		catch (SQLException | RuntimeException e) {
+			// the statement will be closed instead
+			log.debugf( "Unable to clean JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static final class Key {
+		private final String sql;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
+		private final int hashCode;
+
+		private Key(String sql, int resultSetType, int autoGeneratedKeys) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.hashCode = 31 * ( 31 * sql.hashCode() + resultSetType ) + autoGeneratedKeys;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( this == object ) {
+				return true;
+			}
+			if ( !( object instanceof Key ) ) {
+				return false;
+			}
+			final Key that = (Key) object;
+			return resultSetType == that.resultSetType
+				&& autoGeneratedKeys == that.autoGeneratedKeys
+				&& Objects.equals( sql, that.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
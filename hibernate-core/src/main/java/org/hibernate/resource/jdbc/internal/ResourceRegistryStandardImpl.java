@@ -50,6 +50,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -65,7 +66,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, null );
+	}
+
+	/**
+	 * @param statementCache the cache to which released statements are returned,
+	 * or {@code null} if statements are not cached
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, PreparedStatementCache statementCache) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -105,7 +115,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		closeOrCache( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -160,9 +170,15 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
 		closeAll( r );
-		close( s );
+		closeOrCache( s );
+	}
+
+	private void closeOrCache(Statement statement) {
+		if ( statementCache == null || !statementCache.checkIn( statement ) ) {
+			close( statement );
+		}
 	}
 
 	private static void close(final ResultSet resultSet) {
@@ -332,7 +348,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		xref.forEach( this::releaseXref );
 		xref.clear();
 
 		closeAll( unassociatedResultSets );
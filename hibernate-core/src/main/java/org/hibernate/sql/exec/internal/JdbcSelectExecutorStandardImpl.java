@@ -20,6 +20,8 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.sql.exec.SqlExecLogger;
@@ -208,23 +210,38 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 
 		rowReader.getInitializersList().startLoading( rowProcessingState );
 
-		final T result = resultsConsumer.consume(
-				jdbcValues,
-				session,
-				processingOptions,
-				valuesProcessingState,
-				rowProcessingState,
-				rowReader
-		);
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent rowHydrationEvent = eventManager.beginRowHydrationEvent();
+		T result = null;
+		try {
+			result = resultsConsumer.consume(
+					jdbcValues,
+					session,
+					processingOptions,
+					valuesProcessingState,
+					rowProcessingState,
+					rowReader
+			);
+		}
+		finally {
+			eventManager.completeRowHydrationEvent(
+					rowHydrationEvent,
+					session,
+					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+					getResultSize( result )
+			);
+		}
 
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSqlString() );
 			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+					queryIdentifier,
 					getResultSize( result ),
 					milliseconds
 			);
+			statistics.queryExecutionTime( queryIdentifier, endTime - startTime );
 		}
 
 		return result;
@@ -9,6 +9,8 @@ package org.hibernate.sql.results.caching.internal;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.cache.internal.PackedQueryResults;
+import org.hibernate.cache.internal.QueryResultsCacheImpl;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -27,6 +29,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
+	private final PackedQueryResults.Layout layout;
 	private final List<Object> dataToCache = new ArrayList<>();
 
 	public QueryCachePutManagerEnabledImpl(
@@ -35,10 +38,21 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			QueryKey queryKey,
 			String queryIdentifier,
 			JdbcValuesMetadata metadataForCache) {
+		this( queryCache, statistics, queryKey, queryIdentifier, metadataForCache, null );
+	}
+
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			JdbcValuesMetadata metadataForCache,
+			PackedQueryResults.Layout layout) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
+		this.layout = layout;
 		if ( metadataForCache != null ) {
 			dataToCache.add( metadataForCache );
 		}
@@ -51,11 +65,9 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
-		final boolean put = queryCache.put(
-				queryKey,
-				dataToCache,
-				session
-		);
+		final boolean put = queryCache instanceof QueryResultsCacheImpl
+				? ( (QueryResultsCacheImpl) queryCache ).put( queryKey, dataToCache, layout, session )
+				: queryCache.put( queryKey, dataToCache, session );
 		if ( put && statistics.isStatisticsEnabled() ) {
 			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
 		}
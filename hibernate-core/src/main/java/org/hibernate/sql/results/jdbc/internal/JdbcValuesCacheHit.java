@@ -9,6 +9,7 @@ package org.hibernate.sql.results.jdbc.internal;
 import java.util.BitSet;
 import java.util.List;
 
+import org.hibernate.cache.internal.PackedQueryResults;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.ResultsLogger;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -23,6 +24,7 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	private PackedQueryResults packedResults;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -31,6 +33,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		this.cachedResults = cachedResults;
+		this.packedResults = cachedResults instanceof PackedQueryResults ? (PackedQueryResults) cachedResults : null;
 		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
 		this.numberOfRows = cachedResults.size() - offset;
 		this.resolvedMapping = resolvedMapping;
@@ -222,6 +225,13 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( packedResults != null ) {
+			// read the single value, without building the row
+			return packedResults.getValue(
+					position,
+					valueIndexesToCacheIndexes == null ? valueIndex : valueIndexesToCacheIndexes[valueIndex]
+			);
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
@@ -242,6 +252,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
+		packedResults = null;
 	}
 
 	@Override
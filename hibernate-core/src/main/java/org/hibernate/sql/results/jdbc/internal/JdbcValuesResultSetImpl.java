@@ -13,12 +13,15 @@ import java.util.BitSet;
 
 import org.hibernate.JDBCException;
 import org.hibernate.QueryTimeoutException;
+import org.hibernate.cache.internal.PackedQueryResults;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.exception.DataException;
 import org.hibernate.exception.LockTimeoutException;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
@@ -59,13 +62,6 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			JdbcValuesMapping valuesMapping,
 			JdbcValuesMetadata metadataForCache,
 			ExecutionContext executionContext) {
-		this.queryCachePutManager = resolveQueryCachePutManager(
-				executionContext,
-				queryOptions,
-				queryCacheKey,
-				queryIdentifier,
-				metadataForCache
-		);
 		this.resultSetAccess = resultSetAccess;
 		this.valuesMapping = valuesMapping;
 		this.executionContext = executionContext;
@@ -77,7 +73,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
-		if ( queryCachePutManager == null ) {
+		if ( queryCacheKey == null ) {
 			this.valueIndexesToCacheIndexes = null;
 			this.rowToCacheSize = -1;
 		}
@@ -117,9 +113,16 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 				this.rowToCacheSize = cacheIndex;
 			}
 		}
+		this.queryCachePutManager = resolveQueryCachePutManager(
+				executionContext,
+				queryOptions,
+				queryCacheKey,
+				queryIdentifier,
+				metadataForCache
+		);
 	}
 
-	private static QueryCachePutManager resolveQueryCachePutManager(
+	private QueryCachePutManager resolveQueryCachePutManager(
 			ExecutionContext executionContext,
 			QueryOptions queryOptions,
 			QueryKey queryCacheKey,
@@ -134,7 +137,8 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					resolveQueryCacheLayout()
 			);
 		}
 		else {
@@ -142,6 +146,48 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 	}
 
+	/**
+	 * The layout of the cached rows, shared by the results of the same mapping.
+	 */
+	private PackedQueryResults.Layout resolveQueryCacheLayout() {
+		return valuesMapping instanceof StandardJdbcValuesMapping
+				? ( (StandardJdbcValuesMapping) valuesMapping ).getQueryCacheLayout( this::buildQueryCacheLayout )
+				: buildQueryCacheLayout();
+	}
+
+	private PackedQueryResults.Layout buildQueryCacheLayout() {
+		final JdbcMapping[] jdbcMappings;
+		if ( valueIndexesToCacheIndexes == null ) {
+			jdbcMappings = new JdbcMapping[sqlSelections.length];
+			for ( int i = 0; i < sqlSelections.length; i++ ) {
+				jdbcMappings[i] = jdbcMapping( sqlSelections[i] );
+			}
+		}
+		else if ( rowToCacheSize < 1 ) {
+			jdbcMappings = new JdbcMapping[] { jdbcMapping( sqlSelections[-rowToCacheSize] ) };
+		}
+		else {
+			jdbcMappings = new JdbcMapping[rowToCacheSize];
+			for ( int i = 0; i < valueIndexesToCacheIndexes.length; i++ ) {
+				final int cacheIndex = valueIndexesToCacheIndexes[i];
+				if ( cacheIndex != -1 ) {
+					jdbcMappings[cacheIndex] = jdbcMapping( sqlSelections[i] );
+				}
+			}
+		}
+		return PackedQueryResults.Layout.forJdbcMappings( jdbcMappings );
+	}
+
+	private static JdbcMapping jdbcMapping(SqlSelection sqlSelection) {
+		if ( sqlSelection == null ) {
+			return null;
+		}
+		final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+		return expressionType == null || expressionType.getJdbcTypeCount() != 1
+				? null
+				: expressionType.getSingleJdbcMapping();
+	}
+
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
 		return advance( advanceNext() );
@@ -7,7 +7,9 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.hibernate.cache.internal.PackedQueryResults;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
@@ -21,6 +23,7 @@ import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 	private final List<SqlSelection> sqlSelections;
 	private final List<DomainResult<?>> domainResults;
+	private volatile PackedQueryResults.Layout queryCacheLayout;
 
 	public StandardJdbcValuesMapping(
 			List<SqlSelection> sqlSelections,
@@ -44,6 +47,19 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 		return sqlSelections.size();
 	}
 
+	/**
+	 * The layout of the rows of results with this mapping kept in the query cache,
+	 * built by the given supplier when first needed, and then shared by every result.
+	 */
+	public PackedQueryResults.Layout getQueryCacheLayout(Supplier<PackedQueryResults.Layout> layoutBuilder) {
+		PackedQueryResults.Layout layout = queryCacheLayout;
+		if ( layout == null ) {
+			layout = layoutBuilder.get();
+			queryCacheLayout = layout;
+		}
+		return layout;
+	}
+
 	@Override
 	public List<DomainResultAssembler<?>> resolveAssemblers(AssemblerCreationState creationState) {
 		final List<DomainResultAssembler<?>> assemblers = CollectionHelper.arrayList( domainResults.size() );
@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of the times taken by some operation, for example, by
+ * the executions of a query, or by the flushes of a session.
+ * <p>
+ * All times are in microseconds. The time at a given quantile is reported
+ * with a relative error of at most 1/16, that is, to within about 6%.
+ *
+ * @see Statistics#getQueryExecutionLatency()
+ * @see QueryStatistics#getExecutionLatency()
+ *
+ * @since 6.5
+ */
+@Incubating
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The number of recorded times.
+	 */
+	long getCount();
+
+	/**
+	 * The sum of the recorded times, in microseconds.
+	 */
+	long getTotal();
+
+	/**
+	 * The longest recorded time, in microseconds.
+	 */
+	long getMax();
+
+	/**
+	 * The mean of the recorded times, in microseconds.
+	 */
+	double getMean();
+
+	/**
+	 * The time, in microseconds, below which the given fraction of the
+	 * recorded times fall. For example, {@code getValueAtQuantile(0.99)}
+	 * is the 99th percentile.
+	 *
+	 * @param quantile a number between {@code 0} and {@code 1}
+	 *
+	 * @return the time at the given quantile, or {@code 0} if no time has
+	 *         been recorded
+	 */
+	long getValueAtQuantile(double quantile);
+}
@@ -8,6 +8,8 @@ package org.hibernate.stat;
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Statistics relating to a particular query written in HQL or SQL.
  * <p>
@@ -53,6 +55,14 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * The distribution of the times taken to execute this query.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	LatencyHistogram getExecutionLatency();
+
 	/**
 	 * The number of cache hits for this query.
 	 *
@@ -9,6 +9,8 @@ package org.hibernate.stat;
 import java.time.Instant;
 import java.util.Map;
 
+import org.hibernate.Incubating;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -380,6 +382,22 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements that were reused from the
+	 * statement cache of a session, instead of being prepared again.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	long getPreparedStatementCacheHitCount();
+
+	/**
+	 * The number of prepared statements that were not found in the
+	 * statement cache of a session, and so had to be prepared.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	long getPreparedStatementCacheMissCount();
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -395,4 +413,50 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The distribution of the times taken to execute queries.
+	 *
+	 * @since 6.5
+	 *
+	 * @see QueryStatistics#getExecutionLatency()
+	 */
+	@Incubating
+	LatencyHistogram getQueryExecutionLatency();
+
+	/**
+	 * The distribution of the times taken to fetch entities by id,
+	 * counting only fetches which needed a separate query.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	LatencyHistogram getEntityFetchLatency();
+
+	/**
+	 * The distribution of the times taken to fetch collections,
+	 * counting only fetches which needed a separate query.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	LatencyHistogram getCollectionFetchLatency();
+
+	/**
+	 * The distribution of the times taken by flushes which executed
+	 * changes against the database.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	LatencyHistogram getFlushLatency();
+
+	/**
+	 * The distribution of the times taken by transactions, from their
+	 * beginning to their completion.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	LatencyHistogram getTransactionLatency();
 }
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * A lock-free, log-linear {@link LatencyHistogram}.
+ * <p>
+ * Times below 8 microseconds are counted exactly. Above that, each power of
+ * two is divided into 8 buckets of equal width, so that the width of the
+ * bucket of a time is at most 1/8 of the time, and its midpoint at most 1/16
+ * away from it. Times of more than 2<sup>36</sup> microseconds, about 19
+ * hours, are counted in the last bucket.
+ * <p>
+ * Recording a time is a single atomic increment of its bucket, along with
+ * updates of the count, total, and maximum. The buckets are read without
+ * locking, so a quantile read concurrently with recording may not reflect
+ * the most recently recorded times.
+ */
+public class LatencyHistogramImpl implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 36;
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + ( MAX_EXPONENT - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Record a time.
+	 *
+	 * @param nanoseconds the time taken, in nanoseconds
+	 */
+	public void record(long nanoseconds) {
+		final long microseconds = Math.max( 0L, TimeUnit.NANOSECONDS.toMicros( nanoseconds ) );
+		buckets.incrementAndGet( bucketIndex( microseconds ) );
+		count.increment();
+		total.add( microseconds );
+		//noinspection StatementWithEmptyBody
+		for ( long old = max.get(); microseconds > old && !max.compareAndSet( old, microseconds ); old = max.get() ) {
+		}
+	}
+
+	/**
+	 * Forget all recorded times.
+	 */
+	public void clear() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			buckets.set( i, 0L );
+		}
+		count.reset();
+		total.reset();
+		max.set( 0L );
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotal() {
+		return total.sum();
+	}
+
+	@Override
+	public long getMax() {
+		return max.get();
+	}
+
+	@Override
+	public double getMean() {
+		final long count = this.count.sum();
+		return count == 0 ? 0d : total.sum() / (double) count;
+	}
+
+	@Override
+	public long getValueAtQuantile(double quantile) {
+		if ( quantile < 0d || quantile > 1d ) {
+			throw new IllegalArgumentException( "Quantile must be between 0 and 1: " + quantile );
+		}
+		final long[] counts = new long[BUCKET_COUNT];
+		long count = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = buckets.get( i );
+			count += counts[i];
+		}
+		if ( count == 0 ) {
+			return 0L;
+		}
+		final long max = this.max.get();
+		final long rank = Math.max( 1L, (long) Math.ceil( quantile * count ) );
+		if ( rank >= count ) {
+			return max;
+		}
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += counts[i];
+			if ( seen >= rank ) {
+				return Math.min( midpoint( i ), max );
+			}
+		}
+		return max;
+	}
+
+	static int bucketIndex(long microseconds) {
+		if ( microseconds < SUB_BUCKET_COUNT ) {
+			return (int) microseconds;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( microseconds );
+		if ( exponent >= MAX_EXPONENT ) {
+			return BUCKET_COUNT - 1;
+		}
+		final int shift = exponent - SUB_BUCKET_BITS;
+		final int subBucket = (int) ( microseconds >>> shift ) & ( SUB_BUCKET_COUNT - 1 );
+		return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long midpoint(int bucketIndex) {
+		if ( bucketIndex < SUB_BUCKET_COUNT ) {
+			return bucketIndex;
+		}
+		final int shift = ( bucketIndex - SUB_BUCKET_COUNT ) / SUB_BUCKET_COUNT;
+		final int subBucket = ( bucketIndex - SUB_BUCKET_COUNT ) % SUB_BUCKET_COUNT;
+		final long lowest = (long) ( SUB_BUCKET_COUNT + subBucket ) << shift;
+		return lowest + ( ( 1L << shift ) >> 1 );
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram"
+				+ "[count=" + getCount()
+				+ ",total=" + getTotal()
+				+ ",max=" + getMax()
+				+ ",p50=" + getValueAtQuantile( 0.5 )
+				+ ",p99=" + getValueAtQuantile( 0.99 )
+				+ ",p999=" + getValueAtQuantile( 0.999 )
+				+ ']';
+	}
+}
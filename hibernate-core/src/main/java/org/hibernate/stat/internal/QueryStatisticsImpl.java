@@ -13,6 +13,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -33,6 +34,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
 	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LatencyHistogramImpl executionLatency = new LatencyHistogramImpl();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
@@ -133,6 +135,13 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return totalExecutionTime.get();
 	}
 
+	/**
+	 * distribution of the times taken by the executions of this query onto the DB
+	 */
+	public LatencyHistogram getExecutionLatency() {
+		return executionLatency;
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -177,6 +186,15 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		}
 	}
 
+	/**
+	 * add the precise execution time of a DB query
+	 *
+	 * @param nanoseconds time taken
+	 */
+	void executionTime(long nanoseconds) {
+		executionLatency.record( nanoseconds );
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
@@ -220,6 +238,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
 				+ ",executionMaxTime=" + this.executionMaxTime
 				+ ",executionMinTime=" + this.executionMinTime
+				+ ",executionLatency=" + this.executionLatency
 				+ ']';
 	}
 }
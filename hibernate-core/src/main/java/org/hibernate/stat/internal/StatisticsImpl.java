@@ -28,6 +28,7 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -65,6 +66,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -108,6 +111,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
+	private final LatencyHistogramImpl queryExecutionLatency = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl entityFetchLatency = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl collectionFetchLatency = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl flushLatency = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl transactionLatency = new LatencyHistogramImpl();
+
 	private final StatsNamedContainer<EntityStatisticsImpl> entityStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<NaturalIdStatisticsImpl> naturalIdQueryStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<CollectionStatisticsImpl> collectionStatsMap = new StatsNamedContainer<>();
@@ -172,6 +181,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -201,6 +212,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		optimisticFailureCount.reset();
 
+		queryExecutionLatency.clear();
+		entityFetchLatency.clear();
+		collectionFetchLatency.clear();
+		flushLatency.clear();
+		transactionLatency.clear();
+
 		entityStatsMap.clear();
 		collectionStatsMap.clear();
 		naturalIdQueryStatsMap.clear();
@@ -299,6 +316,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityFetchTime(String entityName, long nanoseconds) {
+		entityFetchLatency.record( nanoseconds );
+	}
+
+	@Override
+	public LatencyHistogram getEntityFetchLatency() {
+		return entityFetchLatency;
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -400,6 +427,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionFetchTime(String role, long nanoseconds) {
+		collectionFetchLatency.record( nanoseconds );
+	}
+
+	@Override
+	public LatencyHistogram getCollectionFetchLatency() {
+		return collectionFetchLatency;
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -724,6 +761,19 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryExecutionTime(String hql, long nanoseconds) {
+		queryExecutionLatency.record( nanoseconds );
+		if ( hql != null ) {
+			getQueryStatistics( hql ).executionTime( nanoseconds );
+		}
+	}
+
+	@Override
+	public LatencyHistogram getQueryExecutionLatency() {
+		return queryExecutionLatency;
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCacheHit( `%s`, `%s` )", hql, regionName );
@@ -852,6 +902,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -867,6 +927,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		flushCount.increment();
 	}
 
+	@Override
+	public void flushTime(long nanoseconds) {
+		flushLatency.record( nanoseconds );
+	}
+
+	@Override
+	public LatencyHistogram getFlushLatency() {
+		return flushLatency;
+	}
+
 	@Override
 	public void connect() {
 		connectCount.increment();
@@ -882,6 +952,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -890,6 +970,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void transactionTime(long nanoseconds) {
+		transactionLatency.record( nanoseconds );
+	}
+
+	@Override
+	public LatencyHistogram getTransactionLatency() {
+		return transactionLatency;
+	}
+
 	@Override
 	public void logSummary() {
 		LOG.loggingStatistics();
@@ -946,6 +1036,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",statement cache hits=" + preparedStatementCacheHitCount +
+				",statement cache misses=" + preparedStatementCacheMissCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -974,6 +1066,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query execution latency=" + queryExecutionLatency +
+				",entity fetch latency=" + entityFetchLatency +
+				",collection fetch latency=" + collectionFetchLatency +
+				",flush latency=" + flushLatency +
+				",transaction latency=" + transactionLatency +
 				']';
 	}
 
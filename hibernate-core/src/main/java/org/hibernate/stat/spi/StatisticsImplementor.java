@@ -6,6 +6,7 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
@@ -50,6 +51,22 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a prepared statement being reused from the statement cache
+	 * of a session.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	void preparedStatementCacheHit();
+
+	/**
+	 * Callback about a prepared statement not being found in the statement cache
+	 * of a session.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	void preparedStatementCacheMiss();
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -286,6 +303,62 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating the time taken to execute a sql/hql query
+	 *
+	 * @param hql The query
+	 * @param nanoseconds execution time
+	 */
+	@Incubating
+	default void queryExecutionTime(String hql, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time taken to fetch an entity, when a
+	 * separate query was needed.
+	 *
+	 * @param entityName The name of the entity fetched.
+	 * @param nanoseconds time taken
+	 */
+	@Incubating
+	default void entityFetchTime(String entityName, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time taken to fetch a collection, when a
+	 * separate query was needed.
+	 *
+	 * @param role The collection role.
+	 * @param nanoseconds time taken
+	 */
+	@Incubating
+	default void collectionFetchTime(String role, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time taken by a flush.
+	 *
+	 * @param nanoseconds time taken
+	 */
+	@Incubating
+	default void flushTime(long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time taken by a transaction, from its
+	 * beginning to its completion.
+	 *
+	 * @param nanoseconds time taken
+	 */
+	@Incubating
+	default void transactionTime(long nanoseconds) {
+		//For backward compatibility
+	}
+
 	@Override
 	default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
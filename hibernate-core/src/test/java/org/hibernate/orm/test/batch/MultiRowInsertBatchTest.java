@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for batches of inserts executed as multi-row inserts.
+ */
+@DomainModel(annotatedClasses = {
+		MultiRowInsertBatchTest.Person.class,
+		MultiRowInsertBatchTest.Event.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = AvailableSettings.MULTI_ROW_INSERTS, value = "true")
+})
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForInsert.class)
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Person" ).executeUpdate();
+			session.createMutationQuery( "delete from Event" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertsAreFoldedIntoMultiRowStatements(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 11; i++ ) {
+				session.persist( new Person( i, "person " + i ) );
+			}
+		} );
+
+		// two full batches of 5 rows, and a last one with a single row
+		statementInspector.assertExecutedCount( 3 );
+		assertThat( rowCount( statementInspector.getSqlQueries().get( 0 ) ) ).isEqualTo( 5 );
+		assertThat( rowCount( statementInspector.getSqlQueries().get( 1 ) ) ).isEqualTo( 5 );
+		assertThat( rowCount( statementInspector.getSqlQueries().get( 2 ) ) ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final List<Person> people = session.createSelectionQuery( "from Person order by id", Person.class )
+					.getResultList();
+			assertThat( people ).hasSize( 11 );
+			for ( int i = 0; i < 11; i++ ) {
+				assertThat( people.get( i ).id ).isEqualTo( i );
+				assertThat( people.get( i ).name ).isEqualTo( "person " + i );
+			}
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+	public void testGeneratedIdentifiersAreNotBatched(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Event event = new Event( "event " + i );
+				session.persist( event );
+				assertThat( event.id ).isNotNull();
+			}
+		} );
+
+		statementInspector.assertExecutedCount( 3 );
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			assertThat( rowCount( sql ) ).isEqualTo( 1 );
+		}
+	}
+
+	private static int rowCount(String sql) {
+		final String values = sql.substring( sql.indexOf( " values " ) );
+		return values.split( "\\)," ).length;
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		Integer id;
+		String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String name;
+
+		public Event() {
+		}
+
+		public Event(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.ast.internal.AdaptiveBatchSize;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link AvailableSettings#MAX_ADAPTIVE_BATCH_FETCH_SIZE}.
+ */
+@DomainModel(annotatedClasses = { AdaptiveBatchFetchTest.Owner.class, AdaptiveBatchFetchTest.Pet.class })
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "2"),
+		@Setting(name = AvailableSettings.MAX_ADAPTIVE_BATCH_FETCH_SIZE, value = "50")
+})
+public class AdaptiveBatchFetchTest {
+
+	private static final int COUNT = 40;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Owner owner = new Owner( i, "owner " + i );
+				session.persist( owner );
+				session.persist( new Pet( i, owner ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Pet" ).executeUpdate();
+			session.createMutationQuery( "delete from Owner" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchSizeAdapts(SessionFactoryScope scope) {
+		assumeTrue( supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Pet> pets = session.createSelectionQuery( "from Pet order by id", Pet.class ).getResultList();
+			statementInspector.clear();
+			for ( Pet pet : pets ) {
+				assertThat( pet.owner.name ).isEqualTo( "owner " + pet.id );
+				assertThat( Hibernate.isInitialized( pet.owner ) ).isTrue();
+			}
+			// the static batch size would need COUNT / 2 statements
+			assertThat( statementInspector.getSqlQueries().size() ).isLessThan( COUNT / 4 );
+		} );
+	}
+
+	@Test
+	public void testAdaptiveBatchSize() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize( 2, 50 );
+		assertThat( batchSize.nextBatchSize( 1 ) ).isEqualTo( 2 );
+		int size = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			size = batchSize.nextBatchSize( 1000 );
+		}
+		assertThat( size ).isEqualTo( 50 );
+		for ( int i = 0; i < 50; i++ ) {
+			size = batchSize.nextBatchSize( 3 );
+		}
+		assertThat( size ).isBetween( 3, 4 );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CompactCollectionCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for compact binary second-level cache entries.
+ */
+@DomainModel(annotatedClasses = {
+		CompactCacheEntryTest.Person.class,
+		CompactCacheEntryTest.Team.class,
+		CompactCacheEntryTest.Payment.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_COMPACT_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.WRAPPER_ARRAY_HANDLING, value = "ALLOW")
+})
+@SessionFactory
+public class CompactCacheEntryTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Team team = new Team( 1L, "Hibernate" );
+			session.persist( team );
+			final Person person = new Person( 1, "Gavin", team );
+			person.active = true;
+			person.score = 2.5d;
+			person.initial = 'G';
+			person.address = new Address( "Main Street", 42 );
+			person.address.postcode = new Character[] { 'A', 'B', null, '1' };
+			person.checksum = new Byte[] { 1, -2, 127 };
+			person.nicknames.add( "G" );
+			person.nicknames.add( "King" );
+			person.ratings.put( "java", 10 );
+			person.ratings.put( "sql", 9 );
+			session.persist( person );
+			final Payment payment = new Payment( 1 );
+			payment.amount = new BigDecimal( "-1234.50" );
+			payment.reference = UUID.fromString( "6e8f4b2a-3c1d-4e5f-9a7b-0c1d2e3f4a5b" );
+			payment.dueDate = LocalDate.of( 2024, 2, 29 );
+			payment.settledAt = LocalDateTime.of( 2024, 3, 1, 12, 30, 15 );
+			payment.createdAt = new Date( 1_700_000_000_000L );
+			payment.status = Status.SETTLED;
+			payment.currency = Currency.EUR;
+			session.persist( payment );
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.remove( session.find( Person.class, 1 ) );
+			session.remove( session.find( Team.class, 1L ) );
+			session.remove( session.find( Payment.class, 1 ) );
+		} );
+	}
+
+	@Test
+	public void testCacheEntryStructure(SessionFactoryScope scope) {
+		final MappingMetamodelImplementor metamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( metamodel.getEntityDescriptor( Person.class ).getCacheEntryStructure() )
+				.isInstanceOf( CompactCacheEntry.class );
+		assertThat( metamodel.getCollectionDescriptor( Person.class.getName() + ".ratings" ).getCacheEntryStructure() )
+				.isInstanceOf( CompactCollectionCacheEntry.class );
+	}
+
+	@Test
+	public void testEntityAndCollectionsReadFromCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final Person person = session.find( Person.class, 1 );
+				assertThat( person.name ).isEqualTo( "Gavin" );
+				assertThat( person.active ).isTrue();
+				assertThat( person.score ).isEqualTo( 2.5d );
+				assertThat( person.initial ).isEqualTo( 'G' );
+				assertThat( person.version ).isEqualTo( 0 );
+				assertThat( person.address.street ).isEqualTo( "Main Street" );
+				assertThat( person.address.number ).isEqualTo( 42 );
+				assertThat( person.address.postcode ).containsExactly( 'A', 'B', null, '1' );
+				assertThat( person.checksum ).containsExactly( (byte) 1, (byte) -2, (byte) 127 );
+				assertThat( person.team.name ).isEqualTo( "Hibernate" );
+				assertThat( person.nicknames ).containsExactlyInAnyOrder( "G", "King" );
+				assertThat( person.ratings ).containsEntry( "java", 10 ).containsEntry( "sql", 9 );
+				assertThat( Hibernate.isInitialized( person.ratings ) ).isTrue();
+			} );
+		}
+
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 2 );
+		assertThat( statistics.getCollectionLoadCount() ).isEqualTo( 2 );
+		// the person, the team, and the two collections
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testUpdatedEntityReadFromCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Person.class, 1 ).name = "Steve" );
+		scope.getSessionFactory().getStatistics().clear();
+
+		scope.inTransaction( session -> {
+			final Person person = session.find( Person.class, 1 );
+			assertThat( person.name ).isEqualTo( "Steve" );
+			assertThat( person.version ).isEqualTo( 1 );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityLoadCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testTemporalNumericAndEnumValuesReadFromCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final Instant version = scope.fromTransaction( session -> session.find( Payment.class, 1 ).version );
+		assertThat( version ).isNotNull();
+
+		scope.inTransaction( session -> {
+			final Payment payment = session.find( Payment.class, 1 );
+			assertThat( payment.amount ).isEqualTo( new BigDecimal( "-1234.50" ) );
+			assertThat( payment.reference ).isEqualTo( UUID.fromString( "6e8f4b2a-3c1d-4e5f-9a7b-0c1d2e3f4a5b" ) );
+			assertThat( payment.dueDate ).isEqualTo( LocalDate.of( 2024, 2, 29 ) );
+			assertThat( payment.settledAt ).isEqualTo( LocalDateTime.of( 2024, 3, 1, 12, 30, 15 ) );
+			assertThat( payment.createdAt.getTime() ).isEqualTo( 1_700_000_000_000L );
+			assertThat( payment.status ).isEqualTo( Status.SETTLED );
+			assertThat( payment.currency ).isEqualTo( Currency.EUR );
+			assertThat( payment.version ).isEqualTo( version );
+		} );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+
+		scope.inSession( session -> {
+			final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+					.getEntityDescriptor( Payment.class );
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = cacheAccess.generateCacheKey( 1, persister, scope.getSessionFactory(), null );
+			final Object cached = cacheAccess.get( session, cacheKey );
+			assertThat( cached ).isInstanceOf( byte[].class );
+			// none of the values fell back to Java serialization
+			assertThat( containsSerializationHeader( (byte[]) cached ) ).isFalse();
+		} );
+	}
+
+	private static boolean containsSerializationHeader(byte[] bytes) {
+		// the magic number and version of a Java serialization stream
+		final byte[] header = { (byte) 0xAC, (byte) 0xED, 0x00, 0x05 };
+		for ( int i = 0; i + header.length <= bytes.length; i++ ) {
+			if ( Arrays.equals( bytes, i, i + header.length, header, 0, header.length ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Entity(name = "Person")
+	@Cacheable
+	public static class Person {
+		@Id
+		Integer id;
+		@Version
+		int version;
+		String name;
+		boolean active;
+		double score;
+		char initial;
+		Address address;
+		Byte[] checksum;
+		@ManyToOne
+		Team team;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		Set<String> nicknames = new HashSet<>();
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		Map<String, Integer> ratings = new HashMap<>();
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name, Team team) {
+			this.id = id;
+			this.name = name;
+			this.team = team;
+		}
+	}
+
+	@Entity(name = "Team")
+	@Cacheable
+	public static class Team {
+		@Id
+		Long id;
+		String name;
+
+		public Team() {
+		}
+
+		public Team(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Payment")
+	@Cacheable
+	public static class Payment {
+		@Id
+		Integer id;
+		@Version
+		Instant version;
+		BigDecimal amount;
+		UUID reference;
+		LocalDate dueDate;
+		LocalDateTime settledAt;
+		@Temporal(TemporalType.TIMESTAMP)
+		Date createdAt;
+		Status status;
+		@Enumerated(EnumType.STRING)
+		Currency currency;
+
+		public Payment() {
+		}
+
+		public Payment(Integer id) {
+			this.id = id;
+		}
+	}
+
+	public enum Status {
+		PENDING, SETTLED
+	}
+
+	public enum Currency {
+		USD, EUR
+	}
+
+	@Embeddable
+	public static class Address {
+		String street;
+		int number;
+		Character[] postcode;
+
+		public Address() {
+		}
+
+		public Address(String street, int number) {
+			this.street = street;
+			this.number = number;
+		}
+	}
+}
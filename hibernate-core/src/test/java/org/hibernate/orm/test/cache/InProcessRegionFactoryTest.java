@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.InProcessRegionFactory;
+import org.hibernate.cache.internal.InProcessStorageAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.collections.WindowTinyLfuCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the in-process second-level cache.
+ */
+@DomainModel(annotatedClasses = { InProcessRegionFactoryTest.Country.class, InProcessRegionFactoryTest.City.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.InProcessRegionFactory"),
+		@Setting(name = AvailableSettings.IN_PROCESS_CACHE_MAX_ENTRIES + ".countries", value = "2"),
+		@Setting(name = AvailableSettings.IN_PROCESS_CACHE_MAX_ENTRIES + ".cities", value = "5"),
+		@Setting(name = AvailableSettings.IN_PROCESS_CACHE_WEIGHER + ".cities",
+				value = "org.hibernate.orm.test.cache.InProcessRegionFactoryTest$DoubleWeigher"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class InProcessRegionFactoryTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Country( 1, "France" ) );
+			session.persist( new Country( 2, "Italy" ) );
+			session.persist( new Country( 3, "Spain" ) );
+			session.persist( new City( 1, "Paris" ) );
+			session.persist( new City( 2, "Rome" ) );
+			session.persist( new City( 3, "Madrid" ) );
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Country" ).executeUpdate();
+			session.createMutationQuery( "delete from City" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityIsCached(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getRegionFactory() )
+				.isInstanceOf( InProcessRegionFactory.class );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> assertThat( session.find( Country.class, 1 ).name ).isEqualTo( "France" ) );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> assertThat( session.find( Country.class, 1 ).name ).isEqualTo( "France" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testRegionIsBounded(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				for ( int id = 1; id <= 3; id++ ) {
+					session.find( Country.class, id );
+				}
+			} );
+			// entries are evicted as they are put, so the region is exactly full
+			assertThat( storageAccess( scope, "countries" ).size() ).isEqualTo( 2 );
+		}
+
+		// the region holds at most two of the three countries
+		assertThat( statistics.getSecondLevelCachePutCount() ).isGreaterThanOrEqualTo( 4 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isLessThanOrEqualTo( 2 );
+	}
+
+	@Test
+	public void testRegionIsBoundedByWeight(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 3; id++ ) {
+				session.find( City.class, id );
+			}
+		} );
+		// each entry weighs two, so a maximum weight of five holds two cities
+		assertThat( storageAccess( scope, "cities" ).size() ).isEqualTo( 2 );
+	}
+
+	private static InProcessStorageAccess storageAccess(SessionFactoryScope scope, String regionName) {
+		final DomainDataRegionTemplate region =
+				(DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( regionName );
+		return (InProcessStorageAccess) region.getCacheStorageAccess();
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final WindowTinyLfuCache<Integer, String> cache = new WindowTinyLfuCache<>( 100 );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( i, "hot " + i );
+			for ( int j = 0; j < 1000; j++ ) {
+				cache.get( i );
+			}
+		}
+		// a scan of keys which are each accessed only once, while the hot keys are still in use
+		for ( int i = 1000; i < 10_000; i++ ) {
+			cache.put( i, "cold " + i );
+			cache.get( i % 10 );
+		}
+
+		assertThat( cache.size() ).isLessThanOrEqualTo( 100 );
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( cache.get( i ) ).isEqualTo( "hot " + i );
+		}
+	}
+
+	@Test
+	public void testEntriesExpire() throws InterruptedException {
+		final WindowTinyLfuCache<Integer, String> cache =
+				new WindowTinyLfuCache<>( 10, 10, TimeUnit.MILLISECONDS, null );
+		cache.put( 1, "one" );
+		assertThat( cache.get( 1 ) ).isEqualTo( "one" );
+		Thread.sleep( 20 );
+		assertThat( cache.get( 1 ) ).isNull();
+		assertThat( cache.containsKey( 1 ) ).isFalse();
+	}
+
+	public static class DoubleWeigher implements ToIntFunction<Object> {
+		@Override
+		public int applyAsInt(Object value) {
+			return 2;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "countries")
+	public static class Country {
+		@Id
+		Integer id;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "City")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cities")
+	public static class City {
+		@Id
+		Integer id;
+		String name;
+
+		public City() {
+		}
+
+		public City(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
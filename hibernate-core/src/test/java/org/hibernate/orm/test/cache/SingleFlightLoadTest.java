@@ -0,0 +1,247 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.SingleFlightLoads;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the coalescing of concurrent loads of data missing from the second-level cache.
+ */
+@DomainModel(annotatedClasses = { SingleFlightLoadTest.Country.class, SingleFlightLoadTest.City.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.InProcessRegionFactory"),
+		@Setting(name = AvailableSettings.CACHE_SINGLE_FLIGHT_LOADS, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_SINGLE_FLIGHT_TIMEOUT, value = "10000"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_INSPECTOR, value = "org.hibernate.orm.test.cache.SingleFlightLoadTest$CitySelectInspector")
+})
+@SessionFactory
+public class SingleFlightLoadTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Country( 1, "France" ) );
+			session.persist( new City( 1, "Paris" ) );
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Country" ).executeUpdate();
+			session.createMutationQuery( "delete from City" ).executeUpdate();
+		} );
+		CitySelectInspector.reset();
+	}
+
+	@Test
+	public void testRegionHasSingleFlightLoads(SessionFactoryScope scope) {
+		final String regionName = Country.class.getName();
+		final SingleFlightLoads singleFlightLoads =
+				scope.getSessionFactory().getCache().getSingleFlightLoads( regionName );
+		assertThat( singleFlightLoads ).isNotNull();
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> assertThat( session.find( Country.class, 1 ).name ).isEqualTo( "France" ) );
+		scope.inTransaction( session -> assertThat( session.find( Country.class, 1 ).name ).isEqualTo( "France" ) );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( singleFlightLoads.getLoadsInFlightCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testConcurrentSessionsLoadOnce(SessionFactoryScope scope) throws Exception {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final CountDownLatch leaderSelecting = new CountDownLatch( 1 );
+		final CountDownLatch releaseLeader = new CountDownLatch( 1 );
+		CitySelectInspector.onFirstSelect = () -> {
+			leaderSelecting.countDown();
+			await( releaseLeader );
+		};
+
+		final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			final Future<String> leader = executor.submit(
+					() -> scope.fromTransaction( session -> session.find( City.class, 1 ).name )
+			);
+			assertThat( leaderSelecting.await( 5, TimeUnit.SECONDS ) ).isTrue();
+
+			final AtomicReference<Thread> followerThread = new AtomicReference<>();
+			final Future<String> follower = executor.submit( () -> {
+				followerThread.set( Thread.currentThread() );
+				return scope.fromTransaction( session -> session.find( City.class, 1 ).name );
+			} );
+			// wait for the second session to miss the cache, and wait for the first
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+			while ( followerThread.get() == null
+					|| followerThread.get().getState() != Thread.State.TIMED_WAITING ) {
+				assertThat( System.nanoTime() ).isLessThan( deadline );
+				Thread.sleep( 10 );
+			}
+			releaseLeader.countDown();
+
+			assertThat( leader.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "Paris" );
+			assertThat( follower.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "Paris" );
+		}
+		finally {
+			releaseLeader.countDown();
+			executor.shutdownNow();
+		}
+
+		assertThat( CitySelectInspector.selectCount.get() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+		// the second session was served from the second-level cache
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await( 5, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void testFollowerWaitsForLeader() throws Exception {
+		final SingleFlightLoads singleFlightLoads = new SingleFlightLoads( "region", 10_000 );
+		assertThat( singleFlightLoads.beginLoad( "key" ) ).isTrue();
+		// a reentrant load never waits for itself
+		assertThat( singleFlightLoads.beginLoad( "key" ) ).isFalse();
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final CountDownLatch started = new CountDownLatch( 1 );
+			final Future<Boolean> follower = executor.submit( () -> {
+				started.countDown();
+				return singleFlightLoads.beginLoad( "key" );
+			} );
+			started.await();
+			Thread.sleep( 50 );
+			assertThat( follower.isDone() ).isFalse();
+
+			singleFlightLoads.endLoad( "key" );
+			assertThat( follower.get( 5, TimeUnit.SECONDS ) ).isFalse();
+			assertThat( singleFlightLoads.getLoadsInFlightCount() ).isEqualTo( 0 );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testFollowerTimesOut() throws Exception {
+		final SingleFlightLoads singleFlightLoads = new SingleFlightLoads( "region", 10 );
+		assertThat( singleFlightLoads.beginLoad( "key" ) ).isTrue();
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<Boolean> follower = executor.submit( () -> singleFlightLoads.beginLoad( "key" ) );
+			assertThat( follower.get( 5, TimeUnit.SECONDS ) ).isFalse();
+			// only the leader ends the load
+			executor.submit( () -> singleFlightLoads.endLoad( "key" ) ).get();
+			assertThat( singleFlightLoads.getLoadsInFlightCount() ).isEqualTo( 1 );
+		}
+		finally {
+			executor.shutdownNow();
+			singleFlightLoads.endLoad( "key" );
+		}
+		assertThat( singleFlightLoads.getLoadsInFlightCount() ).isEqualTo( 0 );
+	}
+
+	/**
+	 * Counts the selects from the City table, and runs the given action on the first.
+	 */
+	public static class CitySelectInspector implements StatementInspector {
+		static final AtomicInteger selectCount = new AtomicInteger();
+		static volatile Runnable onFirstSelect;
+
+		static void reset() {
+			selectCount.set( 0 );
+			onFirstSelect = null;
+		}
+
+		@Override
+		public String inspect(String sql) {
+			final String lowerCaseSql = sql.toLowerCase( Locale.ROOT );
+			if ( lowerCaseSql.startsWith( "select" ) && lowerCaseSql.contains( "from city" ) ) {
+				final Runnable action = onFirstSelect;
+				if ( selectCount.incrementAndGet() == 1 && action != null ) {
+					action.run();
+				}
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	public static class Country {
+		@Id
+		Integer id;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "City")
+	// unlike read-write, read-only items are readable by transactions which began before the put
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class City {
+		@Id
+		Integer id;
+		String name;
+
+		public City() {
+		}
+
+		public City(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
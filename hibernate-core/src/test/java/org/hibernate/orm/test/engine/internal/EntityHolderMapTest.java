@@ -0,0 +1,188 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.internal.EntityHolderMap;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.results.graph.entity.EntityInitializer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the open-addressing {@link EntityHolderMap} backing the persistence context.
+ */
+@DomainModel(annotatedClasses = { EntityHolderMapTest.Book.class, EntityHolderMapTest.Author.class })
+@SessionFactory
+public class EntityHolderMapTest {
+
+	@Test
+	public void testPutGetRemove(SessionFactoryScope scope) {
+		final EntityPersister books = persister( scope, Book.class );
+		final EntityPersister authors = persister( scope, Author.class );
+		final EntityHolderMap<TestHolder> map = new EntityHolderMap<>();
+
+		final int count = 10_000;
+		for ( long i = 0; i < count; i++ ) {
+			assertNull( map.putIfAbsent( key( i, books ), new TestHolder( key( i, books ) ) ) );
+			assertNull( map.put( key( i, authors ), new TestHolder( key( i, authors ) ) ) );
+		}
+		assertEquals( 2 * count, map.size() );
+
+		for ( long i = 0; i < count; i++ ) {
+			assertEquals( key( i, books ), map.get( key( i, books ) ).getEntityKey() );
+			assertSame( map.get( key( i, books ) ), map.get( i, books ) );
+			assertSame( map.get( key( i, authors ) ), map.get( i, authors ) );
+		}
+		assertNull( map.get( (long) count, books ) );
+
+		// remove every other book, which forces shifting of the probe sequences
+		for ( long i = 0; i < count; i += 2 ) {
+			assertEquals( key( i, books ), map.remove( key( i, books ) ).getEntityKey() );
+			assertNull( map.remove( key( i, books ) ) );
+		}
+		assertEquals( count + count / 2, map.size() );
+		for ( long i = 0; i < count; i++ ) {
+			assertEquals( i % 2 != 0, map.containsKey( key( i, books ) ) );
+			assertTrue( map.containsKey( key( i, authors ) ) );
+		}
+
+		final TestHolder existing = map.get( 1L, books );
+		assertSame( existing, map.putIfAbsent( key( 1L, books ), new TestHolder( key( 1L, books ) ) ) );
+		assertSame( existing, map.get( 1L, books ) );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( 1L, books ) );
+	}
+
+	@Test
+	public void testIteration(SessionFactoryScope scope) {
+		final EntityPersister books = persister( scope, Book.class );
+		final EntityHolderMap<TestHolder> map = new EntityHolderMap<>( 4 );
+		for ( long i = 0; i < 100; i++ ) {
+			map.put( key( i, books ), new TestHolder( key( i, books ) ) );
+		}
+
+		final Set<EntityKey> keys = new HashSet<>();
+		for ( TestHolder holder : map.values() ) {
+			assertTrue( keys.add( holder.getEntityKey() ) );
+		}
+		assertEquals( 100, keys.size() );
+		assertEquals( keys, map.keySet() );
+		assertFalse( map.entrySet().isEmpty() );
+	}
+
+	@Test
+	public void testIteratorRemove(SessionFactoryScope scope) {
+		final EntityPersister books = persister( scope, Book.class );
+		final EntityHolderMap<TestHolder> map = new EntityHolderMap<>( 4 );
+		for ( long i = 0; i < 100; i++ ) {
+			map.put( key( i, books ), new TestHolder( key( i, books ) ) );
+		}
+
+		final Set<EntityKey> visited = new HashSet<>();
+		final Iterator<Map.Entry<EntityKey, TestHolder>> iterator = map.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			final EntityKey key = iterator.next().getKey();
+			assertTrue( visited.add( key ) );
+			if ( (Long) key.getIdentifier() % 3 != 0 ) {
+				iterator.remove();
+			}
+		}
+		assertEquals( 100, visited.size() );
+		assertEquals( 34, map.size() );
+		for ( long i = 0; i < 100; i++ ) {
+			assertEquals( i % 3 == 0, map.containsKey( key( i, books ) ) );
+			assertEquals( i % 3 == 0, map.get( i, books ) != null );
+		}
+
+		map.keySet().removeIf( key -> (Long) key.getIdentifier() < 50 );
+		assertEquals( 17, map.size() );
+	}
+
+	private static EntityKey key(long id, EntityPersister persister) {
+		return new EntityKey( id, persister );
+	}
+
+	private static EntityPersister persister(SessionFactoryScope scope, Class<?> entityClass) {
+		return scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( entityClass );
+	}
+
+	private static class TestHolder implements EntityHolder {
+		private final EntityKey entityKey;
+
+		private TestHolder(EntityKey entityKey) {
+			this.entityKey = entityKey;
+		}
+
+		@Override
+		public EntityKey getEntityKey() {
+			return entityKey;
+		}
+
+		@Override
+		public EntityPersister getDescriptor() {
+			return entityKey.getPersister();
+		}
+
+		@Override
+		public Object getEntity() {
+			return null;
+		}
+
+		@Override
+		public Object getProxy() {
+			return null;
+		}
+
+		@Override
+		public EntityInitializer getEntityInitializer() {
+			return null;
+		}
+
+		@Override
+		public void markAsReloaded(JdbcValuesSourceProcessingState processingState) {
+		}
+
+		@Override
+		public boolean isEventuallyInitialized() {
+			return false;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+	}
+}
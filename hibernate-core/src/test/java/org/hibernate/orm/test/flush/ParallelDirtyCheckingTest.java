@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.flush;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the outcome of a flush is the same when the dirty check is performed in parallel.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckingTest.Item.class,
+		ParallelDirtyCheckingTest.Owner.class,
+		ParallelDirtyCheckingTest.Tracker.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ParallelDirtyCheckingTest {
+
+	private static final int COUNT = 1000;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Owner( 1L, "owner" ) );
+			session.persist( new Tracker( 1L, "tracker" ) );
+			for ( long i = 0; i < COUNT; i++ ) {
+				session.persist( new Item( i, "item " + i, new Dimensions( 1, 1 ) ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Owner" ).executeUpdate();
+			session.createMutationQuery( "delete from Tracker" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testOnlyDirtyEntitiesAreUpdated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			final Owner owner = session.find( Owner.class, 1L );
+			statistics.clear();
+			for ( long i = 0; i < COUNT; i += 10 ) {
+				final Item item = session.find( Item.class, i );
+				if ( i % 20 == 0 ) {
+					item.name = "changed " + i;
+				}
+				else {
+					item.dimensions.width = 2;
+				}
+			}
+			owner.name = "changed";
+		} );
+		assertEquals( COUNT / 10 + 1, statistics.getEntityUpdateCount() );
+
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < COUNT; i++ ) {
+				final Item item = session.find( Item.class, i );
+				if ( i % 20 == 0 ) {
+					assertEquals( "changed " + i, item.name );
+					assertEquals( 1, item.dimensions.width );
+				}
+				else if ( i % 10 == 0 ) {
+					assertEquals( "item " + i, item.name );
+					assertEquals( 2, item.dimensions.width );
+				}
+				else {
+					assertEquals( "item " + i, item.name );
+					assertEquals( 1, item.dimensions.width );
+				}
+			}
+			assertEquals( "changed", session.find( Owner.class, 1L ).name );
+		} );
+	}
+
+	@Test
+	public void testCallbackModifyingAnotherEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// the tracker is flushed before the items
+			final Tracker tracker = session.find( Tracker.class, 1L );
+			session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			tracker.name = "changed";
+			tracker.item = session.find( Item.class, COUNT - 1L );
+		} );
+
+		scope.inTransaction( session -> {
+			assertEquals( "changed", session.find( Tracker.class, 1L ).name );
+			assertEquals( "tracked", session.find( Item.class, COUNT - 1L ).name );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+		@Embedded
+		Dimensions dimensions;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Dimensions dimensions) {
+			this.id = id;
+			this.name = name;
+			this.dimensions = dimensions;
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Long id;
+		String name;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Tracker")
+	public static class Tracker {
+		@Id
+		Long id;
+		String name;
+		@Transient
+		Item item;
+
+		public Tracker() {
+		}
+
+		public Tracker(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@PreUpdate
+		void preUpdate() {
+			if ( item != null ) {
+				item.name = "tracked";
+			}
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		int width;
+		int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for auto flush limited to the entities related to the query spaces.
+ */
+@DomainModel(annotatedClasses = {
+		PartialAutoFlushTest.Customer.class,
+		PartialAutoFlushTest.Order.class,
+		PartialAutoFlushTest.Product.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PARTIAL_AUTO_FLUSH, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class PartialAutoFlushTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer customer = new Customer( 1L, "customer" );
+			session.persist( customer );
+			session.persist( new Order( 1L, customer ) );
+			session.persist( new Product( 1L, "product" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Order" ).executeUpdate();
+			session.createMutationQuery( "delete from Customer" ).executeUpdate();
+			session.createMutationQuery( "delete from Product" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testUnrelatedChangeIsNotFlushed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1L );
+			product.name = "changed";
+			statistics.clear();
+
+			session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+			assertEquals( 0, statistics.getEntityUpdateCount() );
+
+			assertEquals(
+					"changed",
+					session.createSelectionQuery( "select name from Product", String.class ).getSingleResult()
+			);
+			assertEquals( 1, statistics.getEntityUpdateCount() );
+		} );
+	}
+
+	@Test
+	public void testRelatedChangeIsFlushed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 1L );
+			customer.name = "changed";
+			statistics.clear();
+
+			assertEquals(
+					"changed",
+					session.createSelectionQuery( "select name from Customer", String.class ).getSingleResult()
+			);
+			assertEquals( 1, statistics.getEntityUpdateCount() );
+		} );
+	}
+
+	@Test
+	public void testCascadedInsertIsFlushed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 1L );
+			final Order order = new Order( 2L, customer );
+			customer.orders.add( order );
+
+			assertEquals(
+					2L,
+					session.createSelectionQuery( "select count(*) from Order", Long.class ).getSingleResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testInsertCascadedThroughUnrelatedEntityIsFlushed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 1L );
+			final Order order = new Order( 2L, customer );
+			order.product = new Product( 2L, "cascaded" );
+			customer.orders.add( order );
+
+			assertEquals(
+					2L,
+					session.createSelectionQuery( "select count(*) from Product", Long.class ).getSingleResult()
+			);
+		} );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Long id;
+		String name;
+		@OneToMany(mappedBy = "customer", cascade = CascadeType.ALL)
+		Set<Order> orders = new HashSet<>();
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "orders")
+	public static class Order {
+		@Id
+		Long id;
+		@ManyToOne
+		Customer customer;
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		Product product;
+
+		public Order() {
+		}
+
+		public Order(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Long id;
+		String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -6,6 +6,14 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -17,6 +25,7 @@ import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -304,6 +313,76 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledLoConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 10 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		for ( int looper = 0; looper < 7; looper++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+		}
+		assertEquals( 8, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// the next pool is fetched once 80% of the current pool has been handed out
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 9, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+
+		for ( int looper = 0; looper < 2; looper++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+		}
+		assertEquals( 11, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		for ( int looper = 0; looper < 8; looper++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+		}
+		assertEquals( 19, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoConcurrentOptimizerUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 1000;
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 10 );
+
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						values.add( ( Long ) optimizer.generate( sequence ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		// every value is unique, and at most the pool fetched ahead of time is unused
+		assertEquals( threads * valuesPerThread, values.size() );
+		assertTrue( sequence.getTimesCalled() <= threads * valuesPerThread / 10 + 1 );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +403,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert ordering for parent/child graphs, both across several entity types
+ * and for a deep self-referencing hierarchy.
+ */
+public class InsertOrderingWithDeepGraph extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Parent.class, Child.class, GrandChild.class, Node.class };
+	}
+
+	@Test
+	public void testBatchingAcrossLevels() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Parent parent = new Parent();
+				final Child child = new Child();
+				child.parent = parent;
+				parent.children.add( child );
+				final GrandChild grandChild = new GrandChild();
+				grandChild.child = child;
+				child.children.add( grandChild );
+				session.persist( parent );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Parent (id) values (?)", 3 ),
+				new Batch( "insert into Child (parent_id,id) values (?,?)", 3 ),
+				new Batch( "insert into GrandChild (child_id,id) values (?,?)", 3 )
+		);
+	}
+
+	@Test
+	public void testDeepSelfReferencingHierarchy() {
+		final int depth = 5_000;
+		sessionFactoryScope().inTransaction( session -> {
+			Node parent = null;
+			for ( int i = 0; i < depth; i++ ) {
+				final Node node = new Node();
+				node.parent = parent;
+				session.persist( node );
+				parent = node;
+			}
+		} );
+
+		sessionFactoryScope().inTransaction( session -> {
+			final Long count = session.createSelectionQuery( "select count(*) from Node", Long.class )
+					.getSingleResult();
+			assertThat( count ).isEqualTo( depth );
+			session.createMutationQuery( "update Node set parent = null" ).executeUpdate();
+			session.createMutationQuery( "delete from Node" ).executeUpdate();
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
+		List<Child> children = new ArrayList<>();
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@ManyToOne
+		Parent parent;
+
+		@OneToMany(mappedBy = "child", cascade = CascadeType.ALL)
+		List<GrandChild> children = new ArrayList<>();
+	}
+
+	@Entity(name = "GrandChild")
+	public static class GrandChild {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@ManyToOne
+		Child child;
+	}
+
+	@Entity(name = "Node")
+	public static class Node {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@ManyToOne
+		Node parent;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.jdbc;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the session-scoped cache of prepared statements.
+ */
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Gadget.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class PreparedStatementCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				session.persist( new Gadget( i, "gadget " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Gadget" ).executeUpdate() );
+	}
+
+	@Test
+	public void testRepeatedLoadsReuseStatement(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				final Gadget gadget = session.find( Gadget.class, i );
+				assertThat( gadget.name ).isEqualTo( "gadget " + i );
+			}
+		} );
+
+		// the loader statement is prepared once, and then reused
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 19 );
+	}
+
+	@Test
+	public void testStatementsAreNotSharedAcrossSessions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 3; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> assertThat( session.find( Gadget.class, id ) ).isNotNull() );
+		}
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 3 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testMutationsReuseStatement(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 20; i < 25; i++ ) {
+				session.persist( new Gadget( i, "gadget " + i ) );
+				session.flush();
+			}
+		} );
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 4 );
+	}
+
+	@Entity(name = "Gadget")
+	public static class Gadget {
+		@Id
+		Integer id;
+		String name;
+
+		public Gadget() {
+		}
+
+		public Gadget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.CacheMode;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.InProcessRegionFactory;
+import org.hibernate.cache.internal.InProcessStorageAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.WindowTinyLfuCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a multi-load fetches every cached entity in a single call to the
+ * second-level cache.
+ */
+@DomainModel(annotatedClasses = MultiLoadBulkCacheGetTest.Event.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.orm.test.loading.multiLoad.MultiLoadBulkCacheGetTest$CountingRegionFactory"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class MultiLoadBulkCacheGetTest {
+
+	private static final AtomicInteger bulkGets = new AtomicInteger();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 5; id++ ) {
+				session.persist( new Event( id, "text" + id ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( Event.class, 5 );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getCollectingStatementInspector().clear();
+		bulkGets.set( 0 );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Event" ).executeUpdate() );
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inSession( session -> {
+			final List<Event> events = session.byMultipleIds( Event.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1, 2, 3, 4, 5 );
+			assertThat( events ).extracting( event -> event.id ).containsExactly( 1, 2, 3, 4, 5 );
+		} );
+
+		assertThat( bulkGets ).hasValue( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+		assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( session -> {
+			final List<Event> events = session.byMultipleIds( Event.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.multiLoad( 5, 4, 3, 2, 1 );
+			assertThat( events ).extracting( event -> event.id ).containsExactlyInAnyOrder( 1, 2, 3, 4, 5 );
+		} );
+
+		assertThat( bulkGets ).hasValue( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+	}
+
+	public static class CountingRegionFactory extends InProcessRegionFactory {
+		@Override
+		protected DomainDataStorageAccess createDomainDataStorageAccess(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new InProcessStorageAccess( regionConfig.getRegionName(), new WindowTinyLfuCache<>( 100 ) ) {
+				@Override
+				public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+					bulkGets.incrementAndGet();
+					return super.getAllFromCache( keys, session );
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Event")
+	@Cacheable
+	public static class Event {
+		@Id
+		Integer id;
+		String text;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
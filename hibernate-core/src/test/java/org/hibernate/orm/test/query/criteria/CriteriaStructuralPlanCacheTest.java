@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.Expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that criteria queries with the same structure share a query plan.
+ */
+@DomainModel(annotatedClasses = CriteriaStructuralPlanCacheTest.Book.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class CriteriaStructuralPlanCacheTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Hibernate in Action", 300 ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", 800 ) );
+			session.persist( new Book( 3, "High-Performance Java Persistence", 450 ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testValueBoundParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			assertThat( titlesLongerThan( session.getCriteriaBuilder(), session, 400 ) )
+					.containsExactly( "High-Performance Java Persistence", "Java Persistence with Hibernate" );
+			assertThat( titlesLongerThan( session.getCriteriaBuilder(), session, 500 ) )
+					.containsExactly( "Java Persistence with Hibernate" );
+			assertThat( titlesLongerThan( session.getCriteriaBuilder(), session, 100 ) ).hasSize( 3 );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testExplicitParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 3; id++ ) {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+				final JpaRoot<Book> root = query.from( Book.class );
+				final JpaParameterExpression<Integer> parameter = cb.parameter( Integer.class );
+				query.select( root.get( "title" ) ).where( cb.equal( root.get( "id" ), parameter ) );
+				assertThat( session.createQuery( query ).setParameter( parameter, id ).getSingleResult() )
+						.isEqualTo( session.find( Book.class, id ).title );
+			}
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDifferentStructures(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final JpaCriteriaQuery<String> longer = cb.createQuery( String.class );
+			final JpaRoot<Book> longerRoot = longer.from( Book.class );
+			longer.select( longerRoot.get( "title" ) ).where( cb.gt( longerRoot.get( "pages" ), 400 ) );
+			assertThat( session.createQuery( longer ).getResultList() ).hasSize( 2 );
+
+			final JpaCriteriaQuery<String> shorter = cb.createQuery( String.class );
+			final JpaRoot<Book> shorterRoot = shorter.from( Book.class );
+			shorter.select( shorterRoot.get( "title" ) ).where( cb.lt( shorterRoot.get( "pages" ), 400 ) );
+			assertThat( session.createQuery( shorter ).getResultList() ).containsExactly( "Hibernate in Action" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testDifferentGrouping(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			// pages - (400 - 100) > 0
+			final JpaCriteriaQuery<String> right = cb.createQuery( String.class );
+			final JpaRoot<Book> rightRoot = right.from( Book.class );
+			final JpaParameterExpression<Integer> rightFirst = cb.parameter( Integer.class );
+			final JpaParameterExpression<Integer> rightSecond = cb.parameter( Integer.class );
+			final Expression<Integer> rightPages = rightRoot.get( "pages" );
+			right.select( rightRoot.get( "title" ) )
+					.where( cb.gt( cb.diff( rightPages, cb.diff( rightFirst, rightSecond ) ), 0 ) );
+			assertThat( session.createQuery( right )
+								.setParameter( rightFirst, 400 )
+								.setParameter( rightSecond, 100 )
+								.getResultList() ).hasSize( 2 );
+
+			// (pages - 400) - 100 > 0
+			final JpaCriteriaQuery<String> left = cb.createQuery( String.class );
+			final JpaRoot<Book> leftRoot = left.from( Book.class );
+			final JpaParameterExpression<Integer> leftFirst = cb.parameter( Integer.class );
+			final JpaParameterExpression<Integer> leftSecond = cb.parameter( Integer.class );
+			final Expression<Integer> leftPages = leftRoot.get( "pages" );
+			left.select( leftRoot.get( "title" ) )
+					.where( cb.gt( cb.diff( cb.diff( leftPages, leftFirst ), leftSecond ), 0 ) );
+			assertThat( session.createQuery( left )
+								.setParameter( leftFirst, 400 )
+								.setParameter( leftSecond, 100 )
+								.getResultList() ).containsExactly( "Java Persistence with Hibernate" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	private static List<String> titlesLongerThan(HibernateCriteriaBuilder cb, Session session, int pages) {
+		final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+		final JpaRoot<Book> root = query.from( Book.class );
+		query.select( root.get( "title" ) )
+				.where( cb.gt( root.get( "pages" ), pages ) )
+				.orderBy( cb.asc( root.get( "title" ) ) );
+		return session.createQuery( query ).getResultList();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		int pages;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, int pages) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cache.internal.PackedQueryResults;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the packed representation of cached query results, and for the
+ * limit on the number of rows of a cached query result.
+ */
+@DomainModel(annotatedClasses = QueryCachePackedResultsTest.Sale.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.querycache.QueryCachePackedResultsTest$QueryKeyRecordingRegionFactory"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_MAX_RESULT_ROWS + ".small", value = "5"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class QueryCachePackedResultsTest {
+
+	private static final List<QueryKey> cachedQueryKeys = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 20; id++ ) {
+				session.persist( new Sale( id, id % 2 == 0 ? "north" : "south", id * 10L, id % 3 == 0 ? null : id * 1.5d, id % 4 == 0 ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+		cachedQueryKeys.clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Sale" ).executeUpdate() );
+	}
+
+	@Test
+	public void testScalarResultsReadFromCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<Object[]> expected = findSales( scope, null );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		final List<Object[]> cached = findSales( scope, null );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( cached ).hasSize( 20 );
+		for ( int i = 0; i < expected.size(); i++ ) {
+			assertThat( cached.get( i ) ).containsExactly( expected.get( i ) );
+		}
+		assertThat( cached.get( 2 )[3] ).isNull();
+
+		assertThat( cachedQueryKeys ).hasSize( 1 );
+		assertThat( cachedResults( scope, cachedQueryKeys.get( 0 ) ) ).isInstanceOf( PackedQueryResults.class );
+	}
+
+	@Test
+	public void testLayoutSharedByResultsOfSameQuery(SessionFactoryScope scope) {
+		for ( int minId : new int[] { 0, 10 } ) {
+			scope.inTransaction( session -> session.createSelectionQuery(
+							"select id, region, amount, discount, paid from Sale where id > :minId order by id",
+							Object[].class
+					)
+					.setParameter( "minId", minId )
+					.setCacheable( true )
+					.getResultList() );
+		}
+
+		assertThat( cachedQueryKeys ).hasSize( 2 );
+		final List<?> first = cachedResults( scope, cachedQueryKeys.get( 0 ) );
+		final List<?> second = cachedResults( scope, cachedQueryKeys.get( 1 ) );
+		assertThat( first ).isInstanceOf( PackedQueryResults.class ).hasSize( 20 );
+		assertThat( second ).isInstanceOf( PackedQueryResults.class ).hasSize( 10 );
+		assertThat( ( (PackedQueryResults) first ).getLayout() )
+				.isNotNull()
+				.isSameAs( ( (PackedQueryResults) second ).getLayout() );
+	}
+
+	@Test
+	public void testLargeResultNotCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findSales( scope, "small" ) ).hasSize( 20 );
+		assertThat( findSales( scope, "small" ) ).hasSize( 20 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> session.createSelectionQuery( "select region from Sale where id < 3", String.class )
+				.setCacheable( true )
+				.setCacheRegion( "small" )
+				.getResultList() );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testPackedResults() {
+		final List<Object> results = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			results.add( new Object[] { i, (long) i * 1000, i % 2 == 0 ? "even" : "odd", i % 3 == 0 ? null : true, new byte[] { (byte) i } } );
+		}
+		final List<?> packed = PackedQueryResults.pack( results );
+		assertThat( packed ).isInstanceOf( PackedQueryResults.class ).hasSize( 10 );
+		for ( int i = 0; i < 10; i++ ) {
+			final Object[] row = (Object[]) packed.get( i );
+			final Object[] original = (Object[]) results.get( i );
+			assertThat( Arrays.copyOf( row, 4 ) ).containsExactly( Arrays.copyOf( original, 4 ) );
+			assertThat( row[4] ).isSameAs( original[4] );
+		}
+
+		// rows of different shapes are left as they are
+		results.add( "not a row" );
+		assertThat( PackedQueryResults.pack( results ) ).isSameAs( results );
+	}
+
+	private static List<?> cachedResults(SessionFactoryScope scope, QueryKey queryKey) {
+		return scope.fromSession( session -> scope.getSessionFactory().getCache()
+				.getDefaultQueryResultsCache()
+				.get( queryKey, Set.of( "Sale" ), session ) );
+	}
+
+	private static List<Object[]> findSales(SessionFactoryScope scope, String region) {
+		return scope.fromTransaction( session -> session.createSelectionQuery(
+						"select id, region, amount, discount, paid from Sale order by id",
+						Object[].class
+				)
+				.setCacheable( true )
+				.setCacheRegion( region )
+				.getResultList() );
+	}
+
+	public static class QueryKeyRecordingRegionFactory extends CachingRegionFactory {
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl() {
+				@Override
+				public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+					super.putIntoCache( key, value, session );
+					if ( key instanceof QueryKey ) {
+						cachedQueryKeys.add( (QueryKey) key );
+					}
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Sale")
+	public static class Sale {
+		@Id
+		Integer id;
+		String region;
+		long amount;
+		Double discount;
+		boolean paid;
+
+		public Sale() {
+		}
+
+		public Sale(Integer id, String region, long amount, Double discount, boolean paid) {
+			this.id = id;
+			this.region = region;
+			this.amount = amount;
+			this.discount = discount;
+			this.paid = paid;
+		}
+	}
+}
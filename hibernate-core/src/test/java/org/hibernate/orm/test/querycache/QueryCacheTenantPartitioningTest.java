@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.annotations.TenantId;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryProducer;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a write by a session with a tenant invalidates only the query
+ * results cached for that tenant.
+ */
+@DomainModel(annotatedClasses = {
+		QueryCacheTenantPartitioningTest.Note.class,
+		QueryCacheTenantPartitioningTest.Country.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_TENANT_PARTITIONING, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class QueryCacheTenantPartitioningTest implements SessionFactoryProducer {
+
+	private static final String ROOT = "root";
+
+	private String currentTenant;
+
+	@Override
+	public SessionFactoryImplementor produceSessionFactory(MetadataImplementor model) {
+		final SessionFactoryBuilder sessionFactoryBuilder = model.getSessionFactoryBuilder();
+		sessionFactoryBuilder.applyCurrentTenantIdentifierResolver( new CurrentTenantIdentifierResolver<String>() {
+			@Override
+			public String resolveCurrentTenantIdentifier() {
+				return currentTenant;
+			}
+
+			@Override
+			public boolean validateExistingCurrentSessions() {
+				return false;
+			}
+
+			@Override
+			public boolean isRoot(String tenantId) {
+				return ROOT.equals( tenantId );
+			}
+		} );
+		return (SessionFactoryImplementor) sessionFactoryBuilder.build();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		currentTenant = ROOT;
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Note" ).executeUpdate();
+			session.createMutationQuery( "delete from Country" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testWriteInvalidatesOnlyItsTenant(SessionFactoryScope scope) {
+		currentTenant = "red";
+		scope.inTransaction( session -> session.persist( new Note( "red 1" ) ) );
+		currentTenant = "blue";
+		scope.inTransaction( session -> session.persist( new Note( "blue 1" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		currentTenant = "red";
+		assertThat( findNotes( scope ) ).hasSize( 1 );
+		currentTenant = "blue";
+		assertThat( findNotes( scope ) ).hasSize( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 2 );
+
+		// a write by the blue tenant
+		scope.inTransaction( session -> session.persist( new Note( "blue 2" ) ) );
+		statistics.clear();
+
+		currentTenant = "red";
+		assertThat( findNotes( scope ) ).hasSize( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		currentTenant = "blue";
+		assertThat( findNotes( scope ) ).hasSize( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testWriteByRootTenantInvalidatesEveryTenant(SessionFactoryScope scope) {
+		currentTenant = "red";
+		scope.inTransaction( session -> session.persist( new Note( "red 1" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findNotes( scope ) ).hasSize( 1 );
+
+		currentTenant = ROOT;
+		scope.inTransaction(
+				session -> session.createMutationQuery( "update Note set text = 'updated'" ).executeUpdate()
+		);
+		statistics.clear();
+
+		currentTenant = "red";
+		assertThat( findNotes( scope ) ).extracting( note -> note.text ).containsExactly( "updated" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testWriteToSharedTableInvalidatesEveryTenant(SessionFactoryScope scope) {
+		currentTenant = "red";
+		scope.inTransaction( session -> session.persist( new Country( "CH", "Switzerland" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findCountries( scope ) ).hasSize( 1 );
+
+		// a write by the blue tenant to a table without a tenant id
+		currentTenant = "blue";
+		scope.inTransaction( session -> session.persist( new Country( "FR", "France" ) ) );
+		statistics.clear();
+
+		currentTenant = "red";
+		assertThat( findCountries( scope ) ).hasSize( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	private static List<Country> findCountries(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( "from Country", Country.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<Note> findNotes(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( "from Note", Note.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		@GeneratedValue
+		Long id;
+		@TenantId
+		String tenant;
+		String text;
+
+		public Note() {
+		}
+
+		public Note(String text) {
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		String code;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
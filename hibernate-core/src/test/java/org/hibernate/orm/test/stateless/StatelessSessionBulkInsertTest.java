@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#bulkInsert}, which uses {@code COPY}
+ * on PostgreSQL, and falls back to batched inserts on other databases.
+ */
+@DomainModel(annotatedClasses = StatelessSessionBulkInsertTest.Reading.class)
+@SessionFactory
+public class StatelessSessionBulkInsertTest {
+
+	private static final int COUNT = 1_000;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Reading" ).executeUpdate() );
+	}
+
+	@Test
+	public void testBulkInsert(SessionFactoryScope scope) {
+		final LocalDateTime now = LocalDateTime.of( 2024, 3, 1, 12, 30, 15, 123_456_000 );
+		final List<Reading> readings = new ArrayList<>();
+		for ( int i = 0; i < COUNT; i++ ) {
+			readings.add( new Reading(
+					i % 10 == 0 ? null : "sensor " + i,
+					new BigDecimal( "-1234.56" ).add( BigDecimal.valueOf( i ) ),
+					i % 2 == 0,
+					now.plusSeconds( i ),
+					now.toLocalDate().minusDays( i ),
+					UUID.randomUUID()
+			) );
+		}
+		scope.inStatelessTransaction( session -> session.bulkInsert( readings ) );
+
+		assertThat( readings ).allSatisfy( reading -> assertThat( reading.id ).isNotNull() );
+		assertThat( readings.stream().map( reading -> reading.id ).distinct() ).hasSize( COUNT );
+
+		scope.inStatelessSession( session -> {
+			final List<Reading> loaded = session.createSelectionQuery( "from Reading order by id", Reading.class )
+					.getResultList();
+			assertThat( loaded ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Reading expected = readings.get( i );
+				final Reading actual = loaded.get( i );
+				assertThat( actual.id ).isEqualTo( expected.id );
+				assertThat( actual.sensor ).isEqualTo( expected.sensor );
+				assertThat( actual.amount ).isEqualByComparingTo( expected.amount );
+				assertThat( actual.valid ).isEqualTo( expected.valid );
+				assertThat( actual.recorded ).isEqualTo( expected.recorded );
+				assertThat( actual.takenOn ).isEqualTo( expected.takenOn );
+				assertThat( actual.token ).isEqualTo( expected.token );
+			}
+		} );
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reading_seq")
+		@SequenceGenerator(name = "reading_seq", allocationSize = 50)
+		Long id;
+		String sensor;
+		BigDecimal amount;
+		boolean valid;
+		LocalDateTime recorded;
+		LocalDate takenOn;
+		UUID token;
+
+		public Reading() {
+		}
+
+		public Reading(String sensor, BigDecimal amount, boolean valid, LocalDateTime recorded, LocalDate takenOn, UUID token) {
+			this.sensor = sensor;
+			this.amount = amount;
+			this.valid = valid;
+			this.recorded = recorded;
+			this.takenOn = takenOn;
+			this.token = token;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@code xxxMultiple()} operations of {@link org.hibernate.StatelessSession}.
+ */
+@DomainModel(annotatedClasses = StatelessSessionMultipleTest.Measurement.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class StatelessSessionMultipleTest {
+
+	private static final int COUNT = 250;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertUpdateDeleteMultiple(SessionFactoryScope scope) {
+		final List<Measurement> measurements = new ArrayList<>();
+		for ( int i = 0; i < COUNT; i++ ) {
+			measurements.add( new Measurement( i, "record " + i ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( measurements ) );
+		assertThat( count( scope ) ).isEqualTo( COUNT );
+
+		for ( Measurement measurement : measurements ) {
+			measurement.label = "updated " + measurement.id;
+		}
+		scope.inStatelessTransaction( session -> session.updateMultiple( measurements ) );
+		scope.inStatelessSession( session -> {
+			final List<Measurement> loaded = session.getMultiple( Measurement.class, List.of( 0, 100, 249 ) );
+			assertThat( loaded ).extracting( measurement -> measurement.label )
+					.containsExactly( "updated 0", "updated 100", "updated 249" );
+		} );
+
+		scope.inStatelessTransaction( session -> session.deleteMultiple( measurements.subList( 0, 100 ) ) );
+		assertThat( count( scope ) ).isEqualTo( COUNT - 100 );
+	}
+
+	@Test
+	public void testGetMultiple(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.insert( new Measurement( i, "record " + i ) );
+			}
+		} );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inStatelessSession( session -> {
+			final List<Measurement> loaded = session.getMultiple( Measurement.class, List.of( 7, 42, 1, 3 ) );
+			assertThat( loaded ).hasSize( 4 );
+			assertThat( loaded.get( 0 ).id ).isEqualTo( 7 );
+			assertThat( loaded.get( 1 ) ).isNull();
+			assertThat( loaded.get( 2 ).id ).isEqualTo( 1 );
+			assertThat( loaded.get( 3 ).id ).isEqualTo( 3 );
+		} );
+		statementInspector.assertExecutedCount( 1 );
+	}
+
+	private static long count(SessionFactoryScope scope) {
+		return scope.fromSession( session ->
+				session.createSelectionQuery( "select count(*) from Measurement", Long.class ).getSingleResult() );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		Integer id;
+		String label;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+	}
+}
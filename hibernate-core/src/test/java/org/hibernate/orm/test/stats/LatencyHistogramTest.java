@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.internal.LatencyHistogramImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for the latency histograms kept by {@link Statistics}.
+ */
+@DomainModel(annotatedClasses = {
+		LatencyHistogramTest.Author.class,
+		LatencyHistogramTest.Book.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class LatencyHistogramTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin" );
+			session.persist( author );
+			final Book book = new Book( 1, "Hibernate in Action" );
+			session.persist( book );
+			author.books.add( book );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.remove( session.find( Author.class, 1 ) ) );
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testLatenciesRecorded(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			Hibernate.initialize( author.books );
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			author.name = "Steve";
+		} );
+
+		assertThat( statistics.getEntityFetchLatency().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getCollectionFetchLatency().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryExecutionLatency().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryStatistics( "from Book" ).getExecutionLatency().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getFlushLatency().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getTransactionLatency().getCount() ).isEqualTo( 1 );
+
+		final LatencyHistogram transactionLatency = statistics.getTransactionLatency();
+		assertThat( transactionLatency.getValueAtQuantile( 0.99 ) ).isLessThanOrEqualTo( transactionLatency.getMax() );
+
+		statistics.clear();
+		assertThat( statistics.getTransactionLatency().getCount() ).isEqualTo( 0 );
+		assertThat( statistics.getTransactionLatency().getValueAtQuantile( 0.5 ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testQuantiles() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		for ( long micros = 1; micros <= 10_000; micros++ ) {
+			histogram.record( TimeUnit.MICROSECONDS.toNanos( micros ) );
+		}
+
+		assertThat( histogram.getCount() ).isEqualTo( 10_000 );
+		assertThat( histogram.getMax() ).isEqualTo( 10_000 );
+		assertThat( histogram.getMean() ).isCloseTo( 5000.5, within( 0.001 ) );
+		assertThat( histogram.getValueAtQuantile( 0.5 ) ).isCloseTo( 5000L, within( 5000L / 16 ) );
+		assertThat( histogram.getValueAtQuantile( 0.99 ) ).isCloseTo( 9900L, within( 9900L / 16 ) );
+		assertThat( histogram.getValueAtQuantile( 0.999 ) ).isCloseTo( 9990L, within( 9990L / 16 ) );
+		assertThat( histogram.getValueAtQuantile( 1 ) ).isEqualTo( 10_000 );
+		assertThat( histogram.getValueAtQuantile( 0 ) ).isEqualTo( 1 );
+
+		assertThatThrownBy( () -> histogram.getValueAtQuantile( 99 ) ).isInstanceOf( IllegalArgumentException.class );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
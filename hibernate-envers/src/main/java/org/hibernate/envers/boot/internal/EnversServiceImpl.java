@@ -102,7 +102,10 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		properties.putAll( cfgService.getSettings() );
 
 		this.configuration = new Configuration( properties, this, metadata );
-		this.auditProcessManager = new AuditProcessManager( configuration.getRevisionInfo().getRevisionInfoGenerator() );
+		this.auditProcessManager = new AuditProcessManager(
+				configuration.getRevisionInfo().getRevisionInfoGenerator(),
+				configuration.isBatchedAuditWrites()
+		);
 
 		final EnversMetadataBuildingContext metadataBuildingContext = new EnversMetadataBuildingContextImpl(
 				configuration,
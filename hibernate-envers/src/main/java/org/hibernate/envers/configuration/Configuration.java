@@ -68,6 +68,7 @@ public class Configuration {
 	private final boolean doNotAuditOptimisticLockingField;
 	private final boolean storeDeleteData;
 	private final boolean cascadeDeleteRevision;
+	private final boolean batchedAuditWrites;
 	private final boolean modifiedFlagsEnabled;
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
@@ -91,6 +92,7 @@ public class Configuration {
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
 	private final boolean revisionSequenceNoCache;
+	private final int revisionSequenceIncrementSize;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -124,6 +126,7 @@ public class Configuration {
 
 		storeDeleteData = configProps.getBoolean( EnversSettings.STORE_DATA_AT_DELETE, false );
 		cascadeDeleteRevision = configProps.getBoolean( EnversSettings.CASCADE_DELETE_REVISION, false );
+		batchedAuditWrites = configProps.getBoolean( EnversSettings.USE_BATCHED_AUDIT_WRITES, false );
 		trackEntitiesChanged = configProps.getBoolean( EnversSettings.TRACK_ENTITIES_CHANGED_IN_REVISION, false );
 
 		modifiedFlagsDefined = properties.get( EnversSettings.GLOBAL_WITH_MODIFIED_FLAG ) != null;
@@ -179,6 +182,13 @@ public class Configuration {
 				EnversSettings.REVISION_SEQUENCE_NOCACHE,
 				false
 		);
+		revisionSequenceIncrementSize = configProps.getInt( EnversSettings.REVISION_SEQUENCE_INCREMENT_SIZE, 1 );
+		if ( revisionSequenceIncrementSize < 1 ) {
+			throw new EnversMappingException(
+					"Invalid value for " + EnversSettings.REVISION_SEQUENCE_INCREMENT_SIZE + ": "
+							+ revisionSequenceIncrementSize + ", it must be a positive number."
+			);
+		}
 
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
@@ -228,6 +238,10 @@ public class Configuration {
 		return cascadeDeleteRevision;
 	}
 
+	public boolean isBatchedAuditWrites() {
+		return batchedAuditWrites;
+	}
+
 	public boolean isAllowIdentifierReuse() {
 		return allowIdentifierReuse;
 	}
@@ -256,6 +270,10 @@ public class Configuration {
 		return revisionSequenceNoCache;
 	}
 
+	public int getRevisionSequenceIncrementSize() {
+		return revisionSequenceIncrementSize;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
@@ -439,6 +457,10 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
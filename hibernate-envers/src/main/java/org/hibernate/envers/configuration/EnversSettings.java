@@ -175,6 +175,38 @@ public interface EnversSettings {
 	 */
 	String CASCADE_DELETE_REVISION = "org.hibernate.envers.cascade_delete_revision";
 
+	/**
+	 * Whether audit rows should be written, when the transaction completes, through a
+	 * {@link org.hibernate.StatelessSession} sharing the JDBC connection of the audited session,
+	 * grouped by audit table and using JDBC batching, instead of being saved in the audited session.
+	 * The audit rows then never enter the persistence context of the audited session.
+	 * <p>
+	 * The revision entity is inserted through the same {@code StatelessSession}, just before the
+	 * audit rows, unless it maps collections, as do revision entities tracking the modified entity
+	 * names. Lifecycle callbacks of the revision entity are then not invoked.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.5
+	 */
+	String USE_BATCHED_AUDIT_WRITES = "org.hibernate.envers.use_batched_audit_writes";
+
+	/**
+	 * The number of revision numbers allocated from the revision sequence at a time, using the
+	 * pooled optimizer of {@link org.hibernate.id.enhanced.SequenceStyleGenerator}, so that most
+	 * transactions obtain their revision number without a round trip to the database.
+	 * Only applies to the default revision entity mapping when {@link #USE_REVISION_ENTITY_WITH_NATIVE_ID}
+	 * is {@code false}.
+	 * <p>
+	 * Revision numbers remain ascending within a single {@code SessionFactory}, but no longer across
+	 * several of them sharing a database.
+	 *
+	 * Defaults to {@literal 1}.
+	 *
+	 * @since 6.5
+	 */
+	String REVISION_SEQUENCE_INCREMENT_SIZE = "org.hibernate.envers.revision_sequence_increment_size";
+
 	/**
 	 * Globally defines whether legacy relation not-found behavior should be used or not.
 	 * Defaults to {@code true}.
@@ -203,7 +203,10 @@ public class RevisionInfoConfiguration {
 			identifier.setParameter( "sequence_name", DEFAULT_REVISION_SEQUENCE_NAME );
 			identifier.setParameter( "table_name", DEFAULT_REVISION_SEQUENCE_TABLE_NAME );
 			identifier.setParameter( "initial_value", "1" );
-			identifier.setParameter( "increment_size", "1" );
+			identifier.setParameter(
+					"increment_size",
+					String.valueOf( configuration.getRevisionSequenceIncrementSize() )
+			);
 			if ( configuration.isRevisionSequenceNoCache() ) {
 				identifier.setParameter( "nocache", "true" );
 			}
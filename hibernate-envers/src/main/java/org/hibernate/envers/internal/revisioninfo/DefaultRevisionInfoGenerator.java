@@ -9,18 +9,22 @@ package org.hibernate.envers.internal.revisioninfo;
 import java.lang.reflect.Constructor;
 
 import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.EntityTrackingRevisionListener;
 import org.hibernate.envers.RevisionListener;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
+import org.hibernate.envers.strategy.spi.AuditRowInserter;
 import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.resource.beans.internal.FallbackBeanInstanceProducer;
 import org.hibernate.resource.beans.internal.Helper;
 import org.hibernate.resource.beans.spi.ManagedBean;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
 import org.hibernate.resource.beans.spi.ProvidedInstanceManagedBeanImpl;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -60,10 +64,42 @@ public class DefaultRevisionInfoGenerator implements RevisionInfoGenerator {
 	@Override
 	public void saveRevisionData(Session session, Object revisionData) {
 		session.save( revisionInfoEntityName, revisionData );
+		checkRevisionNumber( revisionData );
+		sessionCacheCleaner.scheduleAuditDataRemoval( session, revisionData );
+	}
+
+	@Override
+	public boolean saveRevisionData(Session session, Object revisionData, AuditRowInserter auditRowInserter) {
+		// a stateless session does not insert collections, and the revision entity is inserted before
+		// the session is flushed, so revision entities with associations are saved in the session
+		if ( auditRowInserter == null || hasAssociations( getRevisionInfoPersister( session ) ) ) {
+			saveRevisionData( session, revisionData );
+			return false;
+		}
+		auditRowInserter.insertRevision( revisionInfoEntityName, revisionData );
+		auditRowInserter.afterWrite( () -> checkRevisionNumber( revisionData ) );
+		return true;
+	}
+
+	private EntityPersister getRevisionInfoPersister(Session session) {
+		return ( (SessionImplementor) session ).getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( revisionInfoEntityName );
+	}
+
+	private static boolean hasAssociations(EntityPersister persister) {
+		for ( Type type : persister.getPropertyTypes() ) {
+			if ( type.isAssociationType() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void checkRevisionNumber(Object revisionData) {
 		if ( revisionInfoNumberReader != null && revisionInfoNumberReader.getRevisionNumber( revisionData ).longValue() < 0 ) {
 			throw new AuditException( "Negative revision numbers are not allowed" );
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, revisionData );
 	}
 
 	@Override
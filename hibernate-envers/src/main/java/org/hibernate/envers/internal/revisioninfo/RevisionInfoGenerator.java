@@ -8,6 +8,7 @@ package org.hibernate.envers.internal.revisioninfo;
 
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.strategy.spi.AuditRowInserter;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -20,6 +21,20 @@ public interface RevisionInfoGenerator {
 
 	void saveRevisionData(Session session, Object revisionData);
 
+	/**
+	 * Save the revision data, possibly scheduling its insertion with the given audit row inserter,
+	 * rather than saving it in the session.
+	 *
+	 * @param session The audited session.
+	 * @param revisionData The revision data.
+	 * @param auditRowInserter The audit row inserter, or {@code null} to save the revision data in the session.
+	 * @return {@code true} if the revision data was scheduled with the audit row inserter.
+	 */
+	default boolean saveRevisionData(Session session, Object revisionData, AuditRowInserter auditRowInserter) {
+		saveRevisionData( session, revisionData );
+		return false;
+	}
+
 	Object generate();
 
 	/**
@@ -37,11 +37,21 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final AuditRowWriter auditRowWriter;
 	private Object revisionData;
+	private boolean revisionDataScheduled;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, false );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SessionImplementor session,
+			boolean batchedAuditWrites) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.auditRowWriter = batchedAuditWrites ? new AuditRowWriter() : null;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -111,8 +121,8 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	}
 
 	private void executeInSession(Session session) {
-		// Making sure the revision data is persisted.
-		final Object currentRevisionData = getCurrentRevisionData( session, true );
+		// Making sure the revision data is persisted, or scheduled to be inserted along with the audit rows.
+		final Object currentRevisionData = getCurrentRevisionData( session, true, auditRowWriter );
 
 		AuditWorkUnit vwu;
 
@@ -122,20 +132,28 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		}
 
 		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
+			vwu.perform( session, revisionData, auditRowWriter );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
+
+		if ( auditRowWriter != null ) {
+			auditRowWriter.write( (SessionImplementor) session );
+		}
 	}
 
 	public Object getCurrentRevisionData(Session session, boolean persist) {
+		return getCurrentRevisionData( session, persist, null );
+	}
+
+	private Object getCurrentRevisionData(Session session, boolean persist, AuditRowWriter writer) {
 		// Generating the revision data if not yet generated
 		if ( revisionData == null ) {
 			revisionData = revisionInfoGenerator.generate();
 		}
 
 		// Saving the revision data, if not yet saved and persist is true
-		if ( !session.contains( revisionData ) && persist ) {
-			revisionInfoGenerator.saveRevisionData( session, revisionData );
+		if ( persist && !revisionDataScheduled && !session.contains( revisionData ) ) {
+			revisionDataScheduled = revisionInfoGenerator.saveRevisionData( session, revisionData, writer );
 		}
 
 		return revisionData;
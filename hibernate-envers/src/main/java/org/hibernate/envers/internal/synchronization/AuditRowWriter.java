@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.StatelessSessionBuilder;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.strategy.spi.AuditRowInserter;
+
+/**
+ * Collects the audit rows of an {@link AuditProcess}, grouped by audit entity, and
+ * inserts them a group at a time, using JDBC batching, through a {@link StatelessSession}
+ * sharing the JDBC connection of the audited session.
+ * <p>
+ * The audit rows never enter the persistence context of the audited session, and so
+ * are neither dirty checked when it is flushed, nor need to be evicted from it when
+ * the transaction completes.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#USE_BATCHED_AUDIT_WRITES
+ */
+public class AuditRowWriter implements AuditRowInserter {
+	private final Map<String, List<Object>> rowsByAuditEntityName = new LinkedHashMap<>();
+	private final List<Runnable> afterWriteActions = new ArrayList<>();
+	private String revisionEntityName;
+	private Object revisionData;
+
+	@Override
+	public void insert(String auditEntityName, Object data) {
+		rowsByAuditEntityName.computeIfAbsent( auditEntityName, name -> new ArrayList<>() ).add( data );
+	}
+
+	@Override
+	public void insertRevision(String revisionEntityName, Object revisionData) {
+		this.revisionEntityName = revisionEntityName;
+		this.revisionData = revisionData;
+	}
+
+	@Override
+	public void afterWrite(Runnable action) {
+		afterWriteActions.add( action );
+	}
+
+	/**
+	 * Insert the scheduled audit rows.
+	 *
+	 * @param session The audited session, whose JDBC connection is used.
+	 */
+	public void write(SessionImplementor session) {
+		if ( rowsByAuditEntityName.isEmpty() && revisionData == null ) {
+			return;
+		}
+
+		final Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+		final StatelessSessionBuilder builder = session.getSessionFactory().withStatelessOptions().connection( connection );
+		final Object tenantIdentifier = session.getTenantIdentifierValue();
+		if ( tenantIdentifier != null ) {
+			builder.tenantIdentifier( tenantIdentifier );
+		}
+
+		final StatelessSession statelessSession = builder.openStatelessSession();
+		try {
+			// The revision entity may be referenced by the audit rows managed by the session.
+			if ( revisionData != null ) {
+				statelessSession.insert( revisionEntityName, revisionData );
+				revisionData = null;
+			}
+
+			// Undone audit rows must be deleted, and a revision entity saved in the session inserted, first.
+			session.flush();
+
+			for ( Map.Entry<String, List<Object>> entry : rowsByAuditEntityName.entrySet() ) {
+				statelessSession.insertMultiple( entry.getKey(), entry.getValue() );
+			}
+		}
+		finally {
+			statelessSession.close();
+		}
+
+		rowsByAuditEntityName.clear();
+
+		for ( Runnable action : afterWriteActions ) {
+			action.run();
+		}
+		afterWriteActions.clear();
+	}
+}
@@ -15,6 +15,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.synchronization.AuditRowWriter;
 import org.hibernate.envers.strategy.AuditStrategy;
 
 /**
@@ -61,10 +62,10 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 	}
 
 	@Override
-	public void perform(Session session, Object revisionData) {
+	public void perform(Session session, Object revisionData, AuditRowWriter auditRowWriter) {
 		final Map<String, Object> data = generateData( revisionData );
 
-		auditStrategy.perform( session, getEntityName(), enversService, id, data, revisionData );
+		auditStrategy.perform( session, getEntityName(), enversService.getConfig(), id, data, revisionData, auditRowWriter );
 
 		setPerformed( data );
 	}
@@ -10,6 +10,7 @@ import java.util.Map;
 
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.internal.synchronization.AuditRowWriter;
 
 /**
  * TODO: refactor constructors into factory methods
@@ -32,7 +33,19 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
 	 * revision relation.
 	 */
-	void perform(Session session, Object revisionData);
+	default void perform(Session session, Object revisionData) {
+		perform( session, revisionData, null );
+	}
+
+	/**
+	 * Perform this work unit in the given session, writing the audit rows with the given writer.
+	 *
+	 * @param session Session, in which the work unit should be performed.
+	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
+	 * revision relation.
+	 * @param auditRowWriter The writer of the audit rows, or {@code null} if they should be saved in the session.
+	 */
+	void perform(Session session, Object revisionData, AuditRowWriter auditRowWriter);
 
 	void undo(Session session);
 
@@ -20,6 +20,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.synchronization.AuditRowWriter;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -77,7 +78,7 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 
 	@Override
 	@SuppressWarnings("unchecked")
-	public void perform(Session session, Object revisionData) {
+	public void perform(Session session, Object revisionData, AuditRowWriter auditRowWriter) {
 		final Configuration configuration = enversService.getConfig();
 
 		for ( PersistentCollectionChangeData persistentCollectionChangeData : collectionChanges ) {
@@ -89,9 +90,10 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 					session,
 					getEntityName(),
 					referencingPropertyName,
-					enversService,
+					configuration,
 					persistentCollectionChangeData,
-					revisionData
+					revisionData,
+					auditRowWriter
 			);
 		}
 	}
@@ -35,6 +35,13 @@ abstract class AbstractAtomicExpression implements AuditCriterion {
 		this.alias = alias;
 	}
 
+	/**
+	 * @return the alias specified at creation time, or {@code null} for the base alias
+	 */
+	protected String getAlias() {
+		return alias;
+	}
+
 	@Override
 	public void addToQuery(
 			EnversService enversService,
@@ -27,6 +27,14 @@ public class IdentifierEqAuditExpression extends AbstractAtomicExpression {
 		this.equals = equals;
 	}
 
+	/**
+	 * Whether this expression restricts the identifier of the entity with the given
+	 * base alias to a single value.
+	 */
+	public boolean isIdentifierEqualityOf(String baseAlias) {
+		return equals && ( getAlias() == null || getAlias().equals( baseAlias ) );
+	}
+
 	@Override
 	protected void addToQuery(
 			EnversService enversService,
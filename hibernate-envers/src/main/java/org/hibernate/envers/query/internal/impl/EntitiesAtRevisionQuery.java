@@ -14,12 +14,15 @@ import jakarta.persistence.criteria.JoinType;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.query.AuditAssociationQuery;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.envers.query.criteria.internal.IdentifierEqAuditExpression;
+import org.hibernate.envers.strategy.internal.DefaultAuditStrategy;
 import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
@@ -62,7 +65,14 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
          *   WHERE
          * (all specified conditions, transformed, on the "e" entity) AND
          * (selecting e entities at revision :revision)
-         *   --> for DefaultAuditStrategy:
+         *   --> for DefaultAuditStrategy, on databases with window functions, unless the id is restricted:
+         *     (e.id, e.revision) IN (SELECT r.id, r.revision FROM
+         *       (SELECT e2.id id, e2.revision revision,
+         *         row_number() OVER (PARTITION BY e2.id ORDER BY e2.revision DESC) rowNumber
+         *         FROM versionsReferencedEntity e2 WHERE e2.revision <= :revision) r
+         *       WHERE r.rowNumber = 1)
+         *
+         *   --> for DefaultAuditStrategy, otherwise:
          *     e.revision = (SELECT max(e2.revision) FROM versionsReferencedEntity e2
          *       WHERE e2.revision <= :revision AND e2.id = e.id) 
          *     
@@ -86,21 +96,27 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 		);
 
 		// (selecting e entities at revision :revision)
-		// --> based on auditStrategy (see above)
-		enversService.getAuditStrategy().addEntityAtRevisionRestriction(
-				configuration,
-				qb,
-				qb.getRootParameters(),
-				revisionPropertyPath,
-				configuration.getRevisionEndFieldName(),
-				true,
-				referencedIdData,
-				revisionPropertyPath,
-				originalIdPropertyName,
-				REFERENCED_ENTITY_ALIAS,
-				REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
-				true
-		);
+		if ( isLatestRevisionWindowApplicable() ) {
+			// --> for DefaultAuditStrategy, on databases with window functions
+			addLatestRevisionWindowRestriction( referencedIdData, revisionPropertyPath, originalIdPropertyName );
+		}
+		else {
+			// --> based on auditStrategy (see above)
+			enversService.getAuditStrategy().addEntityAtRevisionRestriction(
+					configuration,
+					qb,
+					qb.getRootParameters(),
+					revisionPropertyPath,
+					configuration.getRevisionEndFieldName(),
+					true,
+					referencedIdData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					REFERENCED_ENTITY_ALIAS,
+					REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
+					true
+			);
+		}
 
 		if ( configuration.isFindByRevisionExactMatch() ) {
 			// When EnversSettings#FIND_BY_REVISION_EXACT_MATCH is true, this forces this condition
@@ -139,6 +155,74 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 		return applyProjections( queryResult, revision );
 	}
 
+	/**
+	 * Whether the latest revision of each entity at the given revision should be selected by numbering
+	 * its revisions with the {@code row_number()} window function, instead of with a correlated
+	 * {@code max()} subquery for each row, which performs badly on large audit tables. The validity
+	 * audit strategy, and custom audit strategies, always apply their own restriction.
+	 * <p>
+	 * Since the window ranks the audit rows of every entity, a query restricted to a single identifier,
+	 * such as the one of {@link org.hibernate.envers.AuditReader#find}, keeps the {@code max()} subquery,
+	 * which is then a single index lookup.
+	 */
+	private boolean isLatestRevisionWindowApplicable() {
+		return enversService.getAuditStrategy() instanceof DefaultAuditStrategy
+				&& !hasIdentifierEquality()
+				&& versionsReader.getSessionImplementor().getJdbcServices().getDialect().supportsWindowFunctions();
+	}
+
+	private boolean hasIdentifierEquality() {
+		for ( AuditCriterion criterion : criterions ) {
+			if ( criterion instanceof IdentifierEqAuditExpression
+					&& ( (IdentifierEqAuditExpression) criterion ).isIdentifierEqualityOf( REFERENCED_ENTITY_ALIAS ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void addLatestRevisionWindowRestriction(
+			MiddleIdData referencedIdData,
+			String revisionPropertyPath,
+			String originalIdPropertyName) {
+		final List<QueryParameterData> idProperties =
+				referencedIdData.getOriginalMapper().mapToQueryParametersFromId( null );
+		final String outerIdPrefix = REFERENCED_ENTITY_ALIAS + "." + originalIdPropertyName;
+		final String innerIdPrefix = REFERENCED_ENTITY_ALIAS_DEF_AUD_STR + "." + originalIdPropertyName;
+		final String innerRevision = REFERENCED_ENTITY_ALIAS_DEF_AUD_STR + "." + revisionPropertyPath;
+		final String derivedAlias = qb.generateAlias();
+
+		// (e.id, e.revision)
+		final StringBuilder left = new StringBuilder( "(" );
+		for ( QueryParameterData idProperty : idProperties ) {
+			left.append( idProperty.getProperty( outerIdPrefix ) ).append( ", " );
+		}
+		left.append( REFERENCED_ENTITY_ALIAS ).append( '.' ).append( revisionPropertyPath ).append( ')' );
+
+		// (select r.id, r.revision from (select ..., row_number() over (...) rowNumber from ... e2
+		//		where e2.revision <= :revision) r where r.rowNumber = 1)
+		final StringBuilder selection = new StringBuilder();
+		final StringBuilder derivedSelection = new StringBuilder();
+		final StringBuilder partition = new StringBuilder();
+		for ( int i = 0; i < idProperties.size(); i++ ) {
+			final String idProperty = idProperties.get( i ).getProperty( innerIdPrefix );
+			selection.append( derivedAlias ).append( ".id" ).append( i ).append( ", " );
+			derivedSelection.append( idProperty ).append( " as id" ).append( i ).append( ", " );
+			if ( i > 0 ) {
+				partition.append( ", " );
+			}
+			partition.append( idProperty );
+		}
+		final String right = "(select " + selection + derivedAlias + ".revisionNumber"
+				+ " from (select " + derivedSelection + innerRevision + " as revisionNumber, "
+				+ "row_number() over (partition by " + partition + " order by " + innerRevision + " desc) as rowNumber"
+				+ " from " + referencedIdData.getAuditEntityName() + " " + REFERENCED_ENTITY_ALIAS_DEF_AUD_STR
+				+ " where " + innerRevision + " <= :" + REVISION_PARAMETER + ") " + derivedAlias
+				+ " where " + derivedAlias + ".rowNumber = 1)";
+
+		qb.getRootParameters().addWhere( null, left.toString(), "in", null, right );
+	}
+
 	@Override
 	public AuditAssociationQuery<? extends AuditQuery> traverseRelation(
 			String associationName,
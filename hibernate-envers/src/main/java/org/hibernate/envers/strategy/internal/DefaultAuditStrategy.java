@@ -15,6 +15,7 @@ import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
+import org.hibernate.envers.strategy.spi.AuditRowInserter;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS_DEF_AUD_STR;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
@@ -43,8 +44,26 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Object id,
 			Object data,
 			Object revision) {
-		session.save( configuration.getAuditEntityName( entityName ), data );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		perform( session, entityName, configuration, id, data, revision, null );
+	}
+
+	@Override
+	public void perform(
+			Session session,
+			String entityName,
+			Configuration configuration,
+			Object id,
+			Object data,
+			Object revision,
+			AuditRowInserter auditRowInserter) {
+		final String auditEntityName = configuration.getAuditEntityName( entityName );
+		if ( auditRowInserter != null ) {
+			auditRowInserter.insert( auditEntityName, data );
+		}
+		else {
+			session.save( auditEntityName, data );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
 	}
 
 	@Override
@@ -55,8 +74,33 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Configuration configuration,
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision) {
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		performCollectionChange(
+				session,
+				entityName,
+				propertyName,
+				configuration,
+				persistentCollectionChangeData,
+				revision,
+				null
+		);
+	}
+
+	@Override
+	public void performCollectionChange(
+			Session session,
+			String entityName,
+			String propertyName,
+			Configuration configuration,
+			PersistentCollectionChangeData persistentCollectionChangeData,
+			Object revision,
+			AuditRowInserter auditRowInserter) {
+		if ( auditRowInserter != null ) {
+			auditRowInserter.insert( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+		}
+		else {
+			session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		}
 	}
 
 	/**
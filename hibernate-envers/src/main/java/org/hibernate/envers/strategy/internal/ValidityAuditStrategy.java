@@ -8,16 +8,21 @@ package org.hibernate.envers.strategy.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -37,6 +42,7 @@ import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
+import org.hibernate.envers.strategy.spi.AuditRowInserter;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
@@ -46,6 +52,7 @@ import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.sql.ComparisonRestriction;
 import org.hibernate.sql.Update;
 import org.hibernate.type.BasicType;
@@ -87,6 +94,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	private Getter revisionTimestampGetter;
 
 	private final SessionCacheCleaner sessionCacheCleaner;
+	private final Map<Transaction, RevisionEndUpdateBatch> revisionEndUpdateBatches = new ConcurrentHashMap<>();
 
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
@@ -160,10 +168,27 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			final Object id,
 			final Object data,
 			final Object revision) {
+		perform( session, entityName, configuration, id, data, revision, null );
+	}
+
+	@Override
+	public void perform(
+			final Session session,
+			final String entityName,
+			final Configuration configuration,
+			final Object id,
+			final Object data,
+			final Object revision,
+			final AuditRowInserter auditRowInserter) {
 		final String auditedEntityName = configuration.getAuditEntityName( entityName );
 
 		// Save the audit data
-		session.save( auditedEntityName, data );
+		if ( auditRowInserter != null ) {
+			auditRowInserter.insert( auditedEntityName, data );
+		}
+		else {
+			session.save( auditedEntityName, data );
+		}
 
 		// Update the end date of the previous row.
 		//
@@ -173,60 +198,54 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// The update is executed by a transaction completion process, to guarantee execution of UPDATE
+			// statement after INSERT, in a JDBC batch with the updates of the other rows of the same table.
+			getRevisionEndUpdateBatch( (EventSource) session ).add(
+					new RevisionEndUpdate(
+							entityName,
+							auditedEntityName,
+							configuration,
+							id,
+							revision,
+							reuseEntityIdentifier && revisionType == RevisionType.ADD
+					)
+			);
+		}
+		if ( auditRowInserter == null ) {
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void performCollectionChange(
 			Session session,
 			String entityName,
 			String propertyName,
 			Configuration configuration,
 			PersistentCollectionChangeData persistentCollectionChangeData, Object revision) {
+		performCollectionChange(
+				session,
+				entityName,
+				propertyName,
+				configuration,
+				persistentCollectionChangeData,
+				revision,
+				null
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void performCollectionChange(
+			Session session,
+			String entityName,
+			String propertyName,
+			Configuration configuration,
+			PersistentCollectionChangeData persistentCollectionChangeData,
+			Object revision,
+			AuditRowInserter auditRowInserter) {
 		final QueryBuilder qb = new QueryBuilder(
 				persistentCollectionChangeData.getEntityName(),
 				MIDDLE_ENTITY_ALIAS,
@@ -271,8 +290,13 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 
 		// Save the audit data
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		if ( auditRowInserter != null ) {
+			auditRowInserter.insert( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+		}
+		else {
+			session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		}
 	}
 
 	/**
@@ -459,34 +483,75 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return false;
 	}
 
+	private RevisionEndUpdateBatch getRevisionEndUpdateBatch(EventSource session) {
+		final Transaction transaction = session.accessTransaction();
+
+		RevisionEndUpdateBatch batch = revisionEndUpdateBatches.get( transaction );
+		if ( batch == null ) {
+			// No worries about registering a transaction twice - a transaction is single thread
+			batch = new RevisionEndUpdateBatch();
+			revisionEndUpdateBatches.put( transaction, batch );
+
+			session.getActionQueue().registerProcess( batch );
+			session.getActionQueue().registerProcess(
+					(success, sessionImplementor) -> revisionEndUpdateBatches.remove( transaction )
+			);
+		}
+		return batch;
+	}
+
 	/**
-	 * Executes the {@link UpdateContext} within the scope of the specified session.
+	 * Executes the given updates of the previous revision rows of a single audit table, all of which
+	 * have the same SQL, in JDBC batches of the configured size.
 	 *
 	 * @param session the session
-	 * @param context the update context to be executed
-	 * @return the number of rows affected by the operation
+	 * @param sql the SQL of the updates
+	 * @param updates the updates, with their parameter bindings
 	 */
-	private int executeUpdate(SessionImplementor session, UpdateContext context) {
-		final String sql = context.toStatementString();
+	private void executeUpdates(SessionImplementor session, String sql, List<PendingUpdate> updates) {
 		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final Integer configuredBatchSize = session.getConfiguredJdbcBatchSize();
+		final int batchSize = configuredBatchSize == null || configuredBatchSize < 1 ? 1 : configuredBatchSize;
+
+		final JdbcObserver observer = session.getJdbcSessionContext().getObserver();
 
 		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
-		return session.doReturningWork(
-				connection -> {
-					try {
-						int index = 1;
-						for ( QueryParameterBinding binding : context.getBindings() ) {
-							index += binding.bind( index, statement, session );
-						}
-						int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
-						return result;
-					}
-					finally {
-						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
-						jdbcCoordinator.afterStatementExecution();
+		try {
+			int start = 0;
+			while ( start < updates.size() ) {
+				final int end = Math.min( start + batchSize, updates.size() );
+				for ( int i = start; i < end; i++ ) {
+					int index = 1;
+					for ( QueryParameterBinding binding : updates.get( i ).context.getBindings() ) {
+						index += binding.bind( index, statement, session );
 					}
+					statement.addBatch();
 				}
-		);
+				final int[] rowCounts;
+				try {
+					observer.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					updates.get( start + i ).checkRowCount( rowCounts[i] );
+				}
+				start = end;
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not update previous revisions",
+					sql
+			);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
 	}
 
 	private List<UpdateContext> getUpdateContexts(
@@ -659,6 +724,112 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * The update of the revision end of the previous revision row of an audited entity.
+	 */
+	private class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object revision;
+		private final boolean mayUpdateNoRow;
+
+		RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				boolean mayUpdateNoRow) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.revision = revision;
+			this.mayUpdateNoRow = mayUpdateNoRow;
+		}
+
+		List<UpdateContext> getUpdateContexts(SessionImplementor session) {
+			final List<UpdateContext> contexts = ValidityAuditStrategy.this.getUpdateContexts(
+					entityName,
+					auditedEntityName,
+					session,
+					configuration,
+					id,
+					revision
+			);
+
+			if ( contexts.isEmpty() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Failed to build update contexts for entity %s and id %s",
+								auditedEntityName,
+								id
+						)
+				);
+			}
+			return contexts;
+		}
+	}
+
+	/**
+	 * An {@link UpdateContext} of a {@link RevisionEndUpdate}, waiting to be executed.
+	 */
+	private static class PendingUpdate {
+		private final RevisionEndUpdate update;
+		private final UpdateContext context;
+
+		PendingUpdate(RevisionEndUpdate update, UpdateContext context) {
+			this.update = update;
+			this.context = context;
+		}
+
+		void checkRowCount(int rowCount) {
+			// some drivers do not report the row counts of batched statements
+			if ( rowCount != Statement.SUCCESS_NO_INFO && rowCount != 1 && !update.mayUpdateNoRow ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+								update.auditedEntityName,
+								update.id,
+								rowCount
+						)
+				);
+			}
+		}
+	}
+
+	/**
+	 * The {@link RevisionEndUpdate}s of a transaction, executed before the transaction completes, and
+	 * after the audit rows have been inserted, in one JDBC batch for each distinct update statement.
+	 */
+	private class RevisionEndUpdateBatch implements BeforeTransactionCompletionProcess {
+		private final List<RevisionEndUpdate> updates = new ArrayList<>();
+
+		void add(RevisionEndUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor session) {
+			final Map<String, List<PendingUpdate>> updatesBySql = new LinkedHashMap<>();
+			for ( RevisionEndUpdate update : updates ) {
+				for ( UpdateContext context : update.getUpdateContexts( session ) ) {
+					updatesBySql.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() )
+							.add( new PendingUpdate( update, context ) );
+				}
+			}
+			updates.clear();
+
+			for ( Map.Entry<String, List<PendingUpdate>> entry : updatesBySql.entrySet() ) {
+				executeUpdates( session, entry.getKey(), entry.getValue() );
+			}
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
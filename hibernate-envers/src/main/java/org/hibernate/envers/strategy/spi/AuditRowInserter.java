@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.strategy.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Schedules the insertion of audit rows, which are written together, in JDBC
+ * batches, instead of being saved in the audited session.
+ *
+ * @see AuditStrategy#perform(org.hibernate.Session, String, org.hibernate.envers.configuration.Configuration, Object, Object, Object, AuditRowInserter)
+ * @see org.hibernate.envers.configuration.EnversSettings#USE_BATCHED_AUDIT_WRITES
+ *
+ * @since 6.5
+ */
+@Incubating
+public interface AuditRowInserter {
+	/**
+	 * Schedule the insertion of an audit row.
+	 *
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The audit data.
+	 */
+	void insert(String auditEntityName, Object data);
+
+	/**
+	 * Schedule the insertion of the revision entity. Since audit rows already
+	 * managed by the audited session, such as a row whose revision end is
+	 * updated by the {@link org.hibernate.envers.strategy.ValidityAuditStrategy},
+	 * may refer to it, the revision entity is inserted before the audited
+	 * session is flushed, and before any other audit row.
+	 *
+	 * @param revisionEntityName The name of the revision entity.
+	 * @param revisionData The revision entity.
+	 */
+	void insertRevision(String revisionEntityName, Object revisionData);
+
+	/**
+	 * Register an action to run once the scheduled audit rows have been inserted.
+	 *
+	 * @param action The action.
+	 */
+	void afterWrite(Runnable action);
+}
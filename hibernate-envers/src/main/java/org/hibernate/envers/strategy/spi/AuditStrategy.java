@@ -87,6 +87,62 @@ public interface AuditStrategy {
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision);
 
+	/**
+	 * Perform the persistence of audited data for regular entities, inserting the audit row with the
+	 * given {@link AuditRowInserter}, if any, instead of saving it in the session.
+	 * <p>
+	 * The default implementation ignores the inserter, and calls
+	 * {@link #perform(Session, String, Configuration, Object, Object, Object)}.
+	 *
+	 * @param session Session, which can be used to persist the data.
+	 * @param entityName Name of the entity, in which the audited change happens
+	 * @param configuration The audit entity configuration.
+	 * @param id Id of the entity.
+	 * @param data Audit data to persist.
+	 * @param revision Current revision data.
+	 * @param auditRowInserter The inserter of audit rows, or {@code null} if audit rows are saved in the session.
+	 *
+	 * @since 6.5
+	 */
+	default void perform(
+			Session session,
+			String entityName,
+			Configuration configuration,
+			Object id,
+			Object data,
+			Object revision,
+			AuditRowInserter auditRowInserter) {
+		perform( session, entityName, configuration, id, data, revision );
+	}
+
+	/**
+	 * Perform the persistence of audited data for collection ("middle") entities, inserting the audit
+	 * row with the given {@link AuditRowInserter}, if any, instead of saving it in the session.
+	 * <p>
+	 * The default implementation ignores the inserter, and calls
+	 * {@link #performCollectionChange(Session, String, String, Configuration, PersistentCollectionChangeData, Object)}.
+	 *
+	 * @param session Session, which can be used to persist the data.
+	 * @param entityName Name of the entity, in which the audited change happens.
+	 * @param propertyName The name of the property holding the persistent collection
+	 * @param configuration audit configuration
+	 * @param persistentCollectionChangeData Collection change data to be persisted.
+	 * @param revision Current revision data
+	 * @param auditRowInserter The inserter of audit rows, or {@code null} if audit rows are saved in the session.
+	 *
+	 * @since 6.5
+	 */
+	default void performCollectionChange(
+			Session session,
+			String entityName,
+			String propertyName,
+			Configuration configuration,
+			PersistentCollectionChangeData persistentCollectionChangeData,
+			Object revision,
+			AuditRowInserter auditRowInserter) {
+		performCollectionChange( session, entityName, propertyName, configuration, persistentCollectionChangeData, revision );
+	}
+
 	/**
 	 * Update the rootQueryBuilder with an extra WHERE clause to restrict the revision for a two-entity relation.
 	 * This WHERE clause depends on the AuditStrategy.
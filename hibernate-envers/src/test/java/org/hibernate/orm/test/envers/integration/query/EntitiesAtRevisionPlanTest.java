@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrIntTestEntity;
+import org.hibernate.orm.test.envers.entities.ids.EmbId;
+import org.hibernate.orm.test.envers.entities.ids.EmbIdTestEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that entities at a revision are selected with the {@code row_number()} window function
+ * when the database supports it, and with a correlated {@code max()} subquery otherwise, and
+ * that both plans select the same entities. A query restricted to a single identifier always
+ * uses the {@code max()} subquery.
+ */
+public class EntitiesAtRevisionPlanTest extends BaseEnversJPAFunctionalTestCase {
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+
+	private Integer id1;
+	private Integer id2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrIntTestEntity.class, EmbIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrIntTestEntity site1 = new StrIntTestEntity( "a", 10 );
+		final StrIntTestEntity site2 = new StrIntTestEntity( "b", 20 );
+		final StrIntTestEntity site3 = new StrIntTestEntity( "c", 30 );
+		em.persist( site1 );
+		em.persist( site2 );
+		em.persist( site3 );
+		em.persist( new EmbIdTestEntity( new EmbId( 1, 1 ), "x" ) );
+		em.persist( new EmbIdTestEntity( new EmbId( 1, 2 ), "y" ) );
+		em.getTransaction().commit();
+
+		id1 = site1.getId();
+		id2 = site2.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setNumber( 11 );
+		em.remove( em.find( StrIntTestEntity.class, id2 ) );
+		em.find( EmbIdTestEntity.class, new EmbId( 1, 1 ) ).setStr1( "x2" );
+		em.remove( em.find( EmbIdTestEntity.class, new EmbId( 1, 2 ) ) );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setNumber( 12 );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		assertEquals( numbers( 10, 20, 30 ), numbersAtRevision( 1 ) );
+		assertEquals( numbers( 11, 30 ), numbersAtRevision( 2 ) );
+		assertEquals( numbers( 12, 30 ), numbersAtRevision( 3 ) );
+	}
+
+	@Test
+	public void testPlan() {
+		statementInspector.clear();
+		numbersAtRevision( 2 );
+
+		final String sql = statementInspector.getSqlQueries().get( 0 ).toLowerCase( Locale.ROOT );
+		if ( getDialect().supportsWindowFunctions() ) {
+			assertTrue( sql, sql.contains( "row_number()" ) );
+		}
+		else {
+			assertTrue( sql, sql.contains( "max(" ) );
+		}
+	}
+
+	@Test
+	public void testIdentifierRestriction() {
+		statementInspector.clear();
+		assertEquals( Integer.valueOf( 11 ), getAuditReader().find( StrIntTestEntity.class, id1, 2 ).getNumber() );
+		assertNull( getAuditReader().find( StrIntTestEntity.class, id2, 2 ) );
+
+		final String sql = statementInspector.getSqlQueries().get( 0 ).toLowerCase( Locale.ROOT );
+		assertTrue( sql, sql.contains( "max(" ) );
+		assertFalse( sql, sql.contains( "row_number()" ) );
+	}
+
+	@Test
+	public void testCompositeIdentifier() {
+		final Set<String> strings = new HashSet<>();
+		for ( Object entity : getAuditReader().createQuery()
+				.forEntitiesAtRevision( EmbIdTestEntity.class, 2 )
+				.getResultList() ) {
+			strings.add( ( (EmbIdTestEntity) entity ).getStr1() );
+		}
+		assertEquals( Set.of( "x2" ), strings );
+
+		assertEquals( "x", getAuditReader().find( EmbIdTestEntity.class, new EmbId( 1, 1 ), 1 ).getStr1() );
+		assertEquals( "x2", getAuditReader().find( EmbIdTestEntity.class, new EmbId( 1, 1 ), 3 ).getStr1() );
+		assertNull( getAuditReader().find( EmbIdTestEntity.class, new EmbId( 1, 2 ), 2 ) );
+	}
+
+	private Set<Integer> numbersAtRevision(int revision) {
+		final List<?> entities = getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrIntTestEntity.class, revision )
+				.getResultList();
+		final Set<Integer> numbers = new HashSet<>();
+		for ( Object entity : entities ) {
+			numbers.add( ( (StrIntTestEntity) entity ).getNumber() );
+		}
+		return numbers;
+	}
+
+	private static Set<Integer> numbers(Integer... numbers) {
+		return new HashSet<>( List.of( numbers ) );
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.reventity;
+
+import java.util.Arrays;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.enhanced.SequenceIdRevisionEntity;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests revision numbers allocated through a pooled optimizer, with the revision entity inserted
+ * along with the batched audit rows.
+ */
+public class PooledRevisionNumberTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int INCREMENT_SIZE = 10;
+
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.REVISION_SEQUENCE_INCREMENT_SIZE, String.valueOf( INCREMENT_SIZE ) );
+		options.put( EnversSettings.USE_BATCHED_AUDIT_WRITES, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		em.getTransaction().commit();
+		id = entity.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id ).setStr( "y" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, id ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testPooledOptimizer() {
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) entityManagerFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getMappingMetamodel()
+				.getEntityDescriptor( SequenceIdRevisionEntity.class.getName() )
+				.getIdentifierGenerator();
+		assertEquals( INCREMENT_SIZE, generator.getOptimizer().getIncrementSize() );
+	}
+
+	@Test
+	public void testRevisionNumbers() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		for ( int revision = 1; revision <= 3; revision++ ) {
+			final SequenceIdRevisionEntity revisionEntity =
+					getAuditReader().findRevision( SequenceIdRevisionEntity.class, revision );
+			assertEquals( revision, revisionEntity.getId() );
+			assertTrue( revisionEntity.getTimestamp() > 0 );
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( new StrTestEntity( "x", id ), getAuditReader().find( StrTestEntity.class, id, 1 ) );
+		assertEquals( new StrTestEntity( "y", id ), getAuditReader().find( StrTestEntity.class, id, 2 ) );
+	}
+}
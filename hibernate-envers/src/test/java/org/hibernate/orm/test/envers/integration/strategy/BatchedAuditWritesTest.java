@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwnedEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwningEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that audit rows written through a batched stateless session, rather than saved in the audited
+ * session, are read back correctly, and never enter the persistence context of the audited session.
+ */
+public class BatchedAuditWritesTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int COUNT = 25;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, SetOwningEntity.class, SetOwnedEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.USE_BATCHED_AUDIT_WRITES, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager entityManager = getEntityManager();
+
+		// Revision 1
+		entityManager.getTransaction().begin();
+		for ( int i = 1; i <= COUNT; i++ ) {
+			entityManager.persist( new StrTestEntity( "x" + i, i ) );
+		}
+		final SetOwnedEntity owned = new SetOwnedEntity( 1, "owned" );
+		final SetOwningEntity owning = new SetOwningEntity( 2, "owning" );
+		owning.setReferences( new HashSet<>() );
+		owning.getReferences().add( owned );
+		entityManager.persist( owned );
+		entityManager.persist( owning );
+		entityManager.getTransaction().commit();
+
+		// only the audited entities are managed, none of the audit rows
+		final SessionImplementor session = entityManager.unwrap( SessionImplementor.class );
+		assertEquals( COUNT + 2, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+
+		// Revision 2
+		entityManager.getTransaction().begin();
+		for ( int i = 1; i <= COUNT; i += 2 ) {
+			entityManager.find( StrTestEntity.class, i ).setStr( "y" + i );
+		}
+		entityManager.find( SetOwningEntity.class, 2 ).getReferences().clear();
+		entityManager.getTransaction().commit();
+
+		entityManager.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, 1 ) );
+		assertEquals( Arrays.asList( 1 ), getAuditReader().getRevisions( StrTestEntity.class, 2 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( SetOwningEntity.class, 2 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 1; i <= COUNT; i++ ) {
+			assertEquals( new StrTestEntity( "x" + i, i ), getAuditReader().find( StrTestEntity.class, i, 1 ) );
+			final String expected = i % 2 == 1 ? "y" + i : "x" + i;
+			assertEquals( new StrTestEntity( expected, i ), getAuditReader().find( StrTestEntity.class, i, 2 ) );
+		}
+
+		final SetOwningEntity owning1 = getAuditReader().find( SetOwningEntity.class, 2, 1 );
+		assertEquals( 1, owning1.getReferences().size() );
+		final SetOwningEntity owning2 = getAuditReader().find( SetOwningEntity.class, 2, 2 );
+		assertTrue( owning2.getReferences().isEmpty() );
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the ValidityAuditStrategy updates the revision end of the previous revision rows
+ * in JDBC batches, and that every previous revision row is closed.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int COUNT = 25;
+	private static final int BATCH_SIZE = 10;
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+	private List<String> revisionTwoStatements;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.ValidityAuditStrategy" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf( BATCH_SIZE ) );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager entityManager = getEntityManager();
+
+		// Revision 1
+		entityManager.getTransaction().begin();
+		for ( int i = 1; i <= COUNT; i++ ) {
+			entityManager.persist( new StrTestEntity( "x" + i, i ) );
+		}
+		entityManager.getTransaction().commit();
+
+		// Revision 2
+		entityManager.getTransaction().begin();
+		statementInspector.clear();
+		for ( int i = 1; i <= COUNT; i++ ) {
+			entityManager.find( StrTestEntity.class, i ).setStr( "y" + i );
+		}
+		entityManager.getTransaction().commit();
+		revisionTwoStatements = List.copyOf( statementInspector.getSqlQueries() );
+
+		entityManager.close();
+	}
+
+	@Test
+	public void testPreviousRevisionsClosed() {
+		for ( int i = 1; i <= COUNT; i++ ) {
+			final List<?> rows = getEntityManager()
+					.createQuery(
+							"select e from " + StrTestEntity.class.getName() + "_AUD e"
+									+ " where e.originalId.id = :id order by e.originalId.REV.id"
+					)
+					.setParameter( "id", i )
+					.getResultList();
+			assertEquals( 2, rows.size() );
+			assertEquals( 2, ( (DefaultRevisionEntity) ( (Map<?, ?>) rows.get( 0 ) ).get( "REVEND" ) ).getId() );
+			assertNull( ( (Map<?, ?>) rows.get( 1 ) ).get( "REVEND" ) );
+		}
+	}
+
+	@Test
+	public void testRevisionEndUpdatesBatched() {
+		// the revision end updates share a single prepared statement
+		final long revisionEndUpdates = revisionTwoStatements.stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( "update str_test_aud " ) )
+				.count();
+		assertEquals( 1, revisionEndUpdates );
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwnedEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwningEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the revision end of the middle table rows updated by the validity audit strategy
+ * may refer to a revision entity which is inserted along with the batched audit rows.
+ */
+public class ValidityBatchedAuditWritesTest extends BaseEnversJPAFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetOwningEntity.class, SetOwnedEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.USE_BATCHED_AUDIT_WRITES, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager entityManager = getEntityManager();
+
+		// Revision 1
+		entityManager.getTransaction().begin();
+		final SetOwnedEntity owned1 = new SetOwnedEntity( 1, "owned1" );
+		final SetOwnedEntity owned2 = new SetOwnedEntity( 2, "owned2" );
+		final SetOwningEntity owning = new SetOwningEntity( 3, "owning" );
+		owning.setReferences( new HashSet<>() );
+		owning.getReferences().add( owned1 );
+		owning.getReferences().add( owned2 );
+		entityManager.persist( owned1 );
+		entityManager.persist( owned2 );
+		entityManager.persist( owning );
+		entityManager.getTransaction().commit();
+
+		// Revision 2: removing an element updates the revision end of its middle table row
+		entityManager.getTransaction().begin();
+		final SetOwningEntity found = entityManager.find( SetOwningEntity.class, 3 );
+		found.getReferences().remove( entityManager.find( SetOwnedEntity.class, 1 ) );
+		entityManager.getTransaction().commit();
+
+		// Revision 3
+		entityManager.getTransaction().begin();
+		entityManager.find( SetOwningEntity.class, 3 ).getReferences().clear();
+		entityManager.getTransaction().commit();
+
+		entityManager.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( SetOwningEntity.class, 3 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		final SetOwningEntity owning1 = getAuditReader().find( SetOwningEntity.class, 3, 1 );
+		assertEquals( 2, owning1.getReferences().size() );
+
+		final SetOwningEntity owning2 = getAuditReader().find( SetOwningEntity.class, 3, 2 );
+		assertEquals( 1, owning2.getReferences().size() );
+		assertEquals( "owned2", owning2.getReferences().iterator().next().getData() );
+
+		final SetOwningEntity owning3 = getAuditReader().find( SetOwningEntity.class, 3, 3 );
+		assertTrue( owning3.getReferences().isEmpty() );
+	}
+}
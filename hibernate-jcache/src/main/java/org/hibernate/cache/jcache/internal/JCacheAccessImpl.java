@@ -6,10 +6,13 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * StorageAccess implementation wrapping a JCache {@link Cache} reference.
@@ -38,6 +41,22 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		return underlyingCache.get( key );
 	}
 
+	@Override
+	public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Set<Object> keySet = CollectionHelper.setOfSize( keys.length );
+		for ( Object key : keys ) {
+			if ( key != null ) {
+				keySet.add( key );
+			}
+		}
+		final Map<Object, Object> cached = underlyingCache.getAll( keySet );
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = keys[i] == null ? null : cached.get( keys[i] );
+		}
+		return values;
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		underlyingCache.put( key, value );
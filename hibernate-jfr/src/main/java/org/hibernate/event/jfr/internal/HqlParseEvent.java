@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(HqlParseEvent.NAME)
+@Label("HQL Parse")
+@Category("Hibernate ORM")
+@Description("Parsing of an HQL query and its interpretation as SQM")
+@StackTrace(false)
+@AllowNonPortable
+public class HqlParseEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.HqlParse";
+
+	@Label("HQL Query")
+	public String hql;
+
+	@Label("Parse Time")
+	public long executionTime;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+	public transient long startedAt;
+
+}
@@ -6,6 +6,11 @@
  */
 package org.hibernate.event.jfr.internal;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.EntityEntry;
@@ -43,6 +48,24 @@ public class JfrEventManager implements EventManager {
 	private static final EventType flushEventType = EventType.getEventType( FlushEvent.class );
 	private static final EventType partialFlushEventType = EventType.getEventType( PartialFlushEvent.class );
 	private static final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
+	private static final EventType rowHydrationEventType = EventType.getEventType( RowHydrationEvent.class );
+	private static final EventType hqlParseEventType = EventType.getEventType( HqlParseEvent.class );
+	private static final EventType sqmTranslationEventType = EventType.getEventType( SqmTranslationEvent.class );
+	private static final EventType queryPlanCacheGetEventType = EventType.getEventType( QueryPlanCacheGetEvent.class );
+	private static final EventType lazyInitializationEventType = EventType.getEventType( LazyInitializationEvent.class );
+	private static final EventType nPlusOneSuspectedEventType = EventType.getEventType( NPlusOneSuspectedEvent.class );
+
+	/**
+	 * The number of times the same lazy association may be initialized
+	 * in one session before an {@link NPlusOneSuspectedEvent} is raised.
+	 */
+	private static final int N_PLUS_ONE_THRESHOLD = Integer.getInteger( "hibernate.jfr.n_plus_one_threshold", 10 );
+
+	// the number of lazy initializations of each role, by session identifier,
+	// maintained only while the N+1 event is enabled, and removed when the
+	// session is closed; the counts of one session are only ever updated by
+	// the thread using the session
+	private final Map<UUID, Map<String, int[]>> lazyInitializationCounts = new ConcurrentHashMap<>();
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -86,6 +109,9 @@ public class JfrEventManager implements EventManager {
 	public void completeSessionClosedEvent(
 			HibernateMonitoringEvent event,
 			SharedSessionContractImplementor session) {
+		if ( session != null && !lazyInitializationCounts.isEmpty() ) {
+			lazyInitializationCounts.remove( session.getSessionIdentifier() );
+		}
 		if ( event != null ) {
 			final SessionClosedEvent sessionClosedEvent = (SessionClosedEvent) event;
 			sessionClosedEvent.end();
@@ -528,6 +554,195 @@ public class JfrEventManager implements EventManager {
 		}
 	}
 
+	@Override
+	public RowHydrationEvent beginRowHydrationEvent() {
+		if ( rowHydrationEventType.isEnabled() ) {
+			final RowHydrationEvent rowHydrationEvent = new RowHydrationEvent();
+			rowHydrationEvent.begin();
+			rowHydrationEvent.startedAt = System.nanoTime();
+			return rowHydrationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeRowHydrationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String query,
+			int rowCount) {
+		if ( event != null ) {
+			final RowHydrationEvent rowHydrationEvent = (RowHydrationEvent) event;
+			rowHydrationEvent.end();
+			if ( rowHydrationEvent.shouldCommit() ) {
+				rowHydrationEvent.executionTime = getExecutionTime( rowHydrationEvent.startedAt );
+				rowHydrationEvent.sessionIdentifier = getSessionIdentifier( session );
+				rowHydrationEvent.query = query;
+				rowHydrationEvent.rowCount = rowCount;
+				rowHydrationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HqlParseEvent beginHqlParseEvent() {
+		if ( hqlParseEventType.isEnabled() ) {
+			final HqlParseEvent hqlParseEvent = new HqlParseEvent();
+			hqlParseEvent.begin();
+			hqlParseEvent.startedAt = System.nanoTime();
+			return hqlParseEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeHqlParseEvent(HibernateMonitoringEvent event, String hql) {
+		if ( event != null ) {
+			final HqlParseEvent hqlParseEvent = (HqlParseEvent) event;
+			hqlParseEvent.end();
+			if ( hqlParseEvent.shouldCommit() ) {
+				hqlParseEvent.executionTime = getExecutionTime( hqlParseEvent.startedAt );
+				hqlParseEvent.hql = hql;
+				hqlParseEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public SqmTranslationEvent beginSqmTranslationEvent() {
+		if ( sqmTranslationEventType.isEnabled() ) {
+			final SqmTranslationEvent sqmTranslationEvent = new SqmTranslationEvent();
+			sqmTranslationEvent.begin();
+			sqmTranslationEvent.startedAt = System.nanoTime();
+			return sqmTranslationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqmTranslationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String hql,
+			String sql) {
+		if ( event != null ) {
+			final SqmTranslationEvent sqmTranslationEvent = (SqmTranslationEvent) event;
+			sqmTranslationEvent.end();
+			if ( sqmTranslationEvent.shouldCommit() ) {
+				sqmTranslationEvent.executionTime = getExecutionTime( sqmTranslationEvent.startedAt );
+				sqmTranslationEvent.sessionIdentifier = getSessionIdentifier( session );
+				sqmTranslationEvent.hql = hql;
+				sqmTranslationEvent.sql = sql;
+				sqmTranslationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public QueryPlanCacheGetEvent beginQueryPlanCacheGetEvent() {
+		if ( queryPlanCacheGetEventType.isEnabled() ) {
+			final QueryPlanCacheGetEvent queryPlanCacheGetEvent = new QueryPlanCacheGetEvent();
+			queryPlanCacheGetEvent.begin();
+			return queryPlanCacheGetEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryPlanCacheGetEvent(HibernateMonitoringEvent event, String query, boolean hit) {
+		if ( event != null ) {
+			final QueryPlanCacheGetEvent queryPlanCacheGetEvent = (QueryPlanCacheGetEvent) event;
+			queryPlanCacheGetEvent.end();
+			if ( queryPlanCacheGetEvent.shouldCommit() ) {
+				queryPlanCacheGetEvent.query = query;
+				queryPlanCacheGetEvent.hit = hit;
+				queryPlanCacheGetEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public LazyInitializationEvent beginLazyInitializationEvent() {
+		// the event is also needed to count initializations for N+1 detection
+		if ( lazyInitializationEventType.isEnabled() || nPlusOneSuspectedEventType.isEnabled() ) {
+			final LazyInitializationEvent lazyInitializationEvent = new LazyInitializationEvent();
+			lazyInitializationEvent.begin();
+			lazyInitializationEvent.startedAt = System.nanoTime();
+			return lazyInitializationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			EntityPersister persister) {
+		if ( event != null ) {
+			final String entityName = getEntityName( persister );
+			final LazyInitializationEvent lazyInitializationEvent = (LazyInitializationEvent) event;
+			lazyInitializationEvent.end();
+			if ( lazyInitializationEvent.shouldCommit() ) {
+				lazyInitializationEvent.executionTime = getExecutionTime( lazyInitializationEvent.startedAt );
+				lazyInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				lazyInitializationEvent.entityName = entityName;
+				lazyInitializationEvent.commit();
+			}
+			countLazyInitialization( session, entityName );
+		}
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister) {
+		if ( event != null ) {
+			final String collectionName = persister.getNavigableRole().getFullPath();
+			final LazyInitializationEvent lazyInitializationEvent = (LazyInitializationEvent) event;
+			lazyInitializationEvent.end();
+			if ( lazyInitializationEvent.shouldCommit() ) {
+				lazyInitializationEvent.executionTime = getExecutionTime( lazyInitializationEvent.startedAt );
+				lazyInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				lazyInitializationEvent.collectionName = collectionName;
+				lazyInitializationEvent.commit();
+			}
+			countLazyInitialization( session, collectionName );
+		}
+	}
+
+	/**
+	 * Raise an {@link NPlusOneSuspectedEvent}, with the stack trace of
+	 * the initialization, the first time the given role is initialized
+	 * more than {@link #N_PLUS_ONE_THRESHOLD} times in the session.
+	 */
+	private void countLazyInitialization(SharedSessionContractImplementor session, String role) {
+		if ( session != null && nPlusOneSuspectedEventType.isEnabled() ) {
+			final int count = ++lazyInitializationCounts
+					.computeIfAbsent( session.getSessionIdentifier(), id -> new HashMap<>() )
+					.computeIfAbsent( role, r -> new int[1] )[0];
+			if ( count == N_PLUS_ONE_THRESHOLD + 1 ) {
+				final NPlusOneSuspectedEvent nPlusOneSuspectedEvent = new NPlusOneSuspectedEvent();
+				if ( nPlusOneSuspectedEvent.shouldCommit() ) {
+					nPlusOneSuspectedEvent.sessionIdentifier = getSessionIdentifier( session );
+					nPlusOneSuspectedEvent.role = role;
+					nPlusOneSuspectedEvent.initializationCount = count;
+					nPlusOneSuspectedEvent.commit();
+				}
+			}
+		}
+	}
+
 	private long getExecutionTime(Long startTime) {
 		return NANOSECONDS.convert( System.nanoTime() - startTime, NANOSECONDS );
 	}
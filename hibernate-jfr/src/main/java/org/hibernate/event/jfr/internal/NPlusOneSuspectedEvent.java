@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(NPlusOneSuspectedEvent.NAME)
+@Label("N+1 Selects Suspected")
+@Category("Hibernate ORM")
+@Description("The same lazy association was initialized more times in a session than the threshold")
+@StackTrace(true)
+@AllowNonPortable
+public class NPlusOneSuspectedEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.NPlusOneSuspected";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Role")
+	public String role;
+
+	@Label("Initialization Count")
+	public int initializationCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
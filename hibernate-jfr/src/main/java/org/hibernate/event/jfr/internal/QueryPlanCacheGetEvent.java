@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(QueryPlanCacheGetEvent.NAME)
+@Label("Query Plan Cache Get")
+@Category("Hibernate ORM")
+@Description("Lookup of a query interpretation or plan in the query plan cache")
+@StackTrace(false)
+@AllowNonPortable
+public class QueryPlanCacheGetEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.QueryPlanCacheGet";
+
+	@Label("Query")
+	public String query;
+
+	@Label("Cache Hit")
+	public boolean hit;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
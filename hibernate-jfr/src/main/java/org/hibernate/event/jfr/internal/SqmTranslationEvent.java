@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SqmTranslationEvent.NAME)
+@Label("SQM Translation")
+@Category("Hibernate ORM")
+@Description("Translation of an SQM query to SQL")
+@StackTrace(false)
+@AllowNonPortable
+public class SqmTranslationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.SqmTranslation";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("HQL Query")
+	public String hql;
+
+	@Label("SQL Query")
+	public String sql;
+
+	@Label("Translation Time")
+	public long executionTime;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+	public transient long startedAt;
+
+}
@@ -0,0 +1,119 @@
+package org.hibernate.event.jfr.lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.event.jfr.internal.LazyInitializationEvent;
+import org.hibernate.event.jfr.internal.NPlusOneSuspectedEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		LazyInitializationEventTests.Parent.class,
+		LazyInitializationEventTests.Child.class
+})
+@SessionFactory
+public class LazyInitializationEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	// one more than the default threshold
+	private static final int PARENTS = 11;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= PARENTS; i++ ) {
+						final Parent parent = new Parent( i );
+						session.persist( parent );
+						session.persist( new Child( i, parent ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(LazyInitializationEvent.NAME)
+	@EnableEvent(NPlusOneSuspectedEvent.NAME)
+	public void testNPlusOneSuspectedEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromTransaction(
+				session -> {
+					for ( Parent parent : session.createSelectionQuery( "from Parent", Parent.class ).getResultList() ) {
+						assertThat( parent.children ).hasSize( 1 );
+					}
+					return session.getSessionIdentifier().toString();
+				}
+		);
+
+		final String role = Parent.class.getName() + ".children";
+
+		List<RecordedEvent> lazyEvents = events( LazyInitializationEvent.NAME );
+		assertThat( lazyEvents ).hasSize( PARENTS );
+		assertThat( lazyEvents.get( 0 ).getString( "collectionName" ) ).isEqualTo( role );
+		assertThat( lazyEvents.get( 0 ).getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+
+		List<RecordedEvent> nPlusOneEvents = events( NPlusOneSuspectedEvent.NAME );
+		assertThat( nPlusOneEvents ).hasSize( 1 );
+		RecordedEvent event = nPlusOneEvents.get( 0 );
+		assertThat( event.getString( "role" ) ).isEqualTo( role );
+		assertThat( event.getInt( "initializationCount" ) ).isEqualTo( PARENTS );
+		assertThat( event.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( event.getStackTrace() ).isNotNull();
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package org.hibernate.event.jfr.query;
+
+import java.util.List;
+
+import org.hibernate.event.jfr.internal.HqlParseEvent;
+import org.hibernate.event.jfr.internal.QueryPlanCacheGetEvent;
+import org.hibernate.event.jfr.internal.RowHydrationEvent;
+import org.hibernate.event.jfr.internal.SqmTranslationEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		QueryCompilationEventTests.TestEntity.class
+})
+@SessionFactory
+public class QueryCompilationEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	private static final String HQL = "select e from TestEntity e where e.name like 'name%'";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.persist( new TestEntity( i, "name_" + i ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(HqlParseEvent.NAME)
+	@EnableEvent(SqmTranslationEvent.NAME)
+	@EnableEvent(QueryPlanCacheGetEvent.NAME)
+	@EnableEvent(RowHydrationEvent.NAME)
+	public void testQueryCompilationEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( HQL, TestEntity.class ).getResultList() ).hasSize( 3 );
+					assertThat( session.createSelectionQuery( HQL, TestEntity.class ).getResultList() ).hasSize( 3 );
+					return session.getSessionIdentifier().toString();
+				}
+		);
+
+		List<RecordedEvent> parseEvents = events( HqlParseEvent.NAME );
+		assertThat( parseEvents ).hasSize( 1 );
+		assertThat( parseEvents.get( 0 ).getString( "hql" ) ).isEqualTo( HQL );
+		assertThat( parseEvents.get( 0 ).getLong( "executionTime" ) ).isGreaterThan( 0 );
+
+		List<RecordedEvent> translationEvents = events( SqmTranslationEvent.NAME );
+		assertThat( translationEvents ).hasSize( 1 );
+		assertThat( translationEvents.get( 0 ).getString( "hql" ) ).isEqualTo( HQL );
+		assertThat( translationEvents.get( 0 ).getString( "sql" ) ).containsIgnoringCase( "select" );
+		assertThat( translationEvents.get( 0 ).getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+
+		List<RecordedEvent> cacheEvents = events( QueryPlanCacheGetEvent.NAME );
+		assertThat( cacheEvents ).isNotEmpty();
+		assertThat( cacheEvents.get( 0 ).getBoolean( "hit" ) ).isFalse();
+		assertThat( cacheEvents.get( cacheEvents.size() - 1 ).getBoolean( "hit" ) ).isTrue();
+
+		List<RecordedEvent> hydrationEvents = events( RowHydrationEvent.NAME );
+		assertThat( hydrationEvents ).hasSize( 2 );
+		assertThat( hydrationEvents.get( 0 ).getInt( "rowCount" ) ).isEqualTo( 3 );
+		assertThat( hydrationEvents.get( 0 ).getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
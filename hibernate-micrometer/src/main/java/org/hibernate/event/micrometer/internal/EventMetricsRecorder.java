@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.micrometer.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the events reported by a {@link MicrometerEventManager} as meters
+ * of a {@link MeterRegistry}.
+ * <p>
+ * The number of distinct values of the {@code query} and {@code region} tags
+ * is limited. Once the limit is reached, events for any further query or
+ * region are recorded with the tag value {@value #OTHER}.
+ */
+public class EventMetricsRecorder {
+
+	static final String FLUSH = "flush";
+	static final String AUTO_FLUSH = "auto";
+	static final String PARTIAL_FLUSH = "partial";
+
+	public static final String OTHER = "other";
+
+	private final MeterRegistry registry;
+	private final Iterable<Tag> tags;
+	private final int maxTagValues;
+
+	private final Timer flushTimer;
+	private final Timer autoFlushTimer;
+	private final Timer partialFlushTimer;
+	private final Timer connectionAcquisitionTimer;
+	private final DistributionSummary batchSizeSummary;
+
+	private final Map<String, DistributionSummary> rowSummariesByQuery = new ConcurrentHashMap<>();
+	private final Map<String, RegionCounters> countersByRegion = new ConcurrentHashMap<>();
+	private volatile DistributionSummary otherRowSummary;
+
+	public EventMetricsRecorder(MeterRegistry registry, Iterable<Tag> tags, int maxTagValues) {
+		this.registry = registry;
+		this.tags = tags;
+		this.maxTagValues = maxTagValues;
+
+		flushTimer = flushTimer( FLUSH );
+		autoFlushTimer = flushTimer( AUTO_FLUSH );
+		partialFlushTimer = flushTimer( PARTIAL_FLUSH );
+		connectionAcquisitionTimer = Timer.builder( "hibernate.jdbc.connection.acquisition" )
+				.tags( tags )
+				.description( "The time spent waiting to obtain a JDBC connection" )
+				.register( registry );
+		batchSizeSummary = DistributionSummary.builder( "hibernate.jdbc.batch.size" )
+				.tags( tags )
+				.baseUnit( "statements" )
+				.description( "The number of statements in each executed JDBC batch" )
+				.register( registry );
+	}
+
+	private Timer flushTimer(String type) {
+		return Timer.builder( "hibernate.flush" )
+				.tags( tags )
+				.tag( "type", type )
+				.description( "The time taken by flushes" )
+				.register( registry );
+	}
+
+	void flushed(String type, long nanoseconds) {
+		final Timer timer;
+		switch ( type ) {
+			case AUTO_FLUSH:
+				timer = autoFlushTimer;
+				break;
+			case PARTIAL_FLUSH:
+				timer = partialFlushTimer;
+				break;
+			default:
+				timer = flushTimer;
+		}
+		timer.record( nanoseconds, TimeUnit.NANOSECONDS );
+	}
+
+	void connectionAcquired(long nanoseconds) {
+		connectionAcquisitionTimer.record( nanoseconds, TimeUnit.NANOSECONDS );
+	}
+
+	void batchExecuted(int batchSize) {
+		batchSizeSummary.record( batchSize );
+	}
+
+	void rowsHydrated(String query, int rowCount) {
+		DistributionSummary summary = rowSummariesByQuery.get( query );
+		if ( summary == null ) {
+			summary = rowSummariesByQuery.size() < maxTagValues
+					? rowSummariesByQuery.computeIfAbsent( query, this::rowSummary )
+					: otherRowSummary();
+		}
+		summary.record( rowCount );
+	}
+
+	private DistributionSummary otherRowSummary() {
+		DistributionSummary summary = otherRowSummary;
+		if ( summary == null ) {
+			// the registry returns the same summary to a racing thread
+			summary = rowSummary( OTHER );
+			otherRowSummary = summary;
+		}
+		return summary;
+	}
+
+	private DistributionSummary rowSummary(String query) {
+		return DistributionSummary.builder( "hibernate.query.rows" )
+				.tags( tags )
+				.tag( "query", query )
+				.baseUnit( "rows" )
+				.description( "The number of rows hydrated by each execution of a query" )
+				.register( registry );
+	}
+
+	void cacheGet(String regionName, boolean hit) {
+		RegionCounters counters = countersByRegion.get( regionName );
+		if ( counters == null ) {
+			final boolean overflow = countersByRegion.size() >= maxTagValues;
+			counters = countersByRegion.computeIfAbsent(
+					overflow ? OTHER : regionName,
+					name -> new RegionCounters( name )
+			);
+		}
+		( hit ? counters.hits : counters.misses ).increment();
+	}
+
+	private final class RegionCounters {
+		private final Counter hits;
+		private final Counter misses;
+
+		private RegionCounters(String regionName) {
+			hits = counter( regionName, "hit" );
+			misses = counter( regionName, "miss" );
+			Gauge.builder( "hibernate.cache.region.hit.ratio", this, RegionCounters::hitRatio )
+					.tags( tags )
+					.tag( "region", regionName )
+					.description( "The fraction of second-level cache lookups which found the requested data" )
+					.register( registry );
+		}
+
+		private Counter counter(String regionName, String result) {
+			return Counter.builder( "hibernate.cache.region.requests" )
+					.tags( tags )
+					.tag( "region", regionName )
+					.tag( "result", result )
+					.description( "The number of second-level cache lookups" )
+					.register( registry );
+		}
+
+		private double hitRatio() {
+			final double hits = this.hits.count();
+			final double requests = hits + misses.count();
+			return requests == 0 ? Double.NaN : hits / requests;
+		}
+	}
+}
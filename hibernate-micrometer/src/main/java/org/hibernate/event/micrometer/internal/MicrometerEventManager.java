@@ -0,0 +1,313 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.micrometer.internal;
+
+import java.util.Arrays;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * An {@link EventManager} which reports the events of a session factory to
+ * the {@link EventMetricsRecorder}s {@linkplain #addRecorder added} to it by
+ * {@link org.hibernate.stat.HibernateEventMetrics}.
+ * <p>
+ * No event is begun, and so nothing at all is measured, until a recorder
+ * has been added.
+ */
+public class MicrometerEventManager implements EventManager {
+
+	private static final EventMetricsRecorder[] NO_RECORDERS = new EventMetricsRecorder[0];
+
+	private volatile EventMetricsRecorder[] recorders = NO_RECORDERS;
+
+	public synchronized void addRecorder(EventMetricsRecorder recorder) {
+		final EventMetricsRecorder[] recorders = Arrays.copyOf( this.recorders, this.recorders.length + 1 );
+		recorders[recorders.length - 1] = recorder;
+		this.recorders = recorders;
+	}
+
+	private static final class TimedEvent implements HibernateMonitoringEvent {
+		private final long startedAt = System.nanoTime();
+
+		private long elapsed() {
+			return System.nanoTime() - startedAt;
+		}
+	}
+
+	private HibernateMonitoringEvent beginTimedEvent() {
+		return recorders.length == 0 ? null : new TimedEvent();
+	}
+
+	private HibernateMonitoringEvent beginUntimedEvent() {
+		return recorders.length == 0 ? null : UntimedEvent.INSTANCE;
+	}
+
+	private static final class UntimedEvent implements HibernateMonitoringEvent {
+		private static final UntimedEvent INSTANCE = new UntimedEvent();
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(
+			HibernateMonitoringEvent sessionOpenEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(
+			HibernateMonitoringEvent sessionClosedEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionAcquisitionEvent() {
+		return beginTimedEvent();
+	}
+
+	@Override
+	public void completeJdbcConnectionAcquisitionEvent(
+			HibernateMonitoringEvent jdbcConnectionAcquisitionEvent,
+			SharedSessionContractImplementor session,
+			Object tenantId) {
+		if ( jdbcConnectionAcquisitionEvent != null ) {
+			final long elapsed = ( (TimedEvent) jdbcConnectionAcquisitionEvent ).elapsed();
+			for ( EventMetricsRecorder recorder : recorders ) {
+				recorder.connectionAcquired( elapsed );
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionReleaseEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcConnectionReleaseEvent(
+			HibernateMonitoringEvent jdbcConnectionReleaseEvent,
+			SharedSessionContractImplementor session,
+			Object tenantId) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementCreation,
+			String preparedStatementSql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementExecutionEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent,
+			String preparedStatementSql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		return beginUntimedEvent();
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			String statementSql) {
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			int batchSize) {
+		if ( jdbcBatchExecutionEvent != null ) {
+			for ( EventMetricsRecorder recorder : recorders ) {
+				recorder.batchExecuted( batchSize );
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			boolean isNatualId,
+			CacheActionDescription description) {
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			CollectionPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		return beginUntimedEvent();
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+		cacheGet( cacheGetEvent, region, hit );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			EntityPersister persister,
+			boolean isNaturalKey,
+			boolean hit) {
+		cacheGet( cacheGetEvent, region, hit );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			CollectionPersister persister,
+			boolean hit) {
+		cacheGet( cacheGetEvent, region, hit );
+	}
+
+	private void cacheGet(HibernateMonitoringEvent cacheGetEvent, Region region, boolean hit) {
+		if ( cacheGetEvent != null && region != null ) {
+			for ( EventMetricsRecorder recorder : recorders ) {
+				recorder.cacheGet( region.getName(), hit );
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		return beginTimedEvent();
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event) {
+		completeFlushEvent( flushEvent, event, false );
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event, boolean autoFlush) {
+		if ( flushEvent != null ) {
+			final long elapsed = ( (TimedEvent) flushEvent ).elapsed();
+			for ( EventMetricsRecorder recorder : recorders ) {
+				recorder.flushed( autoFlush ? EventMetricsRecorder.AUTO_FLUSH : EventMetricsRecorder.FLUSH, elapsed );
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginPartialFlushEvent() {
+		return beginTimedEvent();
+	}
+
+	@Override
+	public void completePartialFlushEvent(HibernateMonitoringEvent flushEvent, AutoFlushEvent event) {
+		if ( flushEvent != null ) {
+			final long elapsed = ( (TimedEvent) flushEvent ).elapsed();
+			for ( EventMetricsRecorder recorder : recorders ) {
+				recorder.flushed( EventMetricsRecorder.PARTIAL_FLUSH, elapsed );
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginDirtyCalculationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeDirtyCalculationEvent(
+			HibernateMonitoringEvent dirtyCalculationEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			EntityEntry entry,
+			int[] dirtyProperties) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginRowHydrationEvent() {
+		return beginUntimedEvent();
+	}
+
+	@Override
+	public void completeRowHydrationEvent(
+			HibernateMonitoringEvent rowHydrationEvent,
+			SharedSessionContractImplementor session,
+			String query,
+			int rowCount) {
+		if ( rowHydrationEvent != null && query != null && rowCount >= 0 ) {
+			for ( EventMetricsRecorder recorder : recorders ) {
+				recorder.rowsHydrated( query, rowCount );
+			}
+		}
+	}
+}
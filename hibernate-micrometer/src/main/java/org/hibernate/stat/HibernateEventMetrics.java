@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.common.lang.NonNullApi;
+import io.micrometer.common.lang.NonNullFields;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.micrometer.internal.EventMetricsRecorder;
+import org.hibernate.event.micrometer.internal.MicrometerEventManager;
+
+/**
+ * A {@link MeterBinder} implementation that records Hibernate metrics as
+ * the underlying events occur, instead of reading them from {@link Statistics}.
+ * It does not require that statistics be enabled. It provides:
+ * <ul>
+ * <li>{@code hibernate.flush}, a timer for flushes, tagged by the {@code type}
+ *     of flush: {@code flush}, {@code auto}, or {@code partial},
+ * <li>{@code hibernate.jdbc.connection.acquisition}, a timer for the time
+ *     spent waiting to obtain a JDBC connection,
+ * <li>{@code hibernate.jdbc.batch.size}, a distribution summary of the number
+ *     of statements in each executed JDBC batch,
+ * <li>{@code hibernate.query.rows}, a distribution summary of the number of
+ *     rows hydrated by each execution of a query, tagged by {@code query}, and
+ * <li>{@code hibernate.cache.region.requests}, counters of second-level cache
+ *     hits and misses, and {@code hibernate.cache.region.hit.ratio}, a gauge of
+ *     their ratio, tagged by {@code region}.
+ * </ul>
+ * <p>
+ * The number of distinct {@code query} and {@code region} tag values is limited
+ * by {@code maxTagValues}, {@value #DEFAULT_MAX_TAG_VALUES} by default. Events
+ * for further queries or regions are tagged {@code other}.
+ * <p>
+ * Events are reported by an {@link org.hibernate.event.spi.EventManager} which
+ * is registered as a Java service by this module. If it has not been loaded by
+ * the session factory, this binder has no effect.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateEventMetrics implements MeterBinder {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	/**
+	 * The default limit on the number of distinct values of a tag.
+	 */
+	public static final int DEFAULT_MAX_TAG_VALUES = 100;
+
+	private final SessionFactory sessionFactory;
+	private final Iterable<Tag> tags;
+	private final int maxTagValues;
+
+	/**
+	 * Create {@code HibernateEventMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateEventMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateEventMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateEventMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateEventMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this( sessionFactory, sessionFactoryName, tags, DEFAULT_MAX_TAG_VALUES );
+	}
+
+	/**
+	 * Create a {@code HibernateEventMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 * @param maxTagValues the maximum number of distinct values of the
+	 *                     {@code query} tag, and of the {@code region} tag
+	 */
+	public HibernateEventMetrics(
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags,
+			int maxTagValues) {
+		this.sessionFactory = sessionFactory;
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.maxTagValues = maxTagValues;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if ( sessionFactory instanceof SessionFactoryImplementor ) {
+			final MicrometerEventManager eventManager =
+					( (SessionFactoryImplementor) sessionFactory ).getFastSessionServices()
+							.getEventManager()
+							.unwrap( MicrometerEventManager.class );
+			if ( eventManager != null ) {
+				eventManager.addRecorder( new EventMetricsRecorder( registry, tags, maxTagValues ) );
+			}
+		}
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.stat;
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -21,6 +22,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -33,6 +35,8 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
@@ -101,6 +105,44 @@ public class HibernateMetrics implements MeterBinder {
 				.register( registry );
 	}
 
+	private void latency(
+			MeterRegistry registry,
+			String name,
+			String description,
+			Function<Statistics, LatencyHistogram> f) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		final LatencyHistogram histogram = f.apply( statistics );
+		FunctionTimer.builder(
+				name,
+				histogram,
+				LatencyHistogram::getCount,
+				LatencyHistogram::getTotal,
+				TimeUnit.MICROSECONDS
+		)
+				.tags( tags )
+				.description( description )
+				.register( registry );
+		TimeGauge.builder( name + ".max", histogram, TimeUnit.MICROSECONDS, LatencyHistogram::getMax )
+				.tags( tags )
+				.description( description + " (maximum)" )
+				.register( registry );
+		for ( double quantile : QUANTILES ) {
+			TimeGauge.builder(
+					name + ".percentile",
+					histogram,
+					TimeUnit.MICROSECONDS,
+					h -> h.getValueAtQuantile( quantile )
+			)
+					.tags( tags )
+					.tags( "quantile", Double.toString( quantile ) )
+					.description( description + " (percentile)" )
+					.register( registry );
+		}
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
 		if ( this.statistics == null ) {
@@ -129,6 +171,16 @@ public class HibernateMetrics implements MeterBinder {
 				"The global number of flushes executed by sessions (either implicit or explicit)",
 				Statistics::getFlushCount
 		);
+		latency(registry,
+				"hibernate.flushes.latency",
+				"The time taken by flushes which executed changes against the database",
+				Statistics::getFlushLatency
+		);
+		latency(registry,
+				"hibernate.transactions.latency",
+				"The time taken by transactions, from their beginning to their completion",
+				Statistics::getTransactionLatency
+		);
 		counter(registry,
 				"hibernate.connections.obtained",
 				"Get the global number of connections asked by the sessions " +
@@ -198,6 +250,11 @@ public class HibernateMetrics implements MeterBinder {
 				"The number of entity fetches",
 				Statistics::getEntityFetchCount
 		);
+		latency(registry,
+				"hibernate.entities.fetches.latency",
+				"The time taken by entity fetches",
+				Statistics::getEntityFetchLatency
+		);
 		counter(registry,
 				"hibernate.entities.inserts",
 				"The number of entity inserts",
@@ -221,6 +278,11 @@ public class HibernateMetrics implements MeterBinder {
 				"The number of collection fetches",
 				Statistics::getCollectionFetchCount
 		);
+		latency(registry,
+				"hibernate.collections.fetches.latency",
+				"The time taken by collection fetches",
+				Statistics::getCollectionFetchLatency
+		);
 		counter(registry,
 				"hibernate.collections.loads",
 				"The number of collection loads",
@@ -289,6 +351,12 @@ public class HibernateMetrics implements MeterBinder {
 				.tags( tags )
 				.register( registry );
 
+		latency(registry,
+				"hibernate.query.executions.latency",
+				"The time taken by query executions",
+				Statistics::getQueryExecutionLatency
+		);
+
 		// Update timestamp cache
 		counter(registry,
 				"hibernate.cache.update.timestamps.requests",
@@ -34,6 +34,8 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+
 	private final Iterable<Tag> tags;
 
 	private final SessionFactory sessionFactory;
@@ -172,6 +174,19 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.description( "Query minimum execution time" )
 						.register( meterRegistry );
 
+				for ( double quantile : QUANTILES ) {
+					TimeGauge.builder(
+							"hibernate.query.execution.percentile",
+							queryStatistics.getExecutionLatency(),
+							TimeUnit.MICROSECONDS,
+							latency -> latency.getValueAtQuantile( quantile )
+					)
+							.tags( tags )
+							.tags( "query", query, "quantile", Double.toString( quantile ) )
+							.description( "Query execution time percentile" )
+							.register( meterRegistry );
+				}
+
 				FunctionCounter.builder(
 						"hibernate.query.execution.rows",
 						queryStatistics,
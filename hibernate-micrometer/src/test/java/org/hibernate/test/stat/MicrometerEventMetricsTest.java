@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.Map;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateEventMetrics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link HibernateEventMetrics}.
+ */
+public class MicrometerEventMetricsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String REGION = "TheRegion";
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( Item.class );
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void addSettings(Map<String,Object> settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, new CachingRegionFactory() );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		new HibernateEventMetrics( sessionFactory(), "something", Tags.empty(), 2 ).bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testEventMetrics() {
+		Session session = openSession();
+		session.beginTransaction();
+		for ( int i = 1; i <= 5; i++ ) {
+			session.persist( new Item( i, "item " + i ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+
+		Assert.assertEquals( 1, registry.get( "hibernate.flush" ).tags( "type", "flush" ).timer().count() );
+		Assert.assertTrue( registry.get( "hibernate.jdbc.connection.acquisition" ).timer().count() > 0 );
+		Assert.assertEquals( 1, registry.get( "hibernate.jdbc.batch.size" ).summary().count() );
+		Assert.assertEquals( 5, registry.get( "hibernate.jdbc.batch.size" ).summary().totalAmount(), 0 );
+
+		session = openSession();
+		session.beginTransaction();
+		session.find( Item.class, 1 );
+		Assert.assertEquals( 5, session.createSelectionQuery( "from Item", Item.class ).getResultList().size() );
+		Assert.assertEquals( 1, session.createSelectionQuery( "from Item where id = 1", Item.class ).getResultList().size() );
+		// a third query is tagged 'other'
+		Assert.assertEquals( 2, session.createSelectionQuery( "from Item where id > 3", Item.class ).getResultList().size() );
+		session.getTransaction().commit();
+		session.close();
+
+		Assert.assertEquals( 5, registry.get( "hibernate.query.rows" ).tags( "query", "from Item" ).summary().totalAmount(), 0 );
+		Assert.assertEquals( 2, registry.get( "hibernate.query.rows" ).tags( "query", "other" ).summary().totalAmount(), 0 );
+
+		// the item was cached by the insert
+		Assert.assertEquals( 1, registry.get( "hibernate.cache.region.requests" )
+				.tags( "region", REGION, "result", "hit" ).counter().count(), 0 );
+		Assert.assertEquals( 1.0, registry.get( "hibernate.cache.region.hit.ratio" )
+				.tags( "region", REGION ).gauge().value(), 0 );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_item")
+	@Cacheable
+	@Cache(region = REGION, usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
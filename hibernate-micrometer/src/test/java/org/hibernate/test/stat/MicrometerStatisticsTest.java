@@ -135,6 +135,14 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertEquals( 2, registry.get("hibernate.sessions.closed").functionCounter().count(), 0 );
 		Assert.assertEquals( 1, registry.get("hibernate.entities.deletes").functionCounter().count(), 0 );
 		Assert.assertEquals( 2, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
+
+		Assert.assertEquals( 2, registry.get("hibernate.transactions.latency").functionTimer().count(), 0 );
+		Assert.assertEquals( 2, registry.get("hibernate.flushes.latency").functionTimer().count(), 0 );
+		Assert.assertNotNull( registry.get("hibernate.flushes.latency.max").timeGauge() );
+		Assert.assertNotNull( registry.get("hibernate.flushes.latency.percentile").tags("quantile", "0.99").timeGauge() );
+		Assert.assertNotNull( registry.get("hibernate.query.executions.latency").functionTimer() );
+		Assert.assertNotNull( registry.get("hibernate.entities.fetches.latency").functionTimer() );
+		Assert.assertNotNull( registry.get("hibernate.collections.fetches.latency").functionTimer() );
 	}
 
 	void verifyMeterNotFoundException(String name) {